@@ -0,0 +1,83 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Annotation for specifying the priority and the deadline of the delivery of the occurrences of an event type.
+ *
+ * <p>When the SARL run-time environment supports prioritized deliveries, the tasks that deliver the
+ * occurrences of an event type that is marked with this annotation are scheduled according to the
+ * given priority and deadline, instead of being scheduled in the order of their submission:<ul>
+ * <li>the tasks with a deadline are run first, the earliest deadline first;</li>
+ * <li>then, the tasks with a positive priority are run;</li>
+ * <li>the tasks with a negative priority are run with a limited parallelism, in order to avoid
+ *     that a burst of low-value events delays the other events.</li>
+ * </ul>
+ *
+ * <p>The deadline is the maximal delay, in milliseconds, between the submission of a delivery task and its start.
+ * It is not a guarantee: the SRE counts the delivery tasks that miss their deadlines.
+ *
+ * <p>This annotation is inherited by the sub-types of the event type.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DeliveryPriority {
+
+	/** Priority of the events that must be delivered before the other events.
+	 */
+	int HIGH = 10;
+
+	/** Priority of the events that are delivered in the order of their submission.
+	 */
+	int NORMAL = 0;
+
+	/** Priority of the events that could be delivered after the other events.
+	 */
+	int LOW = -10;
+
+	/** Replies the priority of the delivery.
+	 *
+	 * @return the priority, higher values for more urgent events.
+	 */
+	int value() default NORMAL;
+
+	/** Replies the maximal delay, in milliseconds, between the submission of a delivery task and its start.
+	 *
+	 * @return the deadline in milliseconds, or {@code 0} if there is no deadline.
+	 */
+	long deadline() default 0;
+
+}
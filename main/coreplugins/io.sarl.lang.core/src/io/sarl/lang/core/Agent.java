@@ -25,7 +25,6 @@ import java.security.InvalidParameterException;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Inject;
@@ -37,8 +36,10 @@ import org.eclipse.xtext.xbase.lib.Pure;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
 import io.sarl.lang.SARLVersion;
+import io.sarl.lang.annotation.Recyclable;
 import io.sarl.lang.annotation.SarlSpecification;
 import io.sarl.lang.util.ClearableReference;
+import io.sarl.lang.util.CopyOnWriteArrayMap;
 
 
 /**
@@ -55,13 +56,18 @@ import io.sarl.lang.util.ClearableReference;
 @SarlSpecification(SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING)
 public class Agent extends AgentProtectedAPIObject implements Identifiable {
 
-	private final UUID id;
+	/** Identifier of the agent. It is volatile because it is changed when the agent is recycled
+	 * by a thread that is not the one that is running the next life of the agent.
+	 */
+	private volatile UUID id;
 
-	private final UUID parentID;
+	private volatile UUID parentID;
 
 	/** Skill repository.
+	 *
+	 * <p>An agent has usually few skills that are rarely changed. A compact array-based map is used.
 	 */
-	private final ConcurrentMap<Class<? extends Capacity>, ClearableReference<Skill>> skillRepository = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Class<? extends Capacity>, ClearableReference<Skill>> skillRepository = new CopyOnWriteArrayMap<>();
 
 	private DynamicSkillProvider skillProvider;
 
@@ -161,6 +167,45 @@ public class Agent extends AgentProtectedAPIObject implements Identifiable {
 		this.skillProvider = provider;
 	}
 
+	/** Reset this agent in order to reuse it with the given identifiers.
+	 *
+	 * <p>This function is part of the private API of the library.
+	 * It is invoked by the SRE when the agent instance is taken from an agent pool,
+	 * after the agent was destroyed. The skill repository is not changed by this function.
+	 * The lifecycle hook {@link #prepareForReuse()} is invoked after the identifiers are changed.
+	 *
+	 * @param parentID the agent's spawner.
+	 * @param agentID the identifier of the agent, or
+	 *                  <code>null</code> for computing it randomly.
+	 * @since 0.9
+	 * @see Recyclable
+	 */
+	void $recycle(UUID parentID, UUID agentID) {
+		this.parentID = parentID;
+		this.id = (agentID == null) ? UUID.randomUUID() : agentID;
+		$setSreSpecificData(null);
+		prepareForReuse();
+	}
+
+	/** Invoked by the SRE when this agent instance is recycled for a new spawn.
+	 *
+	 * <p>This function is invoked only for the agents that are marked with {@link Recyclable},
+	 * and when the SRE supports agent recycling. It is invoked after the agent has received
+	 * the {@code Destroy} event, and before the {@code Initialize} event is given to the
+	 * reused instance. The agent must reset its fields to the values that are
+	 * expected before the reception of {@code Initialize}.
+	 *
+	 * <p>The identifiers replied by {@link #getID()} and {@link #getParentID()} are already
+	 * changed when this function is invoked. The skills that are not provided by the SRE are
+	 * removed from the agent by the SRE.
+	 *
+	 * @since 0.9
+	 * @see Recyclable
+	 */
+	protected void prepareForReuse() {
+		//
+	}
+
 	/** Replies the skill repository.
 	 *
 	 * <p>This function is part of the private API of the library.
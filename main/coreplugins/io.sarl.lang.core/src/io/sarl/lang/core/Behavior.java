@@ -21,6 +21,9 @@
 
 package io.sarl.lang.core;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import io.sarl.lang.util.ClearableReference;
 
 /**
@@ -33,6 +36,12 @@ import io.sarl.lang.util.ClearableReference;
  */
 public abstract class Behavior extends AgentTrait {
 
+	/** The delegators to the skills that were replied by {@link #$castSkill(Class, ClearableReference)}, per capacity.
+	 * A delegator is reused as long as its capacity is implemented by the same skill. It is forgotten
+	 * when the reference to the skill is cleared.
+	 */
+	private final ConcurrentMap<Class<?>, Capacity> skillDelegators = new ConcurrentHashMap<>();
+
 	/**
 	 * Construct a behavior for the given agent.
 	 *
@@ -46,9 +55,30 @@ public abstract class Behavior extends AgentTrait {
 	protected <S extends Capacity> S $castSkill(Class<S> capacity, ClearableReference<Skill> skillReference) {
 		final Skill original = skillReference.get();
 		if (original == null) {
+			this.skillDelegators.remove(capacity);
 			throw new UnimplementedCapacityException(capacity, getOwner().getID());
 		}
-		return Capacities.createSkillDelegatorIfPossible(original, capacity, this);
+		final Capacity delegator = this.skillDelegators.get(capacity);
+		if (delegator != null && isDelegatorFor(delegator, original)) {
+			return capacity.cast(delegator);
+		}
+		final S newDelegator = Capacities.createSkillDelegatorIfPossible(original, capacity, this);
+		this.skillDelegators.put(capacity, newDelegator);
+		return newDelegator;
+	}
+
+	/** Replies if the given delegator, or the skill itself, is delegating to the given skill.
+	 *
+	 * @param delegator the delegator.
+	 * @param skill the skill.
+	 * @return {@code true} if the delegator could be used for accessing the skill.
+	 */
+	private static boolean isDelegatorFor(Capacity delegator, Skill skill) {
+		if (delegator == skill) {
+			return true;
+		}
+		return delegator instanceof Capacity.ContextAwareCapacityWrapper<?>
+			&& ((Capacity.ContextAwareCapacityWrapper<?>) delegator).getDelegate() == skill;
 	}
 
 }
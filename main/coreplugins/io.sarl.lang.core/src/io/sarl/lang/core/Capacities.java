@@ -21,7 +21,11 @@
 
 package io.sarl.lang.core;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -41,6 +45,16 @@ public final class Capacities {
 
 	private static final String CAPACITY_WRAPPER_NAME = "$" + Capacity.ContextAwareCapacityWrapper.class.getSimpleName(); //$NON-NLS-1$;
 
+	/** Factories of the delegators per capacity type. The inner type of the delegator is searched only once
+	 * for each capacity.
+	 */
+	private static final ClassValue<DelegatorFactory> DELEGATOR_FACTORIES = new ClassValue<DelegatorFactory>() {
+		@Override
+		protected DelegatorFactory computeValue(Class<?> capacity) {
+			return DelegatorFactory.create(capacity);
+		}
+	};
+
 	private Capacities() {
 		//
 	}
@@ -72,6 +86,9 @@ public final class Capacities {
 	 * all the super types of the {@code capacity}. The expected constructor for this inner type has the same
 	 * signature as the one of {@link Capacity.ContextAwareCapacityWrapper}.
 	 *
+	 * <p>The constructor of the delegator type is searched only once for each capacity. If it cannot be found,
+	 * all the calls to this function for the capacity fail with a new exception, which has the original failure as cause.
+	 *
 	 * <p>The function {@link #createSkillDelegatorIfPossible(Skill, Class, AgentTrait)} is a similar function than this
 	 * function, except that it does not fail when the delegator instance cannot be created. In this last case,
 	 * the function {@link #createSkillDelegatorIfPossible(Skill, Class, AgentTrait)} reply the original skill itself.
@@ -87,10 +104,7 @@ public final class Capacities {
 	@Pure
 	public static <C extends Capacity> C createSkillDelegator(Skill originalSkill, Class<C> capacity, AgentTrait capacityCaller)
 			throws Exception {
-		final String name = capacity.getName() + CAPACITY_WRAPPER_NAME;
-		final Class<?> type = Class.forName(name, true, capacity.getClassLoader());
-		final Constructor<?> cons = type.getDeclaredConstructor(capacity, AgentTrait.class);
-		return capacity.cast(cons.newInstance(originalSkill, capacityCaller));
+		return capacity.cast(DELEGATOR_FACTORIES.get(capacity).newDelegator(originalSkill, capacityCaller));
 	}
 
 	/** Create a delegator for the given skill when it is possible.
@@ -122,11 +136,91 @@ public final class Capacities {
 	@Pure
 	public static <C extends Capacity> C createSkillDelegatorIfPossible(Skill originalSkill, Class<C> capacity, AgentTrait capacityCaller)
 			throws ClassCastException {
-		try {
-			return Capacities.createSkillDelegator(originalSkill, capacity, capacityCaller);
-		} catch (Exception e) {
-			return capacity.cast(originalSkill);
+		final DelegatorFactory factory = DELEGATOR_FACTORIES.get(capacity);
+		if (factory.isAvailable()) {
+			try {
+				return capacity.cast(factory.newDelegator(originalSkill, capacityCaller));
+			} catch (Exception e) {
+				//
+			}
+		}
+		return capacity.cast(originalSkill);
+	}
+
+	/** Factory of the delegators for a capacity.
+	 *
+	 * <p>The constructor of the delegator type is invoked through a method handle in order to avoid
+	 * the reflective construction at each creation of a delegator.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class DelegatorFactory {
+
+		private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object.class, AgentTrait.class);
+
+		private final MethodHandle constructor;
+
+		private final String delegatorName;
+
+		private final Exception cause;
+
+		private DelegatorFactory(MethodHandle constructor, String delegatorName, Exception cause) {
+			this.constructor = constructor;
+			this.delegatorName = delegatorName;
+			this.cause = cause;
+		}
+
+		/** Create the factory of the delegators for the given capacity.
+		 *
+		 * @param capacity the capacity that contains the definition of the delegator.
+		 * @return the factory.
+		 */
+		static DelegatorFactory create(Class<?> capacity) {
+			final String name = capacity.getName() + CAPACITY_WRAPPER_NAME;
+			try {
+				final Class<?> type = Class.forName(name, true, capacity.getClassLoader());
+				final Constructor<?> cons = type.getDeclaredConstructor(capacity, AgentTrait.class);
+				final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(cons).asType(CONSTRUCTOR_TYPE);
+				return new DelegatorFactory(handle, name, null);
+			} catch (Exception exception) {
+				return new DelegatorFactory(null, name, exception);
+			}
 		}
+
+		/** Replies if the delegators could be created by this factory.
+		 *
+		 * @return {@code true} if the constructor of the delegators is known.
+		 */
+		boolean isAvailable() {
+			return this.constructor != null;
+		}
+
+		/** Create a delegator.
+		 *
+		 * @param originalSkill the skill to delegate to.
+		 * @param capacityCaller the caller of the capacity functions.
+		 * @return the delegator.
+		 * @throws Exception if the delegator cannot be created. When the constructor of the delegators
+		 *     is unknown, a new exception is thrown at each call, with the original failure as cause.
+		 */
+		@SuppressWarnings("checkstyle:illegalcatch")
+		Object newDelegator(Skill originalSkill, AgentTrait capacityCaller) throws Exception {
+			if (this.constructor == null) {
+				throw new ReflectiveOperationException(this.delegatorName, this.cause);
+			}
+			try {
+				return this.constructor.invokeExact((Object) originalSkill, capacityCaller);
+			} catch (Exception | Error exception) {
+				throw exception;
+			} catch (Throwable exception) {
+				throw new InvocationTargetException(exception);
+			}
+		}
+
 	}
 
 }
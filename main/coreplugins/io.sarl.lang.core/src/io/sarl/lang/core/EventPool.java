@@ -0,0 +1,120 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * Pool of reusable events.
+ *
+ * <p>The events that are replied by {@link #acquire()} have one reference, owned by the caller.
+ * They are given back to the pool when their last reference is released, i.e. after the release by the
+ * caller and after the termination of the event handlers that have received them. When the pool is full,
+ * the released events are left to the garbage collector.
+ *
+ * <p>This pool is thread-safe.
+ *
+ * @param <E> the type of the events.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class EventPool<E extends ReusableEvent> {
+
+	private final Supplier<? extends E> factory;
+
+	private final int capacity;
+
+	private final Queue<E> events = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	/** Constructor.
+	 *
+	 * @param factory the creator of the events when the pool is empty.
+	 * @param capacity the maximal number of events that are kept in the pool.
+	 */
+	public EventPool(Supplier<? extends E> factory, int capacity) {
+		assert factory != null;
+		this.factory = factory;
+		this.capacity = Math.max(0, capacity);
+	}
+
+	/** Replies the maximal number of events that are kept in the pool.
+	 *
+	 * @return the capacity of the pool.
+	 */
+	@Pure
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/** Replies the number of events that are available in the pool.
+	 *
+	 * @return the number of available events.
+	 */
+	@Pure
+	public int size() {
+		return this.size.get();
+	}
+
+	/** Replies an event from the pool, or a new event if the pool is empty.
+	 *
+	 * <p>The replied event has one reference that is owned by the caller. The caller must
+	 * invoke {@link ReusableEvent#release()} when it does not use the event anymore.
+	 *
+	 * @return the event.
+	 */
+	public E acquire() {
+		E event = this.events.poll();
+		if (event == null) {
+			event = this.factory.get();
+			event.setPool(this);
+		} else {
+			this.size.decrementAndGet();
+		}
+		event.retain();
+		return event;
+	}
+
+	/** Give back the given event to this pool.
+	 *
+	 * @param event the event without reference.
+	 */
+	@SuppressWarnings("unchecked")
+	void recycle(ReusableEvent event) {
+		event.reset();
+		if (this.size.incrementAndGet() <= this.capacity) {
+			this.events.offer((E) event);
+		} else {
+			this.size.decrementAndGet();
+		}
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Object that provides the table of its guard evaluators.
+ *
+ * <p>The SARL compiler generates a guard evaluator for each type of event that is supported by the
+ * behavior units ({@code on} clauses) of an agent, a behavior or a skill. This interface is implemented
+ * by the generated types in order to enable the run-time environment to call these guard evaluators
+ * directly, without discovering them with the Java reflection.
+ *
+ * <p>The function {@link #$executeBehaviorUnits(Class, Object)} evaluates the guards and runs the
+ * matching behavior units in the calling thread. It does not allocate a collection of callbacks, nor a
+ * closure per behavior unit. It is used by the run-time environment when it is asked for executing
+ * the behavior units inline.
+ *
+ * <p>The implementations of the functions of this interface must call the implementations of the super type.
+ * In this way, the guard evaluators of the whole type hierarchy are considered.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public interface IBehaviorGuardEvaluatorReceiver {
+
+	/** Name of the function {@link #$getSupportedEvents(Set)}.
+	 */
+	String GET_SUPPORTED_EVENTS_NAME = "$getSupportedEvents"; //$NON-NLS-1$
+
+	/** Name of the function {@link #$evaluateBehaviorGuards(Class, Object, Collection)}.
+	 */
+	String EVALUATE_BEHAVIOR_GUARDS_NAME = "$evaluateBehaviorGuards"; //$NON-NLS-1$
+
+	/** Name of the function {@link #$executeBehaviorUnits(Class, Object)}.
+	 */
+	String EXECUTE_BEHAVIOR_UNITS_NAME = "$executeBehaviorUnits"; //$NON-NLS-1$
+
+	/** Fill the given set with the types of the events for which a guard evaluator is defined.
+	 *
+	 * @param toBeFilled the set to fill.
+	 */
+	void $getSupportedEvents(Set<Class<? extends Event>> toBeFilled);
+
+	/** Evaluate the guards that are defined for the given type of event, and fill the collection of the
+	 * behavior units to run.
+	 *
+	 * @param eventType the type of event for which the guard evaluators must be called. It is one of the
+	 *     types that are replied by {@link #$getSupportedEvents(Set)}.
+	 * @param event the event occurrence, which is an instance of {@code eventType}.
+	 * @param callbacks the collection of the behavior units to run, which is filled by this function.
+	 */
+	void $evaluateBehaviorGuards(Class<?> eventType, Object event, Collection<Runnable> callbacks);
+
+	/** Evaluate the guards that are defined for the given type of event, and run the matching
+	 * behavior units in the calling thread.
+	 *
+	 * <p>The behavior units are run sequentially, in the order of their declarations.
+	 *
+	 * @param eventType the type of event for which the guard evaluators must be called. It is one of the
+	 *     types that are replied by {@link #$getSupportedEvents(Set)}.
+	 * @param event the event occurrence, which is an instance of {@code eventType}.
+	 */
+	void $executeBehaviorUnits(Class<?> eventType, Object event);
+
+}
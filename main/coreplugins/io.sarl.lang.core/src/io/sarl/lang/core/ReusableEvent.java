@@ -0,0 +1,140 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * Event that could be shared by all its receivers and reused for several emissions.
+ *
+ * <p>The instances of the event types that are extending this class must not be changed by the event handlers.
+ * The SARL run-time environment delivers the same instance to all the receivers, and counts the references
+ * to this instance that are kept by the delivery tasks. When the last reference is released, i.e. after
+ * the last event handler has completed, the event is given back to its {@link EventPool pool}, if any.
+ *
+ * <p>An event that is created with a constructor has no pool. It could be emitted several times, e.g. a
+ * {@code Tick} event that is emitted periodically by the same agent, provided that its source and its fields are not
+ * changed between the emissions.
+ *
+ * <p>An event that is replied by {@link EventPool#acquire()} is owned by the caller, which must call {@link #release()}
+ * after the emission of the event:
+ * <pre><code>
+ * val tick = pool.acquire
+ * emit(tick)
+ * tick.release
+ * </code></pre>
+ *
+ * <p>The event handlers must not keep a reference to a pooled event after their termination.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public abstract class ReusableEvent extends Event {
+
+	private static final long serialVersionUID = 4129461788120846378L;
+
+	private static final AtomicIntegerFieldUpdater<ReusableEvent> REFERENCES_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(ReusableEvent.class, "references"); //$NON-NLS-1$
+
+	private transient volatile int references;
+
+	private transient EventPool<?> pool;
+
+	/** Constructs an event without source.
+	 * The source will be set when the event is emitted.
+	 */
+	public ReusableEvent() {
+		//
+	}
+
+	/** Constructs an event with a source.
+	 *
+	 * @param source - the source of the event.
+	 */
+	public ReusableEvent(Address source) {
+		super(source);
+	}
+
+	/** Replies the number of references to this event.
+	 *
+	 * @return the number of references.
+	 */
+	@Pure
+	public int getReferenceCount() {
+		return this.references;
+	}
+
+	/** Replies the pool that is owning this event.
+	 *
+	 * @return the pool, or {@code null} if the event is not pooled.
+	 */
+	@Pure
+	public EventPool<?> getPool() {
+		return this.pool;
+	}
+
+	/** Change the pool that is owning this event.
+	 *
+	 * @param pool the pool.
+	 */
+	void setPool(EventPool<?> pool) {
+		this.pool = pool;
+	}
+
+	/** Add a reference to this event.
+	 */
+	public void retain() {
+		REFERENCES_UPDATER.incrementAndGet(this);
+	}
+
+	/** Remove a reference to this event. When the last reference is removed, the event is given back
+	 * to its pool, if any.
+	 *
+	 * @return {@code true} if the last reference was removed.
+	 */
+	public boolean release() {
+		final int remaining = REFERENCES_UPDATER.decrementAndGet(this);
+		assert remaining >= 0 : "the event is released more times than it is retained"; //$NON-NLS-1$
+		if (remaining == 0) {
+			final EventPool<?> eventPool = this.pool;
+			if (eventPool != null) {
+				eventPool.recycle(this);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/** Reset the state of this event before it is put back into its pool.
+	 *
+	 * <p>The overriding functions must invoke the overridden function.
+	 */
+	protected void reset() {
+		setSource(null);
+	}
+
+}
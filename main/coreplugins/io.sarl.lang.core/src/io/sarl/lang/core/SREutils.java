@@ -21,6 +21,9 @@
 
 package io.sarl.lang.core;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -194,6 +197,50 @@ public final class SREutils {
 		agent.$setDynamicSkillProvider(provider);
 	}
 
+	/** Reset the given agent in order to reuse it with the given identifiers.
+	 *
+	 * <p>This function changes the identifiers of the agent and invokes its
+	 * {@link Agent#prepareForReuse()} lifecycle hook. The skill repository of the agent is not changed.
+	 *
+	 * @param agent the agent to recycle.
+	 * @param parentID the identifier of the agent's spawner.
+	 * @param agentID the new identifier of the agent, or {@code null} for computing it randomly.
+	 * @since 0.9
+	 * @see io.sarl.lang.annotation.Recyclable
+	 */
+	public static void recycleAgent(Agent agent, UUID parentID, UUID agentID) {
+		assert agent != null;
+		agent.$recycle(parentID, agentID);
+	}
+
+	/** Add a reference to the given event if it is a {@link ReusableEvent reusable event}.
+	 *
+	 * <p>This function must be invoked by the SRE before the event is given to a task that is run asynchronously.
+	 *
+	 * @param event the event.
+	 * @since 0.9
+	 * @see #releaseEvent(Event)
+	 */
+	public static void retainEvent(Event event) {
+		if (event instanceof ReusableEvent) {
+			((ReusableEvent) event).retain();
+		}
+	}
+
+	/** Remove a reference to the given event if it is a {@link ReusableEvent reusable event}.
+	 *
+	 * <p>This function must be invoked by the SRE when a task that has received the event is terminated.
+	 *
+	 * @param event the event.
+	 * @since 0.9
+	 * @see #retainEvent(Event)
+	 */
+	public static void releaseEvent(Event event) {
+		if (event instanceof ReusableEvent) {
+			((ReusableEvent) event).release();
+		}
+	}
+
 	/** Do the installation of the given skill.
 	 *
 	 * @param skill the skill to be installed.
@@ -213,4 +260,43 @@ public final class SREutils {
 		skill.uninstall(stage);
 	}
 
+	/** Fill the given set with the types of the events for which the given receiver has a guard evaluator.
+	 *
+	 * @param receiver the receiver of the events.
+	 * @param toBeFilled the set to fill.
+	 * @since 0.9
+	 * @see IBehaviorGuardEvaluatorReceiver#$getSupportedEvents(Set)
+	 */
+	public static void getSupportedEvents(IBehaviorGuardEvaluatorReceiver receiver, Set<Class<? extends Event>> toBeFilled) {
+		receiver.$getSupportedEvents(toBeFilled);
+	}
+
+	/** Evaluate the guards of the given receiver for the given type of event.
+	 *
+	 * @param receiver the receiver of the events.
+	 * @param eventType the type of event for which the guard evaluators must be called.
+	 * @param event the event occurrence.
+	 * @param callbacks the collection of the behavior units to run, which is filled by this function.
+	 * @since 0.9
+	 * @see IBehaviorGuardEvaluatorReceiver#$evaluateBehaviorGuards(Class, Object, Collection)
+	 */
+	public static void evaluateBehaviorGuards(IBehaviorGuardEvaluatorReceiver receiver, Class<?> eventType,
+			Object event, Collection<Runnable> callbacks) {
+		receiver.$evaluateBehaviorGuards(eventType, event, callbacks);
+	}
+
+	/** Evaluate the guards of the given receiver for the given type of event, and run the matching
+	 * behavior units in the calling thread.
+	 *
+	 * @param receiver the receiver of the events.
+	 * @param eventType the type of event for which the guard evaluators must be called.
+	 * @param event the event occurrence.
+	 * @since 0.9
+	 * @see IBehaviorGuardEvaluatorReceiver#$executeBehaviorUnits(Class, Object)
+	 */
+	public static void executeBehaviorUnits(IBehaviorGuardEvaluatorReceiver receiver, Class<?> eventType,
+			Object event) {
+		receiver.$executeBehaviorUnits(eventType, event);
+	}
+
 }
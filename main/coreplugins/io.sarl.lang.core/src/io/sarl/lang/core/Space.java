@@ -21,6 +21,9 @@
 
 package io.sarl.lang.core;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -64,4 +67,24 @@ public interface Space {
     @Pure
     SynchronizedSet<UUID> getParticipants();
 
+    /**
+     * Returns an immutable snapshot of the IDs of all agents interacting in this space all over the network.
+     *
+     * <p>In opposite to {@link #getParticipants()}, the replied set could be iterated without synchronizing
+     * on a mutex, and it is not changed when the agents are joining or leaving the space.
+     *
+     * <p>The default implementation copies the {@link #getParticipants() participants}. The implementations
+     * of the space should override this function for replying a shared snapshot.
+     *
+     * @return participants IDs
+     * @since 0.9
+     */
+    @Pure
+    default Set<UUID> getParticipantsSnapshot() {
+        final SynchronizedSet<UUID> participants = getParticipants();
+        synchronized (participants.mutex()) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(participants));
+        }
+    }
+
 }
@@ -0,0 +1,309 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/** A thread-safe map that is storing its entries into a single array that is copied on each change.
+ *
+ * <p>This map is dedicated to small sets of entries that are rarely changed and often read, e.g.
+ * the skills of an agent. The footprint of an empty map is one object and one shared empty array.
+ * The read accesses are lock-free and based on a linear search in the array. The changes are
+ * synchronized and replace the array.
+ *
+ * <p>The iterators are based on a snapshot of the map at the time they are created. They support
+ * the {@link Iterator#remove()} operation, which removes the entry from the map.
+ *
+ * <p>The {@code null} keys and values are not supported.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class CopyOnWriteArrayMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+	private static final Object[] EMPTY = new Object[0];
+
+	/** The keys and the values, stored in the form {@code [k0, v0, k1, v1, ...]}.
+	 */
+	private volatile Object[] table = EMPTY;
+
+	/** Constructor.
+	 */
+	public CopyOnWriteArrayMap() {
+		//
+	}
+
+	private static int indexOf(Object[] table, Object key) {
+		for (int i = 0; i < table.length; i += 2) {
+			final Object candidate = table[i];
+			if (candidate == key || candidate.equals(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void removeAt(Object[] currentTable, int index) {
+		final int len = currentTable.length - 2;
+		if (len == 0) {
+			this.table = EMPTY;
+		} else {
+			final Object[] newTable = new Object[len];
+			System.arraycopy(currentTable, 0, newTable, 0, index);
+			System.arraycopy(currentTable, index + 2, newTable, index, len - index);
+			this.table = newTable;
+		}
+	}
+
+	private void append(Object[] currentTable, K key, V value) {
+		final int len = currentTable.length;
+		final Object[] newTable = Arrays.copyOf(currentTable, len + 2);
+		newTable[len] = key;
+		newTable[len + 1] = value;
+		this.table = newTable;
+	}
+
+	private void replaceAt(Object[] currentTable, int index, V value) {
+		final Object[] newTable = currentTable.clone();
+		newTable[index + 1] = value;
+		this.table = newTable;
+	}
+
+	@Override
+	public int size() {
+		return this.table.length / 2;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.table.length == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && indexOf(this.table, key) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (key != null) {
+			final Object[] currentTable = this.table;
+			final int index = indexOf(currentTable, key);
+			if (index >= 0) {
+				return (V) currentTable[index + 1];
+			}
+		}
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized V put(K key, V value) {
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(value);
+		final Object[] currentTable = this.table;
+		final int index = indexOf(currentTable, key);
+		if (index >= 0) {
+			final V old = (V) currentTable[index + 1];
+			replaceAt(currentTable, index, value);
+			return old;
+		}
+		append(currentTable, key, value);
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized V putIfAbsent(K key, V value) {
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(value);
+		final Object[] currentTable = this.table;
+		final int index = indexOf(currentTable, key);
+		if (index >= 0) {
+			return (V) currentTable[index + 1];
+		}
+		append(currentTable, key, value);
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized V remove(Object key) {
+		if (key != null) {
+			final Object[] currentTable = this.table;
+			final int index = indexOf(currentTable, key);
+			if (index >= 0) {
+				final V old = (V) currentTable[index + 1];
+				removeAt(currentTable, index);
+				return old;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized boolean remove(Object key, Object value) {
+		if (key != null && value != null) {
+			final Object[] currentTable = this.table;
+			final int index = indexOf(currentTable, key);
+			if (index >= 0 && value.equals(currentTable[index + 1])) {
+				removeAt(currentTable, index);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public synchronized boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(oldValue);
+		Objects.requireNonNull(newValue);
+		final Object[] currentTable = this.table;
+		final int index = indexOf(currentTable, key);
+		if (index >= 0 && oldValue.equals(currentTable[index + 1])) {
+			replaceAt(currentTable, index, newValue);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized V replace(K key, V value) {
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(value);
+		final Object[] currentTable = this.table;
+		final int index = indexOf(currentTable, key);
+		if (index >= 0) {
+			final V old = (V) currentTable[index + 1];
+			replaceAt(currentTable, index, value);
+			return old;
+		}
+		return null;
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.table = EMPTY;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		return new EntrySet();
+	}
+
+	/** Set of entries, which is based on snapshots of the table.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+		EntrySet() {
+			//
+		}
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new EntryIterator(CopyOnWriteArrayMap.this.table);
+		}
+
+		@Override
+		public int size() {
+			return CopyOnWriteArrayMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			CopyOnWriteArrayMap.this.clear();
+		}
+
+	}
+
+	/** Iterator on a snapshot of the table.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+		private final Object[] snapshot;
+
+		private int index;
+
+		private Object lastKey;
+
+		EntryIterator(Object[] snapshot) {
+			this.snapshot = snapshot;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.index < this.snapshot.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Map.Entry<K, V> next() {
+			if (this.index >= this.snapshot.length) {
+				throw new NoSuchElementException();
+			}
+			final K key = (K) this.snapshot[this.index];
+			final V value = (V) this.snapshot[this.index + 1];
+			this.index += 2;
+			this.lastKey = key;
+			return new SimpleImmutableEntry<>(key, value);
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastKey == null) {
+				throw new IllegalStateException();
+			}
+			CopyOnWriteArrayMap.this.remove(this.lastKey);
+			this.lastKey = null;
+		}
+
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/** Cache of the class loaders that are created by the SARL batch compiler on the libraries
+ * of the class path.
+ *
+ * <p>The cache is used when several compilations are run within the same virtual machine,
+ * e.g. by the compilation daemon. A class loader is reused as long as the files of the
+ * libraries are not changed on the disk. In this way, the classes of the libraries are loaded
+ * and linked only once.
+ *
+ * <p>Only the class loaders on the jar files are cached, because the folders of the class path
+ * may change during the compilation of a project.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class ClassLoaderCache implements Closeable {
+
+	/** Default number of class loaders in the cache.
+	 */
+	public static final int DEFAULT_SIZE = 8;
+
+	private final Map<Key, URLClassLoader> classLoaders;
+
+	/** Constructor with the default size.
+	 */
+	public ClassLoaderCache() {
+		this(DEFAULT_SIZE);
+	}
+
+	/** Constructor.
+	 *
+	 * @param maxSize the maximal number of class loaders in the cache.
+	 */
+	public ClassLoaderCache(int maxSize) {
+		this.classLoaders = new LinkedHashMap<Key, URLClassLoader>(maxSize, .75f, true) {
+			private static final long serialVersionUID = -7136599216592585412L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<Key, URLClassLoader> eldest) {
+				if (size() > maxSize) {
+					closeClassLoader(eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/** Replies the class loader on the given libraries.
+	 *
+	 * <p>If a class loader was created on the same libraries and with the same parent class loader,
+	 * and none of the libraries has changed since, this class loader is replied.
+	 * Otherwise a new class loader is created.
+	 *
+	 * @param libraries the jar files in the class path order.
+	 * @param parent the parent class loader.
+	 * @return the class loader.
+	 */
+	public synchronized ClassLoader getClassLoader(List<File> libraries, ClassLoader parent) {
+		final Key key = new Key(libraries, parent);
+		URLClassLoader classLoader = this.classLoaders.get(key);
+		if (classLoader == null) {
+			// Close the class loaders on the previous versions of the same libraries.
+			final Iterator<Entry<Key, URLClassLoader>> iterator = this.classLoaders.entrySet().iterator();
+			while (iterator.hasNext()) {
+				final Entry<Key, URLClassLoader> entry = iterator.next();
+				if (entry.getKey().isSameLibraries(key)) {
+					closeClassLoader(entry.getValue());
+					iterator.remove();
+				}
+			}
+			final URL[] urls = new URL[libraries.size()];
+			int i = 0;
+			for (final File library : libraries) {
+				try {
+					urls[i] = library.toURI().toURL();
+				} catch (MalformedURLException exception) {
+					throw new IllegalArgumentException(exception);
+				}
+				++i;
+			}
+			classLoader = new URLClassLoader(urls, parent);
+			this.classLoaders.put(key, classLoader);
+		}
+		return classLoader;
+	}
+
+	/** Replies the number of class loaders in the cache.
+	 *
+	 * @return the number of class loaders.
+	 */
+	public synchronized int size() {
+		return this.classLoaders.size();
+	}
+
+	/** Close and remove all the class loaders from the cache.
+	 */
+	public synchronized void clear() {
+		for (final URLClassLoader classLoader : this.classLoaders.values()) {
+			closeClassLoader(classLoader);
+		}
+		this.classLoaders.clear();
+	}
+
+	@Override
+	public void close() {
+		clear();
+	}
+
+	private static void closeClassLoader(URLClassLoader classLoader) {
+		try {
+			classLoader.close();
+		} catch (IOException exception) {
+			//
+		}
+	}
+
+	/** Key of a class loader in the cache.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class Key {
+
+		private final List<File> files;
+
+		private final long[] stamps;
+
+		private final ClassLoader parent;
+
+		private final int hash;
+
+		Key(List<File> libraries, ClassLoader parent) {
+			this.files = Collections.unmodifiableList(new ArrayList<>(libraries));
+			this.stamps = new long[this.files.size() * 2];
+			int i = 0;
+			for (final File library : this.files) {
+				this.stamps[i++] = library.lastModified();
+				this.stamps[i++] = library.length();
+			}
+			this.parent = parent;
+			int hash = this.files.hashCode();
+			hash = 31 * hash + System.identityHashCode(parent);
+			this.hash = hash;
+		}
+
+		/** Replies if the given key is for the same files and parent than this key, whatever
+		 * the time stamps of the files.
+		 *
+		 * @param key the key to compare to.
+		 * @return {@code true} if the given key is for the same libraries.
+		 */
+		boolean isSameLibraries(Key key) {
+			return this.parent == key.parent && this.files.equals(key.files);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof Key) {
+				final Key key = (Key) obj;
+				return isSameLibraries(key) && Arrays.equals(this.stamps, key.stamps);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public String toString() {
+			return Objects.toString(this.files);
+		}
+
+	}
+
+}
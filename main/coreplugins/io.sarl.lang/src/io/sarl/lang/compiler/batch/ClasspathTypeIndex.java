@@ -0,0 +1,328 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.UnsignedBytes;
+import org.slf4j.Logger;
+
+/** Index of the types that are declared into the jar files of a class path.
+ *
+ * <p>The index is used by the {@link IndexedClasspathTypeProvider} for determining, without loading
+ * a class, if a type may be found on the class path. In this way, the lookups of the types that
+ * do not exist, which are frequent when the imports and the references are resolved, do not need
+ * to load classes and to scan all the jar files.
+ *
+ * <p>The names of the types that are declared into a jar file are saved into a cache directory,
+ * in a file that is identified by the path, the size and the modification date of the jar file.
+ * The file is memory-mapped when it is used. The jar files are not changing between two
+ * compilations most of the time, e.g. the SARL libraries; their index is built only once.
+ *
+ * <p>The folders of the class path are not indexed. The existence of the class files in these
+ * folders is tested at each lookup. The parent class loader is also asked for the class files.
+ * Consequently, the index never hides a type that the class loader is able to load.
+ *
+ * <p>A jar file that cannot be read is not indexed, and it is ignored by the lookups; the class loader
+ * is not able to load classes from it either. If the index of a jar file cannot be saved into the cache
+ * directory, the index is kept in memory for the current compilation.
+ *
+ * <p>The index contains only the names of the types, not their descriptors. When a type exists, the
+ * {@link org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider} builds its JVM model from
+ * the byte code, and the resource of the type is kept in the resource set for the rest of the compilation.
+ * The index aims at the lookups that do not find a type, which are not cached by the type provider.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public final class ClasspathTypeIndex {
+
+	/** Default name of the folder that contains the index files.
+	 */
+	public static final String DEFAULT_FOLDER_NAME = ".sarlc-type-index"; //$NON-NLS-1$
+
+	private static final int MAGIC_NUMBER = 0x5341524C;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final String INDEX_FILE_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	private static final String CLASS_FILE_EXTENSION = ".class"; //$NON-NLS-1$
+
+	private static final Cache<String, JarIndex> LOADED_INDEXES = CacheBuilder.newBuilder().softValues().build();
+
+	private final List<JarIndex> jars;
+
+	private final List<File> folders;
+
+	private final ClassLoader parent;
+
+	private ClasspathTypeIndex(List<JarIndex> jars, List<File> folders, ClassLoader parent) {
+		this.jars = jars;
+		this.folders = folders;
+		this.parent = parent;
+	}
+
+	/** Create the index for the given class path.
+	 *
+	 * @param classpath the entries of the class path.
+	 * @param parent the parent class loader of the class loader on the class path.
+	 * @param cacheDirectory the directory in which the indexes of the jar files are saved.
+	 * @param logger the logger for the jar files that cannot be indexed, or {@code null}.
+	 * @return the index.
+	 */
+	public static ClasspathTypeIndex create(Iterable<File> classpath, ClassLoader parent,
+			File cacheDirectory, Logger logger) {
+		final List<JarIndex> jars = new ArrayList<>();
+		final List<File> folders = new ArrayList<>();
+		for (final File entry : classpath) {
+			if (entry.isDirectory()) {
+				folders.add(entry);
+			} else if (entry.isFile()) {
+				try {
+					jars.add(getJarIndex(entry, cacheDirectory, logger));
+				} catch (IOException exception) {
+					if (logger != null) {
+						logger.warn(Messages.ClasspathTypeIndex_0, entry, exception.getLocalizedMessage());
+					}
+				}
+			}
+		}
+		return new ClasspathTypeIndex(jars, folders, parent);
+	}
+
+	private static JarIndex getJarIndex(File jarFile, File cacheDirectory, Logger logger) throws IOException {
+		final String fingerprint = Hashing.sha256().newHasher()
+				.putString(jarFile.getAbsolutePath(), StandardCharsets.UTF_8)
+				.putLong(jarFile.length())
+				.putLong(jarFile.lastModified())
+				.hash().toString();
+		try {
+			return LOADED_INDEXES.get(fingerprint, () -> {
+				final File indexFile = new File(cacheDirectory, fingerprint + INDEX_FILE_EXTENSION);
+				if (indexFile.isFile()) {
+					try {
+						return JarIndex.map(indexFile);
+					} catch (IOException exception) {
+						// The index file is corrupted; it is built again.
+					}
+				}
+				final byte[] content = buildIndex(jarFile);
+				try {
+					writeIndexFile(content, indexFile);
+					return JarIndex.map(indexFile);
+				} catch (IOException exception) {
+					if (logger != null) {
+						logger.warn(Messages.ClasspathTypeIndex_1, jarFile, indexFile, exception.getLocalizedMessage());
+					}
+					return new JarIndex(ByteBuffer.wrap(content));
+				}
+			});
+		} catch (ExecutionException exception) {
+			final Throwable cause = exception.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private static byte[] buildIndex(File jarFile) throws IOException {
+		final List<byte[]> names = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while (entries.hasMoreElements()) {
+				final ZipEntry entry = entries.nextElement();
+				final String name = entry.getName();
+				if (!entry.isDirectory() && name.endsWith(CLASS_FILE_EXTENSION) && !name.startsWith("META-INF/")) { //$NON-NLS-1$
+					names.add(name.substring(0, name.length() - CLASS_FILE_EXTENSION.length())
+							.getBytes(StandardCharsets.UTF_8));
+				}
+			}
+		}
+		names.sort(UnsignedBytes.lexicographicalComparator());
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final DataOutputStream output = new DataOutputStream(stream);
+		output.writeInt(MAGIC_NUMBER);
+		output.writeInt(FORMAT_VERSION);
+		output.writeInt(names.size());
+		int offset = 0;
+		for (final byte[] name : names) {
+			output.writeInt(offset);
+			offset += name.length;
+		}
+		output.writeInt(offset);
+		for (final byte[] name : names) {
+			output.write(name);
+		}
+		output.flush();
+		return stream.toByteArray();
+	}
+
+	private static void writeIndexFile(byte[] content, File indexFile) throws IOException {
+		final File folder = indexFile.getParentFile();
+		folder.mkdirs();
+		final File tmpFile = File.createTempFile(indexFile.getName(), null, folder);
+		try {
+			Files.write(tmpFile.toPath(), content);
+			try {
+				Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException exception) {
+				Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			tmpFile.delete();
+		}
+	}
+
+	/** Replies if the class with the given name may be loaded from the class path.
+	 *
+	 * @param name the binary name of the class, e.g. {@code java.util.Map$Entry}. The array types
+	 *     and the primitive types are accepted.
+	 * @return {@code false} if the class is not on the class path; {@code true} if it may be on the class path.
+	 */
+	public boolean mayContain(String name) {
+		String binaryName = name;
+		while (binaryName.endsWith("[]")) { //$NON-NLS-1$
+			binaryName = binaryName.substring(0, binaryName.length() - 2);
+		}
+		if (binaryName.indexOf('.') < 0) {
+			// Primitive types and types in the default package
+			return true;
+		}
+		final String path = binaryName.replace('.', '/');
+		final byte[] key = path.getBytes(StandardCharsets.UTF_8);
+		for (final JarIndex jar : this.jars) {
+			if (jar.contains(key)) {
+				return true;
+			}
+		}
+		final String filename = path + CLASS_FILE_EXTENSION;
+		for (final File folder : this.folders) {
+			if (new File(folder, filename).isFile()) {
+				return true;
+			}
+		}
+		return this.parent != null && this.parent.getResource(filename) != null;
+	}
+
+	/** Memory-mapped index of a jar file.
+	 *
+	 * <p>The index file contains a header, the offsets of the names, and the sorted names
+	 * of the class files in the jar file.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class JarIndex {
+
+		private static final int HEADER_SIZE = 12;
+
+		private final ByteBuffer buffer;
+
+		private final int size;
+
+		private final int dataStart;
+
+		private JarIndex(ByteBuffer buffer) throws IOException {
+			this.buffer = buffer;
+			if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC_NUMBER || buffer.getInt(4) != FORMAT_VERSION) {
+				throw new IOException();
+			}
+			this.size = buffer.getInt(8);
+			this.dataStart = HEADER_SIZE + (this.size + 1) * 4;
+		}
+
+		static JarIndex map(File indexFile) throws IOException {
+			try (FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ)) {
+				final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+				return new JarIndex(buffer);
+			}
+		}
+
+		/** Replies if the jar file contains the class file with the given path, without extension.
+		 * The buffer is accessed with absolute positions; this function is thread-safe.
+		 *
+		 * @param key the UTF-8 bytes of the path.
+		 * @return {@code true} if the class file is inside the jar file.
+		 */
+		boolean contains(byte[] key) {
+			int low = 0;
+			int high = this.size - 1;
+			while (low <= high) {
+				final int middle = (low + high) >>> 1;
+				final int cmp = compare(middle, key);
+				if (cmp < 0) {
+					low = middle + 1;
+				} else if (cmp > 0) {
+					high = middle - 1;
+				} else {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private int compare(int index, byte[] key) {
+			final int start = this.dataStart + this.buffer.getInt(HEADER_SIZE + index * 4);
+			final int end = this.dataStart + this.buffer.getInt(HEADER_SIZE + (index + 1) * 4);
+			final int length = end - start;
+			final int min = Math.min(length, key.length);
+			for (int i = 0; i < min; ++i) {
+				final int cmp = UnsignedBytes.compare(this.buffer.get(start + i), key[i]);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return length - key.length;
+		}
+
+	}
+
+}
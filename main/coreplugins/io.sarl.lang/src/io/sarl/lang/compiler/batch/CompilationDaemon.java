@@ -0,0 +1,468 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.sarl.lang.compiler.batch.SarlBatchCompiler.IssueMessageListener;
+
+/** Long-lived server that runs the SARL batch compiler on behalf of other processes.
+ *
+ * <p>Starting the SARL compiler is expensive: the injectors must be created, the class loaders
+ * on the class path must be built, and the Java virtual machine starts with a cold JIT compiler.
+ * The daemon is started once and keeps these elements warm between the compilations.
+ * The class loaders on the jar files of the class path are reused as long as the jar files
+ * are not changed.
+ *
+ * <p>The daemon listens on the loopback interface only. Each connection contains a secret token
+ * followed by a single {@link CompilationDaemonRequest}, and the daemon replies a {@link CompilationDaemonResponse}.
+ * The token is randomly generated when the daemon is started, and written into a file that could be read
+ * by the current user only (see {@link #getTokenFile(int)}). The requests with an invalid token are rejected
+ * without being read; in this way, the other users of the host cannot use the daemon.
+ * The compilations are run one after the other. The daemon stops when it is idle for longer
+ * than the idle timeout.
+ *
+ * <p>The clients are usually not using this protocol directly; but they are invoking
+ * {@link SarlBatchCompiler#setCompilationDaemon(SocketAddress)}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class CompilationDaemon implements Closeable {
+
+	/** Default port on which the daemon is listening.
+	 */
+	public static final int DEFAULT_PORT = 6023;
+
+	/** Default duration in milliseconds after which an idle daemon is stopped.
+	 */
+	public static final int DEFAULT_IDLE_TIMEOUT = (int) TimeUnit.HOURS.toMillis(3);
+
+	/** Default duration in milliseconds during which a client is waiting for the response of the daemon.
+	 */
+	public static final int DEFAULT_RESPONSE_TIMEOUT = (int) TimeUnit.MINUTES.toMillis(10);
+
+	/** Duration in milliseconds for connecting to the daemon.
+	 */
+	private static final int CONNECTION_TIMEOUT = 2000;
+
+	/** Duration in milliseconds for reading the request of a client.
+	 */
+	private static final int CLIENT_TIMEOUT = 30000;
+
+	/** Number of random bytes in the token.
+	 */
+	private static final int TOKEN_SIZE = 32;
+
+	private final Provider<SarlBatchCompiler> compilerProvider;
+
+	private final ClassLoaderCache classLoaderCache = new ClassLoaderCache();
+
+	private Provider<ResourceSet> resourceSetProvider;
+
+	private Logger logger;
+
+	private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+	private ServerSocket serverSocket;
+
+	private byte[] token;
+
+	private File tokenFile;
+
+	/** Constructor.
+	 *
+	 * @param compilerProvider the provider of the compilers that are used for the compilations.
+	 */
+	public CompilationDaemon(Provider<SarlBatchCompiler> compilerProvider) {
+		this.compilerProvider = compilerProvider;
+		this.logger = LoggerFactory.getLogger(getClass());
+	}
+
+	/** Replies the logger.
+	 *
+	 * @return the logger.
+	 */
+	public Logger getLogger() {
+		return this.logger;
+	}
+
+	/** Set the logger.
+	 *
+	 * @param logger the logger.
+	 */
+	public void setLogger(Logger logger) {
+		this.logger = logger == null ? LoggerFactory.getLogger(getClass()) : logger;
+	}
+
+	/** Change the provider of the resource sets that is given to the compilers.
+	 *
+	 * @param provider the provider, or {@code null} for using the provider of the compilers.
+	 */
+	public void setResourceSetProvider(Provider<ResourceSet> provider) {
+		this.resourceSetProvider = provider;
+	}
+
+	/** Replies the duration after which an idle daemon is stopped.
+	 *
+	 * @return the duration in milliseconds; or {@code 0} if the daemon is never stopped.
+	 */
+	public int getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/** Change the duration after which an idle daemon is stopped.
+	 *
+	 * @param timeout the duration in milliseconds; or {@code 0} if the daemon is never stopped.
+	 */
+	public void setIdleTimeout(int timeout) {
+		this.idleTimeout = Math.max(0, timeout);
+	}
+
+	/** Start to listen on the given port of the loopback interface.
+	 *
+	 * <p>The token that must be provided by the clients is written into the file {@link #getTokenFile(int)}.
+	 *
+	 * @param port the port; or {@code 0} for using any free port.
+	 * @return the port on which the daemon is listening.
+	 * @throws IOException if the port cannot be opened, or the token file cannot be written.
+	 */
+	public synchronized int start(int port) throws IOException {
+		if (this.serverSocket == null) {
+			final ServerSocket socket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+			try {
+				socket.setSoTimeout(this.idleTimeout);
+				final byte[] newToken = new byte[TOKEN_SIZE];
+				new SecureRandom().nextBytes(newToken);
+				final File file = getTokenFile(socket.getLocalPort());
+				writeTokenFile(file, newToken);
+				this.token = newToken;
+				this.tokenFile = file;
+			} catch (IOException exception) {
+				socket.close();
+				throw exception;
+			}
+			this.serverSocket = socket;
+		}
+		return this.serverSocket.getLocalPort();
+	}
+
+	/** Replies the file in which the daemon that is listening on the given port writes its token.
+	 *
+	 * @param port the port of the daemon.
+	 * @return the token file.
+	 */
+	public static File getTokenFile(int port) {
+		final File folder = new File(System.getProperty("user.home"), ".sarl"); //$NON-NLS-1$
+		return new File(folder, "sarlc-daemon-" + port + ".token"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void writeTokenFile(File file, byte[] token) throws IOException {
+		final Path path = file.toPath();
+		Files.createDirectories(path.getParent());
+		// A file that was created by another user must not be reused.
+		Files.deleteIfExists(path);
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) { //$NON-NLS-1$
+			Files.createFile(path,
+					PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))); //$NON-NLS-1$
+		} else {
+			Files.createFile(path);
+			if (!file.setReadable(false, false) || !file.setReadable(true, true)
+					|| !file.setWritable(false, false) || !file.setWritable(true, true)) {
+				Files.delete(path);
+				throw new IOException(file.toString());
+			}
+		}
+		Files.write(path, Base64.getEncoder().encode(token));
+	}
+
+	private static byte[] readTokenFile(File file) throws IOException {
+		final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII);
+		try {
+			return Base64.getDecoder().decode(content.trim());
+		} catch (IllegalArgumentException exception) {
+			throw new IOException(file.toString(), exception);
+		}
+	}
+
+	/** Replies if the daemon is listening.
+	 *
+	 * @return {@code true} if the daemon is listening.
+	 */
+	public synchronized boolean isRunning() {
+		return this.serverSocket != null && !this.serverSocket.isClosed();
+	}
+
+	/** Serve the compilation requests until the daemon is closed or idle.
+	 * This function must be invoked after {@link #start(int)}.
+	 */
+	public void run() {
+		final ServerSocket socket;
+		synchronized (this) {
+			socket = this.serverSocket;
+		}
+		if (socket == null) {
+			throw new IllegalStateException();
+		}
+		try {
+			while (!socket.isClosed()) {
+				try (Socket client = socket.accept()) {
+					serve(client);
+				} catch (SocketTimeoutException exception) {
+					getLogger().info(Messages.CompilationDaemon_0);
+					break;
+				} catch (IOException exception) {
+					// The server socket may be closed by another thread
+					if (!socket.isClosed()) {
+						getLogger().warn(exception.getLocalizedMessage(), exception);
+					}
+				}
+			}
+		} finally {
+			close();
+		}
+	}
+
+	private void serve(Socket client) {
+		try {
+			// A client that is not sending its request must not block the daemon.
+			client.setSoTimeout(CLIENT_TIMEOUT);
+			final ObjectInputStream input = createInputStream(client.getInputStream());
+			final byte[] clientToken = new byte[TOKEN_SIZE];
+			input.readFully(clientToken);
+			if (!MessageDigest.isEqual(this.token, clientToken)) {
+				getLogger().warn(Messages.CompilationDaemon_3, client.getRemoteSocketAddress());
+				return;
+			}
+			final Object request = input.readObject();
+			if (request instanceof CompilationDaemonRequest) {
+				final CompilationDaemonResponse response = compile((CompilationDaemonRequest) request);
+				final ObjectOutputStream output = new ObjectOutputStream(client.getOutputStream());
+				output.writeObject(response);
+				output.flush();
+			} else {
+				getLogger().warn(Messages.CompilationDaemon_1);
+			}
+		} catch (IOException | ClassNotFoundException exception) {
+			getLogger().warn(Messages.CompilationDaemon_1, exception);
+		}
+	}
+
+	/** Run the compilation that is described by the given request.
+	 *
+	 * @param request the request.
+	 * @return the result of the compilation.
+	 */
+	protected CompilationDaemonResponse compile(CompilationDaemonRequest request) {
+		getLogger().info(Messages.CompilationDaemon_2, request.getSourcePaths());
+		final CompilationDaemonResponse response = new CompilationDaemonResponse();
+		final SarlBatchCompiler compiler = this.compilerProvider.get();
+		request.configure(compiler);
+		if (this.resourceSetProvider != null) {
+			compiler.setResourceSetProvider(this.resourceSetProvider);
+		}
+		compiler.setClassLoaderCache(this.classLoaderCache);
+		final IssueMessageListener listener = (issue, uri, message) -> response.addIssue(issue);
+		final ICompilatedResourceReceiver receiver = it -> response.addCompiledResource(it.getURI());
+		compiler.addIssueMessageListener(listener);
+		compiler.addCompiledResourceReceiver(receiver);
+		try {
+			response.setSuccess(compiler.compile());
+		} catch (Throwable exception) {
+			getLogger().error(exception.getLocalizedMessage(), exception);
+			response.setSuccess(false);
+		} finally {
+			compiler.removeIssueMessageListener(listener);
+			compiler.removeCompiledResourceReceiver(receiver);
+			compiler.setClassLoaderCache(null);
+		}
+		return response;
+	}
+
+	/** Stop the daemon and release the cached class loaders.
+	 */
+	@Override
+	public synchronized void close() {
+		if (this.serverSocket != null) {
+			try {
+				this.serverSocket.close();
+			} catch (IOException exception) {
+				//
+			}
+		}
+		if (this.tokenFile != null) {
+			this.tokenFile.delete();
+			this.tokenFile = null;
+		}
+		this.classLoaderCache.clear();
+	}
+
+	/** Send the given request to the daemon that is listening on the given address, and wait for its response
+	 * during {@link #DEFAULT_RESPONSE_TIMEOUT} milliseconds.
+	 *
+	 * <p>The token of the daemon is read from the file {@link #getTokenFile(int)}.
+	 *
+	 * @param address the address of the daemon.
+	 * @param request the request.
+	 * @return the response of the daemon.
+	 * @throws IOException if the daemon cannot be reached, its token cannot be read, or it does not reply in time.
+	 */
+	public static CompilationDaemonResponse submit(SocketAddress address, CompilationDaemonRequest request)
+			throws IOException {
+		return submit(address, request, DEFAULT_RESPONSE_TIMEOUT);
+	}
+
+	/** Send the given request to the daemon that is listening on the given address.
+	 *
+	 * <p>The token of the daemon is read from the file {@link #getTokenFile(int)}.
+	 *
+	 * @param address the address of the daemon.
+	 * @param request the request.
+	 * @param timeout the duration in milliseconds during which the response of the daemon is waited for;
+	 *     or {@code 0} for waiting forever.
+	 * @return the response of the daemon.
+	 * @throws IOException if the daemon cannot be reached, its token cannot be read, or it does not reply in time.
+	 */
+	public static CompilationDaemonResponse submit(SocketAddress address, CompilationDaemonRequest request,
+			int timeout) throws IOException {
+		if (!(address instanceof InetSocketAddress)) {
+			throw new IOException(Messages.CompilationDaemon_1);
+		}
+		final byte[] token = readTokenFile(getTokenFile(((InetSocketAddress) address).getPort()));
+		if (token.length != TOKEN_SIZE) {
+			throw new IOException(Messages.CompilationDaemon_1);
+		}
+		try (Socket socket = new Socket()) {
+			socket.connect(address, CONNECTION_TIMEOUT);
+			// A daemon that is not replying must not block the client.
+			socket.setSoTimeout(Math.max(0, timeout));
+			final ObjectOutputStream output = new ObjectOutputStream(socket.getOutputStream());
+			output.write(token);
+			output.writeObject(request);
+			output.flush();
+			final Object response = createInputStream(socket.getInputStream()).readObject();
+			if (response instanceof CompilationDaemonResponse) {
+				return (CompilationDaemonResponse) response;
+			}
+			throw new IOException(Messages.CompilationDaemon_1);
+		} catch (ClassNotFoundException exception) {
+			throw new IOException(exception);
+		}
+	}
+
+	/** Replies the address of the daemon that is listening on the given port of the loopback interface.
+	 *
+	 * @param port the port.
+	 * @return the address.
+	 */
+	public static SocketAddress getLocalAddress(int port) {
+		return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+	}
+
+	private static ObjectInputStream createInputStream(InputStream stream) throws IOException {
+		return new RestrictedObjectInputStream(stream);
+	}
+
+	/** Input stream that is accepting only the types of the daemon protocol.
+	 *
+	 * <p>The accepted types are the types of the fields of the requests and of the responses.
+	 * The proxy classes are rejected.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class RestrictedObjectInputStream extends ObjectInputStream {
+
+		private static final Set<String> ACCEPTED_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+				CompilationDaemonRequest.class.getName(),
+				CompilationDaemonResponse.class.getName(),
+				CompilationDaemonResponse.IssueDescription.class.getName(),
+				OptimizationLevel.class.getName(),
+				String.class.getName(),
+				String[].class.getName(),
+				Boolean.class.getName(),
+				Integer.class.getName(),
+				Number.class.getName(),
+				Enum.class.getName(),
+				File.class.getName(),
+				ArrayList.class.getName())));
+
+		RestrictedObjectInputStream(InputStream stream) throws IOException {
+			super(stream);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			final String name = desc.getName();
+			if (ACCEPTED_TYPES.contains(name)) {
+				return super.resolveClass(desc);
+			}
+			throw new InvalidClassException(name);
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+			throw new InvalidClassException(Arrays.toString(interfaces));
+		}
+
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+
+/** Request that is sent to the compilation daemon.
+ *
+ * <p>The request contains the configuration of a SARL batch compiler, i.e. the paths and the options
+ * of the compilation. It does not contain the configuration of the validator and the Java compiler
+ * that are provided by the daemon itself.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ * @see CompilationDaemon
+ */
+public class CompilationDaemonRequest implements Serializable {
+
+	private static final long serialVersionUID = -4425096573211839405L;
+
+	private final ArrayList<File> sourcePaths;
+
+	private final ArrayList<File> classPath;
+
+	private final ArrayList<File> bootClassPath;
+
+	private final File outputPath;
+
+	private final File classOutputPath;
+
+	private final File tempDirectory;
+
+	private final boolean deleteTempDirectory;
+
+	private final String baseUri;
+
+	private final String fileEncoding;
+
+	private final String javaSourceVersion;
+
+	private final boolean javaPostCompilation;
+
+	private final boolean javaCompilerVerbose;
+
+	private final OptimizationLevel optimizationLevel;
+
+	private final boolean writeTraceFiles;
+
+	private final boolean writeStorageFiles;
+
+	private final boolean generateInlineAnnotation;
+
+	private final boolean useExpressionInterpreterForInlineAnnotation;
+
+	private final boolean generatePureAnnotation;
+
+	private final boolean generateEqualityTestFunctions;
+
+	private final boolean generateToStringFunctions;
+
+	private final boolean generateCloneFunctions;
+
+	private final boolean generateSerialNumberFields;
+
+	private final String extraLanguageGenerators;
+
+	private final boolean incrementalCompilation;
+
+	private final File buildStateFile;
+
+	private final int parallelism;
+
+	private final boolean reportInternalProblemsAsIssues;
+
+	private final File profilingReport;
+
+	/** Constructor that is copying the configuration of the given compiler.
+	 *
+	 * <p>The files are made absolute because the daemon is not running in the current folder of the client.
+	 *
+	 * @param compiler the compiler to copy the configuration from.
+	 */
+	public CompilationDaemonRequest(SarlBatchCompiler compiler) {
+		this.sourcePaths = toAbsoluteFiles(compiler.getSourcePaths());
+		this.classPath = toAbsoluteFiles(compiler.getClassPath());
+		this.bootClassPath = toAbsoluteFiles(compiler.getBootClassPath());
+		this.outputPath = toAbsoluteFile(compiler.getOutputPath());
+		this.classOutputPath = toAbsoluteFile(compiler.getClassOutputPath());
+		this.tempDirectory = toAbsoluteFile(compiler.getTempDirectory());
+		this.deleteTempDirectory = compiler.isDeleteTempDirectory();
+		final URI uri = compiler.getBaseURI();
+		this.baseUri = uri == null ? null : uri.toString();
+		this.fileEncoding = compiler.getFileEncoding();
+		this.javaSourceVersion = compiler.getJavaSourceVersion();
+		this.javaPostCompilation = compiler.isJavaPostCompilationEnable();
+		this.javaCompilerVerbose = compiler.isJavaCompilerVerbose();
+		this.optimizationLevel = compiler.getOptimizationLevel();
+		this.writeTraceFiles = compiler.isWriteTraceFiles();
+		this.writeStorageFiles = compiler.isWriteStorageFiles();
+		this.generateInlineAnnotation = compiler.isGenerateInlineAnnotation();
+		this.useExpressionInterpreterForInlineAnnotation = compiler.isUseExpressionInterpreterForInlineAnnotation();
+		this.generatePureAnnotation = compiler.isGeneratePureAnnotation();
+		this.generateEqualityTestFunctions = compiler.isGenerateEqualityTestFunctions();
+		this.generateToStringFunctions = compiler.isGenerateToStringFunctions();
+		this.generateCloneFunctions = compiler.isGenerateCloneFunctions();
+		this.generateSerialNumberFields = compiler.isGenerateSerialNumberFields();
+		this.extraLanguageGenerators = compiler.getExtraLanguageGenerators();
+		this.incrementalCompilation = compiler.isIncrementalCompilation();
+		this.buildStateFile = toAbsoluteFile(compiler.getBuildStateFile());
+		this.parallelism = compiler.getParallelism();
+		this.reportInternalProblemsAsIssues = compiler.getReportInternalProblemsAsIssues();
+		this.profilingReport = toAbsoluteFile(compiler.getProfilingReport());
+	}
+
+	private static File toAbsoluteFile(File file) {
+		return file == null ? null : file.getAbsoluteFile();
+	}
+
+	private static ArrayList<File> toAbsoluteFiles(List<File> files) {
+		final ArrayList<File> absoluteFiles = new ArrayList<>(files.size());
+		for (final File file : files) {
+			absoluteFiles.add(toAbsoluteFile(file));
+		}
+		return absoluteFiles;
+	}
+
+	/** Replies the source paths to compile.
+	 *
+	 * @return the source paths.
+	 */
+	public List<File> getSourcePaths() {
+		return this.sourcePaths;
+	}
+
+	/** Change the configuration of the given compiler in order to be the same as the configuration
+	 * of the compiler that was used for building this request.
+	 *
+	 * @param compiler the compiler to configure.
+	 */
+	public void configure(SarlBatchCompiler compiler) {
+		compiler.setCompilationDaemon(null);
+		compiler.setSourcePath(this.sourcePaths);
+		compiler.setClassPath(this.classPath);
+		compiler.setBootClassPath(this.bootClassPath);
+		compiler.setOutputPath(this.outputPath);
+		compiler.setClassOutputPath(this.classOutputPath);
+		compiler.setTempDirectory(this.tempDirectory);
+		compiler.setDeleteTempDirectory(this.deleteTempDirectory);
+		compiler.setBaseURI(this.baseUri == null ? null : URI.createURI(this.baseUri));
+		compiler.setFileEncoding(this.fileEncoding);
+		compiler.setJavaSourceVersion(this.javaSourceVersion);
+		compiler.setJavaPostCompilationEnable(this.javaPostCompilation);
+		compiler.setJavaCompilerVerbose(this.javaCompilerVerbose);
+		compiler.setOptimizationLevel(this.optimizationLevel);
+		compiler.setWriteTraceFiles(this.writeTraceFiles);
+		compiler.setWriteStorageFiles(this.writeStorageFiles);
+		compiler.setGenerateInlineAnnotation(this.generateInlineAnnotation);
+		compiler.setUseExpressionInterpreterForInlineAnnotation(this.useExpressionInterpreterForInlineAnnotation);
+		compiler.setGeneratePureAnnotation(this.generatePureAnnotation);
+		compiler.setGenerateEqualityTestFunctions(this.generateEqualityTestFunctions);
+		compiler.setGenerateToStringFunctions(this.generateToStringFunctions);
+		compiler.setGenerateCloneFunctions(this.generateCloneFunctions);
+		compiler.setGenerateSerialNumberFields(this.generateSerialNumberFields);
+		compiler.setExtraLanguageGenerators(this.extraLanguageGenerators);
+		compiler.setIncrementalCompilation(this.incrementalCompilation);
+		compiler.setBuildStateFile(this.buildStateFile);
+		compiler.setParallelism(this.parallelism);
+		compiler.setReportInternalProblemsAsIssues(this.reportInternalProblemsAsIssues);
+		compiler.setProfilingReport(this.profilingReport);
+	}
+
+}
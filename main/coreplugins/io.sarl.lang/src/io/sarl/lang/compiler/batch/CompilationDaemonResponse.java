@@ -0,0 +1,174 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+
+/** Response of the compilation daemon to a {@link CompilationDaemonRequest}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ * @see CompilationDaemon
+ */
+public class CompilationDaemonResponse implements Serializable {
+
+	private static final long serialVersionUID = -4425180360155617231L;
+
+	private boolean success;
+
+	private final ArrayList<IssueDescription> issues = new ArrayList<>();
+
+	private final ArrayList<String> compiledResources = new ArrayList<>();
+
+	/** Replies if the compilation was successful.
+	 *
+	 * @return {@code true} if the compilation was successful.
+	 */
+	public boolean isSuccess() {
+		return this.success;
+	}
+
+	/** Change the flag that indicates if the compilation was successful.
+	 *
+	 * @param success {@code true} if the compilation was successful.
+	 */
+	public void setSuccess(boolean success) {
+		this.success = success;
+	}
+
+	/** Add an issue that was reported by the compiler.
+	 *
+	 * @param issue the issue.
+	 */
+	public void addIssue(Issue issue) {
+		this.issues.add(new IssueDescription(issue));
+	}
+
+	/** Replies the issues that were reported by the compiler, in the order of their reporting.
+	 *
+	 * @return the issues.
+	 */
+	public List<Issue> getIssues() {
+		final List<Issue> list = new ArrayList<>(this.issues.size());
+		for (final IssueDescription description : this.issues) {
+			list.add(description.toIssue());
+		}
+		return list;
+	}
+
+	/** Add the URI of a successfully compiled resource.
+	 *
+	 * @param uri the URI of the resource.
+	 */
+	public void addCompiledResource(URI uri) {
+		this.compiledResources.add(uri.toString());
+	}
+
+	/** Replies the URIs of the successfully compiled resources.
+	 *
+	 * @return the URIs.
+	 */
+	public List<URI> getCompiledResources() {
+		final List<URI> list = new ArrayList<>(this.compiledResources.size());
+		for (final String uri : this.compiledResources) {
+			list.add(URI.createURI(uri));
+		}
+		return list;
+	}
+
+	/** Serializable description of an issue.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	static final class IssueDescription implements Serializable {
+
+		private static final long serialVersionUID = 6063375125683815466L;
+
+		private final String severity;
+
+		private final String type;
+
+		private final String code;
+
+		private final String message;
+
+		private final String uriToProblem;
+
+		private final Integer lineNumber;
+
+		private final Integer column;
+
+		private final Integer offset;
+
+		private final Integer length;
+
+		private final boolean syntaxError;
+
+		private final String[] data;
+
+		IssueDescription(Issue issue) {
+			this.severity = issue.getSeverity() == null ? null : issue.getSeverity().name();
+			this.type = issue.getType() == null ? null : issue.getType().name();
+			this.code = issue.getCode();
+			this.message = issue.getMessage();
+			this.uriToProblem = issue.getUriToProblem() == null ? null : issue.getUriToProblem().toString();
+			this.lineNumber = issue.getLineNumber();
+			this.column = issue.getColumn();
+			this.offset = issue.getOffset();
+			this.length = issue.getLength();
+			this.syntaxError = issue.isSyntaxError();
+			this.data = issue.getData();
+		}
+
+		Issue toIssue() {
+			final Issue.IssueImpl issue = new Issue.IssueImpl();
+			issue.setSeverity(this.severity == null ? null : Severity.valueOf(this.severity));
+			issue.setType(this.type == null ? null : CheckType.valueOf(this.type));
+			issue.setCode(this.code);
+			issue.setMessage(this.message);
+			issue.setUriToProblem(this.uriToProblem == null ? null : URI.createURI(this.uriToProblem));
+			issue.setLineNumber(this.lineNumber);
+			issue.setColumn(this.column);
+			issue.setOffset(this.offset);
+			issue.setLength(this.length);
+			issue.setSyntaxError(this.syntaxError);
+			issue.setData(this.data);
+			return issue;
+		}
+
+	}
+
+}
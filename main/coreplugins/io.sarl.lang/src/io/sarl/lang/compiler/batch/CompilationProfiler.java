@@ -0,0 +1,472 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Singleton;
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Profiler of the compilation phases of the SARL batch compiler.
+ *
+ * <p>When it is enabled, the profiler collects the duration and the memory delta of each phase
+ * of the compilation, the time spent by each phase on each SARL resource, and the cumulative
+ * time spent within each check of the validators. The report is written in JSON or CSV.
+ *
+ * <p>The profiler is shared by the batch compiler and the validator, and it may be fed by
+ * the threads of a parallel compilation. When it is disabled, the cost of the profiling is
+ * a volatile read per call.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+@Singleton
+public class CompilationProfiler {
+
+	/** Name of the phase in which the compiler is configured.
+	 */
+	public static final String CONFIGURATION_PHASE = "configuration"; //$NON-NLS-1$
+
+	/** Name of the phase in which the SARL files are parsed.
+	 */
+	public static final String PARSING_PHASE = "parsing"; //$NON-NLS-1$
+
+	/** Name of the phase in which the stubs are generated and compiled.
+	 */
+	public static final String STUB_COMPILATION_PHASE = "stubCompilation"; //$NON-NLS-1$
+
+	/** Name of the phase in which the JVM model is inferred.
+	 */
+	public static final String INFERENCE_PHASE = "jvmModelInference"; //$NON-NLS-1$
+
+	/** Name of the phase in which the cross-references are resolved.
+	 */
+	public static final String LINKING_PHASE = "linking"; //$NON-NLS-1$
+
+	/** Name of the phase in which the SARL files are validated.
+	 */
+	public static final String VALIDATION_PHASE = "validation"; //$NON-NLS-1$
+
+	/** Name of the phase in which the Java files are generated.
+	 */
+	public static final String GENERATION_PHASE = "javaGeneration"; //$NON-NLS-1$
+
+	/** Name of the phase in which the Java files are compiled.
+	 */
+	public static final String JAVA_COMPILATION_PHASE = "javaCompilation"; //$NON-NLS-1$
+
+	private static final String CSV_EXTENSION = ".csv"; //$NON-NLS-1$
+
+	private static final String CSV_HEADER = "category,name,phase,durationMs,memoryDeltaBytes,count"; //$NON-NLS-1$
+
+	private volatile boolean enabled;
+
+	private long startTime;
+
+	private long duration;
+
+	private final Map<String, PhaseRecord> phases = new LinkedHashMap<>();
+
+	private PhaseRecord currentPhase;
+
+	private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> resources = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, CheckRecord> checks = new ConcurrentHashMap<>();
+
+	/** Replies if the profiler is collecting data.
+	 *
+	 * @return {@code true} if the profiler is enabled.
+	 */
+	@Pure
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/** Clear the collected data and start the profiling.
+	 */
+	public synchronized void start() {
+		this.phases.clear();
+		this.currentPhase = null;
+		this.resources.clear();
+		this.checks.clear();
+		this.duration = 0;
+		this.startTime = System.nanoTime();
+		this.enabled = true;
+	}
+
+	/** Stop the profiling. The current phase is terminated.
+	 * The collected data are kept until the next call to {@link #start()}.
+	 */
+	public synchronized void stop() {
+		if (this.enabled) {
+			endPhase();
+			this.duration = System.nanoTime() - this.startTime;
+			this.enabled = false;
+		}
+	}
+
+	/** Start a phase of the compilation. The current phase is terminated.
+	 * If a phase is started several times, its durations and memory deltas are summed.
+	 *
+	 * @param name the name of the phase.
+	 */
+	public synchronized void beginPhase(String name) {
+		if (this.enabled) {
+			endPhase();
+			final PhaseRecord phase = this.phases.computeIfAbsent(name, it -> new PhaseRecord());
+			phase.begin();
+			this.currentPhase = phase;
+		}
+	}
+
+	private void endPhase() {
+		if (this.currentPhase != null) {
+			this.currentPhase.end();
+			this.currentPhase = null;
+		}
+	}
+
+	/** Replies the current time stamp for measuring a duration with {@link #addResourceTime(String, String, long)}
+	 * or {@link #addCheckTime(String, long)}.
+	 *
+	 * @return the time stamp, or {@code 0} if the profiler is disabled.
+	 */
+	@Pure
+	public long timestamp() {
+		return this.enabled ? System.nanoTime() : 0;
+	}
+
+	/** Add the time spent by a phase on a resource.
+	 *
+	 * @param phase the name of the phase.
+	 * @param resource the name of the resource.
+	 * @param startTimestamp the time stamp at the beginning of the treatment, replied by {@link #timestamp()}.
+	 */
+	public void addResourceTime(String phase, String resource, long startTimestamp) {
+		if (this.enabled && startTimestamp != 0) {
+			final long time = System.nanoTime() - startTimestamp;
+			this.resources.computeIfAbsent(resource, it -> new ConcurrentHashMap<>())
+				.computeIfAbsent(phase, it -> new LongAdder()).add(time);
+		}
+	}
+
+	/** Add the time spent within a check of a validator.
+	 *
+	 * @param check the name of the check.
+	 * @param startTimestamp the time stamp at the beginning of the check, replied by {@link #timestamp()}.
+	 */
+	public void addCheckTime(String check, long startTimestamp) {
+		if (this.enabled && startTimestamp != 0) {
+			final long time = System.nanoTime() - startTimestamp;
+			final CheckRecord record = this.checks.computeIfAbsent(check, it -> new CheckRecord());
+			record.duration.add(time);
+			record.count.increment();
+		}
+	}
+
+	/** Write the report of the profiling into the given file.
+	 * The report is written in CSV if the file has the {@code .csv} extension, and in JSON otherwise.
+	 *
+	 * @param file the output file.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void writeReport(File file) throws IOException {
+		final File folder = file.getAbsoluteFile().getParentFile();
+		if (folder != null) {
+			folder.mkdirs();
+		}
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			if (file.getName().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION)) {
+				writeCsvReport(writer);
+			} else {
+				writeJsonReport(writer);
+			}
+		}
+	}
+
+	/** Write the report of the profiling in JSON.
+	 *
+	 * @param output the output.
+	 * @throws IOException if the report cannot be written.
+	 */
+	@SuppressWarnings("checkstyle:multiplestringliterals")
+	public synchronized void writeJsonReport(Appendable output) throws IOException {
+		output.append("{\n\t\"durationMs\": ").append(toMillis(this.duration)); //$NON-NLS-1$
+		output.append(",\n\t\"phases\": ["); //$NON-NLS-1$
+		boolean first = true;
+		for (final Entry<String, PhaseRecord> phase : this.phases.entrySet()) {
+			output.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+			output.append("\t\t{\"name\": ").append(toJsonString(phase.getKey())); //$NON-NLS-1$
+			output.append(", \"durationMs\": ").append(toMillis(phase.getValue().duration)); //$NON-NLS-1$
+			output.append(", \"memoryDeltaBytes\": ").append(Long.toString(phase.getValue().memoryDelta)); //$NON-NLS-1$
+			output.append("}"); //$NON-NLS-1$
+		}
+		output.append("\n\t],\n\t\"resources\": ["); //$NON-NLS-1$
+		first = true;
+		for (final Entry<String, Map<String, Long>> resource : getResourceTimes().entrySet()) {
+			output.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+			output.append("\t\t{\"name\": ").append(toJsonString(resource.getKey())); //$NON-NLS-1$
+			output.append(", \"durationsMs\": {"); //$NON-NLS-1$
+			boolean firstPhase = true;
+			for (final Entry<String, Long> phase : resource.getValue().entrySet()) {
+				if (!firstPhase) {
+					output.append(", "); //$NON-NLS-1$
+				}
+				firstPhase = false;
+				output.append(toJsonString(phase.getKey())).append(": "); //$NON-NLS-1$
+				output.append(toMillis(phase.getValue().longValue()));
+			}
+			output.append("}}"); //$NON-NLS-1$
+		}
+		output.append("\n\t],\n\t\"checks\": ["); //$NON-NLS-1$
+		first = true;
+		for (final Entry<String, CheckRecord> check : getSortedChecks()) {
+			output.append(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			first = false;
+			output.append("\t\t{\"name\": ").append(toJsonString(check.getKey())); //$NON-NLS-1$
+			output.append(", \"durationMs\": ").append(toMillis(check.getValue().duration.sum())); //$NON-NLS-1$
+			output.append(", \"count\": ").append(Long.toString(check.getValue().count.sum())); //$NON-NLS-1$
+			output.append("}"); //$NON-NLS-1$
+		}
+		output.append("\n\t]\n}\n"); //$NON-NLS-1$
+	}
+
+	/** Write the report of the profiling in CSV.
+	 * Each line describes a phase, the time spent by a phase on a resource, or a check of the validator.
+	 *
+	 * @param output the output.
+	 * @throws IOException if the report cannot be written.
+	 */
+	public synchronized void writeCsvReport(Appendable output) throws IOException {
+		output.append(CSV_HEADER).append("\n"); //$NON-NLS-1$
+		writeCsvLine(output, "total", "", "", this.duration, 0, 1); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (final Entry<String, PhaseRecord> phase : this.phases.entrySet()) {
+			writeCsvLine(output, "phase", phase.getKey(), phase.getKey(), //$NON-NLS-1$
+					phase.getValue().duration, phase.getValue().memoryDelta, phase.getValue().count);
+		}
+		for (final Entry<String, Map<String, Long>> resource : getResourceTimes().entrySet()) {
+			for (final Entry<String, Long> phase : resource.getValue().entrySet()) {
+				writeCsvLine(output, "resource", resource.getKey(), phase.getKey(), //$NON-NLS-1$
+						phase.getValue().longValue(), 0, 1);
+			}
+		}
+		for (final Entry<String, CheckRecord> check : getSortedChecks()) {
+			writeCsvLine(output, "check", check.getKey(), VALIDATION_PHASE, //$NON-NLS-1$
+					check.getValue().duration.sum(), 0, check.getValue().count.sum());
+		}
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private static void writeCsvLine(Appendable output, String category, String name, String phase,
+			long duration, long memoryDelta, long count) throws IOException {
+		output.append(category).append(","); //$NON-NLS-1$
+		output.append(toCsvString(name)).append(","); //$NON-NLS-1$
+		output.append(toCsvString(phase)).append(","); //$NON-NLS-1$
+		output.append(toMillis(duration)).append(","); //$NON-NLS-1$
+		output.append(Long.toString(memoryDelta)).append(","); //$NON-NLS-1$
+		output.append(Long.toString(count)).append("\n"); //$NON-NLS-1$
+	}
+
+	/** Replies the times spent by the phases on each resource, sorted by resource name.
+	 *
+	 * @return the times in nanoseconds per phase name, per resource name.
+	 */
+	@Pure
+	public Map<String, Map<String, Long>> getResourceTimes() {
+		final Map<String, Map<String, Long>> result = new TreeMap<>();
+		for (final Entry<String, ConcurrentMap<String, LongAdder>> resource : this.resources.entrySet()) {
+			final Map<String, Long> times = new TreeMap<>();
+			for (final Entry<String, LongAdder> phase : resource.getValue().entrySet()) {
+				times.put(phase.getKey(), Long.valueOf(phase.getValue().sum()));
+			}
+			result.put(resource.getKey(), times);
+		}
+		return result;
+	}
+
+	/** Replies the durations of the phases, in the order of their first start.
+	 *
+	 * @return the durations in nanoseconds per phase name.
+	 */
+	@Pure
+	public synchronized Map<String, Long> getPhaseTimes() {
+		final Map<String, Long> result = new LinkedHashMap<>();
+		for (final Entry<String, PhaseRecord> phase : this.phases.entrySet()) {
+			result.put(phase.getKey(), Long.valueOf(phase.getValue().duration));
+		}
+		return result;
+	}
+
+	/** Replies the cumulative times spent within the checks of the validators.
+	 *
+	 * @return the times in nanoseconds per check name.
+	 */
+	@Pure
+	public Map<String, Long> getCheckTimes() {
+		final Map<String, Long> result = new TreeMap<>();
+		for (final Entry<String, CheckRecord> check : this.checks.entrySet()) {
+			result.put(check.getKey(), Long.valueOf(check.getValue().duration.sum()));
+		}
+		return result;
+	}
+
+	/** Replies the checks, from the most to the least time consuming.
+	 *
+	 * @return the checks.
+	 */
+	private List<Entry<String, CheckRecord>> getSortedChecks() {
+		final List<Entry<String, CheckRecord>> result = new ArrayList<>(this.checks.entrySet());
+		result.sort((a, b) -> {
+			final int cmp = Long.compare(b.getValue().duration.sum(), a.getValue().duration.sum());
+			if (cmp != 0) {
+				return cmp;
+			}
+			return a.getKey().compareTo(b.getKey());
+		});
+		return result;
+	}
+
+	private static String toMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", //$NON-NLS-1$
+				Double.valueOf((double) nanos / TimeUnit.MILLISECONDS.toNanos(1)));
+	}
+
+	private static String toJsonString(String value) {
+		final StringBuilder buffer = new StringBuilder("\""); //$NON-NLS-1$
+		for (final char character : value.toCharArray()) {
+			switch (character) {
+			case '"':
+				buffer.append("\\\""); //$NON-NLS-1$
+				break;
+			case '\\':
+				buffer.append("\\\\"); //$NON-NLS-1$
+				break;
+			case '\n':
+				buffer.append("\\n"); //$NON-NLS-1$
+				break;
+			case '\r':
+				buffer.append("\\r"); //$NON-NLS-1$
+				break;
+			case '\t':
+				buffer.append("\\t"); //$NON-NLS-1$
+				break;
+			default:
+				if (character < ' ') {
+					buffer.append(String.format("\\u%04x", Integer.valueOf(character))); //$NON-NLS-1$
+				} else {
+					buffer.append(character);
+				}
+			}
+		}
+		return buffer.append('"').toString();
+	}
+
+	private static String toCsvString(String value) {
+		if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+			return "\"" + value.replace("\"", "\"\"") + "\""; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		return value;
+	}
+
+	private static long usedMemory() {
+		final Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/** Data of a phase.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static class PhaseRecord {
+
+		long duration;
+
+		long memoryDelta;
+
+		int count;
+
+		private long start;
+
+		private long startMemory;
+
+		PhaseRecord() {
+			//
+		}
+
+		void begin() {
+			this.startMemory = usedMemory();
+			this.start = System.nanoTime();
+		}
+
+		void end() {
+			this.duration += System.nanoTime() - this.start;
+			this.memoryDelta += usedMemory() - this.startMemory;
+			++this.count;
+		}
+
+	}
+
+	/** Data of a check.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static class CheckRecord {
+
+		final LongAdder duration = new LongAdder();
+
+		final LongAdder count = new LongAdder();
+
+		CheckRecord() {
+			//
+		}
+
+	}
+
+}
@@ -26,6 +26,8 @@ import java.io.PrintWriter;
 import java.util.Iterator;
 import java.util.List;
 
+import javax.tools.JavaCompiler;
+
 import com.google.common.collect.Lists;
 import com.google.inject.Singleton;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -35,6 +37,10 @@ import org.eclipse.xtext.util.Strings;
 import org.slf4j.Logger;
 
 /** A wrapper on top of the Eclipse Compiler for Java (ECJ).
+ *
+ * <p>The sessions of compilation are based on the implementation of the {@code javax.tools} API that is
+ * provided by ECJ. If this implementation is not on the classpath, no session is created and the
+ * batch compiler falls back to the invocation of ECJ on the files.
  *
  * @author $Author: sgalland$
  * @version $FullVersion$
@@ -45,6 +51,55 @@ import org.slf4j.Logger;
 @Singleton
 public class EcjBatchCompiler implements IJavaBatchCompiler {
 
+	private static final String TOOL_COMPILER_TYPE = "org.eclipse.jdt.internal.compiler.tool.EclipseCompiler"; //$NON-NLS-1$
+
+	/** Add the options of ECJ that correspond to the given level of optimization.
+	 *
+	 * @param optimizationLevel the level of optimization.
+	 * @param options the options of the compiler, to be filled.
+	 */
+	static void addOptimizationOptions(OptimizationLevel optimizationLevel, List<String> options) {
+		switch (optimizationLevel) {
+		case G2:
+			options.add("-g:none"); //$NON-NLS-1$
+			options.add("-O"); //$NON-NLS-1$
+			break;
+		case G1:
+			options.add("-g:none"); //$NON-NLS-1$
+			break;
+		case G0:
+		default:
+			options.add("-g"); //$NON-NLS-1$
+			options.add("-preserveAllLocals"); //$NON-NLS-1$
+		}
+	}
+
+	/** Replies the implementation of the {@code javax.tools} API by ECJ.
+	 *
+	 * @return the compiler, or {@code null} if it is not on the classpath.
+	 */
+	static JavaCompiler getToolCompiler() {
+		try {
+			final Class<?> type = Class.forName(TOOL_COMPILER_TYPE, true, EcjBatchCompiler.class.getClassLoader());
+			return (JavaCompiler) type.newInstance();
+		} catch (ReflectiveOperationException | LinkageError | ClassCastException exception) {
+			return null;
+		}
+	}
+
+	@Override
+	public JavaCompilationSession newSession(List<File> bootClassPathEntries, String javaVersion,
+			String encoding, Logger logger) {
+		final JavaCompiler compiler = getToolCompiler();
+		if (compiler == null) {
+			if (logger != null && logger.isDebugEnabled()) {
+				logger.debug(Messages.EcjBatchCompiler_1, TOOL_COMPILER_TYPE);
+			}
+			return null;
+		}
+		return new EcjCompilationSession(compiler, bootClassPathEntries, javaVersion, encoding, logger);
+	}
+
 	@Override
 	@SuppressWarnings({ "checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity",
 		"checkstyle:parameternumber" })
@@ -62,19 +117,7 @@ public class EcjBatchCompiler implements IJavaBatchCompiler {
 		assert progress != null;
 		final List<String> commandLineArguments = Lists.newArrayList();
 		if (optimizationLevel != null) {
-			switch (optimizationLevel) {
-			case G2:
-				commandLineArguments.add("-g:none"); //$NON-NLS-1$
-				commandLineArguments.add("-O"); //$NON-NLS-1$
-				break;
-			case G1:
-				commandLineArguments.add("-g:none"); //$NON-NLS-1$
-				break;
-			case G0:
-			default:
-				commandLineArguments.add("-g"); //$NON-NLS-1$
-				commandLineArguments.add("-preserveAllLocals"); //$NON-NLS-1$
-			}
+			addOptimizationOptions(optimizationLevel, commandLineArguments);
 		}
 		commandLineArguments.add("-nowarn"); //$NON-NLS-1$
 		if (isCompilerMoreVerbose) {
@@ -169,6 +212,46 @@ public class EcjBatchCompiler implements IJavaBatchCompiler {
 				new ProgressMonitorCompilationProgress(progress));
 	}
 
+	/** Session of compilation that is based on the {@code javax.tools} API of ECJ.
+	 *
+	 * <p>The options of the session are the same as the ones given to ECJ by
+	 * {@link EcjBatchCompiler#compile(File, Iterable, Iterable, List, String, String, boolean, OptimizationLevel,
+	 * PrintWriter, PrintWriter, Logger, IProgressMonitor)}.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static class EcjCompilationSession extends JavaCompilationSession {
+
+		/** Constructor.
+		 *
+		 * @param compiler the ECJ implementation of the Java compiler.
+		 * @param bootClassPathEntries the classpath entries for the boot.
+		 * @param javaVersion the version of Java that is the target.
+		 * @param encoding the encoding of the files.
+		 * @param logger the logger to use for debugging messages.
+		 */
+		EcjCompilationSession(JavaCompiler compiler, List<File> bootClassPathEntries, String javaVersion,
+				String encoding, Logger logger) {
+			super(compiler, bootClassPathEntries, javaVersion, encoding, logger);
+		}
+
+		@Override
+		protected void addOptimizationOptions(OptimizationLevel optimizationLevel, List<String> options) {
+			EcjBatchCompiler.addOptimizationOptions(optimizationLevel, options);
+		}
+
+		@Override
+		protected void addCommonOptions(List<String> options) {
+			super.addCommonOptions(options);
+			options.add("-proceedOnError"); //$NON-NLS-1$
+		}
+
+	}
+
 	/** Wrap a Eclipse IProgressMonitor into a JDT compilation progress.
 	 *
 	 * @author $Author: sgalland$
@@ -34,6 +34,10 @@ import org.slf4j.Logger;
  * <p>By default, the {@link EcjBatchCompiler Eclipse Compiler for Java is used} in order
  * to generate byte code that is the same as inside the SARL IDE.
  *
+ * <p>The {@link #newSession(List, String, String, Logger) sessions of compilation} are supported by
+ * the ECJ and javac implementations. Any other implementation may reply {@code null}; the batch compiler
+ * then runs the Java compiler on the files.
+ *
  * @author $Author: sgalland$
  * @version $FullVersion$
  * @mavengroupid $GroupId$
@@ -72,4 +76,19 @@ public interface IJavaBatchCompiler {
 			Logger logger,
 			IProgressMonitor progress);
 
+	/** Create a session of compilation that may be used for running the Java compiler several times
+	 * with the same file manager, and for compiling sources in memory.
+	 *
+	 * @param bootClassPathEntries the classpath entries for the boot.
+	 * @param javaVersion the version of Java that is the target, e.g. {@code 1.8}.
+	 * @param encoding the encoding of the files.
+	 * @param logger the logger to use for debugging messages.
+	 * @return the session, or {@code null} if this compiler does not support sessions.
+	 * @since 0.9
+	 */
+	default JavaCompilationSession newSession(List<File> bootClassPathEntries, String javaVersion,
+			String encoding, Logger logger) {
+		return null;
+	}
+
 }
@@ -0,0 +1,350 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+/** State of the SARL batch compiler that is saved between two incremental compilations.
+ *
+ * <p>The state contains, for each compiled SARL file, the hash code of its content, the names
+ * that are exported and imported by the file, and the names of the Java types that were generated
+ * from the file. These informations are used for determining the SARL files that must be compiled
+ * again when some of the SARL files have changed.
+ *
+ * <p>All the names are stored in lower case for being compared to the imported names that are
+ * provided by Xtext.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class IncrementalBuildState implements Serializable {
+
+	/** Default name of the file in which the build state is saved.
+	 */
+	public static final String DEFAULT_FILENAME = ".sarlc-build-state"; //$NON-NLS-1$
+
+	private static final long serialVersionUID = -2486139276587713906L;
+
+	private final String configurationKey;
+
+	private final Map<String, ResourceState> resources = new TreeMap<>();
+
+	/** Constructor.
+	 *
+	 * @param configurationKey the key that represents the configuration of the compiler.
+	 *     A build state could be reused only by a compiler with the same configuration key.
+	 */
+	public IncrementalBuildState(String configurationKey) {
+		this.configurationKey = configurationKey;
+	}
+
+	/** Load the build state from the given file.
+	 *
+	 * <p>Only the types that are part of the build state could be read from the file.
+	 *
+	 * @param file the file to read.
+	 * @return the build state, or {@code null} if the file does not exist or cannot be read.
+	 */
+	public static IncrementalBuildState load(File file) {
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try (InputStream fis = new FileInputStream(file)) {
+			try (ObjectInputStream ois = new RestrictedObjectInputStream(fis)) {
+				final Object state = ois.readObject();
+				if (state instanceof IncrementalBuildState) {
+					return (IncrementalBuildState) state;
+				}
+			}
+		} catch (IOException | ClassNotFoundException | ClassCastException exception) {
+			// The build state is corrupted or written by another version of the compiler.
+		}
+		return null;
+	}
+
+	/** Save the build state into the given file.
+	 *
+	 * @param file the file to write.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public void save(File file) throws IOException {
+		final File parent = file.getParentFile();
+		if (parent != null && !parent.isDirectory()) {
+			parent.mkdirs();
+		}
+		try (OutputStream fos = new FileOutputStream(file)) {
+			try (ObjectOutputStream oos = new ObjectOutputStream(fos)) {
+				oos.writeObject(this);
+			}
+		}
+	}
+
+	/** Compute the hash code of the content of the given file.
+	 *
+	 * @param file the file.
+	 * @return the hash code.
+	 * @throws IOException if the file cannot be read.
+	 */
+	public static String computeHash(File file) throws IOException {
+		return Files.asByteSource(file).hash(Hashing.sha256()).toString();
+	}
+
+	/** Replies the key that represents the configuration of the compiler.
+	 *
+	 * @return the configuration key.
+	 */
+	public String getConfigurationKey() {
+		return this.configurationKey;
+	}
+
+	/** Replies the URIs of the resources that are known by this state.
+	 *
+	 * @return the URIs.
+	 */
+	public Set<String> getResources() {
+		return Collections.unmodifiableSet(this.resources.keySet());
+	}
+
+	/** Replies the state of the given resource.
+	 *
+	 * @param uri the URI of the resource.
+	 * @return the state, or {@code null} if the resource is unknown.
+	 */
+	public ResourceState getResourceState(String uri) {
+		return this.resources.get(uri);
+	}
+
+	/** Change the state of the given resource.
+	 *
+	 * @param uri the URI of the resource.
+	 * @param state the state.
+	 */
+	public void setResourceState(String uri, ResourceState state) {
+		this.resources.put(uri, state);
+	}
+
+	/** Remove the state of the given resource.
+	 *
+	 * @param uri the URI of the resource.
+	 * @return the removed state, or {@code null} if the resource is unknown.
+	 */
+	public ResourceState removeResourceState(String uri) {
+		return this.resources.remove(uri);
+	}
+
+	/** Compute the resources that are affected by a change of the given resources.
+	 *
+	 * <p>A resource is affected if it is one of the changed resources, or if it imports one of the names that
+	 * are exported by an affected resource. The names that are exported by the changed resources before and
+	 * after their changes must be provided.
+	 *
+	 * @param changedResources the URIs of the changed, added or removed resources.
+	 * @param exportedNames the names that are exported by the changed resources, before and after their changes.
+	 *     They must be in lower case.
+	 * @return the URIs of the affected resources, including the changed resources.
+	 */
+	public Set<String> computeAffectedResources(Collection<String> changedResources, Collection<String> exportedNames) {
+		final Set<String> affected = new TreeSet<>(changedResources);
+		final Set<String> names = new TreeSet<>(exportedNames);
+		final Deque<String> newNames = new ArrayDeque<>(exportedNames);
+		for (final String uri : changedResources) {
+			final ResourceState state = this.resources.get(uri);
+			if (state != null) {
+				for (final String name : state.getExportedNames()) {
+					if (names.add(name)) {
+						newNames.add(name);
+					}
+				}
+			}
+		}
+		while (!newNames.isEmpty()) {
+			final Set<String> currentNames = new TreeSet<>();
+			while (!newNames.isEmpty()) {
+				currentNames.add(newNames.removeFirst());
+			}
+			for (final Entry<String, ResourceState> entry : this.resources.entrySet()) {
+				if (!affected.contains(entry.getKey())
+						&& !Collections.disjoint(entry.getValue().getImportedNames(), currentNames)) {
+					affected.add(entry.getKey());
+					for (final String name : entry.getValue().getExportedNames()) {
+						if (names.add(name)) {
+							newNames.add(name);
+						}
+					}
+				}
+			}
+		}
+		return affected;
+	}
+
+	/** Replies the exported names of the given description, in lower case.
+	 *
+	 * @param description the description of a resource.
+	 * @return the names.
+	 */
+	public static Set<String> getExportedNames(IResourceDescription description) {
+		final Set<String> names = new TreeSet<>();
+		for (final IEObjectDescription object : description.getExportedObjects()) {
+			names.add(object.getQualifiedName().toLowerCase().toString());
+		}
+		return names;
+	}
+
+	/** Replies the imported names of the given description, in lower case.
+	 *
+	 * @param description the description of a resource.
+	 * @return the names.
+	 */
+	public static Set<String> getImportedNames(IResourceDescription description) {
+		final Set<String> names = new TreeSet<>();
+		for (final QualifiedName name : description.getImportedNames()) {
+			names.add(name.toLowerCase().toString());
+		}
+		return names;
+	}
+
+	/** State of a single resource.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	public static class ResourceState implements Serializable {
+
+		private static final long serialVersionUID = 7709271851440384376L;
+
+		private final String hash;
+
+		private final Set<String> exportedNames;
+
+		private final Set<String> importedNames;
+
+		private final Set<String> generatedTypes;
+
+		/** Constructor.
+		 *
+		 * @param hash the hash code of the content of the resource.
+		 * @param exportedNames the names exported by the resource, in lower case.
+		 * @param importedNames the names imported by the resource, in lower case.
+		 * @param generatedTypes the fully qualified names of the Java types that are generated from the resource.
+		 */
+		public ResourceState(String hash, Set<String> exportedNames, Set<String> importedNames, Set<String> generatedTypes) {
+			this.hash = hash;
+			this.exportedNames = exportedNames;
+			this.importedNames = importedNames;
+			this.generatedTypes = generatedTypes;
+		}
+
+		/** Replies the hash code of the content of the resource.
+		 *
+		 * @return the hash code.
+		 */
+		public String getHash() {
+			return this.hash;
+		}
+
+		/** Replies the names exported by the resource, in lower case.
+		 *
+		 * @return the names.
+		 */
+		public Set<String> getExportedNames() {
+			return Collections.unmodifiableSet(this.exportedNames);
+		}
+
+		/** Replies the names imported by the resource, in lower case.
+		 *
+		 * @return the names.
+		 */
+		public Set<String> getImportedNames() {
+			return Collections.unmodifiableSet(this.importedNames);
+		}
+
+		/** Replies the fully qualified names of the Java types that are generated from the resource.
+		 *
+		 * @return the names.
+		 */
+		public Set<String> getGeneratedTypes() {
+			return Collections.unmodifiableSet(this.generatedTypes);
+		}
+
+	}
+
+	/** Input stream that is accepting only the types of the build state.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class RestrictedObjectInputStream extends ObjectInputStream {
+
+		RestrictedObjectInputStream(InputStream stream) throws IOException {
+			super(stream);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			final String name = desc.getName();
+			if (name.equals(IncrementalBuildState.class.getName())
+					|| name.equals(ResourceState.class.getName())
+					|| name.equals("java.lang.String") //$NON-NLS-1$
+					|| name.equals("java.util.TreeMap") //$NON-NLS-1$
+					|| name.equals("java.util.TreeSet")) { //$NON-NLS-1$
+				return super.resolveClass(desc);
+			}
+			throw new InvalidClassException(name);
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.common.types.access.impl.ClassFinder;
+import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
+import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess;
+import org.eclipse.xtext.common.types.access.impl.TypeResourceServices;
+
+/** Provider of JVM types that consults a {@link ClasspathTypeIndex} before loading the classes.
+ *
+ * <p>The types that are not on the class path are immediately reported as missing, without
+ * asking the class loader. The types that are defined into the resource set, e.g. the types
+ * inferred from the SARL files, are still found with the {@link IndexedJvmTypeAccess}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class IndexedClasspathTypeProvider extends ClasspathTypeProvider {
+
+	private final ClasspathTypeIndex typeIndex;
+
+	/** Constructor.
+	 *
+	 * @param classLoader the class loader on the class path.
+	 * @param resourceSet the resource set in which the provider is installed.
+	 * @param indexedJvmTypeAccess the accessor to the types of the resource set, or {@code null}.
+	 * @param services the type resource services, or {@code null}.
+	 * @param typeIndex the index of the types on the class path.
+	 */
+	public IndexedClasspathTypeProvider(ClassLoader classLoader, ResourceSet resourceSet,
+			IndexedJvmTypeAccess indexedJvmTypeAccess, TypeResourceServices services,
+			ClasspathTypeIndex typeIndex) {
+		super(classLoader, resourceSet, indexedJvmTypeAccess, services);
+		this.typeIndex = typeIndex;
+	}
+
+	/** Replies the index of the types on the class path.
+	 *
+	 * @return the index.
+	 */
+	public ClasspathTypeIndex getTypeIndex() {
+		return this.typeIndex;
+	}
+
+	@Override
+	protected ClassFinder createClassFinder(ClassLoader classLoader) {
+		// Invoked from the super constructor: the index is read when the finder is used.
+		return new IndexedClassFinder(classLoader, this);
+	}
+
+	/** Finder of classes that consults the index of the provider.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static class IndexedClassFinder extends ClassFinder {
+
+		private final IndexedClasspathTypeProvider provider;
+
+		IndexedClassFinder(ClassLoader classLoader, IndexedClasspathTypeProvider provider) {
+			super(classLoader);
+			this.provider = provider;
+		}
+
+		@Override
+		public Class<?> forName(String name) throws ClassNotFoundException {
+			final ClasspathTypeIndex index = this.provider.getTypeIndex();
+			if (index != null && !index.mayContain(name)) {
+				throw new MissingClassException(name);
+			}
+			return super.forName(name);
+		}
+
+	}
+
+	/** Exception for a missing class, without stack trace because it is used for the normal control flow.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static class MissingClassException extends ClassNotFoundException {
+
+		private static final long serialVersionUID = 3196389475623815906L;
+
+		MissingClassException(String name) {
+			super(name);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+}
@@ -0,0 +1,464 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.compiler.batch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+import com.google.common.collect.Iterables;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.xtext.util.Strings;
+import org.slf4j.Logger;
+
+/** Session of compilation with a Java compiler that supports the {@code javax.tools} API.
+ *
+ * <p>The batch compiler runs the Java compiler up to three times: on the stubs, on the Java files
+ * that are depending on the stubs, and on the generated Java files. A session uses the same
+ * file manager for all these compilations; in this way, the jar files of the class path are
+ * opened and read only once. Additionally, the stubs are given to the Java compiler from the
+ * memory; and the class files that are compiled {@link #compileInMemory(Map, Iterable, Iterable, PrintWriter, PrintWriter,
+ * IProgressMonitor) in memory} are visible by the next compilations in memory without being
+ * written on the disk.
+ *
+ * <p>A session is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ * @see IJavaBatchCompiler#newSession(List, String, String, Logger)
+ */
+public class JavaCompilationSession implements Closeable {
+
+	private static final String JAVA_EXTENSION = ".java"; //$NON-NLS-1$
+
+	private final JavaCompiler compiler;
+
+	private final StandardJavaFileManager fileManager;
+
+	private final List<File> bootClassPath;
+
+	private final String javaVersion;
+
+	private final String encoding;
+
+	private final Logger logger;
+
+	private final Map<String, MemoryClassFile> classes = new TreeMap<>();
+
+	/** Constructor.
+	 *
+	 * @param compiler the Java compiler.
+	 * @param bootClassPathEntries the classpath entries for the boot.
+	 * @param javaVersion the version of Java that is the target, e.g. {@code 1.8}.
+	 * @param encoding the encoding of the files, or {@code null} for the default encoding.
+	 * @param logger the logger to use for debugging messages.
+	 */
+	public JavaCompilationSession(JavaCompiler compiler, List<File> bootClassPathEntries, String javaVersion,
+			String encoding, Logger logger) {
+		this.compiler = compiler;
+		this.encoding = Strings.isEmpty(encoding) ? null : encoding;
+		this.fileManager = compiler.getStandardFileManager(null, null,
+				this.encoding == null ? null : Charset.forName(this.encoding));
+		this.bootClassPath = new ArrayList<>(bootClassPathEntries);
+		this.javaVersion = javaVersion;
+		this.logger = logger;
+	}
+
+	/** Replies the names of the classes that were compiled in memory.
+	 *
+	 * @return the binary names of the classes.
+	 */
+	public Set<String> getClassesInMemory() {
+		return Collections.unmodifiableSet(this.classes.keySet());
+	}
+
+	/** Compile the given sources and the Java files in the given folders, and keep the class files
+	 * in memory. The classes that were previously compiled in memory are on the class path.
+	 *
+	 * @param sources the sources in memory. The keys are the paths of the files, e.g. {@code a/b/C.java}.
+	 * @param sourcePathDirectories the source directories.
+	 * @param classPathEntries classpath entries.
+	 * @param outWriter the standard output writer.
+	 * @param errWriter the standard error writer.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the success status. Replies <code>false</code> if there is no file to compile, or the activity is canceled.
+	 */
+	public boolean compileInMemory(Map<String, ? extends CharSequence> sources, Iterable<File> sourcePathDirectories,
+			Iterable<File> classPathEntries, PrintWriter outWriter, PrintWriter errWriter, IProgressMonitor progress) {
+		final List<JavaFileObject> units = new ArrayList<>();
+		for (final Entry<String, ? extends CharSequence> source : sources.entrySet()) {
+			if (source.getKey().endsWith(JAVA_EXTENSION)) {
+				units.add(new MemorySourceFile(source.getKey(), source.getValue()));
+			}
+		}
+		return run(new MemoryFileManager(this.fileManager), units, sourcePathDirectories, classPathEntries,
+				Collections.emptyList(), outWriter, errWriter, progress);
+	}
+
+	/** Compile the Java files in the given folders, and write the class files into the given directory.
+	 * The classes that were compiled in memory are not on the class path.
+	 *
+	 * @param classDirectory the output directory.
+	 * @param sourcePathDirectories the source directories.
+	 * @param classPathEntries classpath entries.
+	 * @param isCompilerMoreVerbose indicates if the Java compiler should be more verbose.
+	 * @param optimizationLevel the level of optimization to apply to the byte code or {@code null} if the defaults must be applied.
+	 * @param outWriter the standard output writer.
+	 * @param errWriter the standard error writer.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the success status. Replies <code>false</code> if there is no file to compile, or the activity is canceled.
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public boolean compile(File classDirectory, Iterable<File> sourcePathDirectories, Iterable<File> classPathEntries,
+			boolean isCompilerMoreVerbose, OptimizationLevel optimizationLevel,
+			PrintWriter outWriter, PrintWriter errWriter, IProgressMonitor progress) {
+		final List<String> options = new ArrayList<>();
+		if (optimizationLevel != null) {
+			addOptimizationOptions(optimizationLevel, options);
+		}
+		if (isCompilerMoreVerbose) {
+			options.add("-verbose"); //$NON-NLS-1$
+		}
+		if (!classDirectory.exists()) {
+			classDirectory.mkdirs();
+		}
+		try {
+			this.fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classDirectory));
+		} catch (IOException exception) {
+			errWriter.println(exception.getLocalizedMessage());
+			return false;
+		}
+		return run(this.fileManager, Collections.emptyList(), sourcePathDirectories, classPathEntries,
+				options, outWriter, errWriter, progress);
+	}
+
+	/** Add the options of the Java compiler that correspond to the given level of optimization.
+	 *
+	 * @param optimizationLevel the level of optimization.
+	 * @param options the options of the Java compiler, to be filled.
+	 */
+	protected void addOptimizationOptions(OptimizationLevel optimizationLevel, List<String> options) {
+		switch (optimizationLevel) {
+		case G2:
+		case G1:
+			options.add("-g:none"); //$NON-NLS-1$
+			break;
+		case G0:
+		default:
+			options.add("-g"); //$NON-NLS-1$
+		}
+	}
+
+	/** Add the options of the Java compiler that are given to all the compilations of this session.
+	 *
+	 * @param options the options of the Java compiler, to be filled.
+	 */
+	protected void addCommonOptions(List<String> options) {
+		options.add("-nowarn"); //$NON-NLS-1$
+	}
+
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:npathcomplexity"})
+	private boolean run(JavaFileManager manager, List<JavaFileObject> memoryUnits, Iterable<File> sourcePathDirectories,
+			Iterable<File> classPathEntries, List<String> extraOptions, PrintWriter outWriter, PrintWriter errWriter,
+			IProgressMonitor progress) {
+		if (progress.isCanceled()) {
+			return false;
+		}
+		final List<File> sourceFiles = new ArrayList<>();
+		for (final File sourceFolder : sourcePathDirectories) {
+			if (progress.isCanceled()) {
+				return false;
+			}
+			addJavaFilesDeeply(sourceFiles, sourceFolder.getAbsoluteFile());
+		}
+		if ((memoryUnits.isEmpty() && sourceFiles.isEmpty()) || progress.isCanceled()) {
+			return false;
+		}
+		final List<File> classPath = new ArrayList<>();
+		for (final File entry : classPathEntries) {
+			if (entry.exists()) {
+				classPath.add(entry);
+			}
+		}
+		final List<File> bootPath = new ArrayList<>();
+		for (final File entry : this.bootClassPath) {
+			if (entry.exists()) {
+				bootPath.add(entry);
+			}
+		}
+		try {
+			this.fileManager.setLocation(StandardLocation.CLASS_PATH, classPath);
+			if (!bootPath.isEmpty()) {
+				this.fileManager.setLocation(StandardLocation.PLATFORM_CLASS_PATH, bootPath);
+			}
+		} catch (IOException exception) {
+			errWriter.println(exception.getLocalizedMessage());
+			return false;
+		}
+		final List<String> options = new ArrayList<>(extraOptions);
+		addCommonOptions(options);
+		options.add("-source"); //$NON-NLS-1$
+		options.add(this.javaVersion);
+		options.add("-target"); //$NON-NLS-1$
+		options.add(this.javaVersion);
+		if (this.encoding != null) {
+			options.add("-encoding"); //$NON-NLS-1$
+			options.add(this.encoding);
+		}
+		if (this.logger != null && this.logger.isDebugEnabled()) {
+			this.logger.debug(Messages.JavaCompilationSession_0, Strings.concat(" ", options), //$NON-NLS-1$
+					Integer.valueOf(memoryUnits.size() + sourceFiles.size()));
+		}
+		if (progress.isCanceled()) {
+			return false;
+		}
+		final Iterable<? extends JavaFileObject> units = Iterables.concat(memoryUnits,
+				this.fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+		final DiagnosticListener<JavaFileObject> diagnostics = diagnostic -> {
+			if (diagnostic.getKind() == Diagnostic.Kind.NOTE) {
+				if (this.logger != null) {
+					this.logger.info(diagnostic.getMessage(null));
+				}
+			} else {
+				errWriter.println(diagnostic.toString());
+			}
+		};
+		final Boolean result = this.compiler.getTask(outWriter, manager, diagnostics, options, null, units).call();
+		return result != null && result.booleanValue();
+	}
+
+	/** Write the class files that were compiled in memory into the given directory.
+	 *
+	 * @param directory the directory.
+	 * @throws IOException if a file cannot be written.
+	 */
+	public void writeClassesInMemory(File directory) throws IOException {
+		for (final MemoryClassFile classFile : this.classes.values()) {
+			final File file = new File(directory, classFile.getBinaryName().replace('.', File.separatorChar) + Kind.CLASS.extension);
+			file.getParentFile().mkdirs();
+			try (OutputStream stream = new FileOutputStream(file)) {
+				stream.write(classFile.getBytes());
+			}
+		}
+	}
+
+	/** Release the resources of the session, including the classes in memory.
+	 */
+	@Override
+	public void close() {
+		this.classes.clear();
+		try {
+			this.fileManager.close();
+		} catch (IOException exception) {
+			if (this.logger != null) {
+				this.logger.warn(exception.getLocalizedMessage(), exception);
+			}
+		}
+	}
+
+	private static void addJavaFilesDeeply(List<File> list, File root) {
+		final Deque<File> folders = new LinkedList<>();
+		if (root.exists()) {
+			if (root.isDirectory()) {
+				folders.addLast(root);
+			} else {
+				list.add(root);
+				return;
+			}
+		}
+		while (!folders.isEmpty()) {
+			final File current = folders.removeFirst();
+			for (final File subfile : current.listFiles()) {
+				if (subfile.isDirectory()) {
+					folders.addLast(subfile);
+				} else if (subfile.getName().endsWith(JAVA_EXTENSION)) {
+					list.add(subfile);
+				}
+			}
+		}
+	}
+
+	/** File manager that keeps the class files in memory.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+		MemoryFileManager(JavaFileManager fileManager) {
+			super(fileManager);
+		}
+
+		@Override
+		public JavaFileObject getJavaFileForOutput(Location location, String className, Kind kind, FileObject sibling)
+				throws IOException {
+			if (location == StandardLocation.CLASS_OUTPUT && kind == Kind.CLASS) {
+				final MemoryClassFile file = new MemoryClassFile(className);
+				JavaCompilationSession.this.classes.put(className, file);
+				return file;
+			}
+			return super.getJavaFileForOutput(location, className, kind, sibling);
+		}
+
+		@Override
+		public Iterable<JavaFileObject> list(Location location, String packageName, Set<Kind> kinds,
+				boolean recurse) throws IOException {
+			final Iterable<JavaFileObject> files = super.list(location, packageName, kinds, recurse);
+			if (location == StandardLocation.CLASS_PATH && kinds.contains(Kind.CLASS)) {
+				final String prefix = packageName.isEmpty() ? packageName : packageName + "."; //$NON-NLS-1$
+				final List<JavaFileObject> memoryFiles = new ArrayList<>();
+				for (final MemoryClassFile file : JavaCompilationSession.this.classes.values()) {
+					final String name = file.getBinaryName();
+					if (name.startsWith(prefix) && (recurse || name.indexOf('.', prefix.length()) < 0)) {
+						memoryFiles.add(file);
+					}
+				}
+				if (!memoryFiles.isEmpty()) {
+					return Iterables.concat(memoryFiles, files);
+				}
+			}
+			return files;
+		}
+
+		@Override
+		public String inferBinaryName(Location location, JavaFileObject file) {
+			if (file instanceof MemoryClassFile) {
+				return ((MemoryClassFile) file).getBinaryName();
+			}
+			return super.inferBinaryName(location, file);
+		}
+
+		@Override
+		public boolean isSameFile(FileObject first, FileObject second) {
+			if (first instanceof MemoryClassFile || second instanceof MemoryClassFile) {
+				return first == second;
+			}
+			return super.isSameFile(first, second);
+		}
+
+	}
+
+	/** Source file in memory.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static class MemorySourceFile extends SimpleJavaFileObject {
+
+		private final CharSequence content;
+
+		MemorySourceFile(String path, CharSequence content) {
+			super(URI.create("string:///" + path.replace(File.separatorChar, '/')), Kind.SOURCE); //$NON-NLS-1$
+			this.content = content;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return this.content;
+		}
+
+	}
+
+	/** Class file in memory.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static class MemoryClassFile extends SimpleJavaFileObject {
+
+		private final String binaryName;
+
+		private byte[] bytes = new byte[0];
+
+		MemoryClassFile(String binaryName) {
+			super(URI.create("bytes:///" + binaryName.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS); //$NON-NLS-1$
+			this.binaryName = binaryName;
+		}
+
+		String getBinaryName() {
+			return this.binaryName;
+		}
+
+		byte[] getBytes() {
+			return this.bytes;
+		}
+
+		@Override
+		public InputStream openInputStream() {
+			return new ByteArrayInputStream(this.bytes);
+		}
+
+		@Override
+		public OutputStream openOutputStream() {
+			return new ByteArrayOutputStream() {
+				@Override
+				public void close() throws IOException {
+					super.close();
+					MemoryClassFile.this.bytes = toByteArray();
+				}
+			};
+		}
+
+	}
+
+}
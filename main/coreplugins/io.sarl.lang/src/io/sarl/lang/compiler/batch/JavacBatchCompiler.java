@@ -182,6 +182,16 @@ public class JavacBatchCompiler implements IJavaBatchCompiler {
 		return retcode == 0;
 	}
 
+	@Override
+	public JavaCompilationSession newSession(List<File> bootClassPathEntries, String javaVersion,
+			String encoding, Logger logger) {
+		final JavaCompiler systemCompiler = ToolProvider.getSystemJavaCompiler();
+		if (systemCompiler == null) {
+			return null;
+		}
+		return new JavaCompilationSession(systemCompiler, bootClassPathEntries, javaVersion, encoding, logger);
+	}
+
 	private static boolean addJavaFilesDeeply(List<String> list, File root) {
 		final Deque<File> folders = new LinkedList<>();
 		if (root.exists()) {
@@ -92,11 +92,37 @@ public class Messages extends NLS {
 	public static String SarlBatchCompiler_60;
 	public static String SarlBatchCompiler_61;
 	public static String SarlBatchCompiler_62;
+	public static String SarlBatchCompiler_63;
+	public static String SarlBatchCompiler_64;
+	public static String SarlBatchCompiler_65;
+	public static String SarlBatchCompiler_66;
+	public static String SarlBatchCompiler_67;
+	public static String SarlBatchCompiler_68;
+	public static String SarlBatchCompiler_69;
+	public static String SarlBatchCompiler_70;
+	public static String SarlBatchCompiler_71;
+	public static String SarlBatchCompiler_72;
+	public static String SarlBatchCompiler_73;
+	public static String SarlBatchCompiler_74;
+	public static String SarlBatchCompiler_76;
+	public static String SarlBatchCompiler_77;
+	public static String SarlBatchCompiler_78;
+	public static String SarlBatchCompiler_79;
+	public static String SarlBatchCompiler_80;
+	public static String SarlBatchCompiler_81;
 	public static String SarlBatchCompiler_7;
 	public static String SarlBatchCompiler_8;
 	public static String SarlBatchCompiler_9;
+	public static String ClasspathTypeIndex_0;
+	public static String ClasspathTypeIndex_1;
+	public static String CompilationDaemon_0;
+	public static String CompilationDaemon_1;
+	public static String CompilationDaemon_2;
+	public static String CompilationDaemon_3;
 	public static String EcjBatchCompiler_0;
+	public static String EcjBatchCompiler_1;
 	public static String JavacBatchCompiler_0;
+	public static String JavaCompilationSession_0;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
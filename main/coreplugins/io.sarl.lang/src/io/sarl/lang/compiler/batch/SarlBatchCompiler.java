@@ -30,16 +30,23 @@ import java.io.PrintWriter;
 import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.net.SocketAddress;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,7 +54,14 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.inject.Provider;
@@ -55,17 +69,23 @@ import javax.inject.Provider;
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.ImplementedBy;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.eclipse.xtend.core.macro.ProcessorInstanceForJvmTypeProvider;
 import org.eclipse.xtext.Constants;
 import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
 import org.eclipse.xtext.common.types.access.impl.IndexedJvmTypeAccess;
 import org.eclipse.xtext.common.types.descriptions.IStubGenerator;
@@ -74,9 +94,11 @@ import org.eclipse.xtext.generator.GeneratorContext;
 import org.eclipse.xtext.generator.GeneratorDelegate;
 import org.eclipse.xtext.generator.IFileSystemAccess;
 import org.eclipse.xtext.generator.IOutputConfigurationProvider;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
 import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
 import org.eclipse.xtext.generator.OutputConfiguration;
 import org.eclipse.xtext.generator.OutputConfigurationAdapter;
+import org.eclipse.xtext.generator.trace.TraceFileNameProvider;
 import org.eclipse.xtext.mwe.NameBasedFilter;
 import org.eclipse.xtext.mwe.PathTraverser;
 import org.eclipse.xtext.parser.IEncodingProvider;
@@ -84,7 +106,9 @@ import org.eclipse.xtext.resource.CompilerPhases;
 import org.eclipse.xtext.resource.FileExtensionProvider;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.Files;
@@ -108,12 +132,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.sarl.lang.SARLConfig;
+import io.sarl.lang.SARLVersion;
 import io.sarl.lang.compiler.GeneratorConfig2;
 import io.sarl.lang.compiler.GeneratorConfigProvider2;
 import io.sarl.lang.compiler.IGeneratorConfigProvider2;
+import io.sarl.lang.compiler.batch.IncrementalBuildState.ResourceState;
 import io.sarl.lang.compiler.batch.InternalXtextLogger.InternalXtextLoggerFactory;
 import io.sarl.lang.extralanguage.IExtraLanguageContribution;
 import io.sarl.lang.extralanguage.IExtraLanguageContributions;
+import io.sarl.lang.sarl.SarlScript;
 import io.sarl.lang.util.Utils;
 import io.sarl.lang.validation.IConfigurableIssueSeveritiesProvider;
 
@@ -134,6 +161,11 @@ public class SarlBatchCompiler {
 
 	private static final String STUB_FOLDER_PREFIX = "stubs"; //$NON-NLS-1$
 
+	private static final String JAVA_FILE_EXTENSION = ".java"; //$NON-NLS-1$
+
+	private static final Pattern JAVA_PACKAGE_PATTERN = Pattern.compile(
+			"^\\s*package\\s+([^\\s;]+)\\s*;", Pattern.MULTILINE); //$NON-NLS-1$
+
 	private static final String INTERNAL_ERROR_CODE = SarlBatchCompiler.class.getName() + ".internal_error"; //$NON-NLS-1$
 
 	private static final FileFilter ACCEPT_ALL_FILTER = new FileFilter() {
@@ -222,6 +254,9 @@ public class SarlBatchCompiler {
 	@Inject
 	private GeneratorDelegate generator;
 
+	@Inject
+	private Provider<GeneratorDelegate> generatorProvider;
+
 	@Inject
 	private IConfigurableIssueSeveritiesProvider issueSeverityProvider;
 
@@ -232,6 +267,9 @@ public class SarlBatchCompiler {
 	@Named(Constants.LANGUAGE_NAME)
 	private String languageName;
 
+	@Inject
+	private TraceFileNameProvider traceFileNameProvider;
+
 	private IJavaBatchCompiler javaCompiler;
 
 	private Logger logger;
@@ -256,6 +294,40 @@ public class SarlBatchCompiler {
 
 	private OptimizationLevel optimizationLevel;
 
+	private boolean incrementalCompilation;
+
+	private File buildStateFile;
+
+	private IncrementalBuildState buildState;
+
+	private Map<String, String> buildStateHashes;
+
+	private Set<org.eclipse.emf.common.util.URI> sourceLevelURIs;
+
+	private Set<String> removedGeneratedTypes;
+
+	private int parallelism = 1;
+
+	private ExecutorService executor;
+
+	private SocketAddress compilationDaemon;
+
+	private int compilationDaemonTimeout = CompilationDaemon.DEFAULT_RESPONSE_TIMEOUT;
+
+	private ClassLoaderCache classLoaderCache;
+
+	private boolean typeIndexEnabled = true;
+
+	private File typeIndexDirectory;
+
+	private JavaCompilationSession javaCompilationSession;
+
+	private long stubCompilationDuration = -1;
+
+	private CompilationProfiler profiler = new CompilationProfiler();
+
+	private File profilingReport;
+
 	/** Constructor the batch compiler.
 	 */
 	public SarlBatchCompiler() {
@@ -328,6 +400,248 @@ public class SarlBatchCompiler {
 		return this.optimizationLevel;
 	}
 
+	/** Change the flag that indicates if the compilation is incremental.
+	 *
+	 * <p>When the compilation is incremental, the compiler saves a build state into the file
+	 * {@link #getBuildStateFile()} at the end of each successful compilation. During the next
+	 * compilation, only the SARL files that have changed since the previous compilation, and the SARL
+	 * files that are depending on them, are validated and generated. The other SARL files are loaded
+	 * from their storage files (see {@link #isWriteStorageFiles()}).
+	 *
+	 * @param incremental {@code true} for compiling incrementally.
+	 * @since 0.9
+	 */
+	public void setIncrementalCompilation(boolean incremental) {
+		this.incrementalCompilation = incremental;
+	}
+
+	/** Replies if the compilation is incremental.
+	 *
+	 * @return {@code true} for compiling incrementally.
+	 * @since 0.9
+	 * @see #setIncrementalCompilation(boolean)
+	 */
+	@Pure
+	public boolean isIncrementalCompilation() {
+		return this.incrementalCompilation;
+	}
+
+	/** Change the number of threads that are used for validating the SARL files and generating the Java files.
+	 *
+	 * <p>The SARL files are partitioned into groups of files that are depending on each other. The groups are
+	 * validated and generated in parallel. The issues are always reported in the same order as for
+	 * a sequential compilation.
+	 *
+	 * <p>A parallel compilation requires that the resource sets provided by {@link #setResourceSetProvider(Provider)}
+	 * are instances of {@link SynchronizedXtextResourceSet}. Otherwise, the compilation is sequential.
+	 *
+	 * @param parallelism the number of threads. If it is {@code 1}, the compilation is sequential.
+	 *     If it is lower than {@code 1}, the number of available processors is used.
+	 * @since 0.9
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/** Replies the number of threads that are used for validating the SARL files and generating the Java files.
+	 *
+	 * @return the number of threads. If it is {@code 1}, the compilation is sequential.
+	 *     If it is lower than {@code 1}, the number of available processors is used.
+	 * @since 0.9
+	 * @see #setParallelism(int)
+	 */
+	@Pure
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/** Change the file in which the build state of the incremental compilation is saved.
+	 *
+	 * @param file the file, or {@code null} for using the default file.
+	 * @since 0.9
+	 */
+	public void setBuildStateFile(File file) {
+		this.buildStateFile = file;
+	}
+
+	/** Replies the file in which the build state of the incremental compilation is saved.
+	 * By default, the file is located in the output folder of the generated Java files.
+	 *
+	 * @return the file, or {@code null} if the output path is not specified.
+	 * @since 0.9
+	 */
+	@Pure
+	public File getBuildStateFile() {
+		if (this.buildStateFile == null) {
+			final File output = getOutputPath();
+			if (output != null) {
+				return new File(output, IncrementalBuildState.DEFAULT_FILENAME);
+			}
+		}
+		return this.buildStateFile;
+	}
+
+	/** Change the address of the compilation daemon that must run the compilation.
+	 *
+	 * <p>If the address is specified, the configuration of this compiler is sent to the
+	 * daemon that compiles the SARL files; and the issues are reported by this compiler.
+	 * The compiled resources that are given to the {@link ICompilatedResourceReceiver receivers}
+	 * are not loaded. If the daemon cannot be reached, or if it does not reply within
+	 * {@link #getCompilationDaemonTimeout()}, the compilation is run locally.
+	 *
+	 * @param address the address of the daemon, or {@code null} for compiling locally.
+	 * @since 0.9
+	 * @see CompilationDaemon
+	 */
+	public void setCompilationDaemon(SocketAddress address) {
+		this.compilationDaemon = address;
+	}
+
+	/** Replies the address of the compilation daemon that must run the compilation.
+	 *
+	 * @return the address of the daemon, or {@code null} for compiling locally.
+	 * @since 0.9
+	 */
+	@Pure
+	public SocketAddress getCompilationDaemon() {
+		return this.compilationDaemon;
+	}
+
+	/** Change the duration during which the response of the compilation daemon is waited for.
+	 * When this duration is over, the compilation is run locally.
+	 *
+	 * @param timeout the duration in milliseconds; or {@code 0} for waiting forever.
+	 * @since 0.9
+	 * @see #setCompilationDaemon(SocketAddress)
+	 */
+	public void setCompilationDaemonTimeout(int timeout) {
+		this.compilationDaemonTimeout = Math.max(0, timeout);
+	}
+
+	/** Replies the duration during which the response of the compilation daemon is waited for.
+	 *
+	 * @return the duration in milliseconds; or {@code 0} for waiting forever.
+	 * @since 0.9
+	 */
+	@Pure
+	public int getCompilationDaemonTimeout() {
+		return this.compilationDaemonTimeout;
+	}
+
+	/** Change the cache of the class loaders on the libraries of the class path.
+	 * The cache is useful when several compilations are run with the same libraries.
+	 *
+	 * @param cache the cache, or {@code null} for creating new class loaders at each compilation.
+	 * @since 0.9
+	 */
+	public void setClassLoaderCache(ClassLoaderCache cache) {
+		this.classLoaderCache = cache;
+	}
+
+	/** Replies the cache of the class loaders on the libraries of the class path.
+	 *
+	 * @return the cache, or {@code null} if new class loaders are created at each compilation.
+	 * @since 0.9
+	 */
+	@Pure
+	public ClassLoaderCache getClassLoaderCache() {
+		return this.classLoaderCache;
+	}
+
+	/** Change the flag that indicates if the types on the class path are indexed.
+	 *
+	 * <p>The index of the types avoids to load classes and to scan the jar files when the compiler is
+	 * looking for a type that is not on the class path.
+	 *
+	 * @param enable {@code true} for using the index.
+	 * @since 0.9
+	 * @see ClasspathTypeIndex
+	 */
+	public void setTypeIndexEnabled(boolean enable) {
+		this.typeIndexEnabled = enable;
+	}
+
+	/** Replies the flag that indicates if the types on the class path are indexed.
+	 *
+	 * @return {@code true} for using the index.
+	 * @since 0.9
+	 */
+	@Pure
+	public boolean isTypeIndexEnabled() {
+		return this.typeIndexEnabled;
+	}
+
+	/** Change the profiler of the compilation phases.
+	 *
+	 * @param profiler the profiler.
+	 * @since 0.9
+	 */
+	@Inject
+	public void setCompilationProfiler(CompilationProfiler profiler) {
+		assert profiler != null;
+		this.profiler = profiler;
+	}
+
+	/** Replies the profiler of the compilation phases.
+	 *
+	 * @return the profiler.
+	 * @since 0.9
+	 */
+	@Pure
+	public CompilationProfiler getCompilationProfiler() {
+		return this.profiler;
+	}
+
+	/** Change the file in which the profiling report of the compilation is written.
+	 * When this file is specified, the durations and the memory deltas of the compilation phases,
+	 * the time spent on each SARL file and the cumulative time spent within each check of the validator
+	 * are collected during the compilation. The report is written in CSV if the file has
+	 * the {@code .csv} extension, and in JSON otherwise.
+	 *
+	 * @param file the report file, or {@code null} for disabling the profiling.
+	 * @since 0.9
+	 * @see CompilationProfiler
+	 */
+	public void setProfilingReport(File file) {
+		this.profilingReport = file;
+	}
+
+	/** Replies the file in which the profiling report of the compilation is written.
+	 *
+	 * @return the report file, or {@code null} if the profiling is disabled.
+	 * @since 0.9
+	 */
+	@Pure
+	public File getProfilingReport() {
+		return this.profilingReport;
+	}
+
+	/** Change the directory in which the indexes of the jar files are saved between the compilations.
+	 *
+	 * @param directory the directory, or {@code null} for using the default directory.
+	 * @since 0.9
+	 */
+	public void setTypeIndexDirectory(File directory) {
+		this.typeIndexDirectory = directory;
+	}
+
+	/** Replies the directory in which the indexes of the jar files are saved between the compilations.
+	 * By default, the directory is located in the temporary directory.
+	 *
+	 * @return the directory, or {@code null} if the temporary directory is not specified.
+	 * @since 0.9
+	 */
+	@Pure
+	public File getTypeIndexDirectory() {
+		if (this.typeIndexDirectory == null) {
+			final File tmp = getTempDirectory();
+			if (tmp != null) {
+				return new File(tmp, ClasspathTypeIndex.DEFAULT_FOLDER_NAME);
+			}
+		}
+		return this.typeIndexDirectory;
+	}
+
 	/** Change the flag that permits to report the compiler's internal problems as issues.
 	 *
 	 * @param reportAsIssues {@code true} if the internal errors are reported as issues.
@@ -638,6 +952,16 @@ public class SarlBatchCompiler {
 		this.baseUri = basePath;
 	}
 
+	/** Replies the base URI.
+	 *
+	 * @return the base URI, or {@code null} if it was not specified.
+	 * @since 0.9
+	 */
+	@Pure
+	public org.eclipse.emf.common.util.URI getBaseURI() {
+		return this.baseUri;
+	}
+
 	/** Change the path where the Java files are generated.
 	 *
 	 * @param path the path, or <code>null</code> for using the default path in {@link SARLConfig#FOLDER_SOURCE_GENERATED}..
@@ -1241,13 +1565,24 @@ public class SarlBatchCompiler {
 		"checkstyle:returncount", "checkstyle:magicnumber"})
 	public boolean compile(IProgressMonitor progress) {
 		final IProgressMonitor monitor = progress == null ? new NullProgressMonitor() : progress;
+		if (getCompilationDaemon() != null) {
+			final Boolean result = compileWithDaemon(monitor);
+			if (result != null) {
+				return result.booleanValue();
+			}
+		}
+		if (getProfilingReport() != null) {
+			this.profiler.start();
+		}
 		try {
 			monitor.beginTask(Messages.SarlBatchCompiler_42, 18);
+			this.profiler.beginPhase(CompilationProfiler.CONFIGURATION_PHASE);
 			if (!checkConfiguration(monitor)) {
 				return false;
 			}
 			monitor.worked(1);
 			final ResourceSet resourceSet = this.resourceSetProvider.get();
+			createExecutor(resourceSet);
 			configureExtraLanguageGenerators();
 			if (!configureWorkspace(resourceSet, monitor)) {
 				return false;
@@ -1273,6 +1608,12 @@ public class SarlBatchCompiler {
 				return false;
 			}
 			monitor.worked(3);
+			if (isIncrementalCompilation()) {
+				prepareIncrementalCompilation(resourceSet, monitor);
+				if (monitor.isCanceled()) {
+					return false;
+				}
+			}
 			monitor.subTask(Messages.SarlBatchCompiler_44);
 			final File stubClassDirectory = createTempDir(BINCLASS_FOLDER_PREFIX);
 			if (monitor.isCanceled()) {
@@ -1292,28 +1633,56 @@ public class SarlBatchCompiler {
 					return false;
 				}
 				monitor.worked(6);
+				this.profiler.beginPhase(CompilationProfiler.PARSING_PHASE);
 				loadSARLFiles(resourceSet, monitor);
 				if (monitor.isCanceled()) {
 					return false;
 				}
 				monitor.worked(7);
-				final File stubSourceDirectory = createStubs(resourceSet, monitor);
+				this.profiler.beginPhase(CompilationProfiler.STUB_COMPILATION_PHASE);
+				final List<File> javaFiles = getJavaSourceFiles();
+				final boolean stubsNeeded = isStubCompilationNeeded(resourceSet, javaFiles, monitor);
 				if (monitor.isCanceled()) {
 					return false;
 				}
-				monitor.worked(8);
-				if (!preCompileStubs(stubSourceDirectory, stubClassDirectory, monitor)) {
-					if (monitor.isCanceled()) {
+				final long stubStart = System.currentTimeMillis();
+				final JavaCompilationSession session = stubsNeeded ? getJavaCompilationSession() : null;
+				if (session != null) {
+					if (!preCompileInMemory(resourceSet, session, stubClassDirectory, monitor)) {
 						return false;
 					}
-					reportWarning(Messages.SarlBatchCompiler_2);
-				}
-				monitor.worked(9);
-				if (!preCompileJava(stubSourceDirectory, stubClassDirectory, monitor)) {
+				} else if (stubsNeeded) {
+					final File stubSourceDirectory = createStubs(resourceSet, monitor);
 					if (monitor.isCanceled()) {
 						return false;
 					}
-					getLogger().debug(Messages.SarlBatchCompiler_3);
+					monitor.worked(8);
+					if (!preCompileStubs(stubSourceDirectory, stubClassDirectory, monitor)) {
+						if (monitor.isCanceled()) {
+							return false;
+						}
+						reportWarning(Messages.SarlBatchCompiler_2);
+					}
+					monitor.worked(9);
+					if (!preCompileJava(stubSourceDirectory, stubClassDirectory, monitor)) {
+						if (monitor.isCanceled()) {
+							return false;
+						}
+						getLogger().debug(Messages.SarlBatchCompiler_3);
+					}
+				} else if (!javaFiles.isEmpty()) {
+					// The Java files are not referencing the SARL types, but the SARL types may reference the Java types.
+					monitor.worked(9);
+					if (!preCompileJava(null, stubClassDirectory, monitor)) {
+						if (monitor.isCanceled()) {
+							return false;
+						}
+						getLogger().debug(Messages.SarlBatchCompiler_3);
+					}
+				}
+				if (stubsNeeded) {
+					this.stubCompilationDuration = System.currentTimeMillis() - stubStart;
+					getLogger().info(Messages.SarlBatchCompiler_80, Long.valueOf(this.stubCompilationDuration));
 				}
 				monitor.worked(10);
 			} finally {
@@ -1336,18 +1705,24 @@ public class SarlBatchCompiler {
 			}
 			monitor.worked(13);
 			final List<Resource> validatedResources = new ArrayList<>();
+			this.profiler.beginPhase(CompilationProfiler.VALIDATION_PHASE);
 			final boolean hasError = validate(resourceSet, validatedResources, monitor);
 			if (hasError || monitor.isCanceled()) {
 				return false;
 			}
 			monitor.worked(14);
 			overrideXtextInternalLoggers();
+			this.profiler.beginPhase(CompilationProfiler.GENERATION_PHASE);
 			generateJavaFiles(validatedResources, monitor);
 			if (monitor.isCanceled()) {
 				return false;
 			}
+			if (isIncrementalCompilation()) {
+				saveIncrementalBuildState(validatedResources, monitor);
+			}
 			monitor.worked(15);
 			if (isJavaPostCompilationEnable()) {
+				this.profiler.beginPhase(CompilationProfiler.JAVA_COMPILATION_PHASE);
 				postCompileJava(monitor);
 				if (monitor.isCanceled()) {
 					return false;
@@ -1355,9 +1730,22 @@ public class SarlBatchCompiler {
 			}
 			monitor.worked(16);
 		} finally {
+			writeProfilingReport();
 			monitor.subTask(Messages.SarlBatchCompiler_47);
 			destroyClassLoader(this.jvmTypesClassLoader);
 			destroyClassLoader(this.annotationProcessingClassLoader);
+			if (this.javaCompilationSession != null) {
+				this.javaCompilationSession.close();
+				this.javaCompilationSession = null;
+			}
+			this.buildState = null;
+			this.buildStateHashes = null;
+			this.sourceLevelURIs = null;
+			this.removedGeneratedTypes = null;
+			if (this.executor != null) {
+				this.executor.shutdownNow();
+				this.executor = null;
+			}
 			if (isDeleteTempDirectory()) {
 				monitor.subTask(Messages.SarlBatchCompiler_48);
 				for (final File file : this.tempFolders) {
@@ -1370,6 +1758,48 @@ public class SarlBatchCompiler {
 		return true;
 	}
 
+	/** Stop the profiling of the compilation, and write its report.
+	 */
+	private void writeProfilingReport() {
+		final File reportFile = getProfilingReport();
+		if (reportFile != null && this.profiler.isEnabled()) {
+			this.profiler.stop();
+			try {
+				this.profiler.writeReport(reportFile);
+				getLogger().info(Messages.SarlBatchCompiler_79, reportFile);
+			} catch (IOException exception) {
+				reportWarning(MessageFormat.format(Messages.SarlBatchCompiler_78, reportFile), exception);
+			}
+		}
+	}
+
+	/** Run the compilation on the compilation daemon.
+	 *
+	 * @param progress monitor of the progress of the compilation.
+	 * @return success status; or {@code null} if the daemon cannot be reached.
+	 */
+	private Boolean compileWithDaemon(IProgressMonitor progress) {
+		final SocketAddress address = getCompilationDaemon();
+		progress.beginTask(MessageFormat.format(Messages.SarlBatchCompiler_73, address), 1);
+		try {
+			final CompilationDaemonResponse response;
+			try {
+				response = CompilationDaemon.submit(address, new CompilationDaemonRequest(this),
+						getCompilationDaemonTimeout());
+			} catch (IOException exception) {
+				reportWarning(MessageFormat.format(Messages.SarlBatchCompiler_74, address), exception);
+				return null;
+			}
+			reportIssues(response.getIssues());
+			for (final org.eclipse.emf.common.util.URI uri : response.getCompiledResources()) {
+				notifiesCompiledResourceReceiver(new ResourceImpl(uri));
+			}
+			return Boolean.valueOf(response.isSuccess());
+		} finally {
+			progress.done();
+		}
+	}
+
 	/** Change the loggers that are internally used by Xtext.
 	 */
 	protected void overrideXtextInternalLoggers() {
@@ -1531,34 +1961,72 @@ public class SarlBatchCompiler {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_49);
 		getLogger().info(Messages.SarlBatchCompiler_28, getOutputPath());
-		final JavaIoFileSystemAccess javaIoFileSystemAccess = this.javaIoFileSystemAccessProvider.get();
-		javaIoFileSystemAccess.setOutputConfigurations(this.outputConfigurations);
-		// The function configureWorkspace should set the output paths with absolute paths.
-		//javaIoFileSystemAccess.setOutputPath(getOutputPath().getAbsolutePath());
-		javaIoFileSystemAccess.setWriteTrace(isWriteTraceFiles());
+		if (this.executor != null) {
+			final List<Resource> resources = Lists.newArrayList(validatedResources);
+			// The generators are not thread-safe; each thread has its own generators.
+			final ThreadLocal<GeneratorDelegate> generators = ThreadLocal.withInitial(() -> this.generatorProvider.get());
+			runInParallel(resources, progress, group -> {
+				generateJavaFiles(group, generators.get(), createJavaIoFileSystemAccess(), progress);
+			});
+			for (final Resource resource : resources) {
+				if (progress.isCanceled()) {
+					return;
+				}
+				notifiesCompiledResourceReceiver(resource);
+			}
+			return;
+		}
+		final JavaIoFileSystemAccess javaIoFileSystemAccess = createJavaIoFileSystemAccess();
 		if (progress.isCanceled()) {
 			return;
 		}
-
 		final GeneratorContext context = new GeneratorContext();
 		context.setCancelIndicator(() -> progress.isCanceled());
 		for (final Resource resource : validatedResources) {
 			if (progress.isCanceled()) {
 				return;
 			}
-			getLogger().debug(Messages.SarlBatchCompiler_23, resource.getURI().lastSegment());
-			if (isWriteStorageFiles() && resource instanceof StorageAwareResource) {
-				final StorageAwareResource storageAwareResource = (StorageAwareResource) resource;
-				storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, javaIoFileSystemAccess);
-			}
+			generateJavaFile(resource, this.generator, javaIoFileSystemAccess, context, progress);
+			notifiesCompiledResourceReceiver(resource);
+		}
+	}
+
+	private void generateJavaFiles(List<Resource> resources, GeneratorDelegate generator,
+			JavaIoFileSystemAccess javaIoFileSystemAccess, IProgressMonitor progress) {
+		final GeneratorContext context = new GeneratorContext();
+		context.setCancelIndicator(() -> progress.isCanceled());
+		for (final Resource resource : resources) {
 			if (progress.isCanceled()) {
 				return;
 			}
-			this.generator.generate(resource, javaIoFileSystemAccess, context);
-			notifiesCompiledResourceReceiver(resource);
+			generateJavaFile(resource, generator, javaIoFileSystemAccess, context, progress);
 		}
 	}
 
+	private JavaIoFileSystemAccess createJavaIoFileSystemAccess() {
+		final JavaIoFileSystemAccess javaIoFileSystemAccess = this.javaIoFileSystemAccessProvider.get();
+		javaIoFileSystemAccess.setOutputConfigurations(this.outputConfigurations);
+		// The function configureWorkspace should set the output paths with absolute paths.
+		//javaIoFileSystemAccess.setOutputPath(getOutputPath().getAbsolutePath());
+		javaIoFileSystemAccess.setWriteTrace(isWriteTraceFiles());
+		return javaIoFileSystemAccess;
+	}
+
+	private void generateJavaFile(Resource resource, GeneratorDelegate generator,
+			JavaIoFileSystemAccess javaIoFileSystemAccess, GeneratorContext context, IProgressMonitor progress) {
+		getLogger().debug(Messages.SarlBatchCompiler_23, resource.getURI().lastSegment());
+		if (isWriteStorageFiles() && resource instanceof StorageAwareResource) {
+			final StorageAwareResource storageAwareResource = (StorageAwareResource) resource;
+			storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, javaIoFileSystemAccess);
+		}
+		if (progress.isCanceled()) {
+			return;
+		}
+		final long start = this.profiler.timestamp();
+		generator.generate(resource, javaIoFileSystemAccess, context);
+		this.profiler.addResourceTime(CompilationProfiler.GENERATION_PHASE, resource.getURI().toString(), start);
+	}
+
 	/** Generate the JVM model elements.
 	 *
 	 * @param progress monitor of the progress of the compilation.
@@ -1568,20 +2036,26 @@ public class SarlBatchCompiler {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_21);
 		getLogger().info(Messages.SarlBatchCompiler_21);
+		this.profiler.beginPhase(CompilationProfiler.INFERENCE_PHASE);
 		final List<Resource> resources = new LinkedList<>(resourceSet.getResources());
 		for (final Resource resource : resources) {
 			if (progress.isCanceled()) {
 				return;
 			}
 			getLogger().debug(Messages.SarlBatchCompiler_26, resource.getURI().lastSegment());
+			final long start = this.profiler.timestamp();
 			resource.getContents();
+			this.profiler.addResourceTime(CompilationProfiler.INFERENCE_PHASE, resource.getURI().toString(), start);
 		}
+		this.profiler.beginPhase(CompilationProfiler.LINKING_PHASE);
 		for (final Resource resource : resources) {
 			if (progress.isCanceled()) {
 				return;
 			}
 			getLogger().debug(Messages.SarlBatchCompiler_27, resource.getURI().lastSegment());
+			final long start = this.profiler.timestamp();
 			EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+			this.profiler.addResourceTime(CompilationProfiler.LINKING_PHASE, resource.getURI().toString(), start);
 		}
 	}
 
@@ -1592,53 +2066,321 @@ public class SarlBatchCompiler {
 	 * @param progress monitor of the progress of the compilation.
 	 * @return <code>true</code> if an error exists in the issues. Replies <code>false</code> if the activity is canceled.
 	 */
-	@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
 	protected boolean validate(ResourceSet resourceSet, Collection<Resource> validResources, IProgressMonitor progress) {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_38);
 		getLogger().info(Messages.SarlBatchCompiler_38);
 		boolean hasError = false;
-		final List<Resource> resources = new LinkedList<>(resourceSet.getResources());
+		final List<Resource> resources = new ArrayList<>(resourceSet.getResources());
+		if (this.executor != null) {
+			final Map<Resource, SortedSet<Issue>> results = new ConcurrentHashMap<>();
+			runInParallel(resources, progress, group -> {
+				for (final Resource resource : group) {
+					if (progress.isCanceled()) {
+						return;
+					}
+					final SortedSet<Issue> issues = validateResource(resource);
+					if (issues != null) {
+						results.put(resource, issues);
+					}
+				}
+			});
+			// Issues are reported in the same order as for a sequential validation.
+			for (final Resource resource : resources) {
+				if (progress.isCanceled()) {
+					return false;
+				}
+				final SortedSet<Issue> issues = results.get(resource);
+				if (issues != null) {
+					hasError |= reportValidationIssues(resource, issues, validResources);
+				}
+			}
+			return hasError;
+		}
 		for (final Resource resource : resources) {
 			if (progress.isCanceled()) {
 				return false;
 			}
+			final SortedSet<Issue> issues = validateResource(resource);
+			if (progress.isCanceled()) {
+				return false;
+			}
+			if (issues != null) {
+				hasError |= reportValidationIssues(resource, issues, validResources);
+			}
+		}
+		return hasError;
+	}
+
+	/** Validate the given resource.
+	 *
+	 * @param resource the resource to validate.
+	 * @return the sorted issues, or {@code null} if the resource is not validated.
+	 */
+	private SortedSet<Issue> validateResource(Resource resource) {
+		if (isSourceFile(resource)) {
+			getLogger().debug(Messages.SarlBatchCompiler_22, resource.getURI().lastSegment());
+			final IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE
+					.getResourceServiceProvider(resource.getURI());
+			if (resourceServiceProvider != null) {
+				final IResourceValidator resourceValidator = resourceServiceProvider.getResourceValidator();
+				final long start = this.profiler.timestamp();
+				final List<Issue> result = resourceValidator.validate(resource, CheckMode.ALL, null);
+				this.profiler.addResourceTime(CompilationProfiler.VALIDATION_PHASE, resource.getURI().toString(), start);
+				final SortedSet<Issue> issues = new TreeSet<>(getIssueComparator());
+				issues.addAll(result);
+				return issues;
+			}
+		}
+		return null;
+	}
+
+	/** Report the validation issues of the given resource.
+	 *
+	 * @param resource the validated resource.
+	 * @param issues the issues of the resource.
+	 * @param validResources will be filled with the resource if it has no error.
+	 * @return <code>true</code> if an error exists in the issues.
+	 */
+	private boolean reportValidationIssues(Resource resource, SortedSet<Issue> issues, Collection<Resource> validResources) {
+		boolean hasValidationError = false;
+		for (final Issue issue : issues) {
+			if (issue.isSyntaxError() || issue.getSeverity() == Severity.ERROR) {
+				hasValidationError = true;
+				break;
+			}
+		}
+		if (!hasValidationError) {
+			if (!issues.isEmpty()) {
+				getLogger().debug(Messages.SarlBatchCompiler_39, resource.getURI().lastSegment());
+				reportIssues(issues);
+			}
+			validResources.add(resource);
+		} else {
+			getLogger().debug(Messages.SarlBatchCompiler_39, resource.getURI().lastSegment());
+			reportIssues(issues);
+		}
+		return hasValidationError;
+	}
+
+	/** Create the executor service for the parallel activities of the compiler, if the parallelism
+	 * is enabled and the given resource set supports it.
+	 *
+	 * @param resourceSet the resource set to compile.
+	 */
+	private void createExecutor(ResourceSet resourceSet) {
+		int nbThreads = getParallelism();
+		if (nbThreads < 1) {
+			nbThreads = Runtime.getRuntime().availableProcessors();
+		}
+		if (nbThreads > 1) {
+			if (resourceSet instanceof SynchronizedXtextResourceSet) {
+				getLogger().debug(Messages.SarlBatchCompiler_71, nbThreads);
+				this.executor = Executors.newFixedThreadPool(nbThreads,
+						new ThreadFactoryBuilder().setDaemon(true).setNameFormat("sarlc-%d").build()); //$NON-NLS-1$
+			} else {
+				reportWarning(Messages.SarlBatchCompiler_70);
+			}
+		}
+	}
+
+	/** Run the given action in parallel on groups of resources.
+	 *
+	 * <p>The resources are partitioned by dependency level: a resource is at a level greater than the levels
+	 * of the resources it depends on. The levels are processed one after the other; and the groups
+	 * of resources of a level are processed in parallel. A group contains the resources that are
+	 * depending on each other through a cycle. In this way, the action is never invoked on a resource
+	 * at the same time as on one of its dependencies.
+	 *
+	 * @param resources the resources.
+	 * @param progress monitor of the progress of the compilation.
+	 * @param action the action to run on each group. The resources in a group are in the same order as
+	 *     in {@code resources}.
+	 */
+	private void runInParallel(List<Resource> resources, IProgressMonitor progress, Consumer<List<Resource>> action) {
+		final List<List<List<Resource>>> levels = partitionResources(resources);
+		if (getLogger().isDebugEnabled()) {
+			int nbGroups = 0;
+			for (final List<List<Resource>> level : levels) {
+				nbGroups += level.size();
+			}
+			getLogger().debug(Messages.SarlBatchCompiler_72, nbGroups, levels.size());
+		}
+		for (final List<List<Resource>> level : levels) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			final List<Future<?>> tasks = new ArrayList<>(level.size());
+			for (final List<Resource> group : level) {
+				tasks.add(this.executor.submit(() -> action.accept(group)));
+			}
+			for (final Future<?> task : tasks) {
+				try {
+					task.get();
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+					progress.setCanceled(true);
+					return;
+				} catch (ExecutionException exception) {
+					final Throwable cause = exception.getCause();
+					if (cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if (cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new RuntimeException(cause);
+				}
+			}
+		}
+	}
+
+	/** Partition the given resources by dependency level.
+	 * A resource depends on another resource if it imports one of the names that are exported
+	 * by the other resource. The resources that are depending on each other through a cycle are
+	 * in the same group. The resources that are not source files are ignored.
+	 *
+	 * @param resources the resources to partition.
+	 * @return the levels, from the resources without dependency to the most dependent resources.
+	 *     Each level contains groups of resources, ordered by their first resource in {@code resources}.
+	 */
+	@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
+	private List<List<List<Resource>>> partitionResources(List<Resource> resources) {
+		final List<Resource> nodes = new ArrayList<>(resources.size());
+		for (final Resource resource : resources) {
 			if (isSourceFile(resource)) {
-				getLogger().debug(Messages.SarlBatchCompiler_22, resource.getURI().lastSegment());
-				final IResourceServiceProvider resourceServiceProvider = IResourceServiceProvider.Registry.INSTANCE
-						.getResourceServiceProvider(resource.getURI());
-				if (resourceServiceProvider != null) {
-					final IResourceValidator resourceValidator = resourceServiceProvider.getResourceValidator();
-					final List<Issue> result = resourceValidator.validate(resource, CheckMode.ALL, null);
-					if (progress.isCanceled()) {
-						return false;
+				nodes.add(resource);
+			}
+		}
+		final int nbNodes = nodes.size();
+		final Map<String, List<Integer>> exporters = new HashMap<>();
+		final List<Set<String>> importedNames = new ArrayList<>(nbNodes);
+		for (int i = 0; i < nbNodes; ++i) {
+			final IResourceDescription description = this.resourceDescriptionManager.getResourceDescription(nodes.get(i));
+			for (final String name : IncrementalBuildState.getExportedNames(description)) {
+				exporters.computeIfAbsent(name, it -> new ArrayList<>()).add(Integer.valueOf(i));
+			}
+			importedNames.add(IncrementalBuildState.getImportedNames(description));
+		}
+		final int[][] dependencies = new int[nbNodes][];
+		for (int i = 0; i < nbNodes; ++i) {
+			final Set<Integer> nodeDependencies = new TreeSet<>();
+			for (final String name : importedNames.get(i)) {
+				final List<Integer> exporterList = exporters.get(name);
+				if (exporterList != null) {
+					nodeDependencies.addAll(exporterList);
+				}
+			}
+			nodeDependencies.remove(Integer.valueOf(i));
+			dependencies[i] = nodeDependencies.stream().mapToInt(it -> it.intValue()).toArray();
+		}
+		// The components are numbered such that the dependencies of a component have lower numbers.
+		final int[] components = new int[nbNodes];
+		final int nbComponents = computeStronglyConnectedComponents(dependencies, components);
+		final List<List<Integer>> members = new ArrayList<>(nbComponents);
+		for (int c = 0; c < nbComponents; ++c) {
+			members.add(new ArrayList<>());
+		}
+		for (int i = 0; i < nbNodes; ++i) {
+			members.get(components[i]).add(Integer.valueOf(i));
+		}
+		final int[] componentLevels = new int[nbComponents];
+		int nbLevels = 0;
+		for (int c = 0; c < nbComponents; ++c) {
+			int level = 0;
+			for (final Integer node : members.get(c)) {
+				for (final int dependency : dependencies[node.intValue()]) {
+					final int dependencyComponent = components[dependency];
+					if (dependencyComponent != c) {
+						level = Math.max(level, componentLevels[dependencyComponent] + 1);
 					}
-					final SortedSet<Issue> issues = new TreeSet<>(getIssueComparator());
-					boolean hasValidationError = false;
-					for (final Issue issue : result) {
-						if (progress.isCanceled()) {
-							return false;
-						}
-						if (issue.isSyntaxError() || issue.getSeverity() == Severity.ERROR) {
-							hasValidationError = true;
-						}
-						issues.add(issue);
+				}
+			}
+			componentLevels[c] = level;
+			nbLevels = Math.max(nbLevels, level + 1);
+		}
+		final List<Map<Integer, List<Resource>>> levels = new ArrayList<>(nbLevels);
+		for (int l = 0; l < nbLevels; ++l) {
+			levels.add(new TreeMap<>());
+		}
+		for (int i = 0; i < nbNodes; ++i) {
+			final int component = components[i];
+			// The key of a group is the index of its first resource.
+			final Integer key = members.get(component).get(0);
+			levels.get(componentLevels[component]).computeIfAbsent(key, it -> new ArrayList<>()).add(nodes.get(i));
+		}
+		final List<List<List<Resource>>> result = new ArrayList<>(nbLevels);
+		for (final Map<Integer, List<Resource>> level : levels) {
+			result.add(new ArrayList<>(level.values()));
+		}
+		return result;
+	}
+
+	/** Compute the strongly connected components of the given graph with the algorithm of Tarjan.
+	 * The components are numbered in the order they are discovered: a component is discovered after
+	 * all the components that are reachable from it.
+	 *
+	 * @param successors the successors of each node.
+	 * @param components the component of each node, filled by this function.
+	 * @return the number of components.
+	 */
+	@SuppressWarnings("checkstyle:npathcomplexity")
+	private static int computeStronglyConnectedComponents(int[][] successors, int[] components) {
+		final int nbNodes = successors.length;
+		final int[] indexes = new int[nbNodes];
+		Arrays.fill(indexes, -1);
+		final int[] lowLinks = new int[nbNodes];
+		final boolean[] onStack = new boolean[nbNodes];
+		final Deque<Integer> stack = new ArrayDeque<>();
+		// The exploration is iterative for supporting long chains of dependencies.
+		final Deque<int[]> explorationStack = new ArrayDeque<>();
+		int index = 0;
+		int nbComponents = 0;
+		for (int root = 0; root < nbNodes; ++root) {
+			if (indexes[root] >= 0) {
+				continue;
+			}
+			indexes[root] = index;
+			lowLinks[root] = index;
+			++index;
+			stack.push(Integer.valueOf(root));
+			onStack[root] = true;
+			explorationStack.push(new int[] {root, 0});
+			while (!explorationStack.isEmpty()) {
+				final int[] frame = explorationStack.peek();
+				final int node = frame[0];
+				if (frame[1] < successors[node].length) {
+					final int successor = successors[node][frame[1]];
+					++frame[1];
+					if (indexes[successor] < 0) {
+						indexes[successor] = index;
+						lowLinks[successor] = index;
+						++index;
+						stack.push(Integer.valueOf(successor));
+						onStack[successor] = true;
+						explorationStack.push(new int[] {successor, 0});
+					} else if (onStack[successor]) {
+						lowLinks[node] = Math.min(lowLinks[node], indexes[successor]);
 					}
-					hasError |= hasValidationError;
-					if (!hasValidationError) {
-						if (!issues.isEmpty()) {
-							getLogger().debug(Messages.SarlBatchCompiler_39, resource.getURI().lastSegment());
-							reportIssues(issues);
-						}
-						validResources.add(resource);
-					} else {
-						getLogger().debug(Messages.SarlBatchCompiler_39, resource.getURI().lastSegment());
-						reportIssues(issues);
+				} else {
+					explorationStack.pop();
+					if (!explorationStack.isEmpty()) {
+						final int parent = explorationStack.peek()[0];
+						lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[node]);
+					}
+					if (lowLinks[node] == indexes[node]) {
+						int member;
+						do {
+							member = stack.pop().intValue();
+							onStack[member] = false;
+							components[member] = nbComponents;
+						} while (member != node);
+						++nbComponents;
 					}
 				}
 			}
 		}
-		return hasError;
+		return nbComponents;
 	}
 
 	/** Replies if the given resource is a script.
@@ -1654,6 +2396,176 @@ public class SarlBatchCompiler {
 		return false;
 	}
 
+	/** Replies if the stubs of the SARL types must be generated and compiled before the generation of the Java code.
+	 *
+	 * <p>The stubs are needed only when the Java files of the project are referencing the SARL types.
+	 * This function scans the Java files of the source folders for a declaration within a package that contains
+	 * SARL types, or for a textual reference to a package that contains SARL types. This scan is conservative:
+	 * it may reply {@code true} when no SARL type is referenced, but never replies {@code false} if a SARL
+	 * type may be referenced.
+	 *
+	 * <p>When the stubs are skipped, the time saved is reported. It is estimated with the duration of the last
+	 * generation and compilation of the stubs by this compiler. If the stubs were never compiled by this
+	 * compiler, the number of SARL files that are not stubbed is reported instead.
+	 *
+	 * @param resourceSet the resource set that contains the SARL resources.
+	 * @param javaFiles the Java files in the source folders.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return {@code true} if the stubs must be generated and compiled.
+	 * @since 0.9
+	 */
+	protected boolean isStubCompilationNeeded(ResourceSet resourceSet, List<File> javaFiles, IProgressMonitor progress) {
+		assert progress != null;
+		final long start = System.currentTimeMillis();
+		final Set<String> sarlPackages = new TreeSet<>();
+		int sarlFiles = 0;
+		for (final Resource resource : new ArrayList<>(resourceSet.getResources())) {
+			if (!resource.getContents().isEmpty() && resource.getContents().get(0) instanceof SarlScript) {
+				sarlPackages.add(Strings.emptyIfNull(((SarlScript) resource.getContents().get(0)).getPackage()));
+				++sarlFiles;
+			}
+		}
+		Charset charset;
+		try {
+			charset = Charset.forName(getFileEncoding());
+		} catch (Exception exception) {
+			charset = Charset.defaultCharset();
+		}
+		boolean needed = false;
+		for (final File javaFile : javaFiles) {
+			if (progress.isCanceled() || isReferencingSarlPackages(javaFile, charset, sarlPackages)) {
+				needed = true;
+				break;
+			}
+		}
+		if (!needed) {
+			final Long scanDuration = Long.valueOf(System.currentTimeMillis() - start);
+			final String message;
+			if (this.stubCompilationDuration >= 0) {
+				message = MessageFormat.format(Messages.SarlBatchCompiler_77,
+						Long.valueOf(this.stubCompilationDuration), Integer.valueOf(javaFiles.size()), scanDuration);
+			} else {
+				message = MessageFormat.format(Messages.SarlBatchCompiler_81,
+						Integer.valueOf(sarlFiles), Integer.valueOf(javaFiles.size()), scanDuration);
+			}
+			progress.subTask(message);
+			getLogger().info(message);
+		}
+		return needed;
+	}
+
+	/** Replies the Java files in the source folders. The generated Java files are ignored.
+	 *
+	 * @return the Java files.
+	 */
+	private List<File> getJavaSourceFiles() {
+		final List<File> javaFiles = new ArrayList<>();
+		final File outputPath = getOutputPath();
+		for (final File sourceFolder : getSourcePaths()) {
+			if (!sourceFolder.equals(outputPath)) {
+				addJavaFilesDeeply(javaFiles, sourceFolder, outputPath);
+			}
+		}
+		return javaFiles;
+	}
+
+	private static void addJavaFilesDeeply(List<File> javaFiles, File root, File excludedFolder) {
+		final File[] children = root.listFiles();
+		if (children != null) {
+			for (final File child : children) {
+				if (child.isDirectory()) {
+					if (!child.equals(excludedFolder)) {
+						addJavaFilesDeeply(javaFiles, child, excludedFolder);
+					}
+				} else if (child.getName().endsWith(JAVA_FILE_EXTENSION)) {
+					javaFiles.add(child);
+				}
+			}
+		}
+	}
+
+	private static boolean isReferencingSarlPackages(File javaFile, Charset charset, Set<String> sarlPackages) {
+		if (sarlPackages.isEmpty()) {
+			return false;
+		}
+		final String content;
+		try {
+			content = new String(java.nio.file.Files.readAllBytes(javaFile.toPath()), charset);
+		} catch (IOException exception) {
+			// Be conservative
+			return true;
+		}
+		final Matcher matcher = JAVA_PACKAGE_PATTERN.matcher(content);
+		final String javaPackage = matcher.find() ? matcher.group(1) : ""; //$NON-NLS-1$
+		if (sarlPackages.contains(javaPackage)) {
+			return true;
+		}
+		for (final String sarlPackage : sarlPackages) {
+			if (!sarlPackage.isEmpty() && content.contains(sarlPackage + ".")) { //$NON-NLS-1$
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Replies the session of the Java compiler that is shared by the Java compilations of the current build.
+	 * The session is created when it is needed for the first time.
+	 *
+	 * @return the session, or {@code null} if the Java compiler does not support sessions.
+	 * @since 0.9
+	 * @see IJavaBatchCompiler#newSession(List, String, String, Logger)
+	 */
+	protected JavaCompilationSession getJavaCompilationSession() {
+		if (this.javaCompilationSession == null) {
+			this.javaCompilationSession = getJavaCompiler().newSession(getBootClassPath(),
+					getJavaSourceVersion(), this.encodingProvider.getDefaultEncoding(), getLogger());
+		}
+		return this.javaCompilationSession;
+	}
+
+	/** Generate the stubs and compile them with the Java files of the project without writing the stubs on the disk.
+	 * The class files are written into the given directory in order to be visible by the type provider.
+	 *
+	 * @param resourceSet the input resource set.
+	 * @param session the session of the Java compiler.
+	 * @param classDirectory the output directory, where binary files should be generated.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the success status. Replies <code>false</code> if the activity is canceled.
+	 * @since 0.9
+	 */
+	protected boolean preCompileInMemory(ResourceSet resourceSet, JavaCompilationSession session,
+			File classDirectory, IProgressMonitor progress) {
+		assert progress != null;
+		final Map<String, CharSequence> stubs = createStubsInMemory(resourceSet, progress);
+		if (progress.isCanceled()) {
+			return false;
+		}
+		progress.worked(8);
+		progress.subTask(Messages.SarlBatchCompiler_50);
+		final PrintWriter outWriter = getStubCompilerOutputWriter();
+		if (!session.compileInMemory(stubs, Collections.emptyList(), getClassPath(), outWriter, outWriter, progress)) {
+			if (progress.isCanceled()) {
+				return false;
+			}
+			reportWarning(Messages.SarlBatchCompiler_2);
+		}
+		progress.worked(9);
+		progress.subTask(Messages.SarlBatchCompiler_51);
+		if (!session.compileInMemory(Collections.emptyMap(), getSourcePaths(), getClassPath(),
+				outWriter, outWriter, progress)) {
+			if (progress.isCanceled()) {
+				return false;
+			}
+			getLogger().debug(Messages.SarlBatchCompiler_3);
+		}
+		try {
+			session.writeClassesInMemory(classDirectory);
+		} catch (IOException exception) {
+			reportWarning(MessageFormat.format(Messages.SarlBatchCompiler_76, classDirectory), exception);
+		}
+		return !progress.isCanceled();
+	}
+
 	/** Compile the stub files before the compilation of the project's files.
 	 *
 	 * @param sourceDirectory the source directory where stubs are stored.
@@ -1670,7 +2582,8 @@ public class SarlBatchCompiler {
 
 	/** Compile the java files before the compilation of the project's files.
 	 *
-	 * @param sourceDirectory the source directory where java files are stored.
+	 * @param sourceDirectory the source directory where the stubs are stored, or {@code null} if
+	 *     the stubs were not generated.
 	 * @param classDirectory the output directory, where binary files should be generated.
 	 * @param progress monitor of the progress of the compilation.
 	 * @return the success status. Replies <code>false</code> if the activity is canceled.
@@ -1678,9 +2591,13 @@ public class SarlBatchCompiler {
 	protected boolean preCompileJava(File sourceDirectory, File classDirectory, IProgressMonitor progress) {
 		assert progress != null;
 		progress.subTask(Messages.SarlBatchCompiler_51);
-		return runJavaCompiler(classDirectory, getSourcePaths(),
-				Iterables.concat(Collections.singleton(sourceDirectory), getClassPath()),
-				false, true, progress);
+		final Iterable<File> classpath;
+		if (sourceDirectory == null) {
+			classpath = getClassPath();
+		} else {
+			classpath = Iterables.concat(Collections.singleton(sourceDirectory), getClassPath());
+		}
+		return runJavaCompiler(classDirectory, getSourcePaths(), classpath, false, true, progress);
 	}
 
 	/** Compile the java files after the compilation of the project's files.
@@ -1751,6 +2668,17 @@ public class SarlBatchCompiler {
 		if (progress.isCanceled()) {
 			return false;
 		}
+		if (this.javaCompilationSession != null) {
+			return this.javaCompilationSession.compile(
+					classDirectory,
+					sourcePathDirectories,
+					classPathEntries,
+					isJavaCompilerVerbose(),
+					enableOptimization ? getOptimizationLevel() : null,
+					outWriter,
+					errWriter,
+					progress);
+		}
 		return getJavaCompiler().compile(
 				classDirectory,
 				sourcePathDirectories,
@@ -1839,6 +2767,37 @@ public class SarlBatchCompiler {
 		return outputDirectory;
 	}
 
+	/** Create the stubs in memory.
+	 *
+	 * @param resourceSet the input resource set.
+	 * @param progress monitor of the progress of the compilation.
+	 * @return the content of the stubs, indexed by their relative paths.
+	 * @since 0.9
+	 */
+	protected Map<String, CharSequence> createStubsInMemory(ResourceSet resourceSet, IProgressMonitor progress) {
+		assert progress != null;
+		progress.subTask(Messages.SarlBatchCompiler_53);
+		final InMemoryFileSystemAccess fileSystemAccess = new InMemoryFileSystemAccess();
+		final List<Resource> resources = new ArrayList<>(resourceSet.getResources());
+		for (final Resource resource : resources) {
+			if (progress.isCanceled()) {
+				return Collections.emptyMap();
+			}
+			getLogger().debug(Messages.SarlBatchCompiler_20, resource.getURI());
+			final IResourceDescription description = this.resourceDescriptionManager.getResourceDescription(resource);
+			this.stubGenerator.doGenerateStubs(fileSystemAccess, description);
+		}
+		final Map<String, CharSequence> stubs = new TreeMap<>();
+		for (final Map.Entry<String, CharSequence> file : fileSystemAccess.getTextFiles().entrySet()) {
+			String name = file.getKey();
+			if (name.startsWith(IFileSystemAccess.DEFAULT_OUTPUT)) {
+				name = name.substring(IFileSystemAccess.DEFAULT_OUTPUT.length());
+			}
+			stubs.put(name, file.getValue());
+		}
+		return stubs;
+	}
+
 	/** Load the SARL files in the given resource set.
 	 *
 	 * @param progress monitor of the progress of the compilation.
@@ -1860,17 +2819,291 @@ public class SarlBatchCompiler {
 		if (progress.isCanceled()) {
 			return;
 		}
+		if (this.sourceLevelURIs != null) {
+			loadSARLFilesIncrementally(resourceSet, pathes.values(), progress);
+			return;
+		}
 		for (final String source : pathes.keySet()) {
 			for (final org.eclipse.emf.common.util.URI uri : pathes.get(source)) {
 				if (progress.isCanceled()) {
 					return;
 				}
 				getLogger().debug(Messages.SarlBatchCompiler_7, uri);
+				if (this.buildState != null) {
+					computeBuildStateHash(uri);
+				}
+				final long start = this.profiler.timestamp();
 				resourceSet.getResource(uri, true);
+				this.profiler.addResourceTime(CompilationProfiler.PARSING_PHASE, uri.toString(), start);
 			}
 		}
 	}
 
+	/** Load the SARL files in the given resource set for an incremental compilation.
+	 * The changed SARL files, and the SARL files that are depending on them, are loaded from
+	 * their sources. The other SARL files are loaded from their storage files.
+	 *
+	 * <p>The files that were generated for the removed SARL files are deleted only when the build state
+	 * is saved, i.e. after the successful generation of the Java files.
+	 *
+	 * @param resourceSet the resource set to load from.
+	 * @param uris the URIs of the SARL files.
+	 * @param progress monitor of the progress of the compilation.
+	 */
+	@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
+	private void loadSARLFilesIncrementally(ResourceSet resourceSet, Collection<org.eclipse.emf.common.util.URI> uris,
+			IProgressMonitor progress) {
+		final IncrementalBuildState state = this.buildState;
+		final Map<String, org.eclipse.emf.common.util.URI> existingResources = new TreeMap<>();
+		final Set<String> changedResources = new TreeSet<>();
+		for (final org.eclipse.emf.common.util.URI uri : uris) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			final String key = uri.toString();
+			existingResources.put(key, uri);
+			final String hash = computeBuildStateHash(uri);
+			final ResourceState resourceState = state.getResourceState(key);
+			if (hash == null || resourceState == null || !hash.equals(resourceState.getHash())) {
+				changedResources.add(key);
+			}
+		}
+		final List<String> removedResources = new ArrayList<>();
+		for (final String key : state.getResources()) {
+			if (!existingResources.containsKey(key)) {
+				removedResources.add(key);
+			}
+		}
+		changedResources.addAll(removedResources);
+		// Load the changed files from their sources for knowing the names they are exporting now.
+		final Set<String> exportedNames = new TreeSet<>();
+		for (final String key : changedResources) {
+			final org.eclipse.emf.common.util.URI uri = existingResources.get(key);
+			if (uri != null) {
+				if (progress.isCanceled()) {
+					return;
+				}
+				getLogger().debug(Messages.SarlBatchCompiler_7, uri);
+				this.sourceLevelURIs.add(uri);
+				final Resource resource = resourceSet.getResource(uri, true);
+				exportedNames.addAll(IncrementalBuildState.getExportedNames(
+						this.resourceDescriptionManager.getResourceDescription(resource)));
+			}
+		}
+		final Set<String> affectedResources = state.computeAffectedResources(changedResources, exportedNames);
+		for (final String key : removedResources) {
+			final ResourceState resourceState = state.removeResourceState(key);
+			getLogger().debug(Messages.SarlBatchCompiler_68, key);
+			this.removedGeneratedTypes.addAll(resourceState.getGeneratedTypes());
+		}
+		for (final String key : affectedResources) {
+			final org.eclipse.emf.common.util.URI uri = existingResources.get(key);
+			if (uri != null) {
+				this.sourceLevelURIs.add(uri);
+			}
+		}
+		getLogger().info(Messages.SarlBatchCompiler_67, this.sourceLevelURIs.size(),
+				existingResources.size() - this.sourceLevelURIs.size());
+		// Load the other files; they are loaded from their storage files if they are not affected by the changes.
+		for (final org.eclipse.emf.common.util.URI uri : existingResources.values()) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			getLogger().debug(Messages.SarlBatchCompiler_7, uri);
+			final long start = this.profiler.timestamp();
+			resourceSet.getResource(uri, true);
+			this.profiler.addResourceTime(CompilationProfiler.PARSING_PHASE, uri.toString(), start);
+		}
+	}
+
+	/** Compute the hash code of the content of the given SARL file, and store it for the next build state.
+	 *
+	 * @param uri the URI of the SARL file.
+	 * @return the hash code, or {@code null} if it cannot be computed.
+	 */
+	private String computeBuildStateHash(org.eclipse.emf.common.util.URI uri) {
+		if (uri.isFile()) {
+			try {
+				final String hash = IncrementalBuildState.computeHash(new File(uri.toFileString()));
+				this.buildStateHashes.put(uri.toString(), hash);
+				return hash;
+			} catch (IOException exception) {
+				getLogger().debug(exception.getLocalizedMessage(), exception);
+			}
+		}
+		return null;
+	}
+
+	/** Remove the Java files, and their trace files, that were generated for the given types.
+	 *
+	 * @param types the fully qualified names of the generated types.
+	 */
+	private void removeGeneratedFiles(Iterable<String> types) {
+		final File output = getOutputPath();
+		for (final String type : types) {
+			final File javaFile = new File(output, type.replace('.', File.separatorChar) + ".java"); //$NON-NLS-1$
+			final File traceFile = new File(this.traceFileNameProvider.getTraceFromJava(javaFile.getPath()));
+			getLogger().debug(Messages.SarlBatchCompiler_9, javaFile);
+			javaFile.delete();
+			traceFile.delete();
+		}
+	}
+
+	/** Prepare the incremental compilation by reading the build state of the previous compilation.
+	 *
+	 * @param resourceSet the resource set to compile.
+	 * @param progress monitor of the progress of the compilation.
+	 */
+	private void prepareIncrementalCompilation(ResourceSet resourceSet, IProgressMonitor progress) {
+		assert progress != null;
+		progress.subTask(Messages.SarlBatchCompiler_63);
+		if (!isWriteStorageFiles()) {
+			reportWarning(Messages.SarlBatchCompiler_64);
+			return;
+		}
+		final String configurationKey = computeConfigurationKey();
+		IncrementalBuildState state = IncrementalBuildState.load(getBuildStateFile());
+		if (state == null) {
+			getLogger().info(Messages.SarlBatchCompiler_69);
+		} else if (!Strings.equal(configurationKey, state.getConfigurationKey())) {
+			getLogger().info(Messages.SarlBatchCompiler_65);
+			state = null;
+		}
+		this.buildStateHashes = new TreeMap<>();
+		this.removedGeneratedTypes = new TreeSet<>();
+		if (state == null) {
+			this.buildState = new IncrementalBuildState(configurationKey);
+		} else {
+			this.buildState = state;
+			// The resources that are not in this set are loaded from their storage files.
+			this.sourceLevelURIs = new HashSet<>();
+			SourceLevelURIsAdapter.setSourceLevelUrisWithoutCopy(resourceSet, this.sourceLevelURIs);
+		}
+	}
+
+	/** Compute the key that represents the configuration of the compiler. A build state from a previous
+	 * compilation could not be reused if the configuration key has changed.
+	 *
+	 * <p>The key contains the fingerprints of the class path entries and of the Java files in the source folders,
+	 * because the SARL files may reference the types they are declaring. The time stamp of a folder is not
+	 * changed when the files in its subfolders are changed; the fingerprint of a folder is built from the
+	 * files it contains. The output folders are not fingerprinted because they are changed by each compilation.
+	 *
+	 * @return the configuration key.
+	 */
+	private String computeConfigurationKey() {
+		final StringBuilder key = new StringBuilder();
+		key.append(SARLVersion.SARL_RELEASE_VERSION).append('\n');
+		key.append(getJavaSourceVersion()).append('\n');
+		key.append(getFileEncoding()).append('\n');
+		key.append(getExtraLanguageGenerators()).append('\n');
+		key.append(isWriteTraceFiles()).append('\n');
+		key.append(Utils.dump(getGeneratorConfig(), false)).append('\n');
+		key.append(Utils.dump(getGeneratorConfig2(), false)).append('\n');
+		final File outputPath = getOutputPath();
+		final File classOutputPath = getClassOutputPath();
+		for (final File file : Iterables.concat(getBootClassPath(), getClassPath())) {
+			key.append(file.getAbsolutePath()).append('\n');
+			if (file.isDirectory()) {
+				if (!file.equals(outputPath) && !file.equals(classOutputPath)) {
+					appendFolderFingerprint(key, file, ""); //$NON-NLS-1$
+				}
+			} else {
+				appendFileFingerprint(key, file, ""); //$NON-NLS-1$
+			}
+		}
+		final List<File> javaFiles = getJavaSourceFiles();
+		Collections.sort(javaFiles);
+		for (final File javaFile : javaFiles) {
+			appendFileFingerprint(key, javaFile, javaFile.getAbsolutePath());
+		}
+		return Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+	}
+
+	private static void appendFolderFingerprint(StringBuilder key, File folder, String prefix) {
+		final File[] children = folder.listFiles();
+		if (children != null) {
+			Arrays.sort(children);
+			for (final File child : children) {
+				final String name = prefix + child.getName();
+				if (child.isDirectory()) {
+					appendFolderFingerprint(key, child, name + '/');
+				} else {
+					appendFileFingerprint(key, child, name);
+				}
+			}
+		}
+	}
+
+	private static void appendFileFingerprint(StringBuilder key, File file, String name) {
+		key.append(name).append(File.pathSeparatorChar).append(file.length())
+				.append(File.pathSeparatorChar).append(file.lastModified()).append('\n');
+	}
+
+	/** Update the build state with the given resources, and save it.
+	 *
+	 * <p>This function is invoked after the successful generation of the Java files. The files of the types that are
+	 * not generated anymore, by the compiled resources or by the removed resources, are deleted. The types that have
+	 * moved to another resource are not deleted.
+	 *
+	 * @param compiledResources the resources that were compiled from their sources.
+	 * @param progress monitor of the progress of the compilation.
+	 */
+	private void saveIncrementalBuildState(Iterable<Resource> compiledResources, IProgressMonitor progress) {
+		final IncrementalBuildState state = this.buildState;
+		if (state == null) {
+			return;
+		}
+		final Set<String> removedTypes = new TreeSet<>(this.removedGeneratedTypes);
+		final Map<Resource, Set<String>> generatedTypesPerResource = new LinkedHashMap<>();
+		for (final Resource resource : compiledResources) {
+			final Set<String> generatedTypes = new TreeSet<>();
+			for (final EObject object : resource.getContents()) {
+				if (object instanceof JvmDeclaredType) {
+					generatedTypes.add(((JvmDeclaredType) object).getQualifiedName());
+				}
+			}
+			generatedTypesPerResource.put(resource, generatedTypes);
+			final ResourceState previousState = state.getResourceState(resource.getURI().toString());
+			if (previousState != null) {
+				removedTypes.addAll(previousState.getGeneratedTypes());
+			}
+		}
+		for (final Set<String> generatedTypes : generatedTypesPerResource.values()) {
+			removedTypes.removeAll(generatedTypes);
+		}
+		if (progress.isCanceled()) {
+			return;
+		}
+		removeGeneratedFiles(removedTypes);
+		this.removedGeneratedTypes.clear();
+		for (final Map.Entry<Resource, Set<String>> entry : generatedTypesPerResource.entrySet()) {
+			if (progress.isCanceled()) {
+				return;
+			}
+			final Resource resource = entry.getKey();
+			final Set<String> generatedTypes = entry.getValue();
+			final String key = resource.getURI().toString();
+			final String hash = this.buildStateHashes.get(key);
+			if (hash == null) {
+				// The resource will be compiled again during the next compilation.
+				state.removeResourceState(key);
+			} else {
+				final IResourceDescription description = this.resourceDescriptionManager.getResourceDescription(resource);
+				state.setResourceState(key, new ResourceState(hash,
+						IncrementalBuildState.getExportedNames(description),
+						IncrementalBuildState.getImportedNames(description),
+						generatedTypes));
+			}
+		}
+		final File stateFile = getBuildStateFile();
+		try {
+			state.save(stateFile);
+		} catch (IOException exception) {
+			reportWarning(MessageFormat.format(Messages.SarlBatchCompiler_66, stateFile), exception);
+		}
+	}
+
 	/** Create a temporary subdirectory inside the root temp directory.
 	 *
 	 * @param namePrefix the prefix for the folder name.
@@ -2161,11 +3394,17 @@ public class SarlBatchCompiler {
 		if (progress.isCanceled()) {
 			return;
 		}
-		this.jvmTypesClassLoader = createClassLoader(classpath, parentClassLoader);
+		this.jvmTypesClassLoader = createProjectClassLoader(classpath, parentClassLoader);
 		if (progress.isCanceled()) {
 			return;
 		}
-		new ClasspathTypeProvider(this.jvmTypesClassLoader, resourceSet, skipIndexLookup ? null : this.indexedJvmTypeAccess, null);
+		final ClasspathTypeIndex typeIndex = createTypeIndex(classpath, parentClassLoader);
+		if (typeIndex != null) {
+			new IndexedClasspathTypeProvider(this.jvmTypesClassLoader, resourceSet,
+					skipIndexLookup ? null : this.indexedJvmTypeAccess, null, typeIndex);
+		} else {
+			new ClasspathTypeProvider(this.jvmTypesClassLoader, resourceSet, skipIndexLookup ? null : this.indexedJvmTypeAccess, null);
+		}
 		if (progress.isCanceled()) {
 			return;
 		}
@@ -2176,13 +3415,57 @@ public class SarlBatchCompiler {
 
 		// for annotation processing we need to have the compiler's classpath as a parent.
 		progress.subTask(Messages.SarlBatchCompiler_59);
-		this.annotationProcessingClassLoader = createClassLoader(classpath, getCurrentClassLoader());
+		this.annotationProcessingClassLoader = createProjectClassLoader(classpath, getCurrentClassLoader());
 		if (progress.isCanceled()) {
 			return;
 		}
 		resourceSet.eAdapters().add(new ProcessorInstanceForJvmTypeProvider.ProcessorClassloaderAdapter(this.annotationProcessingClassLoader));
 	}
 
+	/** Create the index of the types on the class path.
+	 *
+	 * @param classpath the class path.
+	 * @param parentClassLoader the parent class loader of the class loader on the class path.
+	 * @return the index, or {@code null} if the index cannot be used.
+	 */
+	private ClasspathTypeIndex createTypeIndex(Iterable<File> classpath, ClassLoader parentClassLoader) {
+		if (isTypeIndexEnabled()) {
+			final File directory = getTypeIndexDirectory();
+			if (directory != null) {
+				return ClasspathTypeIndex.create(classpath, parentClassLoader, directory, getLogger());
+			}
+		}
+		return null;
+	}
+
+	/** Create the project class loader by reusing the class loaders from the {@link #getClassLoaderCache() cache}.
+	 *
+	 * <p>The jar files at the beginning of the class path are loaded by a cached class loader; and the rest
+	 * of the class path is loaded by a new class loader. The order of the class path is preserved.
+	 *
+	 * @param jarsAndFolders the project class path.
+	 * @param parentClassLoader the parent class loader.
+	 * @return the class loader for the project.
+	 */
+	private ClassLoader createProjectClassLoader(Iterable<File> jarsAndFolders, ClassLoader parentClassLoader) {
+		final ClassLoaderCache cache = getClassLoaderCache();
+		if (cache != null && !(parentClassLoader instanceof AlternateJdkLoader)) {
+			final List<File> libraries = new ArrayList<>();
+			final List<File> others = new ArrayList<>();
+			for (final File file : jarsAndFolders) {
+				if (others.isEmpty() && file.isFile()) {
+					libraries.add(file);
+				} else {
+					others.add(file);
+				}
+			}
+			if (!libraries.isEmpty()) {
+				return createClassLoader(others, cache.getClassLoader(libraries, parentClassLoader));
+			}
+		}
+		return createClassLoader(jarsAndFolders, parentClassLoader);
+	}
+
 	/** Create the project class loader.
 	 *
 	 * @param jarsAndFolders the project class path.
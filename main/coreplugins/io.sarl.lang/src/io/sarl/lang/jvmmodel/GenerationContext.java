@@ -40,7 +40,7 @@ import org.eclipse.xtext.xbase.compiler.IGeneratorConfigProvider;
 import org.eclipse.xtext.xbase.compiler.output.ITreeAppendable;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Pair;
-import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
+import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
 
 import io.sarl.lang.SARLVersion;
 import io.sarl.lang.compiler.GeneratorConfig2;
@@ -105,10 +105,11 @@ abstract class GenerationContext {
 	private final List<Runnable> postFinalization = CollectionLiterals.newLinkedList();
 
 	/** Guard evaluators to generate. The keys are the event identifiers. The values are the code snipsets for
-	 * evaluating guards and returning the event handler runnables.
+	 * evaluating guards and returning the event handler runnables. The second argument of the code snipsets
+	 * indicates if the event handlers must be invoked inline instead of being returned as runnables.
 	 */
-	private final Map<String, Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>>> guardEvaluators
-			= CollectionLiterals.newHashMap();
+	private final Map<String, Pair<SarlBehaviorUnit, Collection<Procedure2<? super ITreeAppendable, ? super Boolean>>>>
+			guardEvaluators = CollectionLiterals.newHashMap();
 
 	/** The context object.
 	 */
@@ -214,7 +215,7 @@ abstract class GenerationContext {
 	 *
 	 * @return the guard evaluators.
 	 */
-	public Collection<Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>>>
+	public Collection<Pair<SarlBehaviorUnit, Collection<Procedure2<? super ITreeAppendable, ? super Boolean>>>>
 			getGuardEvaluationCodes() {
 		return this.guardEvaluators.values();
 	}
@@ -224,11 +225,13 @@ abstract class GenerationContext {
 	 * @param source the source of the guard evaluation.
 	 * @return the guard evaluators.
 	 */
-	public Collection<Procedure1<? super ITreeAppendable>> getGuardEvalationCodeFor(SarlBehaviorUnit source) {
+	public Collection<Procedure2<? super ITreeAppendable, ? super Boolean>> getGuardEvalationCodeFor(
+			SarlBehaviorUnit source) {
 		assert source != null;
 		final String id = source.getName().getIdentifier();
-		final Collection<Procedure1<? super ITreeAppendable>> evaluators;
-		final Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>> pair = this.guardEvaluators.get(id);
+		final Collection<Procedure2<? super ITreeAppendable, ? super Boolean>> evaluators;
+		final Pair<SarlBehaviorUnit, Collection<Procedure2<? super ITreeAppendable, ? super Boolean>>> pair =
+				this.guardEvaluators.get(id);
 		if (pair == null) {
 			evaluators = new ArrayList<>();
 			this.guardEvaluators.put(id, new Pair<>(source, evaluators));
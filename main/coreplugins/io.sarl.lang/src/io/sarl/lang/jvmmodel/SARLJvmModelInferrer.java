@@ -152,6 +152,7 @@ import io.sarl.lang.core.AgentTrait;
 import io.sarl.lang.core.Behavior;
 import io.sarl.lang.core.Capacity;
 import io.sarl.lang.core.Event;
+import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.sarl.SarlAction;
 import io.sarl.lang.sarl.SarlAgent;
@@ -1986,17 +1987,13 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 				addAnnotationSafe(bodyOperation, Pure.class);
 			}
 
-			final Collection<Procedure1<? super ITreeAppendable>> evaluators = context.getGuardEvalationCodeFor(source);
+			final Collection<Procedure2<? super ITreeAppendable, ? super Boolean>> evaluators =
+					context.getGuardEvalationCodeFor(source);
 			assert evaluators != null;
 
 			if (isTrueGuard) {
-				evaluators.add(it -> {
-					it.append(RUNNABLE_COLLECTION);
-					it.append(".add(() -> "); //$NON-NLS-1$
-					it.append(bodyMethodName);
-					it.append("("); //$NON-NLS-1$
-					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
-					it.append("));"); //$NON-NLS-1$
+				evaluators.add((it, inline) -> {
+					appendBehaviorUnitCall(it, bodyMethodName, inline.booleanValue());
 				});
 			} else {
 				assert guard != null;
@@ -2045,7 +2042,7 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 				//------------------
 				// Handler function
 				//------------------
-				evaluators.add(it -> {
+				evaluators.add((it, inline) -> {
 					it.append("if ("); //$NON-NLS-1$
 					it.append(guardMethodName);
 					it.append("("); //$NON-NLS-1$
@@ -2055,12 +2052,7 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 					it.append(")) {"); //$NON-NLS-1$
 					it.increaseIndentation();
 					it.newLine();
-					it.append(RUNNABLE_COLLECTION);
-					it.append(".add(() -> "); //$NON-NLS-1$
-					it.append(bodyMethodName);
-					it.append("("); //$NON-NLS-1$
-					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
-					it.append("));"); //$NON-NLS-1$
+					appendBehaviorUnitCall(it, bodyMethodName, inline.booleanValue());
 					it.decreaseIndentation();
 					it.newLine();
 					it.append("}"); //$NON-NLS-1$
@@ -2074,6 +2066,29 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		}
 	}
 
+	/** Append the call to the function that contains the body of a behavior unit.
+	 *
+	 * @param it the receiver of the generated code.
+	 * @param bodyMethodName the name of the function that contains the body of the behavior unit.
+	 * @param inline indicates if the body is invoked inline. If {@code false}, a runnable that invokes the
+	 *     body is added to the collection of the runnables.
+	 * @since 0.9
+	 */
+	private void appendBehaviorUnitCall(ITreeAppendable it, String bodyMethodName, boolean inline) {
+		if (!inline) {
+			it.append(RUNNABLE_COLLECTION);
+			it.append(".add(() -> "); //$NON-NLS-1$
+		}
+		it.append(bodyMethodName);
+		it.append("("); //$NON-NLS-1$
+		it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
+		it.append(")"); //$NON-NLS-1$
+		if (!inline) {
+			it.append(")"); //$NON-NLS-1$
+		}
+		it.append(";"); //$NON-NLS-1$
+	}
+
 	/** Transform the uses of SARL capacities.
 	 *
 	 * <p>Resolving the calls to the capacities' functions is done in {@link SARLReentrantTypeResolver}.
@@ -2500,8 +2515,8 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 	protected void appendEventGuardEvaluators(JvmGenericType container) {
 		final GenerationContext context = getContext(container);
 		if (context != null) {
-			final Collection<Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>>> allEvaluators
-					= context.getGuardEvaluationCodes();
+			final Collection<Pair<SarlBehaviorUnit, Collection<Procedure2<? super ITreeAppendable, ? super Boolean>>>>
+					allEvaluators = context.getGuardEvaluationCodes();
 			if (allEvaluators == null || allEvaluators.isEmpty()) {
 				return;
 			}
@@ -2509,7 +2524,8 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 			final JvmTypeReference voidType = this._typeReferenceBuilder.typeRef(Void.TYPE);
 			final JvmTypeReference runnableType = this._typeReferenceBuilder.typeRef(Runnable.class);
 			final JvmTypeReference collectionType = this._typeReferenceBuilder.typeRef(Collection.class, runnableType);
-			for (final Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>> evaluators : allEvaluators) {
+			for (final Pair<SarlBehaviorUnit, Collection<Procedure2<? super ITreeAppendable, ? super Boolean>>> evaluators
+					: allEvaluators) {
 				final SarlBehaviorUnit source = evaluators.getKey();
 				// Determine the name of the operation for the behavior output
 				final String behName = Utils.createNameForHiddenGuardGeneralEvaluatorMethod(source.getName().getSimpleName());
@@ -2554,18 +2570,171 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 					it.append("assert "); //$NON-NLS-1$
 					it.append(RUNNABLE_COLLECTION);
 					it.append(" != null;"); //$NON-NLS-1$
-					for (final Procedure1<? super ITreeAppendable> code : evaluators.getValue()) {
+					for (final Procedure2<? super ITreeAppendable, ? super Boolean> code : evaluators.getValue()) {
 						it.newLine();
-						code.apply(it);
+						code.apply(it, Boolean.FALSE);
 					}
 				});
 
 				this.associator.associatePrimary(source, operation);
 				this.typeBuilder.copyDocumentationTo(source, operation);
 			}
+
+			appendEventGuardEvaluatorTable(context, container, allEvaluators);
 		}
 	}
 
+	/** Append the table of the guard evaluators.
+	 *
+	 * <p>The table is composed by the functions of {@link IBehaviorGuardEvaluatorReceiver}. They enable
+	 * the run-time environment to call the guard evaluators without Java reflection.
+	 *
+	 * @param context the generation context.
+	 * @param container the container type.
+	 * @param allEvaluators the behavior units and the code snipsets of their guard evaluators.
+	 * @since 0.9
+	 */
+	protected void appendEventGuardEvaluatorTable(GenerationContext context, JvmGenericType container,
+			Collection<Pair<SarlBehaviorUnit, Collection<Procedure2<? super ITreeAppendable, ? super Boolean>>>>
+			allEvaluators) {
+		container.getSuperTypes().add(this._typeReferenceBuilder.typeRef(IBehaviorGuardEvaluatorReceiver.class));
+
+		final JvmTypeReference voidType = this._typeReferenceBuilder.typeRef(Void.TYPE);
+
+		// Function for replying the supported events
+		JvmOperation operation = this.typesFactory.createJvmOperation();
+		addAnnotationSafe(operation, Override.class);
+		appendGeneratedAnnotation(operation, context);
+		JvmFormalParameter jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("toBeFilled"); //$NON-NLS-1$
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(Set.class,
+				this._typeReferenceBuilder.typeRef(Class.class,
+						this._typeReferenceBuilder.wildcardExtends(this._typeReferenceBuilder.typeRef(Event.class)))));
+		operation.getParameters().add(jvmParam);
+		operation.setVisibility(JvmVisibility.PUBLIC);
+		operation.setSimpleName(IBehaviorGuardEvaluatorReceiver.GET_SUPPORTED_EVENTS_NAME);
+		operation.setReturnType(this.typeBuilder.cloneWithProxies(voidType));
+		container.getMembers().add(operation);
+		setBody(operation, it -> {
+			final boolean hasSuperTable = hasEventGuardEvaluatorTable(container);
+			if (hasSuperTable) {
+				it.append("super.").append(IBehaviorGuardEvaluatorReceiver.GET_SUPPORTED_EVENTS_NAME); //$NON-NLS-1$
+				it.append("(toBeFilled);"); //$NON-NLS-1$
+			}
+			boolean first = !hasSuperTable;
+			for (final Pair<SarlBehaviorUnit, ?> entry : allEvaluators) {
+				if (first) {
+					first = false;
+				} else {
+					it.newLine();
+				}
+				it.append("toBeFilled.add(").append(entry.getKey().getName().getType()); //$NON-NLS-1$
+				it.append(".class);"); //$NON-NLS-1$
+			}
+		});
+
+		// Function for calling the guard evaluators
+		operation = this.typesFactory.createJvmOperation();
+		addAnnotationSafe(operation, Override.class);
+		appendGeneratedAnnotation(operation, context);
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("eventType"); //$NON-NLS-1$
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(Class.class, this._typeReferenceBuilder.wildcard()));
+		operation.getParameters().add(jvmParam);
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("event"); //$NON-NLS-1$
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(Object.class));
+		operation.getParameters().add(jvmParam);
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("callbacks"); //$NON-NLS-1$
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(Collection.class,
+				this._typeReferenceBuilder.typeRef(Runnable.class)));
+		operation.getParameters().add(jvmParam);
+		operation.setVisibility(JvmVisibility.PUBLIC);
+		operation.setSimpleName(IBehaviorGuardEvaluatorReceiver.EVALUATE_BEHAVIOR_GUARDS_NAME);
+		operation.setReturnType(this.typeBuilder.cloneWithProxies(voidType));
+		container.getMembers().add(operation);
+		setBody(operation, it -> {
+			final boolean hasSuperTable = hasEventGuardEvaluatorTable(container);
+			if (hasSuperTable) {
+				it.append("super.").append(IBehaviorGuardEvaluatorReceiver.EVALUATE_BEHAVIOR_GUARDS_NAME); //$NON-NLS-1$
+				it.append("(eventType, event, callbacks);"); //$NON-NLS-1$
+			}
+			boolean first = !hasSuperTable;
+			for (final Pair<SarlBehaviorUnit, ?> entry : allEvaluators) {
+				if (first) {
+					first = false;
+				} else {
+					it.newLine();
+				}
+				final JvmType eventType = entry.getKey().getName().getType();
+				it.append("if (").append(eventType).append(".class.equals(eventType)) {"); //$NON-NLS-1$ //$NON-NLS-2$
+				it.increaseIndentation().newLine();
+				it.append(Utils.createNameForHiddenGuardGeneralEvaluatorMethod(entry.getKey().getName().getSimpleName()));
+				it.append("((").append(eventType); //$NON-NLS-1$
+				it.append(") event, callbacks);"); //$NON-NLS-1$
+				it.decreaseIndentation().newLine();
+				it.append("}"); //$NON-NLS-1$
+			}
+		});
+
+		// Function for running the behavior units inline
+		operation = this.typesFactory.createJvmOperation();
+		addAnnotationSafe(operation, Override.class);
+		appendGeneratedAnnotation(operation, context);
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("eventType"); //$NON-NLS-1$
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(Class.class, this._typeReferenceBuilder.wildcard()));
+		operation.getParameters().add(jvmParam);
+		jvmParam = this.typesFactory.createJvmFormalParameter();
+		jvmParam.setName("event"); //$NON-NLS-1$
+		jvmParam.setParameterType(this._typeReferenceBuilder.typeRef(Object.class));
+		operation.getParameters().add(jvmParam);
+		operation.setVisibility(JvmVisibility.PUBLIC);
+		operation.setSimpleName(IBehaviorGuardEvaluatorReceiver.EXECUTE_BEHAVIOR_UNITS_NAME);
+		operation.setReturnType(this.typeBuilder.cloneWithProxies(voidType));
+		container.getMembers().add(operation);
+		setBody(operation, it -> {
+			final boolean hasSuperTable = hasEventGuardEvaluatorTable(container);
+			if (hasSuperTable) {
+				it.append("super.").append(IBehaviorGuardEvaluatorReceiver.EXECUTE_BEHAVIOR_UNITS_NAME); //$NON-NLS-1$
+				it.append("(eventType, event);"); //$NON-NLS-1$
+			}
+			boolean first = !hasSuperTable;
+			for (final Pair<SarlBehaviorUnit, Collection<Procedure2<? super ITreeAppendable, ? super Boolean>>> entry
+					: allEvaluators) {
+				if (first) {
+					first = false;
+				} else {
+					it.newLine();
+				}
+				final JvmType eventType = entry.getKey().getName().getType();
+				it.append("if (").append(eventType).append(".class.equals(eventType)) {"); //$NON-NLS-1$ //$NON-NLS-2$
+				it.increaseIndentation().newLine();
+				it.append("final ").append(eventType).append(" "); //$NON-NLS-1$ //$NON-NLS-2$
+				it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
+				it.append(" = (").append(eventType).append(") event;"); //$NON-NLS-1$ //$NON-NLS-2$
+				for (final Procedure2<? super ITreeAppendable, ? super Boolean> code : entry.getValue()) {
+					it.newLine();
+					code.apply(it, Boolean.TRUE);
+				}
+				it.decreaseIndentation().newLine();
+				it.append("}"); //$NON-NLS-1$
+			}
+		});
+	}
+
+	/** Replies if the super type of the given type provides a table of guard evaluators.
+	 *
+	 * @param type the type to test.
+	 * @return {@code true} if the super type implements {@link IBehaviorGuardEvaluatorReceiver}.
+	 */
+	private boolean hasEventGuardEvaluatorTable(JvmGenericType type) {
+		final JvmTypeReference superType = type.getExtendedClass();
+		return superType != null
+				&& this.inheritanceHelper.isSubTypeOf(superType, IBehaviorGuardEvaluatorReceiver.class, null);
+	}
+
 	/** Append the @FunctionalInterface to the given type if it is a functional interface according
 	 * to the Java 8 specification definition.
 	 *
@@ -40,6 +40,7 @@ import javax.inject.Singleton;
 
 import com.google.common.collect.Iterables;
 import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtend.core.xtend.XtendFunction;
@@ -841,7 +842,7 @@ public class SARLOperationHelper implements IOperationHelper {
 	 */
 	public static final class SideEffectContext implements ISideEffectContext {
 
-		private final List<InferredPrototype> calledOperations = new ArrayList<>();
+		private final List<InferredPrototype> calledOperations;
 
 		private final Deque<InternalContext> contextStack;
 
@@ -854,6 +855,7 @@ public class SARLOperationHelper implements IOperationHelper {
 		 * @param calledOperation the called operation.
 		 */
 		SideEffectContext(InferredPrototype calledOperation) {
+			this.calledOperations = new ArrayList<>();
 			if (calledOperation != null) {
 				this.calledOperations.add(calledOperation);
 			}
@@ -868,6 +870,7 @@ public class SARLOperationHelper implements IOperationHelper {
 		 * @param calledOperations the operations that are called before the called operation in the call stack.
 		 */
 		SideEffectContext(Iterable<InferredPrototype> calledOperations) {
+			this.calledOperations = new ArrayList<>();
 			if (calledOperations != null) {
 				for (final InferredPrototype proto : calledOperations) {
 					this.calledOperations.add(proto);
@@ -885,7 +888,7 @@ public class SARLOperationHelper implements IOperationHelper {
 		 * @param context the context to be copied.
 		 */
 		SideEffectContext(InferredPrototype calledOperation, ISideEffectContext context) {
-			this.calledOperations.addAll(context.getCalledOperations());
+			this.calledOperations = new ArrayList<>(context.getCalledOperations());
 			if (calledOperation != null) {
 				this.calledOperations.add(calledOperation);
 			}
@@ -897,9 +900,9 @@ public class SARLOperationHelper implements IOperationHelper {
 
 		private SideEffectContext(List<InferredPrototype> calledOperations, Deque<InternalContext> contextStack,
 				Map<String, List<XExpression>> buffer) {
-			if (calledOperations != null) {
-				this.calledOperations.addAll(calledOperations);
-			}
+			// The list of the called operations is never changed after the construction of a context.
+			// It is shared by the branches in order to avoid a copy per branch.
+			this.calledOperations = calledOperations;
 			this.variableAssignmentBuffer = buffer;
 			this.isBranchContext = true;
 			this.contextStack = contextStack;
@@ -941,6 +944,17 @@ public class SARLOperationHelper implements IOperationHelper {
 				public int occurrences;
 				public final List<XExpression> expressions = new ArrayList<>();
 			}
+			boolean hasAssignment = false;
+			for (final Map<String, List<XExpression>> definition : buffers) {
+				if (!definition.isEmpty()) {
+					hasAssignment = true;
+					break;
+				}
+			}
+			if (!hasAssignment) {
+				// No branch assigns a variable: avoid the allocation of the merging buffer.
+				return;
+			}
 			final Map<String, Data> full = new TreeMap<>();
 			for (final Map<String, List<XExpression>> definition : buffers) {
 				for (final Entry<String, List<XExpression>> entry : definition.entrySet()) {
@@ -967,7 +981,7 @@ public class SARLOperationHelper implements IOperationHelper {
 
 		@Override
 		public ISideEffectContext branch(Map<String, List<XExpression>> buffer) {
-			return new SideEffectContext(getCalledOperations(), this.contextStack, buffer);
+			return new SideEffectContext(this.calledOperations, this.contextStack, buffer);
 		}
 
 		@Override
@@ -1125,6 +1139,14 @@ public class SARLOperationHelper implements IOperationHelper {
 	}
 
 	/** Adapter that enables to adda annotation when generating the Java code.
+	 *
+	 * <p>The result of the evaluation of the predicates is memoized into the adapter, i.e. for the adapted
+	 * operation. Because the JVM operations are discarded with the derived state of their resource, the
+	 * memoized result does not survive to a change of the resource. It is also discarded when the operation
+	 * or the predicates are changed.
+	 *
+	 * <p>The predicates are evaluated outside any lock in order to enable the concurrent analysis of the
+	 * independent operations.
 	 *
 	 * @author $Author: sgalland$
 	 * @version $FullVersion$
@@ -1136,6 +1158,8 @@ public class SARLOperationHelper implements IOperationHelper {
 
 		private Collection<Function2<? super JvmOperation, ? super IOperationHelper, ? extends Boolean>> predicates;
 
+		private volatile Boolean memoizedResult;
+
 		/** Add a predicate.
 		 *
 		 * @param predicate the predicate.
@@ -1147,6 +1171,7 @@ public class SARLOperationHelper implements IOperationHelper {
 						this.predicates = new ArrayList<>();
 					}
 					this.predicates.add(predicate);
+					this.memoizedResult = null;
 				}
 			}
 		}
@@ -1156,15 +1181,35 @@ public class SARLOperationHelper implements IOperationHelper {
 		public void removeAllPredicates() {
 			synchronized (this) {
 				this.predicates = null;
+				this.memoizedResult = null;
 			}
 		}
 
+		/** Forget the memoized result of the predicates.
+		 *
+		 * @since 0.9
+		 */
+		public void clearMemoizedResult() {
+			this.memoizedResult = null;
+		}
+
 		@Override
 		public boolean isAdapterForType(Object type) {
 			return type == AnnotationJavaGenerationAdapter.class;
 		}
 
+		@Override
+		public void notifyChanged(Notification msg) {
+			if (!msg.isTouch()) {
+				clearMemoizedResult();
+			}
+		}
+
 		/** Evaluate the predicates.
+		 *
+		 * <p>A result that is computed within a side effect context assumes that the recursive calls have
+		 * no side effect. Consequently, only the negative results that are computed within a context are
+		 * memoized.
 		 *
 		 * @param helper the helper.
 		 * @param operation the operation to adapt.
@@ -1172,23 +1217,35 @@ public class SARLOperationHelper implements IOperationHelper {
 		 * @return the view to the operation with adaptations.
 		 */
 		public boolean applyAdaptations(IOperationHelper helper, JvmOperation operation, ISideEffectContext context) {
+			final Boolean memoized = this.memoizedResult;
+			if (memoized != null) {
+				return memoized.booleanValue();
+			}
+			final List<Function2<? super JvmOperation, ? super IOperationHelper, ? extends Boolean>> predicateList;
 			synchronized (this) {
-				if (this.predicates != null && !this.predicates.isEmpty()) {
-					for (final Function2<? super JvmOperation, ? super IOperationHelper, ? extends Boolean> predicate : this.predicates) {
-						final IOperationHelper hlp;
-						if (context != null && helper instanceof SARLOperationHelper) {
-							hlp = new SubHelper((SARLOperationHelper) helper, context);
-						} else {
-							hlp = helper;
-						}
-						final Boolean bool = predicate.apply(operation, hlp);
-						if (bool != null && bool.booleanValue()) {
-							return true;
-						}
-					}
+				if (this.predicates == null || this.predicates.isEmpty()) {
+					return false;
 				}
+				predicateList = new ArrayList<>(this.predicates);
 			}
-			return false;
+			boolean result = false;
+			for (final Function2<? super JvmOperation, ? super IOperationHelper, ? extends Boolean> predicate : predicateList) {
+				final IOperationHelper hlp;
+				if (context != null && helper instanceof SARLOperationHelper) {
+					hlp = new SubHelper((SARLOperationHelper) helper, context);
+				} else {
+					hlp = helper;
+				}
+				final Boolean bool = predicate.apply(operation, hlp);
+				if (bool != null && bool.booleanValue()) {
+					result = true;
+					break;
+				}
+			}
+			if (context == null || !result) {
+				this.memoizedResult = Boolean.valueOf(result);
+			}
+			return result;
 		}
 
 	}
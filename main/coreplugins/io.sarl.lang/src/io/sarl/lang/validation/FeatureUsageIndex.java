@@ -0,0 +1,315 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EContentsEList;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtend.core.xtend.XtendMember;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.xbase.XAbstractFeatureCall;
+import org.eclipse.xtext.xbase.XAssignment;
+import org.eclipse.xtext.xbase.XExpression;
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Index of the usages of the features within a type declaration.
+ *
+ * <p>The index is built with a single traversal of the type declaration. It maps each referenced element,
+ * e.g. a JVM field, a JVM operation or a formal parameter, to the objects that are referencing it.
+ * The usages that are found by {@link org.eclipse.xtext.xbase.util.XbaseUsageCrossReferencer} are indexed,
+ * including the implicit receivers and the implicit first arguments of the feature calls.
+ * The references to the types are not indexed.
+ *
+ * <p>The index is a snapshot of the model. It is built by the validator once per validation of a resource,
+ * and then shared by the checks that are searching for usages.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public final class FeatureUsageIndex {
+
+	private final EObject root;
+
+	private final Map<EObject, List<Usage>> usages = new IdentityHashMap<>();
+
+	private FeatureUsageIndex(EObject root) {
+		this.root = root;
+	}
+
+	/** Build the index for the given root element.
+	 *
+	 * @param root the root element, usually the outermost type declaration.
+	 * @return the index.
+	 */
+	public static FeatureUsageIndex build(EObject root) {
+		final FeatureUsageIndex index = new FeatureUsageIndex(root);
+		index.addExplicit(root);
+		final TreeIterator<EObject> iterator = root.eAllContents();
+		while (iterator.hasNext()) {
+			index.addExplicit(iterator.next());
+		}
+		return index;
+	}
+
+	private void addExplicit(EObject object) {
+		addCrossReferences(object, object);
+	}
+
+	private void addImplicit(XExpression expression, EObject owner) {
+		addCrossReferences(expression, owner);
+		final TreeIterator<EObject> iterator = expression.eAllContents();
+		while (iterator.hasNext()) {
+			addCrossReferences(iterator.next(), owner);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addCrossReferences(EObject object, EObject owner) {
+		final EContentsEList.FeatureIterator<EObject> iterator =
+				(EContentsEList.FeatureIterator<EObject>) object.eCrossReferences().iterator();
+		while (iterator.hasNext()) {
+			final EObject target = iterator.next();
+			if (target != null && !target.eIsProxy() && !(target instanceof JvmType)) {
+				final EReference reference = (EReference) iterator.feature();
+				final boolean isWrite = object instanceof XAssignment && ((XAssignment) object).getFeature() == target;
+				this.usages.computeIfAbsent(target, it -> new ArrayList<>()).add(new Usage(object, reference, owner, isWrite));
+			}
+		}
+		if (object instanceof XAbstractFeatureCall) {
+			final XAbstractFeatureCall call = (XAbstractFeatureCall) object;
+			final XExpression implicitReceiver = call.getImplicitReceiver();
+			if (implicitReceiver != null) {
+				addImplicit(implicitReceiver, owner);
+			}
+			final XExpression implicitFirstArgument = call.getImplicitFirstArgument();
+			if (implicitFirstArgument != null) {
+				addImplicit(implicitFirstArgument, owner);
+			}
+		}
+	}
+
+	/** Replies the root element of the index.
+	 *
+	 * @return the root element.
+	 */
+	@Pure
+	public EObject getRoot() {
+		return this.root;
+	}
+
+	/** Replies if the given element could be searched in this index.
+	 *
+	 * @param target the referenced element.
+	 * @param container the element in which the usages are searched.
+	 * @return {@code true} if the index contains the usages of the target within the container.
+	 */
+	@Pure
+	public boolean isIndexed(EObject target, EObject container) {
+		return !(target instanceof JvmType) && EcoreUtil.isAncestor(this.root, container);
+	}
+
+	/** Replies the usages of the given element within the root element.
+	 *
+	 * @param target the referenced element.
+	 * @return the usages, in the order of the traversal of the root element.
+	 */
+	@Pure
+	public List<Usage> getUsages(EObject target) {
+		final List<Usage> result = this.usages.get(target);
+		if (result == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/** Replies the usages of the given element within the given container.
+	 *
+	 * @param target the referenced element.
+	 * @param container the element in which the usages are searched.
+	 * @return the usages, in the order of the traversal of the root element.
+	 */
+	@Pure
+	public List<Usage> getUsages(EObject target, EObject container) {
+		final List<Usage> all = this.usages.get(target);
+		if (all == null) {
+			return Collections.emptyList();
+		}
+		if (container == this.root) {
+			return Collections.unmodifiableList(all);
+		}
+		final List<Usage> result = new ArrayList<>();
+		for (final Usage usage : all) {
+			if (EcoreUtil.isAncestor(container, usage.getOwner())) {
+				result.add(usage);
+			}
+		}
+		return result;
+	}
+
+	/** Replies if the given element is read within the given container, i.e. it is referenced
+	 * by another object than the left operand of an assignment.
+	 *
+	 * @param target the referenced element.
+	 * @param container the element in which the usages are searched.
+	 * @return {@code true} if the element is read.
+	 */
+	@Pure
+	public boolean isRead(EObject target, EObject container) {
+		for (final Usage usage : getUsages(target, container)) {
+			if (!usage.isWrite()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Replies if the given element is assigned within the given container, i.e. it is the left operand
+	 * of an assignment.
+	 *
+	 * @param target the referenced element.
+	 * @param container the element in which the usages are searched.
+	 * @return {@code true} if the element is assigned.
+	 */
+	@Pure
+	public boolean isWritten(EObject target, EObject container) {
+		for (final Usage usage : getUsages(target, container)) {
+			if (usage.isWrite()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Usage of an element.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	public static final class Usage {
+
+		private final EObject source;
+
+		private final EReference reference;
+
+		private final EObject owner;
+
+		private final boolean write;
+
+		private XtendMember member;
+
+		private boolean memberComputed;
+
+		/** Constructor.
+		 *
+		 * @param source the referencing object.
+		 * @param reference the reference from the source to the referenced element.
+		 * @param owner the object of the model that contains the source. It is the source itself, except for the implicit
+		 *     receivers and the implicit arguments.
+		 * @param write indicates if the source is an assignment to the referenced element.
+		 */
+		public Usage(EObject source, EReference reference, EObject owner, boolean write) {
+			this.source = source;
+			this.reference = reference;
+			this.owner = owner;
+			this.write = write;
+		}
+
+		/** Replies the object that is referencing the element.
+		 *
+		 * @return the source of the reference.
+		 */
+		@Pure
+		public EObject getSource() {
+			return this.source;
+		}
+
+		/** Replies the reference from the source to the element.
+		 *
+		 * @return the reference.
+		 */
+		@Pure
+		public EReference getReference() {
+			return this.reference;
+		}
+
+		/** Replies the object of the model that contains the source.
+		 *
+		 * @return the source, or the explicit feature call for an implicit receiver or argument.
+		 */
+		@Pure
+		public EObject getOwner() {
+			return this.owner;
+		}
+
+		/** Replies if the source is an implicit receiver or an implicit argument of a feature call.
+		 *
+		 * @return {@code true} if the source is implicit.
+		 */
+		@Pure
+		public boolean isImplicit() {
+			return this.source != this.owner;
+		}
+
+		/** Replies if the source is an assignment to the referenced element.
+		 *
+		 * @return {@code true} for a write access; {@code false} for a read access.
+		 */
+		@Pure
+		public boolean isWrite() {
+			return this.write;
+		}
+
+		/** Replies the member that contains the source.
+		 *
+		 * @return the member, or {@code null} if the source is not contained by a member.
+		 */
+		public XtendMember getContainingMember() {
+			if (!this.memberComputed) {
+				this.member = EcoreUtil2.getContainerOfType(this.source, XtendMember.class);
+				this.memberComputed = true;
+			}
+			return this.member;
+		}
+
+		@Override
+		public String toString() {
+			return this.source + (this.write ? " writes " : " reads ") + this.reference.getName(); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+	}
+
+}
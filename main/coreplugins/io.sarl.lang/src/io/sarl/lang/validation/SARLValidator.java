@@ -79,12 +79,14 @@ import static org.eclipse.xtext.xbase.validation.IssueCodes.VARIABLE_NAME_SHADOW
 
 import java.lang.annotation.ElementType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -149,6 +151,7 @@ import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.util.JavaVersion;
 import org.eclipse.xtext.util.Strings;
 import org.eclipse.xtext.util.XtextVersion;
+import org.eclipse.xtext.validation.AbstractDeclarativeValidator;
 import org.eclipse.xtext.validation.Check;
 import org.eclipse.xtext.validation.CheckType;
 import org.eclipse.xtext.validation.ComposedChecks;
@@ -187,6 +190,7 @@ import org.eclipse.xtext.xbase.validation.FeatureNameValidator;
 
 import io.sarl.lang.SARLVersion;
 import io.sarl.lang.annotation.EarlyExit;
+import io.sarl.lang.compiler.batch.CompilationProfiler;
 import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.Behavior;
 import io.sarl.lang.core.Capacity;
@@ -404,6 +408,9 @@ public class SARLValidator extends AbstractSARLValidator {
 	@Inject
 	private IImmutableTypeValidator immutableTypeValidator;
 
+	@Inject
+	private CompilationProfiler profiler;
+
 	// Update the annotation target information
 	{
 		final ImmutableMultimap.Builder<Class<?>, ElementType> result = ImmutableMultimap.builder();
@@ -432,6 +439,14 @@ public class SARLValidator extends AbstractSARLValidator {
 		}
 	}
 
+	@Override
+	protected MethodWrapper createMethodWrapper(AbstractDeclarativeValidator instanceToUse, Method method) {
+		if (this.profiler != null) {
+			return new ProfiledMethodWrapper(instanceToUse, method, this.profiler);
+		}
+		return super.createMethodWrapper(instanceToUse, method);
+	}
+
 	/** Create a lightweight type reference from the given type.
 	 *
 	 * @param type the type to point to.
@@ -2411,6 +2426,19 @@ public class SARLValidator extends AbstractSARLValidator {
 		final boolean enable1 = !isIgnored(IssueCodes.DISCOURAGED_OCCURRENCE_READONLY_USE);
 		final XExpression root = unit.getExpression();
 		final String occurrenceKw = this.grammarAccess.getOccurrenceKeyword();
+		final JvmOperation operation = this.associations.getInferredBodyOperation(unit);
+		if (root != null && operation != null && !operation.getParameters().isEmpty()) {
+			final JvmFormalParameter occurrence = operation.getParameters().get(0);
+			final FeatureUsageIndex index = getFeatureUsageIndex(occurrence, root);
+			if (index != null && occurrenceKw.equals(occurrence.getSimpleName())) {
+				for (final FeatureUsageIndex.Usage usage : index.getUsages(occurrence, root)) {
+					if (!usage.isImplicit() && usage.getSource() instanceof XFeatureCall) {
+						checkUnmodifiableFeatureAccess(enable1, (XFeatureCall) usage.getSource(), occurrenceKw);
+					}
+				}
+				return;
+			}
+		}
 		for (final XFeatureCall child : EcoreUtil2.getAllContentsOfType(root, XFeatureCall.class)) {
 			if (occurrenceKw.equals(child.getFeature().getIdentifier())) {
 				checkUnmodifiableFeatureAccess(enable1, child, occurrenceKw);
@@ -2586,12 +2614,12 @@ public class SARLValidator extends AbstractSARLValidator {
 			final EObject scope = getOutermostType(field);
 			if ((scope instanceof SarlAgent || scope instanceof SarlBehavior
 					|| scope instanceof SarlSkill) && isLocallyAssigned(jvmField, scope)) {
-				final Collection<Setting> usages = XbaseUsageCrossReferencer.find(jvmField, scope);
+				final List<FeatureUsageIndex.Usage> usages = findUsages(jvmField, scope);
 				final Set<XtendMember> blocks = new HashSet<>();
 				boolean isAccessibleFromOutside = jvmField.getVisibility() != JvmVisibility.PRIVATE;
-				final Collection<Setting> pbUsages = new ArrayList<>();
-				for (final Setting usage : usages) {
-					final XtendMember member = EcoreUtil2.getContainerOfType(usage.getEObject(), XtendMember.class);
+				final Collection<FeatureUsageIndex.Usage> pbUsages = new ArrayList<>();
+				for (final FeatureUsageIndex.Usage usage : usages) {
+					final XtendMember member = usage.getContainingMember();
 					if (member instanceof XtendFunction) {
 						final XtendFunction fct = (XtendFunction) member;
 						blocks.add(member);
@@ -2607,7 +2635,7 @@ public class SARLValidator extends AbstractSARLValidator {
 						pbUsages.add(usage);
 					}
 				}
-				for (final Setting usage : pbUsages) {
+				for (final FeatureUsageIndex.Usage usage : pbUsages) {
 					boolean synchronizationIssue = false;
 					if (isAccessibleFromOutside || blocks.size() > 1) {
 						synchronizationIssue = true;
@@ -2618,18 +2646,18 @@ public class SARLValidator extends AbstractSARLValidator {
 					// Check if the field is already locally synchronized
 					if (synchronizationIssue) {
 						final XSynchronizedExpression syncExpr = EcoreUtil2.getContainerOfType(
-								usage.getEObject(), XSynchronizedExpression.class);
+								usage.getSource(), XSynchronizedExpression.class);
 						if (syncExpr != null) {
 							synchronizationIssue = false;
 						}
 					}
 					if (synchronizationIssue
 							&& !isIgnored(IssueCodes.POTENTIAL_FIELD_SYNCHRONIZATION_PROBLEM,
-									usage.getEObject())) {
+									usage.getSource())) {
 						addIssue(
 								MessageFormat.format(Messages.SARLValidator_91, field.getName()),
-								usage.getEObject(),
-								usage.getEStructuralFeature(),
+								usage.getSource(),
+								usage.getReference(),
 								IssueCodes.POTENTIAL_FIELD_SYNCHRONIZATION_PROBLEM);
 					}
 				}
@@ -2679,22 +2707,99 @@ public class SARLValidator extends AbstractSARLValidator {
 		if (this.readAndWriteTracking.isAssigned(target)) {
 			return true;
 		}
-		final Collection<Setting> usages = XbaseUsageCrossReferencer.find(target, containerToFindUsage);
 		// field are assigned when they are not used as the left operand of an assignment operator.
-		for (final Setting usage : usages) {
-			final EObject object = usage.getEObject();
-			if (object instanceof XAssignment) {
-				final XAssignment assignment = (XAssignment) object;
-				if (assignment.getFeature() == target) {
-					// Mark the field as assigned in order to be faster during the next assignment test.
-					this.readAndWriteTracking.markAssignmentAccess(target);
-					return true;
-				}
+		for (final FeatureUsageIndex.Usage usage : findUsages(target, containerToFindUsage)) {
+			if (usage.isWrite()) {
+				// Mark the field as assigned in order to be faster during the next assignment test.
+				this.readAndWriteTracking.markAssignmentAccess(target);
+				return true;
 			}
 		}
 		return false;
 	}
 
+	@Override
+	protected boolean isLocallyUsed(EObject target, EObject containerToFindUsage) {
+		final FeatureUsageIndex index = getFeatureUsageIndex(target, containerToFindUsage);
+		if (index != null) {
+			if (index.getUsages(target, containerToFindUsage).isEmpty()) {
+				return this.readAndWriteTracking.isRead(target);
+			}
+			// The usages of a private operation within its own body are not counted by the super implementation.
+			if (!(target instanceof JvmOperation) || ((JvmOperation) target).getVisibility() != JvmVisibility.PRIVATE) {
+				return true;
+			}
+		}
+		return super.isLocallyUsed(target, containerToFindUsage);
+	}
+
+	/** Replies the usages of the given element within the given container.
+	 *
+	 * <p>The usages are replied by the index of the usages of the current validation if possible.
+	 * Otherwise, they are searched with the {@link XbaseUsageCrossReferencer}.
+	 *
+	 * @param target the referenced element.
+	 * @param containerToFindUsage the container in which the usages should be find.
+	 * @return the usages.
+	 * @since 0.9
+	 */
+	protected List<FeatureUsageIndex.Usage> findUsages(EObject target, EObject containerToFindUsage) {
+		final FeatureUsageIndex index = getFeatureUsageIndex(target, containerToFindUsage);
+		if (index != null) {
+			return index.getUsages(target, containerToFindUsage);
+		}
+		final Collection<Setting> settings = XbaseUsageCrossReferencer.find(target, containerToFindUsage);
+		final List<FeatureUsageIndex.Usage> usages = new ArrayList<>(settings.size());
+		for (final Setting setting : settings) {
+			final EObject object = setting.getEObject();
+			final boolean isWrite = object instanceof XAssignment && ((XAssignment) object).getFeature() == target;
+			usages.add(new FeatureUsageIndex.Usage(object, (EReference) setting.getEStructuralFeature(), object, isWrite));
+		}
+		return usages;
+	}
+
+	/** Replies the index of the usages that is shared by the checks of the current validation.
+	 * The index is built for the outermost type declaration of the given container at the first call
+	 * for this type during the validation.
+	 *
+	 * @param target the referenced element.
+	 * @param containerToFindUsage the container in which the usages should be find.
+	 * @return the index, or {@code null} if the usages of the target could not be indexed.
+	 * @since 0.9
+	 */
+	protected FeatureUsageIndex getFeatureUsageIndex(EObject target, EObject containerToFindUsage) {
+		if (target instanceof JvmType) {
+			return null;
+		}
+		EObject root = null;
+		EObject current = containerToFindUsage;
+		while (current != null) {
+			if (current instanceof XtendTypeDeclaration) {
+				root = current;
+			}
+			current = current.eContainer();
+		}
+		if (root == null) {
+			return null;
+		}
+		final Map<Object, Object> context = getContext();
+		if (context == null) {
+			return null;
+		}
+		Object indexes = context.get(FeatureUsageIndex.class);
+		if (!(indexes instanceof Map<?, ?>)) {
+			indexes = new HashMap<EObject, FeatureUsageIndex>();
+			try {
+				context.put(FeatureUsageIndex.class, indexes);
+			} catch (UnsupportedOperationException exception) {
+				return null;
+			}
+		}
+		@SuppressWarnings("unchecked")
+		final Map<EObject, FeatureUsageIndex> map = (Map<EObject, FeatureUsageIndex>) indexes;
+		return map.computeIfAbsent(root, FeatureUsageIndex::build);
+	}
+
 	@Override
 	protected void checkAssignment(XExpression expression, EStructuralFeature feature, boolean simpleAssignment) {
 		if (simpleAssignment && expression instanceof XAbstractFeatureCall) {
@@ -2942,4 +3047,54 @@ public class SARLValidator extends AbstractSARLValidator {
 
 	}
 
+	/** Wrapper of a check method that is measuring the time spent within the check
+	 * when the compilation is profiled.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 * @see CompilationProfiler
+	 */
+	protected static class ProfiledMethodWrapper extends MethodWrapper {
+
+		private final CompilationProfiler profiler;
+
+		private final String checkName;
+
+		/** Constructor.
+		 *
+		 * @param instance the validator that is declaring the check.
+		 * @param method the check method.
+		 * @param profiler the profiler of the compilation.
+		 */
+		protected ProfiledMethodWrapper(AbstractDeclarativeValidator instance, Method method, CompilationProfiler profiler) {
+			super(instance, method);
+			this.profiler = profiler;
+			final StringBuilder name = new StringBuilder();
+			name.append(method.getDeclaringClass().getSimpleName()).append('.').append(method.getName()).append('(');
+			boolean first = true;
+			for (final Class<?> type : method.getParameterTypes()) {
+				if (!first) {
+					name.append(", "); //$NON-NLS-1$
+				}
+				first = false;
+				name.append(type.getSimpleName());
+			}
+			this.checkName = name.append(')').toString();
+		}
+
+		@Override
+		public void invoke(State state) {
+			final long start = this.profiler.timestamp();
+			try {
+				super.invoke(state);
+			} finally {
+				this.profiler.addCheckTime(this.checkName, start);
+			}
+		}
+
+	}
+
 }
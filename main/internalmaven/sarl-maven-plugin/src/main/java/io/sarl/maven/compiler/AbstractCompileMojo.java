@@ -150,6 +150,42 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 
 	private OptimizationLevel optimizationInstance;
 
+	/** Indicates if the SARL compiler compiles only the SARL files that have changed since the previous
+	 * compilation, and the SARL files that are depending on them.
+	 *
+	 * @since 0.9
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean incremental;
+
+	/** Indicates the number of threads that are used by the SARL compiler for validating the SARL files
+	 * and generating the Java files. If it is lower than {@code 1}, all the available processors are used.
+	 *
+	 * @since 0.9
+	 */
+	@Parameter(defaultValue = "1", required = false)
+	private int parallelism;
+
+	/** Indicates the port of the SARL compilation daemon on the local host. If the daemon is running,
+	 * it compiles the SARL files. If it is {@code 0}, or the daemon is not running, the SARL files
+	 * are compiled by the plugin.
+	 *
+	 * @since 0.9
+	 */
+	@Parameter(defaultValue = "0", required = false)
+	private int daemonPort;
+
+	/** Indicates the file in which the profiling report of the SARL compilation is written.
+	 * The report contains the durations and the memory deltas of the compilation phases, the time spent
+	 * on each SARL file, and the cumulative time spent within each check of the validator. It is written
+	 * in CSV if the file has the {@code .csv} extension, and in JSON otherwise.
+	 * If it is not specified, the compilation is not profiled.
+	 *
+	 * @since 0.9
+	 */
+	@Parameter(required = false)
+	private File profilingReport;
+
 	@Override
 	protected String[] getExtraGenerators() {
 		if (this.extraGenerators == null) {
@@ -229,6 +265,26 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		return this.optimizationInstance;
 	}
 
+	@Override
+	protected boolean getIncremental() {
+		return this.incremental;
+	}
+
+	@Override
+	protected int getParallelism() {
+		return this.parallelism;
+	}
+
+	@Override
+	protected int getDaemonPort() {
+		return this.daemonPort;
+	}
+
+	@Override
+	protected File getProfilingReport() {
+		return this.profilingReport;
+	}
+
 	@Override
 	protected boolean getGenerateInlines() {
 		return this.generateInlines;
@@ -283,6 +339,10 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		buffer.append("generateToStringFunctions = ").append(this.generateToStringFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateCloneFunctions = ").append(this.generateCloneFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateSerialNumberFields = ").append(this.generateSerialNumberFields).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("incremental = ").append(this.incremental).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("parallelism = ").append(this.parallelism).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("daemonPort = ").append(this.daemonPort).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("profilingReport = ").append(this.profilingReport).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 	}
 
 	@Override
@@ -64,7 +64,9 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.impl.StaticLoggerBinder;
 
 import io.sarl.lang.SARLStandaloneSetup;
+import io.sarl.lang.compiler.batch.CompilationDaemon;
 import io.sarl.lang.compiler.batch.IJavaBatchCompiler;
+import io.sarl.lang.compiler.batch.IncrementalBuildState;
 import io.sarl.lang.compiler.batch.OptimizationLevel;
 import io.sarl.lang.compiler.batch.SarlBatchCompiler;
 
@@ -207,6 +209,34 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 	 */
 	protected abstract OptimizationLevel getOptimization();
 
+	/** Replies if the SARL compiler must compile incrementally.
+	 *
+	 * @return {@code true} for compiling incrementally.
+	 * @since 0.9
+	 */
+	protected abstract boolean getIncremental();
+
+	/** Replies the number of threads that are used by the SARL compiler.
+	 *
+	 * @return the number of threads; or a value lower than {@code 1} for using all the available processors.
+	 * @since 0.9
+	 */
+	protected abstract int getParallelism();
+
+	/** Replies the port of the SARL compilation daemon on the local host.
+	 *
+	 * @return the port; or {@code 0} for compiling without the daemon.
+	 * @since 0.9
+	 */
+	protected abstract int getDaemonPort();
+
+	/** Replies the file in which the profiling report of the SARL compilation is written.
+	 *
+	 * @return the file; or {@code null} for compiling without profiling.
+	 * @since 0.9
+	 */
+	protected abstract File getProfilingReport();
+
 	/** Replies if the mojo is used within a test code compilation context.
 	 *
 	 * @return {@code true} if this mojo is used within a test phase.
@@ -259,6 +289,20 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 		compiler.setGenerateToStringFunctions(getGenerateToStringFunctions());
 		compiler.setGenerateCloneFunctions(getGenerateCloneFunctions());
 		compiler.setGenerateSerialNumberFields(getGenerateSerialNumberFields());
+		compiler.setIncrementalCompilation(getIncremental());
+		compiler.setParallelism(getParallelism());
+		if (getIncremental()) {
+			final String buildStateFilename = isTestContext()
+					? IncrementalBuildState.DEFAULT_FILENAME + "-test" : IncrementalBuildState.DEFAULT_FILENAME; //$NON-NLS-1$
+			compiler.setBuildStateFile(new File(getTempDirectory(), buildStateFilename));
+		}
+		if (getDaemonPort() > 0) {
+			compiler.setCompilationDaemon(CompilationDaemon.getLocalAddress(getDaemonPort()));
+		}
+		final File profilingReport = getProfilingReport();
+		if (profilingReport != null) {
+			compiler.setProfilingReport(isTestContext() ? toTestFile(profilingReport) : profilingReport);
+		}
 
 		final StringBuilder builder = new StringBuilder();
 		for (final String identifier : getExtraGenerators()) {
@@ -365,6 +409,24 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 		return values;
 	}
 
+	/** Replies the given file with a "-test" suffix before its extension, for separating the files
+	 * of the test compilation from those of the main compilation.
+	 *
+	 * @param file the file.
+	 * @return the file of the test compilation.
+	 */
+	private static File toTestFile(File file) {
+		final String name = file.getName();
+		final int index = name.lastIndexOf('.');
+		final String testName;
+		if (index > 0) {
+			testName = name.substring(0, index) + "-test" + name.substring(index); //$NON-NLS-1$
+		} else {
+			testName = name + "-test"; //$NON-NLS-1$
+		}
+		return new File(file.getParentFile(), testName);
+	}
+
 	/** Replies temporary directory.
 	 *
 	 * @return the temporary directory.
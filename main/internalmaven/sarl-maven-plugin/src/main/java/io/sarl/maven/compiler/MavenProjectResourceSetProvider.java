@@ -25,7 +25,7 @@ import javax.inject.Provider;
 
 import org.apache.maven.project.MavenProject;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 
 /** provider of resource sets when comilig with Maven.
  *
@@ -49,7 +49,8 @@ class MavenProjectResourceSetProvider implements Provider<ResourceSet> {
 
 	@Override
 	public ResourceSet get() {
-		final ResourceSet rs = new XtextResourceSet();
+		// A synchronized resource set is required by the parallel compilation.
+		final ResourceSet rs = new SynchronizedXtextResourceSet();
 		MavenProjectAdapter.install(rs, this.project);
 		return rs;
 	}
@@ -36,6 +36,7 @@ import me.tongfei.progressbar.ProgressBarStyle;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.xtext.diagnostics.Severity;
 
+import io.sarl.lang.compiler.batch.CompilationDaemon;
 import io.sarl.lang.compiler.batch.SarlBatchCompiler;
 import io.sarl.lang.sarlc.Constants;
 import io.sarl.lang.sarlc.configs.ProgressBarConfig;
@@ -104,6 +105,11 @@ public class CompilerCommand extends CommandWithMetadata {
 		comp.setClassOutputPath(paths.getClassOutputPath());
 		comp.setTempDirectory(paths.getWorkingPath());
 
+		final int daemonPort = config.getCompiler().getDaemonPort();
+		if (daemonPort > 0) {
+			comp.setCompilationDaemon(CompilationDaemon.getLocalAddress(daemonPort));
+		}
+
 		for (final String cliArg : cli.standaloneArguments()) {
 			comp.addSourcePath(cliArg);
 		}
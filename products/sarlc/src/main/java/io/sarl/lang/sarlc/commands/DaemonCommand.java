@@ -0,0 +1,99 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.sarlc.commands;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+
+import com.google.inject.Provider;
+import io.bootique.cli.Cli;
+import io.bootique.command.CommandOutcome;
+import io.bootique.command.CommandWithMetadata;
+import io.bootique.meta.application.CommandMetadata;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+import io.sarl.lang.compiler.batch.CompilationDaemon;
+import io.sarl.lang.compiler.batch.SarlBatchCompiler;
+import io.sarl.lang.sarlc.Constants;
+import io.sarl.lang.sarlc.configs.SarlConfig;
+import io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig;
+
+/**
+ * Command for running the compilation daemon.
+ *
+ * <p>The daemon keeps the SARL compiler warm between the compilations that are requested
+ * by the other instances of sarlc, and by the SARL maven plugin.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class DaemonCommand extends CommandWithMetadata {
+
+	/** Name of the option for running the compilation daemon.
+	 */
+	public static final String DAEMON_OPTION_NAME = "daemon"; //$NON-NLS-1$
+
+	private final Provider<SarlBatchCompiler> compiler;
+
+	private final Provider<SarlConfig> configuration;
+
+	private final javax.inject.Provider<ResourceSet> resourceSetProvider;
+
+	/** Constructor.
+	 *
+	 * @param compiler the SARL batch compiler.
+	 * @param configuration the configuration of the tool.
+	 * @param resourceSetProvider the provider of the resource sets that are used by the daemon.
+	 */
+	public DaemonCommand(Provider<SarlBatchCompiler> compiler, Provider<SarlConfig> configuration,
+			javax.inject.Provider<ResourceSet> resourceSetProvider) {
+		super(CommandMetadata
+				.builder(DaemonCommand.class)
+				.description(Messages.DaemonCommand_0)
+				.name(DAEMON_OPTION_NAME));
+		this.compiler = compiler;
+		this.configuration = configuration;
+		this.resourceSetProvider = resourceSetProvider;
+	}
+
+	@Override
+	public CommandOutcome run(Cli cli) {
+		final CompilerConfig config = this.configuration.get().getCompiler();
+		try (CompilationDaemon daemon = new CompilationDaemon(this.compiler)) {
+			daemon.setLogger(this.compiler.get().getLogger());
+			// A synchronized resource set is required by the parallel compilations.
+			daemon.setResourceSetProvider(this.resourceSetProvider);
+			daemon.setIdleTimeout((int) TimeUnit.SECONDS.toMillis(config.getDaemonIdleTimeout()));
+			final int port = daemon.start(config.getDaemonPort() > 0 ? config.getDaemonPort() : CompilationDaemon.DEFAULT_PORT);
+			daemon.getLogger().info(MessageFormat.format(Messages.DaemonCommand_1, Integer.toString(port)));
+			daemon.run();
+		} catch (IOException exception) {
+			return CommandOutcome.failed(Constants.ERROR_CODE, exception);
+		}
+		return CommandOutcome.succeeded();
+	}
+
+}
@@ -21,13 +21,16 @@
 
 package io.sarl.lang.sarlc.configs.subconfigs;
 
+import java.io.File;
 import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
 
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 
 import io.sarl.lang.SARLVersion;
 import io.sarl.lang.compiler.GeneratorConfig2;
+import io.sarl.lang.compiler.batch.CompilationDaemon;
 import io.sarl.lang.compiler.batch.OptimizationLevel;
 import io.sarl.lang.sarlc.configs.SarlConfig;
 
@@ -115,6 +118,41 @@ public class CompilerConfig {
 	 */
 	public static final String COMPRESS_INLINE_EXPRESSIONS_NAME = PREFIX + ".compressInlineExpressions"; //$NON-NLS-1$
 
+	/**
+	 * Name of the property that indicates if the compilation is incremental.
+	 *
+	 * @since 0.9
+	 */
+	public static final String INCREMENTAL_NAME = PREFIX + ".incremental"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the number of threads used by the compiler.
+	 *
+	 * @since 0.9
+	 */
+	public static final String PARALLELISM_NAME = PREFIX + ".parallelism"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the port of the compilation daemon.
+	 *
+	 * @since 0.9
+	 */
+	public static final String DAEMON_PORT_NAME = PREFIX + ".daemonPort"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the duration after which an idle compilation daemon is stopped.
+	 *
+	 * @since 0.9
+	 */
+	public static final String DAEMON_IDLE_TIMEOUT_NAME = PREFIX + ".daemonIdleTimeout"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the file of the profiling report of the compilation.
+	 *
+	 * @since 0.9
+	 */
+	public static final String PROFILING_REPORT_NAME = PREFIX + ".profilingReport"; //$NON-NLS-1$
+
 	private String fileEncoding;
 
 	private String javaVersion = SARLVersion.MINIMAL_JDK_VERSION;
@@ -141,6 +179,111 @@ public class CompilerConfig {
 
 	private boolean compressInlineExpressions = GeneratorConfig2.DEFAULT_USE_EXPRESSION_INTERPRETER_FOR_INLINE_ANNOTATION;
 
+	private boolean incremental;
+
+	private int parallelism = 1;
+
+	private int daemonPort;
+
+	private int daemonIdleTimeout = (int) TimeUnit.MILLISECONDS.toSeconds(CompilationDaemon.DEFAULT_IDLE_TIMEOUT);
+
+	private File profilingReport;
+
+	/** Replies the file in which the profiling report of the compilation is written.
+	 *
+	 * @return the file, or {@code null} if the compilation is not profiled.
+	 * @since 0.9
+	 */
+	public File getProfilingReport() {
+		return this.profilingReport;
+	}
+
+	/** Change the file in which the profiling report of the compilation is written.
+	 *
+	 * @param file the file, or {@code null} if the compilation is not profiled.
+	 * @since 0.9
+	 */
+	@BQConfigProperty("File in which the profiling report of the compilation is written (JSON, or CSV for the .csv extension)")
+	public void setProfilingReport(File file) {
+		this.profilingReport = file;
+	}
+
+	/** Replies the port of the compilation daemon.
+	 *
+	 * @return the port, or {@code 0} if the compilation daemon is not used.
+	 * @since 0.9
+	 */
+	public int getDaemonPort() {
+		return this.daemonPort;
+	}
+
+	/** Change the port of the compilation daemon.
+	 *
+	 * @param port the port, or {@code 0} if the compilation daemon is not used.
+	 * @since 0.9
+	 */
+	@BQConfigProperty("Port of the compilation daemon")
+	public void setDaemonPort(int port) {
+		this.daemonPort = port;
+	}
+
+	/** Replies the duration after which an idle compilation daemon is stopped.
+	 *
+	 * @return the duration in seconds; or {@code 0} if the daemon is never stopped.
+	 * @since 0.9
+	 */
+	public int getDaemonIdleTimeout() {
+		return this.daemonIdleTimeout;
+	}
+
+	/** Change the duration after which an idle compilation daemon is stopped.
+	 *
+	 * @param timeout the duration in seconds; or {@code 0} if the daemon is never stopped.
+	 * @since 0.9
+	 */
+	@BQConfigProperty("Duration in seconds after which an idle compilation daemon is stopped")
+	public void setDaemonIdleTimeout(int timeout) {
+		this.daemonIdleTimeout = timeout;
+	}
+
+	/** Replies the number of threads used by the compiler for validating and generating the files.
+	 *
+	 * @return the number of threads; or a value lower than {@code 1} for using all the available processors.
+	 * @since 0.9
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/** Change the number of threads used by the compiler for validating and generating the files.
+	 *
+	 * @param parallelism the number of threads; or a value lower than {@code 1} for using all the available processors.
+	 * @since 0.9
+	 */
+	@BQConfigProperty("Number of threads used for validating and generating the files")
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/** Replies if the compilation is incremental.
+	 *
+	 * @return {@code true} if only the changed files and the files depending on them are compiled.
+	 * @since 0.9
+	 */
+	public boolean getIncremental() {
+		return this.incremental;
+	}
+
+	/** Change the flag that indicates if the compilation is incremental.
+	 *
+	 * @param enable {@code true} if only the changed files and the files depending on them are compiled.
+	 * @since 0.9
+	 */
+	@BQConfigProperty("Enable or disable the incremental compilation")
+	public void setIncremental(boolean enable) {
+		this.incremental = enable;
+	}
+
 	/** Replies if the inline expressions should be compressed on the fly.
 	 *
 	 * @return {@code true} if the expressions are compressed.
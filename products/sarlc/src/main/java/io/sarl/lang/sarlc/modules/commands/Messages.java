@@ -36,6 +36,7 @@ public class Messages extends NLS {
 	private static final String BUNDLE_NAME = Messages.class.getPackage().getName() + ".messages"; //$NON-NLS-1$
 	public static String CompilerCommandModuleProvider_0;
 	public static String CompilerCommandModule_0;
+	public static String DaemonCommandModuleProvider_0;
 	public static String ExtraLanguageListCommandModuleProvider_0;
 	public static String VersionCommandModuleProvider_0;
 	static {
@@ -23,6 +23,8 @@ package io.sarl.lang.sarlc.modules.configs;
 
 import static io.bootique.BQCoreModule.extend;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.COMPRESS_INLINE_EXPRESSIONS_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.DAEMON_IDLE_TIMEOUT_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.DAEMON_PORT_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.FILE_ENCODING_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_CLONE_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_EQUALITY_TESTS_NAME;
@@ -30,13 +32,17 @@ import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_INLI
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_PURES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_SERIAL_IDS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_TOSTRING_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.INCREMENTAL_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_COMPILER_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.JAVA_VERSION_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.OUTPUT_STORAGES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.OUTPUT_TRACES_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.PARALLELISM_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.PROFILING_REPORT_NAME;
 
 import java.nio.charset.Charset;
 import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Injector;
@@ -48,6 +54,7 @@ import org.arakhne.afc.bootique.variables.VariableDecls;
 
 import io.sarl.lang.SARLVersion;
 import io.sarl.lang.compiler.GeneratorConfig2;
+import io.sarl.lang.compiler.batch.CompilationDaemon;
 import io.sarl.lang.compiler.batch.IJavaBatchCompiler;
 import io.sarl.lang.sarlc.configs.SarlConfig;
 import io.sarl.lang.sarlc.configs.subconfigs.JavaCompiler;
@@ -178,6 +185,48 @@ public class CompilerConfigModule extends AbstractModule {
 				.valueOptional(trueFalseValues)
 				.defaultValue(Boolean.toString(GeneratorConfig2.DEFAULT_GENERATE_SERIAL_NUMBER_FIELD))
 				.build());
+
+		VariableDecls.extend(binder()).declareVar(INCREMENTAL_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				"incremental", //$NON-NLS-1$
+				MessageFormat.format(Messages.CompilerConfigModule_14, Boolean.FALSE))
+				.configPath(INCREMENTAL_NAME)
+				.valueOptional(trueFalseValues)
+				.defaultValue(Boolean.FALSE.toString())
+				.build());
+
+		VariableDecls.extend(binder()).declareVar(PARALLELISM_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				"parallelism", //$NON-NLS-1$
+				Messages.CompilerConfigModule_15)
+				.configPath(PARALLELISM_NAME)
+				.valueRequired(Messages.CompilerConfigModule_16)
+				.build());
+
+		VariableDecls.extend(binder()).declareVar(DAEMON_PORT_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				"daemon-port", //$NON-NLS-1$
+				MessageFormat.format(Messages.CompilerConfigModule_17, CompilationDaemon.DEFAULT_PORT))
+				.configPath(DAEMON_PORT_NAME)
+				.valueRequired(Messages.CompilerConfigModule_18)
+				.build());
+
+		VariableDecls.extend(binder()).declareVar(DAEMON_IDLE_TIMEOUT_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				"daemon-idle-timeout", //$NON-NLS-1$
+				MessageFormat.format(Messages.CompilerConfigModule_19,
+						TimeUnit.MILLISECONDS.toSeconds(CompilationDaemon.DEFAULT_IDLE_TIMEOUT)))
+				.configPath(DAEMON_IDLE_TIMEOUT_NAME)
+				.valueRequired(Messages.CompilerConfigModule_20)
+				.build());
+
+		VariableDecls.extend(binder()).declareVar(PROFILING_REPORT_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				"profiling-report", //$NON-NLS-1$
+				Messages.CompilerConfigModule_21)
+				.configPath(PROFILING_REPORT_NAME)
+				.valueRequired(Messages.CompilerConfigModule_22)
+				.build());
 	}
 
 	/** Provide a Java batch compiler based on the Bootique configuration.
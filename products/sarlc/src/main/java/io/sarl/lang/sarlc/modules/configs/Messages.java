@@ -58,6 +58,15 @@ public class Messages extends NLS {
 	public static String CompilerConfigModule_11;
 	public static String CompilerConfigModule_12;
 	public static String CompilerConfigModule_13;
+	public static String CompilerConfigModule_14;
+	public static String CompilerConfigModule_15;
+	public static String CompilerConfigModule_16;
+	public static String CompilerConfigModule_17;
+	public static String CompilerConfigModule_18;
+	public static String CompilerConfigModule_19;
+	public static String CompilerConfigModule_20;
+	public static String CompilerConfigModule_21;
+	public static String CompilerConfigModule_22;
 	public static String CompilerConfigModuleProvider_0;
 	public static String ValidatorConfigModule_0;
 	public static String ValidatorConfigModule_1;
@@ -30,6 +30,7 @@ import com.google.inject.Provider;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.util.Strings;
 
 import io.sarl.lang.compiler.batch.IJavaBatchCompiler;
@@ -130,6 +131,13 @@ public class SarlBatchCompilerModule extends AbstractModule {
 		compiler.setGenerateToStringFunctions(compilerConfig.getGenerateToString());
 		compiler.setGenerateCloneFunctions(compilerConfig.getGenerateClone());
 		compiler.setGenerateSerialNumberFields(compilerConfig.getGenerateSerialIds());
+		compiler.setIncrementalCompilation(compilerConfig.getIncremental());
+		compiler.setParallelism(compilerConfig.getParallelism());
+		if (compilerConfig.getParallelism() != 1) {
+			// A synchronized resource set is required by the parallel compilation.
+			compiler.setResourceSetProvider(() -> injector.getInstance(SynchronizedXtextResourceSet.class));
+		}
+		compiler.setProfilingReport(compilerConfig.getProfilingReport());
 
 		if (validatorConfig.getAllErrors()) {
 			compiler.setAllWarningSeverities(Severity.ERROR);
@@ -267,6 +267,163 @@ public final class JanusConfig {
      */
     public static final String JANUS_PROGRAM_NAME_VALUE = "janus"; //$NON-NLS-1$
 
+    /**
+     * Name of the property that indicates if the instances of the recyclable agents are pooled and reused.
+     *
+     * @see #AGENT_RECYCLING_VALUE
+     * @see io.sarl.lang.annotation.Recyclable
+     * @since 0.9
+     */
+    public static final String AGENT_RECYCLING_NAME = "janus.agents.recycling"; //$NON-NLS-1$
+
+    /**
+     * Indicates if the instances of the recyclable agents are pooled and reused.
+     *
+     * @see #AGENT_RECYCLING_NAME
+     * @since 0.9
+     */
+    public static final Boolean AGENT_RECYCLING_VALUE = Boolean.FALSE;
+
+    /**
+     * Name of the property that contains the maximal number of pooled instances per recyclable agent type.
+     *
+     * @see #AGENT_POOL_SIZE_VALUE
+     * @since 0.9
+     */
+    public static final String AGENT_POOL_SIZE_NAME = "janus.agents.recycling.poolSize"; //$NON-NLS-1$
+
+    /**
+     * Indicates the maximal number of pooled instances per recyclable agent type.
+     *
+     * @see #AGENT_POOL_SIZE_NAME
+     * @since 0.9
+     */
+    public static final int AGENT_POOL_SIZE_VALUE = 1024;
+
+    /**
+     * Name of the property that indicates if the log records are written by a background thread.
+     *
+     * @see #ASYNCHRONOUS_LOGGING_VALUE
+     * @since 0.9
+     */
+    public static final String ASYNCHRONOUS_LOGGING_NAME = "janus.logging.async"; //$NON-NLS-1$
+
+    /**
+     * Indicates if the log records are written by a background thread.
+     *
+     * @see #ASYNCHRONOUS_LOGGING_NAME
+     * @since 0.9
+     */
+    public static final Boolean ASYNCHRONOUS_LOGGING_VALUE = Boolean.FALSE;
+
+    /**
+     * Name of the property that contains the maximal number of log records that are waiting for
+     * the background logging thread.
+     *
+     * @see #ASYNCHRONOUS_LOGGING_QUEUE_SIZE_VALUE
+     * @since 0.9
+     */
+    public static final String ASYNCHRONOUS_LOGGING_QUEUE_SIZE_NAME = "janus.logging.async.queueSize"; //$NON-NLS-1$
+
+    /**
+     * Indicates the maximal number of log records that are waiting for the background logging thread.
+     *
+     * @see #ASYNCHRONOUS_LOGGING_QUEUE_SIZE_NAME
+     * @since 0.9
+     */
+    public static final int ASYNCHRONOUS_LOGGING_QUEUE_SIZE_VALUE = 8192;
+
+    /**
+     * Name of the property that contains the maximal number of log records that are written
+     * by the background logging thread before flushing the outputs.
+     *
+     * @see #ASYNCHRONOUS_LOGGING_BATCH_SIZE_VALUE
+     * @since 0.9
+     */
+    public static final String ASYNCHRONOUS_LOGGING_BATCH_SIZE_NAME = "janus.logging.async.batchSize"; //$NON-NLS-1$
+
+    /**
+     * Indicates the maximal number of log records that are written by the background logging thread
+     * before flushing the outputs.
+     *
+     * @see #ASYNCHRONOUS_LOGGING_BATCH_SIZE_NAME
+     * @since 0.9
+     */
+    public static final int ASYNCHRONOUS_LOGGING_BATCH_SIZE_VALUE = 256;
+
+    /**
+     * Name of the property that indicates if the behavior units of an agent are run inline, i.e.
+     * sequentially within the thread that synchronously dispatches the event to the agent.
+     *
+     * @see #INLINE_BEHAVIOR_UNIT_EXECUTION_VALUE
+     * @since 0.9
+     */
+    public static final String INLINE_BEHAVIOR_UNIT_EXECUTION_NAME = "janus.agents.events.inline"; //$NON-NLS-1$
+
+    /**
+     * Indicates if the behavior units of an agent are run inline, i.e.
+     * sequentially within the thread that synchronously dispatches the event to the agent.
+     *
+     * @see #INLINE_BEHAVIOR_UNIT_EXECUTION_NAME
+     * @since 0.9
+     */
+    public static final Boolean INLINE_BEHAVIOR_UNIT_EXECUTION_VALUE = Boolean.FALSE;
+
+    /**
+     * Name of the property that contains the maximal number of participants to which an event is delivered
+     * by a single task of the executor service when the event is emitted into a space.
+     * More participants may be delivered by a single task when the number of tasks would exceed the
+     * maximal number of threads in the executor service.
+     *
+     * @see #EVENT_FAN_OUT_CHUNK_SIZE_VALUE
+     * @since 0.9
+     */
+    public static final String EVENT_FAN_OUT_CHUNK_SIZE_NAME = "janus.spaces.events.chunkSize"; //$NON-NLS-1$
+
+    /**
+     * Indicates the maximal number of participants to which an event is delivered
+     * by a single task of the executor service when the event is emitted into a space.
+     *
+     * @see #EVENT_FAN_OUT_CHUNK_SIZE_NAME
+     * @since 0.9
+     */
+    public static final int EVENT_FAN_OUT_CHUNK_SIZE_VALUE = 64;
+
+    /**
+     * Name of the property that contains the size of the cells of the spatial index
+     * of the spatial event spaces.
+     *
+     * @see #SPATIAL_SPACE_CELL_SIZE_VALUE
+     * @since 0.9
+     */
+    public static final String SPATIAL_SPACE_CELL_SIZE_NAME = "janus.spaces.spatial.cellSize"; //$NON-NLS-1$
+
+    /**
+     * Indicates the size of the cells of the spatial index of the spatial event spaces.
+     *
+     * @see #SPATIAL_SPACE_CELL_SIZE_NAME
+     * @since 0.9
+     */
+    public static final float SPATIAL_SPACE_CELL_SIZE_VALUE = 10f;
+
+    /**
+     * Name of the property that contains the maximal number of tasks with a low priority
+     * that are run in parallel by the executor service.
+     *
+     * @see #LOW_PRIORITY_TASK_PARALLELISM_VALUE
+     * @see io.sarl.lang.annotation.DeliveryPriority
+     * @since 0.9
+     */
+    public static final String LOW_PRIORITY_TASK_PARALLELISM_NAME = "janus.executors.lowPriorityParallelism"; //$NON-NLS-1$
+
+    /**
+     * Indicates the maximal number of tasks with a low priority that are run in parallel by the executor service.
+     *
+     * @see #LOW_PRIORITY_TASK_PARALLELISM_NAME
+     * @since 0.9
+     */
+    public static final int LOW_PRIORITY_TASK_PARALLELISM_VALUE = 4;
+
 	private JanusConfig() {
         //
     }
@@ -295,6 +452,15 @@ public final class JanusConfig {
         defaultValues.put(INJECTION_MODULE_NAME, INJECTION_MODULE_NAME_VALUE);
         defaultValues.put(JANUS_LOGO_SHOW_NAME, JANUS_LOGO_SHOW.toString());
         defaultValues.put(JANUS_PROGRAM_NAME, JANUS_PROGRAM_NAME_VALUE);
+        defaultValues.put(AGENT_RECYCLING_NAME, AGENT_RECYCLING_VALUE.toString());
+        defaultValues.put(AGENT_POOL_SIZE_NAME, Integer.toString(AGENT_POOL_SIZE_VALUE));
+        defaultValues.put(ASYNCHRONOUS_LOGGING_NAME, ASYNCHRONOUS_LOGGING_VALUE.toString());
+        defaultValues.put(ASYNCHRONOUS_LOGGING_QUEUE_SIZE_NAME, Integer.toString(ASYNCHRONOUS_LOGGING_QUEUE_SIZE_VALUE));
+        defaultValues.put(ASYNCHRONOUS_LOGGING_BATCH_SIZE_NAME, Integer.toString(ASYNCHRONOUS_LOGGING_BATCH_SIZE_VALUE));
+        defaultValues.put(INLINE_BEHAVIOR_UNIT_EXECUTION_NAME, INLINE_BEHAVIOR_UNIT_EXECUTION_VALUE.toString());
+        defaultValues.put(EVENT_FAN_OUT_CHUNK_SIZE_NAME, Integer.toString(EVENT_FAN_OUT_CHUNK_SIZE_VALUE));
+        defaultValues.put(SPATIAL_SPACE_CELL_SIZE_NAME, Float.toString(SPATIAL_SPACE_CELL_SIZE_VALUE));
+        defaultValues.put(LOW_PRIORITY_TASK_PARALLELISM_NAME, Integer.toString(LOW_PRIORITY_TASK_PARALLELISM_VALUE));
     }
 
     /**
@@ -25,6 +25,7 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,6 +42,8 @@ import io.sarl.core.Destroy;
 import io.sarl.core.Initialize;
 import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentContext;
+import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.DynamicSkillProvider;
 import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.core.Skill.UninstallationStage;
@@ -49,12 +52,16 @@ import io.sarl.lang.util.ClearableReference;
 /**
  * Implementation of the agent's cycle.
  *
+ * <p>This object is also the provider of the builtin skills that are not installed
+ * at the agent creation. These skills are created, mapped and installed on the first
+ * access to their capacities.
+ *
  * @author $Author: sgalland$
  * @version $FullVersion$
  * @mavengroupid $GroupId$
  * @mavenartifactid $ArtifactId$
  */
-class AgentLifeCycleSupport implements SpawnServiceListener {
+class AgentLifeCycleSupport implements SpawnServiceListener, DynamicSkillProvider {
 
 	private static final Comparator<BuiltinSkill> ORDER_COMPARATOR = new OrderComparator();
 
@@ -66,21 +73,50 @@ class AgentLifeCycleSupport implements SpawnServiceListener {
 
 	private final InternalEventBusCapacity eventBusCapacity;
 
+	private final StandardBuiltinCapacitiesProvider skillFactory;
+
+	private boolean skillsInstalled;
+
 	/** Constructor.
 	 * @param agentID the identifier the agent for which this class is created.
 	 * @param spawnService the agent spawning service.
 	 * @param eventBusCapacity the capacity of the agent to manage an internal bus.
+	 * @param skillFactory the factory of the builtin skills that are lazily created.
 	 */
-	AgentLifeCycleSupport(UUID agentID, SpawnService spawnService, InternalEventBusCapacity eventBusCapacity) {
+	AgentLifeCycleSupport(UUID agentID, SpawnService spawnService, InternalEventBusCapacity eventBusCapacity,
+			StandardBuiltinCapacitiesProvider skillFactory) {
 		this.agentID = agentID;
 		this.spawnService = new WeakReference<>(spawnService);
 		this.eventBusCapacity = eventBusCapacity;
+		this.skillFactory = skillFactory;
+	}
+
+	@Override
+	public synchronized ClearableReference<Skill> installSkill(Agent agent, Class<? extends Capacity> capacity) {
+		final Map<Class<? extends Capacity>, ClearableReference<Skill>> repository = SREutils.getSkillRepository(agent);
+		ClearableReference<Skill> reference = repository.get(capacity);
+		if (reference == null) {
+			final BuiltinSkill skill = this.skillFactory.createBuiltinSkill(agent, capacity,
+					this.eventBusCapacity.getInnerDefaultSpaceAddress());
+			if (skill == null) {
+				return null;
+			}
+			reference = SREutils.createSkillMapping(agent, capacity, skill);
+			// The skills that are created before the agent's spawn are installed with the other skills.
+			if (this.skillsInstalled) {
+				SREutils.doSkillInstallation(skill);
+			}
+		}
+		return reference;
 	}
 
 	@Override
 	public void agentSpawned(UUID spawningAgent, AgentContext parent, List<Agent> spawnedAgent, Object[] initializationParameters) {
 		// Install the skills
-		installSkills(spawnedAgent.get(0));
+		synchronized (this) {
+			this.skillsInstalled = true;
+			installSkills(spawnedAgent.get(0));
+		}
 		// Notify the agent about its creation.
 		final Initialize init = new Initialize(spawningAgent, initializationParameters);
 		this.eventBusCapacity.selfEvent(init);
@@ -101,8 +137,22 @@ class AgentLifeCycleSupport implements SpawnServiceListener {
 		// Assume event handlers were run after returning from the selfEvent function.
 		this.eventBusCapacity.selfEvent(new Destroy());
 
+		// The builtin skills that were lazily created by the event handlers have not passed the prestage.
+		final Iterable<? extends Skill> allSkills = getAllSkills(agent, true);
+		final Map<Skill, Boolean> prestagedSkills = new IdentityHashMap<>();
+		for (final Skill skill : skills) {
+			prestagedSkills.put(skill, Boolean.TRUE);
+		}
+		final List<Skill> lateSkills = new ArrayList<>();
+		for (final Skill skill : allSkills) {
+			if (!prestagedSkills.containsKey(skill)) {
+				lateSkills.add(skill);
+			}
+		}
+		uninstallSkillsPreStage(lateSkills);
+
 		// Final stage for uninstalling the skills (BIC and user defined)
-		uninstallSkillsFinalStage(skills);
+		uninstallSkillsFinalStage(allSkills);
 	}
 
 	@SuppressWarnings({"checkstyle:npathcomplexity"})
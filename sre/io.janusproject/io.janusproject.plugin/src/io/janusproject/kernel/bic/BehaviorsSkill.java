@@ -31,10 +31,10 @@ import io.sarl.core.InnerContextAccess;
 import io.sarl.core.Schedules;
 import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.Behavior;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventListener;
-import io.sarl.lang.core.EventSpace;
 import io.sarl.lang.core.Scope;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.util.ClearableReference;
@@ -55,7 +55,7 @@ public class BehaviorsSkill extends BuiltinSkill implements Behaviors {
 
 	private static int installationOrder = -1;
 
-	private final Address agentAddressInInnerDefaultSpace;
+	private Address agentAddressInInnerDefaultSpace;
 
 	private ClearableReference<Skill> skillBufferInternalEventBusCapacity;
 
@@ -113,6 +113,11 @@ public class BehaviorsSkill extends BuiltinSkill implements Behaviors {
 		return installationOrder;
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		this.agentAddressInInnerDefaultSpace = addressInInnerDefaultSpace;
+	}
+
 	@Override
 	public boolean hasRegisteredBehavior() {
 		return getSkill(InternalEventBusCapacity.class).hasRegisteredEventListener(Behavior.class);
@@ -152,23 +157,10 @@ public class BehaviorsSkill extends BuiltinSkill implements Behaviors {
 		// the agent via the inner default space add call internalReceiveEvent
 		// for real posting
 
-		final InnerContextAccess context = getInnerContextAccessSkill();
-
-		if ((!(context instanceof InnerContextSkill)) || ((InnerContextSkill) context).hasInnerContext()) {
-			final EventSpace defSpace = context.getInnerContext().getDefaultSpace();
-			defSpace.emit(getID(), evt, scope);
-		} else {
-			// Do not call getInnerContext(), which is creating the inner context automatically.
-			// In place, try to send the event inside the agent only (and its behaviors).
-			final InternalEventBusCapacity eventBus = getSkill(InternalEventBusCapacity.class);
-			if (scope == null || scope.matches(eventBus.getInnerDefaultSpaceAddress())) {
-				final EventListener listener = eventBus.asEventListener();
-				assert listener != null;
-				evt.setSource(this.agentAddressInInnerDefaultSpace);
-				listener.receiveEvent(evt);
-			}
-		}
-
+		// The inner context is not created for sending the event. If it does not exist,
+		// the event is sent inside the agent only (and its behaviors).
+		BuiltinCapacityUtil.wake(getOwner(), getInternalEventBusCapacitySkill(), this.agentAddressInInnerDefaultSpace,
+				evt, scope);
 	}
 
 	@Override
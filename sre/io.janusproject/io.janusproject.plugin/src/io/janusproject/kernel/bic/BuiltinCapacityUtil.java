@@ -23,9 +23,15 @@ package io.janusproject.kernel.bic;
 
 import io.sarl.core.ExternalContextAccess;
 import io.sarl.core.InnerContextAccess;
+import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentContext;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventListener;
 import io.sarl.lang.core.SREutils;
+import io.sarl.lang.core.Scope;
+import io.sarl.lang.core.Skill;
+import io.sarl.lang.util.ClearableReference;
 import io.sarl.lang.util.SynchronizedIterable;
 
 /**
@@ -58,13 +64,18 @@ public final class BuiltinCapacityUtil {
 	/**
 	 * Replies the inner context of the agent, if it was created.
 	 *
+	 * <p>The skill that provides the inner context is searched within the skills that are
+	 * already installed in the agent. It is not created, nor installed, if the agent has never used it.
+	 *
 	 * @param agent the agent for which the inner context must be retreived.
 	 * @return the inner context, or <code>null</code>.
-	 * @throws Exception - when it is not possible to retreive the inner context.
 	 */
-	public static AgentContext getContextIn(Agent agent) throws Exception {
-		final InnerContextAccess skill = SREutils.getInternalSkill(agent, InnerContextAccess.class);
-
+	public static AgentContext getContextIn(Agent agent) {
+		final ClearableReference<Skill> reference = SREutils.getSkillRepository(agent).get(InnerContextAccess.class);
+		if (reference == null) {
+			return null;
+		}
+		final Skill skill = reference.get();
 		if (skill instanceof InnerContextSkill) {
 			final InnerContextSkill janusSkill = (InnerContextSkill) skill;
 			if (janusSkill.hasInnerContext()) {
@@ -72,10 +83,39 @@ public final class BuiltinCapacityUtil {
 			}
 			return null;
 		}
-		if (skill == null) {
-			return null;
+		if (skill instanceof InnerContextAccess) {
+			return ((InnerContextAccess) skill).getInnerContext();
+		}
+		return null;
+	}
+
+	/**
+	 * Wake the given agent, its behaviors and the members of its inner context with the given event.
+	 *
+	 * <p>The event is emitted into the default space of the inner context if this context was created.
+	 * Otherwise, the event is given to the agent and its behaviors only. The inner context is not created.
+	 *
+	 * @param agent the agent to wake up.
+	 * @param eventBus the internal event bus of the agent.
+	 * @param agentAddressInInnerDefaultSpace the address of the agent in its inner default space.
+	 * @param event the event to fire.
+	 * @param scope the scope of the event, or {@code null} for all the receivers.
+	 * @since 0.9
+	 */
+	static void wake(Agent agent, InternalEventBusCapacity eventBus, Address agentAddressInInnerDefaultSpace,
+			Event event, Scope<Address> scope) {
+		final AgentContext innerContext = getContextIn(agent);
+		if (innerContext != null) {
+			innerContext.getDefaultSpace().emit(agent.getID(), event, scope);
+		} else {
+			// The event is sent inside the agent only (and its behaviors).
+			if (scope == null || scope.matches(agentAddressInInnerDefaultSpace)) {
+				final EventListener listener = eventBus.asEventListener();
+				assert listener != null;
+				event.setSource(agentAddressInInnerDefaultSpace);
+				listener.receiveEvent(event);
+			}
 		}
-		return skill.getInnerContext();
 	}
 
 }
@@ -21,7 +21,9 @@
 
 package io.janusproject.kernel.bic;
 
+import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.Skill;
 
 /**
@@ -72,4 +74,19 @@ public abstract class BuiltinSkill extends Skill {
 	 */
 	public abstract int getInstallationOrder();
 
+	/** Reset the state of this skill in order to reuse it with a recycled owner.
+	 *
+	 * <p>This function is invoked after the owner agent was destroyed, i.e. after the uninstallation
+	 * stages of this skill, and after the identifiers of the owner agent were changed.
+	 * The skill will be installed again before the owner receives its {@code Initialize} event.
+	 * The skill must forget any reference to the previous life of the owner.
+	 *
+	 * @param addressInInnerDefaultSpace the new address of the owner in its inner default space.
+	 * @param parentContext the context in which the owner is spawned.
+	 * @since 0.9
+	 */
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		//
+	}
+
 }
@@ -104,6 +104,13 @@ public class DefaultContextInteractionsSkill extends BuiltinSkill implements Def
 		this.defaultSpace = this.parentContext.getDefaultSpace();
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		this.parentContext = parentContext;
+		this.defaultSpace = null;
+		this.addressInParentDefaultSpace = null;
+	}
+
 	@Override
 	public void emit(Event event) {
 		this.defaultSpace.emit(getOwner().getID(), event, null);
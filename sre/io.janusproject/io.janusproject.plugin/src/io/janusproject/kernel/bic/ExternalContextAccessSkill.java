@@ -22,16 +22,19 @@
 package io.janusproject.kernel.bic;
 
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 import java.util.UUID;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import org.eclipse.xtext.xbase.lib.Pure;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
 import io.janusproject.services.contextspace.ContextSpaceService;
+import io.janusproject.util.SnapshotCache;
 
 import io.sarl.core.Behaviors;
 import io.sarl.core.ContextJoined;
@@ -44,6 +47,7 @@ import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventSpace;
+import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Scope;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.core.Space;
@@ -68,6 +72,13 @@ public class ExternalContextAccessSkill extends BuiltinSkill implements External
 
 	private final Set<UUID> contexts = Sets.newConcurrentHashSet();
 
+	private final SnapshotCache<Collection<AgentContext>> contextsSnapshot = new SnapshotCache<>(() -> {
+		final Collection<AgentContext> agentContexts = this.contextRepository.getContexts(this.contexts);
+		synchronized (this.contextRepository.mutex()) {
+			return ImmutableList.copyOf(agentContexts);
+		}
+	});
+
 	@Inject
 	private ContextSpaceService contextRepository;
 
@@ -135,6 +146,12 @@ public class ExternalContextAccessSkill extends BuiltinSkill implements External
 		}
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		this.contexts.clear();
+		this.contextsSnapshot.invalidate();
+	}
+
 	@Override
 	public SynchronizedCollection<AgentContext> getAllContexts() {
 		return Collections3.synchronizedCollection(
@@ -142,6 +159,18 @@ public class ExternalContextAccessSkill extends BuiltinSkill implements External
 				this.contextRepository.mutex());
 	}
 
+	/** Replies an immutable snapshot of the contexts in which the agent is located.
+	 *
+	 * <p>In opposite to {@link #getAllContexts()}, the replied collection could be iterated without synchronizing
+	 * on the context repository. The snapshot is shared between the callers until the agent joins or leaves a context.
+	 *
+	 * @return the snapshot of the contexts.
+	 * @since 0.9
+	 */
+	public Collection<AgentContext> getAllContextsSnapshot() {
+		return this.contextsSnapshot.get();
+	}
+
 	@Override
 	public AgentContext getContext(UUID contextID) {
 		assert contextID != null;
@@ -173,6 +202,7 @@ public class ExternalContextAccessSkill extends BuiltinSkill implements External
 		}
 
 		this.contexts.add(futureContext);
+		this.contextsSnapshot.invalidate();
 
 		((OpenEventSpace) ac.getDefaultSpace()).register(getInternalEventBusCapacitySkill().asEventListener());
 
@@ -189,7 +219,25 @@ public class ExternalContextAccessSkill extends BuiltinSkill implements External
 	 * @param futureContextDefaultSpaceID ID of the default space of the newly joined context
 	 */
 	protected final void fireContextJoined(UUID futureContext, UUID futureContextDefaultSpaceID) {
-		getBehaviorsSkill().wake(new ContextJoined(futureContext, futureContextDefaultSpaceID));
+		wake(new ContextJoined(futureContext, futureContextDefaultSpaceID));
+	}
+
+	/**
+	 * Wake the owner agent with the given event.
+	 *
+	 * <p>The Behaviors skill is used if it was already installed in the agent. Otherwise, the event is fired
+	 * without creating this skill, nor the inner context of the agent.
+	 *
+	 * @param event the event to fire.
+	 */
+	private void wake(Event event) {
+		final ClearableReference<Skill> reference = SREutils.getSkillRepository(getOwner()).get(Behaviors.class);
+		if (reference != null && reference.get() != null) {
+			getBehaviorsSkill().wake(event);
+		} else {
+			final InternalEventBusCapacity eventBus = getInternalEventBusCapacitySkill();
+			BuiltinCapacityUtil.wake(getOwner(), eventBus, eventBus.getInnerDefaultSpaceAddress(), event, null);
+		}
 	}
 
 	/**
@@ -225,7 +273,9 @@ public class ExternalContextAccessSkill extends BuiltinSkill implements External
 
 		((OpenEventSpace) ac.getDefaultSpace()).unregister(getInternalEventBusCapacitySkill().asEventListener());
 
-		return this.contexts.remove(contextID);
+		final boolean removed = this.contexts.remove(contextID);
+		this.contextsSnapshot.invalidate();
+		return removed;
 	}
 
 	/**
@@ -235,7 +285,7 @@ public class ExternalContextAccessSkill extends BuiltinSkill implements External
 	 * @param contextID the ID of context that will be left
 	 */
 	protected final void fireContextLeft(UUID contextID) {
-		getBehaviorsSkill().wake(new ContextLeft(contextID));
+		wake(new ContextLeft(contextID));
 	}
 
 	/**
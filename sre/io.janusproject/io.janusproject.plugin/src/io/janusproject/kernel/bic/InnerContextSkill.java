@@ -60,7 +60,7 @@ public class InnerContextSkill extends BuiltinSkill implements InnerContextAcces
 
 	private static int installationOrder = -1;
 
-	private final Address agentAddressInInnerDefaultSpace;
+	private Address agentAddressInInnerDefaultSpace;
 
 	private ClearableReference<Skill> skillBufferInternalEventBusCapacity;
 
@@ -119,6 +119,12 @@ public class InnerContextSkill extends BuiltinSkill implements InnerContextAcces
 		this.innerContext = null;
 	}
 
+	@Override
+	protected synchronized void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		this.agentAddressInInnerDefaultSpace = addressInInnerDefaultSpace;
+		this.innerContext = null;
+	}
+
 	@Override
 	@Pure
 	public void toString(ToStringBuilder builder) {
@@ -23,32 +23,32 @@ package io.janusproject.kernel.bic;
 
 import java.text.MessageFormat;
 import java.util.Collection;
-import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.google.common.base.Throwables;
-import com.google.common.collect.Queues;
 import com.google.inject.Inject;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.Pure;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
 import io.janusproject.kernel.bic.internaleventdispatching.AgentInternalEventsDispatcher;
+import io.janusproject.kernel.space.TypedEventListener;
 import io.janusproject.services.logging.LogService;
 import io.janusproject.services.spawn.SpawnService;
 
-import io.sarl.core.AgentSpawned;
 import io.sarl.core.Destroy;
 import io.sarl.core.Initialize;
 import io.sarl.core.Logging;
 import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventListener;
+import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.util.ClearableReference;
 
@@ -65,12 +65,16 @@ import io.sarl.lang.util.ClearableReference;
  */
 public class InternalEventBusSkill extends BuiltinSkill implements InternalEventBusCapacity {
 
+	private static final AtomicReferenceFieldUpdater<InternalEventBusSkill, Intake> INTAKE_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(InternalEventBusSkill.class, Intake.class, "intake"); //$NON-NLS-1$
+
 	private static int installationOrder = -1;
 
 	/**
-	 * State of the owner.
+	 * State of the owner, and the events that are received before the owner is alive.
+	 * This field is updated with {@link #INTAKE_UPDATER}.
 	 */
-	private final AtomicReference<OwnerState> ownerState = new AtomicReference<>(OwnerState.UNSTARTED);
+	private volatile Intake intake = Intake.UNSTARTED;
 
 	/**
 	 * Implementation of an EventListener linked to the owner of this skill.
@@ -93,7 +97,7 @@ public class InternalEventBusSkill extends BuiltinSkill implements InternalEvent
 	/**
 	 * Address of the agent in the inner space.
 	 */
-	private final Address agentAddressInInnerDefaultSpace;
+	private Address agentAddressInInnerDefaultSpace;
 
 	private ClearableReference<Skill> skillBufferLogging;
 
@@ -136,16 +140,72 @@ public class InternalEventBusSkill extends BuiltinSkill implements InternalEvent
 
 	@Override
 	public OwnerState getOwnerState() {
-		return this.ownerState.get();
+		return this.intake.state;
 	}
 
 	/** Change the owner state.
+	 *
+	 * <p>The events that were buffered before the owner becomes alive are kept when the new state
+	 * is {@link OwnerState#UNSTARTED} or {@link OwnerState#INITIALIZING}. They are dispatched
+	 * exactly once when the owner becomes {@link OwnerState#ALIVE}, and they are dropped
+	 * when the owner is dying.
 	 *
 	 * @param state the state.
 	 */
 	void setOwnerState(OwnerState state) {
 		assert state != null;
-		this.ownerState.set(state);
+		switch (state) {
+		case UNSTARTED:
+		case INITIALIZING:
+			Intake current;
+			do {
+				current = this.intake;
+			} while (!INTAKE_UPDATER.compareAndSet(this, current, current.withState(state)));
+			break;
+		case ALIVE:
+			final Intake previous = INTAKE_UPDATER.getAndSet(this, Intake.ALIVE);
+			if (previous.buffer != null) {
+				previous.buffer.dispatchTo(this.eventDispatcher);
+			}
+			if (previous.state != OwnerState.ALIVE) {
+				// The spaces are no more delivering the events that have no handler in the owner.
+				this.eventDispatcher.fireSubscriptionChanged();
+			}
+			break;
+		case DYING:
+			dropBufferedEvents(INTAKE_UPDATER.getAndSet(this, Intake.DYING));
+			break;
+		case DEAD:
+			dropBufferedEvents(INTAKE_UPDATER.getAndSet(this, Intake.DEAD));
+			break;
+		default:
+			throw new IllegalStateException();
+		}
+	}
+
+	/** Reset the owner state for a new life of the owner. The buffered events are dropped.
+	 */
+	private void resetOwnerState() {
+		dropBufferedEvents(INTAKE_UPDATER.getAndSet(this, Intake.UNSTARTED));
+	}
+
+	/** Release the events that are buffered into the given intake.
+	 *
+	 * @param previous the previous intake.
+	 */
+	private static void dropBufferedEvents(Intake previous) {
+		if (previous.buffer != null) {
+			previous.buffer.release();
+		}
+	}
+
+	/** Invoke the given callback when the event dispatcher of the owner has no more running dispatch and
+	 * no more pending behavior unit.
+	 *
+	 * @param callback the callback.
+	 */
+	void whenIdle(Runnable callback) {
+		this.eventDispatcher.whenIdle(callback);
 	}
 
 	@Override
@@ -159,6 +219,13 @@ public class InternalEventBusSkill extends BuiltinSkill implements InternalEvent
 		this.eventDispatcher.register(getOwner(), null, null);
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		this.agentAddressInInnerDefaultSpace = addressInInnerDefaultSpace;
+		this.agentAsEventListener.reset(getOwner().getID());
+		resetOwnerState();
+	}
+
 	@Override
 	protected void uninstall(UninstallationStage stage) {
 		if (stage == UninstallationStage.POST_DESTROY_EVENT) {
@@ -241,9 +308,9 @@ public class InternalEventBusSkill extends BuiltinSkill implements InternalEvent
 			try {
 				this.eventDispatcher.immediateDispatch(event);
 			} finally {
+				// The events received during the initialization are dispatched here
 				setOwnerState(OwnerState.ALIVE);
 			}
-			this.agentAsEventListener.fireEnqueuedEvents(this);
 			if (this.agentAsEventListener.isKilled.get()) {
 				this.agentAsEventListener.killOwner(InternalEventBusSkill.this);
 			}
@@ -337,21 +404,23 @@ public class InternalEventBusSkill extends BuiltinSkill implements InternalEvent
 	/**
 	 * Definition of the listener on events on the agent's bus.
 	 *
+	 * <p>The listener is typed: before the owner is alive, it accepts all the events because the
+	 * event handlers may be registered during the initialization of the owner. When the owner is alive,
+	 * it accepts only the events for which an event handler is registered.
+	 *
 	 * @author $Author: srodriguez$
 	 * @author $Author: ngaud$
 	 * @version $FullVersion$
 	 * @mavengroupid $GroupId$
 	 * @mavenartifactid $ArtifactId$
 	 */
-	private class AgentEventListener implements EventListener {
+	private class AgentEventListener implements TypedEventListener {
 
 		/** Indicates if the agent has requested to be killed.
 		 */
 		final AtomicBoolean isKilled = new AtomicBoolean(false);
 
-		private Queue<Event> buffer = Queues.newConcurrentLinkedQueue();
-
-		private final UUID aid;
+		private UUID aid;
 
 		@SuppressWarnings("synthetic-access")
 		AgentEventListener() {
@@ -363,55 +432,65 @@ public class InternalEventBusSkill extends BuiltinSkill implements InternalEvent
 			return this.aid;
 		}
 
+		/** Reset this listener for a recycled owner.
+		 *
+		 * @param newAgentId the new identifier of the owner.
+		 */
+		void reset(UUID newAgentId) {
+			this.aid = newAgentId;
+			this.isKilled.set(false);
+		}
+
 		@SuppressWarnings("synthetic-access")
 		@Override
-		public void receiveEvent(Event event) {
-			final Class<? extends Event> eventType = event.getClass();
-			assert (!Initialize.class.equals(eventType)) && !Destroy.class.equals(eventType)
-					&& !AsynchronousAgentKillingEvent.class.equals(eventType) : "Unsupported type of event: " + event; //$NON-NLS-1$
-			if (AgentSpawned.class.equals(eventType) && ((AgentSpawned) event).agentIdentifiers.contains(this.aid)) {
-				// This permits to ensure that the killing event
-				// is correctly treated when fired from the initialization
-				// handler.
-				fireEnqueuedEvents(InternalEventBusSkill.this);
-				if (this.isKilled.get()) {
-					killOwner(InternalEventBusSkill.this);
-					return;
-				}
+		public boolean isSubscribedTo(Class<? extends Event> eventType) {
+			final OwnerState state = getOwnerState();
+			if (state == OwnerState.ALIVE) {
+				return InternalEventBusSkill.this.eventDispatcher.isSubscribedTo(eventType);
 			}
+			return state.isEventHandling();
+		}
 
-			switch (getOwnerState()) {
-			case UNSTARTED:
-			case INITIALIZING:
-				assert getOwnerState().isEventHandling();
-				this.buffer.add(event);
-				break;
-			case ALIVE:
-				assert getOwnerState().isEventHandling();
-				fireEnqueuedEvents(InternalEventBusSkill.this);
-				InternalEventBusSkill.this.eventDispatcher.asyncDispatch(event);
-				break;
-			case DYING:
-			case DEAD:
-				// Dropping messages since agent is dying
-				assert !getOwnerState().isEventHandling();
-				InternalEventBusSkill.this.logger.getKernelLogger().fine(MessageFormat.format(Messages.InternalEventBusSkill_1, event));
-				break;
-			default:
-				throw new IllegalStateException();
-			}
+		@SuppressWarnings("synthetic-access")
+		@Override
+		public void addSubscriptionListener(Runnable listener) {
+			InternalEventBusSkill.this.eventDispatcher.addSubscriptionListener(listener);
+		}
 
+		@SuppressWarnings("synthetic-access")
+		@Override
+		public void removeSubscriptionListener(Runnable listener) {
+			InternalEventBusSkill.this.eventDispatcher.removeSubscriptionListener(listener);
 		}
 
 		@SuppressWarnings("synthetic-access")
-		void fireEnqueuedEvents(InternalEventBusSkill skill) {
-			final Queue<Event> queue = this.buffer;
-			if (queue != null && !queue.isEmpty()) {
-				this.buffer = null;
-				for (final Event evt : queue) {
-					skill.eventDispatcher.asyncDispatch(evt);
+		@Override
+		public void receiveEvent(Event event) {
+			assert (!Initialize.class.equals(event.getClass())) && !Destroy.class.equals(event.getClass())
+					&& !AsynchronousAgentKillingEvent.class.equals(event.getClass()) : "Unsupported type of event: " + event; //$NON-NLS-1$
+			final InternalEventBusSkill skill = InternalEventBusSkill.this;
+			Intake current = skill.intake;
+			// Fast path: the owner is alive and nothing is buffered.
+			if (current == Intake.ALIVE) {
+				skill.eventDispatcher.asyncDispatch(event);
+				return;
+			}
+			while (current.state.isEventHandling()) {
+				if (current == Intake.ALIVE) {
+					skill.eventDispatcher.asyncDispatch(event);
+					return;
 				}
+				// UNSTARTED or INITIALIZING: the event is buffered until the owner becomes alive.
+				// The buffer keeps a reference to a reusable event until its dispatch.
+				SREutils.retainEvent(event);
+				if (INTAKE_UPDATER.compareAndSet(skill, current, current.withEvent(event))) {
+					return;
+				}
+				SREutils.releaseEvent(event);
+				current = skill.intake;
 			}
+			// Dropping messages since agent is dying
+			skill.logger.getKernelLogger().fine(MessageFormat.format(Messages.InternalEventBusSkill_1, event));
 		}
 
 		@SuppressWarnings("synthetic-access")
@@ -431,4 +510,123 @@ public class InternalEventBusSkill extends BuiltinSkill implements InternalEvent
 
 	}
 
+	/**
+	 * Immutable state of the intake of the events: the owner state and the events that are
+	 * received before the owner is alive. A new instance is created for each change.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class Intake {
+
+		static final Intake UNSTARTED = new Intake(OwnerState.UNSTARTED, null);
+
+		static final Intake ALIVE = new Intake(OwnerState.ALIVE, null);
+
+		static final Intake DYING = new Intake(OwnerState.DYING, null);
+
+		static final Intake DEAD = new Intake(OwnerState.DEAD, null);
+
+		/** State of the owner.
+		 */
+		final OwnerState state;
+
+		/** Buffered events, the most recent first.
+		 */
+		final EventNode buffer;
+
+		private Intake(OwnerState state, EventNode buffer) {
+			this.state = state;
+			this.buffer = buffer;
+		}
+
+		/** Replies the intake with the given state and the same buffered events.
+		 *
+		 * @param newState the new state.
+		 * @return the intake.
+		 */
+		Intake withState(OwnerState newState) {
+			if (newState == this.state) {
+				return this;
+			}
+			if (this.buffer == null && newState == OwnerState.UNSTARTED) {
+				return UNSTARTED;
+			}
+			return new Intake(newState, this.buffer);
+		}
+
+		/** Replies the intake with the same state and the given event added to the buffered events.
+		 *
+		 * @param event the event to buffer.
+		 * @return the intake.
+		 */
+		Intake withEvent(Event event) {
+			return new Intake(this.state, new EventNode(event, this.buffer));
+		}
+
+	}
+
+	/**
+	 * Node of the immutable list of buffered events.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class EventNode {
+
+		final Event event;
+
+		final EventNode next;
+
+		EventNode(Event event, EventNode next) {
+			this.event = event;
+			this.next = next;
+		}
+
+		/** Dispatch the events of the list, from the oldest to the most recent.
+		 *
+		 * @param dispatcher the dispatcher to use.
+		 */
+		void dispatchTo(AgentInternalEventsDispatcher dispatcher) {
+			EventNode reversed = null;
+			EventNode node = this;
+			while (node != null) {
+				reversed = new EventNode(node.event, reversed);
+				node = node.next;
+			}
+			while (reversed != null) {
+				final EventNode current = reversed;
+				reversed = reversed.next;
+				try {
+					dispatcher.asyncDispatch(current.event);
+				} catch (Throwable exception) {
+					// The events that are not yet dispatched are dropped.
+					if (reversed != null) {
+						reversed.release();
+					}
+					throw exception;
+				} finally {
+					SREutils.releaseEvent(current.event);
+				}
+			}
+		}
+
+		/** Release the references to the events of the list that are dropped.
+		 */
+		void release() {
+			EventNode node = this;
+			while (node != null) {
+				SREutils.releaseEvent(node.event);
+				node = node.next;
+			}
+		}
+
+	}
+
 }
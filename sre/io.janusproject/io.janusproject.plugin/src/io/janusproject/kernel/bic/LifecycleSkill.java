@@ -32,6 +32,7 @@ import io.janusproject.services.spawn.SpawnService;
 
 import io.sarl.core.DefaultContextInteractions;
 import io.sarl.core.Lifecycle;
+import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.Skill;
@@ -97,6 +98,12 @@ public class LifecycleSkill extends BuiltinSkill implements Lifecycle {
 		return installationOrder;
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		this.skillBufferInternalEventBusCapacity = null;
+		this.skillDefaultContextInteraction = null;
+	}
+
 	@Override
 	public UUID spawn(Class<? extends Agent> agentType, Object... params) {
 		final List<UUID> ids = this.spawnService.spawn(
@@ -32,10 +32,13 @@ import com.google.common.base.Throwables;
 import com.google.inject.Inject;
 
 import io.janusproject.services.logging.LogService;
+import io.janusproject.util.AgentLogger;
 import io.janusproject.util.LoggerCreator;
 
 import io.sarl.core.Logging;
+import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 
 /**
  * Janus implementation of SARL's {@link Logging} built-in capacity.
@@ -105,13 +108,25 @@ public class LoggingSkill extends BuiltinSkill implements Logging {
 	@Override
 	protected void install() {
 		final UUID agentId = getOwner().getID();
-		final String loggerName = MessageFormat.format(Messages.LoggingSkill_0, agentId);
-		final Logger logger = this.logService.createAgentLogger(loggerName);
+		final Logger logger = this.logService.createAgentLogger(agentId);
 		setLogger(logger);
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		// The logger is named with the previous identifier of the owner, and it may have a custom name or level.
+		// A new logger is created when the skill is installed again.
+		this.logger = null;
+	}
+
 	@Override
 	public void setLoggingName(String name) {
+		final Logger currentLogger = getLogger();
+		if (currentLogger instanceof AgentLogger) {
+			// The agent logger is not registered into the logging manager, it could be renamed.
+			((AgentLogger) currentLogger).setLoggingName(name);
+			return;
+		}
 		String loggerName = name;
 		if (loggerName == null || loggerName.isEmpty()) {
 			loggerName = MessageFormat.format(Messages.LoggingSkill_0, getOwner().getID());
@@ -27,7 +27,9 @@ import com.google.common.util.concurrent.Service;
 
 import io.janusproject.kernel.Kernel;
 
+import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 
 /**
  * Janus implementation of an internal skill that provides access to the micro kernel.
@@ -41,7 +43,12 @@ public class MicroKernelSkill extends BuiltinSkill implements MicroKernelCapacit
 
 	private static int installationOrder = -1;
 
-	private WeakReference<Kernel> kernel;
+	/** Reference to the kernel that is kept when the skill is uninstalled, in order to restore
+	 * the access to the kernel when the owner is recycled.
+	 */
+	private final WeakReference<Kernel> kernelReference;
+
+	private volatile WeakReference<Kernel> kernel;
 
 	/** Constructor.
 	 * @param agent the owner of this skill.
@@ -49,7 +56,8 @@ public class MicroKernelSkill extends BuiltinSkill implements MicroKernelCapacit
 	 */
 	MicroKernelSkill(Agent agent, Kernel kernel) {
 		super(agent);
-		this.kernel = new WeakReference<>(kernel);
+		this.kernelReference = new WeakReference<>(kernel);
+		this.kernel = this.kernelReference;
 	}
 
 	@Override
@@ -63,14 +71,15 @@ public class MicroKernelSkill extends BuiltinSkill implements MicroKernelCapacit
 	@Override
 	protected void uninstall(UninstallationStage stage) {
 		if (stage == UninstallationStage.POST_DESTROY_EVENT) {
-			final WeakReference<Kernel> kernelReference = this.kernel;
 			this.kernel = null;
-			if (kernelReference != null) {
-				kernelReference.clear();
-			}
 		}
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		this.kernel = this.kernelReference;
+	}
+
 	/**
 	 * Replies the kernel.
 	 *
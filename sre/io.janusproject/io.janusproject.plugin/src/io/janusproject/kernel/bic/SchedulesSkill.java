@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.Future;
@@ -34,6 +35,7 @@ import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
@@ -45,12 +47,16 @@ import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 import io.janusproject.services.executor.EarlyExitException;
 import io.janusproject.services.executor.ExecutorService;
 import io.janusproject.services.executor.JanusRunnable;
+import io.janusproject.util.ActivityTracker;
+import io.janusproject.util.SnapshotCache;
 
 import io.sarl.core.AgentTask;
 import io.sarl.core.Logging;
 import io.sarl.core.Schedules;
 import io.sarl.core.Time;
+import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.AgentTrait;
 import io.sarl.lang.core.Behavior;
 import io.sarl.lang.core.Capacities;
@@ -76,7 +82,26 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 	@Inject
 	private ExecutorService executorService;
 
-	private final Map<String, TaskDescription> tasks = new TreeMap<>();
+	/** Mutex for the table of the tasks. It is private in order to avoid any contention with the callers that
+	 * are synchronizing on the skill.
+	 */
+	private final Object taskListMutex = new Object();
+
+	/** Table of the tasks, created on demand because many agents never launch a task.
+	 */
+	private Map<String, TaskDescription> tasks;
+
+	/** Immutable snapshot of the names of the active tasks.
+	 */
+	private final SnapshotCache<Set<String>> activeTasksSnapshot = new SnapshotCache<>(() -> {
+		synchronized (getTaskListMutex()) {
+			return this.tasks == null ? ImmutableSet.<String>of() : ImmutableSet.copyOf(this.tasks.keySet());
+		}
+	});
+
+	/** Tracker of the tasks that are running.
+	 */
+	private final ActivityTracker activities = new ActivityTracker();
 
 	private ClearableReference<Skill> skillBufferLogging;
 
@@ -116,9 +141,34 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 	 * @return the mutex.
 	 */
 	protected final Object getTaskListMutex() {
+		return this.taskListMutex;
+	}
+
+	/** Replies the table of the tasks, and create it if necessary.
+	 *
+	 * <p>This function is not thread-safe.
+	 *
+	 * @return the table of the tasks.
+	 */
+	private Map<String, TaskDescription> getTaskTable() {
+		if (this.tasks == null) {
+			this.tasks = new TreeMap<>();
+		}
 		return this.tasks;
 	}
 
+	/** Replies the description of the task with the given name.
+	 *
+	 * <p>This function is not thread-safe.
+	 *
+	 * @param name the name of the task.
+	 * @return the description, or {@code null} if there is no task with the given name.
+	 */
+	private TaskDescription getTaskDescription(String name) {
+		final Map<String, TaskDescription> table = this.tasks;
+		return table == null ? null : table.get(name);
+	}
+
 	@Override
 	public int getInstallationOrder() {
 		if (installationOrder < 0) {
@@ -145,8 +195,9 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 	 */
 	private void finishTask(AgentTask task, boolean updateSkillReferences, boolean updateAgentTraitReferences) {
 		assert task != null;
-		if (updateSkillReferences) {
+		if (updateSkillReferences && this.tasks != null) {
 			this.tasks.remove(task.getName());
+			this.activeTasksSnapshot.invalidate();
 		}
 		if (updateAgentTraitReferences) {
 			final Object initiator = task.getInitiator();
@@ -162,10 +213,25 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 	@Override
 	public SynchronizedSet<String> getActiveTasks() {
 		synchronized (getTaskListMutex()) {
+			if (this.tasks == null) {
+				return Collections3.emptySynchronizedSet();
+			}
 			return Collections3.unmodifiableSynchronizedSet(this.tasks.keySet(), getTaskListMutex());
 		}
 	}
 
+	/** Replies an immutable snapshot of the names of the active tasks.
+	 *
+	 * <p>In opposite to {@link #getActiveTasks()}, the replied set could be iterated without synchronizing
+	 * on the task list. The snapshot is shared between the callers until a task is added or removed.
+	 *
+	 * @return the snapshot of the names of the active tasks.
+	 * @since 0.9
+	 */
+	public Set<String> getActiveTasksSnapshot() {
+		return this.activeTasksSnapshot.get();
+	}
+
 	/**
 	 * Replies the names of the active futures.
 	 *
@@ -173,10 +239,24 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 	 */
 	Collection<Future<?>> getActiveFutures() {
 		synchronized (getTaskListMutex()) {
+			if (this.tasks == null) {
+				return Lists.newArrayList();
+			}
 			return Lists.newArrayList(Iterables.transform(this.tasks.values(), it -> it.getFuture()));
 		}
 	}
 
+	/** Invoke the given callback when there is no more running task.
+	 *
+	 * <p>The callback is invoked within the current thread if no task is running. Otherwise, it is invoked
+	 * by the thread that is terminating the last running task.
+	 *
+	 * @param callback the callback.
+	 */
+	void whenIdle(Runnable callback) {
+		this.activities.whenIdle(callback);
+	}
+
 	/** Unregister the tasks associated to the given behavior.
 	 *
 	 * @param behavior the behavior.
@@ -192,6 +272,9 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 	}
 
 	private void cancelAllRunningTasks() {
+		if (this.tasks == null) {
+			return;
+		}
 		Future<?> future;
 		AgentTask task;
 		for (final Entry<String, TaskDescription> taskDescription : this.tasks.entrySet()) {
@@ -208,6 +291,19 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 			}
 		}
 		this.tasks.clear();
+		this.activeTasksSnapshot.invalidate();
+	}
+
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		synchronized (getTaskListMutex()) {
+			// The tasks were canceled when the owner was destroyed. The remaining ones are canceled
+			// in order to avoid them to be run within the next life of the owner.
+			cancelAllRunningTasks();
+			this.tasks = null;
+		}
+		this.skillBufferLogging = null;
+		this.skillBufferTime = null;
 	}
 
 	@Override
@@ -264,7 +360,7 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 			rtask = pair.getTask();
 		} else {
 			rtask = task;
-			pair = this.tasks.get(task.getName());
+			pair = getTaskDescription(task.getName());
 			if (pair != null) {
 				pair.setTask(rtask);
 			}
@@ -277,7 +373,8 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 		final TaskDescription pair;
 		if (description == null) {
 			pair = new TaskDescription(task, future);
-			this.tasks.put(task.getName(), pair);
+			getTaskTable().put(task.getName(), pair);
+			this.activeTasksSnapshot.invalidate();
 		} else {
 			pair = description;
 			pair.setFuture(future);
@@ -293,7 +390,7 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 		} else {
 			realName = name;
 			synchronized (getTaskListMutex()) {
-				pair = this.tasks.get(realName);
+				pair = getTaskDescription(realName);
 			}
 		}
 		if (pair == null) {
@@ -303,7 +400,8 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 			task.setGuard(AgentTask.TRUE_GUARD);
 			pair = new TaskDescription(task);
 			synchronized (getTaskListMutex()) {
-				this.tasks.put(realName, pair);
+				getTaskTable().put(realName, pair);
+				this.activeTasksSnapshot.invalidate();
 				if (caller != null) {
 					AgentTraitData data = SREutils.getSreSpecificData(caller, AgentTraitData.class);
 					if (data == null) {
@@ -328,7 +426,7 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 		int i = 0;
 		final String prefix = name + "-"; //$NON-NLS-1$
 		synchronized (getTaskListMutex()) {
-			final TaskDescription desc = this.tasks.remove(task.getName());
+			final TaskDescription desc = this.tasks == null ? null : this.tasks.remove(task.getName());
 			if (desc != null) {
 				while (this.tasks.containsKey(nm)) {
 					++i;
@@ -336,6 +434,7 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 				}
 				task.setTaskName(nm);
 				this.tasks.put(nm, desc);
+				this.activeTasksSnapshot.invalidate();
 			}
 		}
 	}
@@ -362,7 +461,7 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 		if (task != null) {
 			final String name = task.getName();
 			synchronized (getTaskListMutex()) {
-				final TaskDescription pair = this.tasks.get(name);
+				final TaskDescription pair = getTaskDescription(name);
 				if (pair != null) {
 					final Future<?> future = pair.getFuture();
 					if (future != null && !future.isDone() && !future.isCancelled() && future.cancel(mayInterruptIfRunning)) {
@@ -395,7 +494,7 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 	 */
 	Future<?> getActiveFuture(String taskName) {
 		synchronized (getTaskListMutex()) {
-			final TaskDescription pair = this.tasks.get(taskName);
+			final TaskDescription pair = getTaskDescription(taskName);
 			if (pair != null) {
 				return pair.getFuture();
 			}
@@ -516,6 +615,15 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 
 		@Override
 		public void run() {
+			SchedulesSkill.this.activities.enter();
+			try {
+				runTask();
+			} finally {
+				SchedulesSkill.this.activities.leave();
+			}
+		}
+
+		private void runTask() {
 			final AgentTask task = this.agentTaskRef.get();
 			if (task == null) {
 				throw new RuntimeException(Messages.SchedulesSkill_0);
@@ -602,6 +710,15 @@ public class SchedulesSkill extends BuiltinSkill implements Schedules {
 
 		@Override
 		public void run() {
+			SchedulesSkill.this.activities.enter();
+			try {
+				runLoop();
+			} finally {
+				SchedulesSkill.this.activities.leave();
+			}
+		}
+
+		private void runLoop() {
 			try {
 				final Agent owner = getOwner();
 				while (canRun()) {
@@ -21,6 +21,8 @@
 
 package io.janusproject.kernel.bic;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
 
 import com.google.inject.Inject;
@@ -41,15 +43,21 @@ import io.sarl.core.Schedules;
 import io.sarl.core.Time;
 import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.BuiltinCapacitiesProvider;
 import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.core.SpaceID;
+import io.sarl.lang.util.ClearableReference;
 import io.sarl.util.OpenEventSpaceSpecification;
 
 /**
  * Provider of the built-in capacities of the Janus platform.
  *
+ * <p>Only the builtin skills that are mandatory for spawning an agent are created with the agent.
+ * The other builtin skills are created and installed on the first access to their capacities.
+ *
  * @author $Author: srodriguez$
  * @author $Author: ngaud$
  * @version $FullVersion$
@@ -90,6 +98,18 @@ public class StandardBuiltinCapacitiesProvider implements BuiltinCapacitiesProvi
 		ExternalContextAccessSkill.class,
 	};
 
+	/** Capacities that are implemented by the BIC skills that are installed when the agent is spawned.
+	 *
+	 * <p>The other builtin capacities are installed on demand, on the first access to them.
+	 * The internal event bus is mandatory for receiving the lifecycle events. The external context access
+	 * is mandatory because its installation registers the agent into the default space of its parent context.
+	 */
+	@SuppressWarnings("unchecked")
+	private static final Class<? extends Capacity>[] EAGER_BUILTIN_CAPACITIES = new Class[] {
+		InternalEventBusCapacity.class,
+		ExternalContextAccess.class,
+	};
+
 	@Inject
 	private Injector injector;
 
@@ -102,48 +122,169 @@ public class StandardBuiltinCapacitiesProvider implements BuiltinCapacitiesProvi
 	@Override
 	public void builtinCapacities(Agent agent, Procedure2<? super Class<? extends Capacity>, ? super Skill> skillMappingCallback) {
 		if (skillMappingCallback != null) {
-			final UUID innerContextID = agent.getID();
-			final SpaceID innerSpaceID = new SpaceID(innerContextID, UUID.randomUUID(), OpenEventSpaceSpecification.class);
-			final Address agentAddressInInnerSpace = new Address(innerSpaceID, agent.getID());
-			final Kernel k = this.injector.getInstance(Kernel.class);
+			final Address agentAddressInInnerSpace = createAddressInInnerDefaultSpace(agent);
 
 			final InternalEventBusSkill eventBusSkill = new InternalEventBusSkill(agent, agentAddressInInnerSpace);
-			final InnerContextSkill innerContextSkill = new InnerContextSkill(agent, agentAddressInInnerSpace);
-			final BehaviorsSkill behaviorSkill = new BehaviorsSkill(agent, agentAddressInInnerSpace);
-			final LifecycleSkill lifecycleSkill = new LifecycleSkill(agent);
 			final ExternalContextAccessSkill externalContextSkill = new ExternalContextAccessSkill(agent);
-			final DefaultContextInteractionsSkill interactionSkill = new DefaultContextInteractionsSkill(agent,
-					this.contextRepository.getContext(agent.getParentID()));
-			final SchedulesSkill scheduleSkill = new SchedulesSkill(agent);
-			final LoggingSkill loggingSkill = new LoggingSkill(agent);
-			final TimeSkill timeSkill = new TimeSkill(agent);
 
 			this.injector.injectMembers(eventBusSkill);
-			this.injector.injectMembers(innerContextSkill);
-			this.injector.injectMembers(behaviorSkill);
-			this.injector.injectMembers(lifecycleSkill);
 			this.injector.injectMembers(externalContextSkill);
-			this.injector.injectMembers(interactionSkill);
-			this.injector.injectMembers(scheduleSkill);
-			this.injector.injectMembers(loggingSkill);
-			this.injector.injectMembers(timeSkill);
-
-			final MicroKernelSkill microKernelSkill = new MicroKernelSkill(agent, k);
 
-			skillMappingCallback.apply(MicroKernelCapacity.class, microKernelSkill);
 			skillMappingCallback.apply(InternalEventBusCapacity.class, eventBusSkill);
-			skillMappingCallback.apply(InnerContextAccess.class, innerContextSkill);
-			skillMappingCallback.apply(Behaviors.class, behaviorSkill);
-			skillMappingCallback.apply(Lifecycle.class, lifecycleSkill);
 			skillMappingCallback.apply(ExternalContextAccess.class, externalContextSkill);
-			skillMappingCallback.apply(DefaultContextInteractions.class, interactionSkill);
-			skillMappingCallback.apply(Schedules.class, scheduleSkill);
-			skillMappingCallback.apply(Logging.class, loggingSkill);
-			skillMappingCallback.apply(Time.class, timeSkill);
 
-			this.spawnService.addSpawnServiceListener(agent.getID(),
-					new AgentLifeCycleSupport(agent.getID(), this.spawnService, eventBusSkill));
+			// The other builtin skills are created on demand by the life-cycle support.
+			final AgentLifeCycleSupport lifecycleSupport = new AgentLifeCycleSupport(
+					agent.getID(), this.spawnService, eventBusSkill, this);
+			SREutils.setDynamicSkillProvider(agent, lifecycleSupport);
+			this.spawnService.addSpawnServiceListener(agent.getID(), lifecycleSupport);
+		}
+	}
+
+	/** Create the builtin skill that is implementing the given capacity.
+	 *
+	 * <p>The replied skill is injected, but it is neither mapped into the agent nor installed.
+	 *
+	 * @param agent the owner of the skill.
+	 * @param capacity the implemented capacity.
+	 * @param agentAddressInInnerSpace the address of the agent in its inner default space.
+	 * @return the skill, or {@code null} if the given capacity is not a builtin capacity.
+	 * @since 0.9
+	 */
+	@SuppressWarnings("checkstyle:returncount")
+	BuiltinSkill createBuiltinSkill(Agent agent, Class<? extends Capacity> capacity, Address agentAddressInInnerSpace) {
+		final BuiltinSkill skill;
+		if (DefaultContextInteractions.class.equals(capacity)) {
+			skill = new DefaultContextInteractionsSkill(agent,
+					this.contextRepository.getContext(agent.getParentID()));
+		} else if (Behaviors.class.equals(capacity)) {
+			skill = new BehaviorsSkill(agent, agentAddressInInnerSpace);
+		} else if (Lifecycle.class.equals(capacity)) {
+			skill = new LifecycleSkill(agent);
+		} else if (Logging.class.equals(capacity)) {
+			skill = new LoggingSkill(agent);
+		} else if (Schedules.class.equals(capacity)) {
+			skill = new SchedulesSkill(agent);
+		} else if (InnerContextAccess.class.equals(capacity)) {
+			skill = new InnerContextSkill(agent, agentAddressInInnerSpace);
+		} else if (Time.class.equals(capacity)) {
+			skill = new TimeSkill(agent);
+		} else if (MicroKernelCapacity.class.equals(capacity)) {
+			return new MicroKernelSkill(agent, this.injector.getInstance(Kernel.class));
+		} else {
+			return null;
+		}
+		this.injector.injectMembers(skill);
+		return skill;
+	}
+
+	/** Create the address of the given agent in its inner default space.
+	 *
+	 * @param agent the agent.
+	 * @return the address.
+	 */
+	private static Address createAddressInInnerDefaultSpace(Agent agent) {
+		final UUID innerContextID = agent.getID();
+		final SpaceID innerSpaceID = new SpaceID(innerContextID, UUID.randomUUID(), OpenEventSpaceSpecification.class);
+		return new Address(innerSpaceID, agent.getID());
+	}
+
+	/** Invoke the given callback when the builtin skills of the given destroyed agent have no more running task.
+	 *
+	 * <p>The callback is invoked after the termination of the behavior units that are run by the event dispatcher
+	 * of the agent, and of the tasks that are run by the {@link Schedules} skill. Then, no task of the previous
+	 * life of the agent could be run within the next life of the agent.
+	 *
+	 * <p>The callback is invoked within the current thread if the skills are idle. Otherwise, it is invoked
+	 * by the thread that is terminating the last running task.
+	 *
+	 * @param agent the destroyed agent.
+	 * @param callback the callback.
+	 * @since 0.9
+	 */
+	public void whenBuiltinCapacitiesIdle(Agent agent, Runnable callback) {
+		final Map<Class<? extends Capacity>, ClearableReference<Skill>> repository = SREutils.getSkillRepository(agent);
+		final InternalEventBusSkill eventBusSkill = getBuiltinSkill(repository, InternalEventBusCapacity.class,
+				InternalEventBusSkill.class);
+		final SchedulesSkill schedulesSkill = getBuiltinSkill(repository, Schedules.class, SchedulesSkill.class);
+		final Runnable schedulesCallback = schedulesSkill == null ? callback : () -> schedulesSkill.whenIdle(callback);
+		if (eventBusSkill == null) {
+			schedulesCallback.run();
+		} else {
+			eventBusSkill.whenIdle(schedulesCallback);
+		}
+	}
+
+	/** Replies the builtin skill that is mapped to the given capacity, if it was created.
+	 *
+	 * @param <S> the type of the skill.
+	 * @param repository the skill repository of the agent.
+	 * @param capacity the capacity.
+	 * @param type the type of the skill.
+	 * @return the skill, or {@code null} if it was not created.
+	 */
+	private static <S extends BuiltinSkill> S getBuiltinSkill(
+			Map<Class<? extends Capacity>, ClearableReference<Skill>> repository,
+			Class<? extends Capacity> capacity, Class<S> type) {
+		final ClearableReference<Skill> reference = repository.get(capacity);
+		if (reference != null) {
+			final Skill skill = reference.get();
+			if (type.isInstance(skill)) {
+				return type.cast(skill);
+			}
+		}
+		return null;
+	}
+
+	/** Reset the given agent and its builtin capacities in order to reuse them for a new spawn.
+	 *
+	 * <p>The given agent must be destroyed. The skills that are not builtin are removed from the agent.
+	 * The identifiers of the agent are changed with {@link SREutils#recycleAgent(Agent, UUID, UUID)}.
+	 * The builtin skills that were created during the previous life of the agent are kept with
+	 * their references, and reset with {@link BuiltinSkill#resetForReuse(Address, AgentContext)}.
+	 * The skills will be installed again when the agent is notified about its spawn.
+	 *
+	 * @param agent the recycled agent.
+	 * @param parentID the identifier of the agent's parent.
+	 * @param agentID the new identifier of the agent.
+	 * @return {@code true} if the agent was reset. {@code false} if the agent does not
+	 *     own the builtin skills that are installed at spawn time; in this case the agent
+	 *     instance must not be reused.
+	 * @since 0.9
+	 */
+	public boolean recycleBuiltinCapacities(Agent agent, UUID parentID, UUID agentID) {
+		final Map<Class<? extends Capacity>, ClearableReference<Skill>> repository = SREutils.getSkillRepository(agent);
+		// Remove the skills that are not provided by the SRE
+		final Iterator<ClearableReference<Skill>> iterator = repository.values().iterator();
+		while (iterator.hasNext()) {
+			final ClearableReference<Skill> reference = iterator.next();
+			if (!(reference.get() instanceof BuiltinSkill)) {
+				iterator.remove();
+				reference.clear();
+			}
+		}
+		for (final Class<? extends Capacity> capacity : EAGER_BUILTIN_CAPACITIES) {
+			if (!repository.containsKey(capacity)) {
+				return false;
+			}
+		}
+		SREutils.recycleAgent(agent, parentID, agentID);
+		final Address agentAddressInInnerSpace = createAddressInInnerDefaultSpace(agent);
+		final AgentContext parentContext = this.contextRepository.getContext(agent.getParentID());
+		InternalEventBusSkill eventBusSkill = null;
+		for (final ClearableReference<Skill> reference : repository.values()) {
+			final BuiltinSkill skill = (BuiltinSkill) reference.get();
+			skill.resetForReuse(agentAddressInInnerSpace, parentContext);
+			if (skill instanceof InternalEventBusSkill) {
+				eventBusSkill = (InternalEventBusSkill) skill;
+			}
 		}
+		assert eventBusSkill != null;
+		final AgentLifeCycleSupport lifecycleSupport = new AgentLifeCycleSupport(
+				agent.getID(), this.spawnService, eventBusSkill, this);
+		SREutils.setDynamicSkillProvider(agent, lifecycleSupport);
+		this.spawnService.addSpawnServiceListener(agent.getID(), lifecycleSupport);
+		return true;
 	}
 
 }
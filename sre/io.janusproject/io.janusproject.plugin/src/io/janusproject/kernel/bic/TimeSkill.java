@@ -24,7 +24,9 @@ package io.janusproject.kernel.bic;
 import java.util.concurrent.TimeUnit;
 
 import io.sarl.core.Time;
+import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.scoping.extensions.time.TimeExtensions;
 
 /**
@@ -54,6 +56,11 @@ public class TimeSkill extends BuiltinSkill implements Time {
 		return installationOrder;
 	}
 
+	@Override
+	protected void resetForReuse(Address addressInInnerDefaultSpace, AgentContext parentContext) {
+		// The time is read from the operating system: there is no time state to forget.
+	}
+
 	@Override
 	public double getTime(TimeUnit timeUnit) {
 		final double currentTime = System.currentTimeMillis();
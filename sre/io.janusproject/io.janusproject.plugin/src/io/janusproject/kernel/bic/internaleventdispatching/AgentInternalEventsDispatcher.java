@@ -22,25 +22,36 @@
 package io.janusproject.kernel.bic.internaleventdispatching;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-import com.google.common.collect.Lists;
 import com.google.inject.Inject;
-import org.arakhne.afc.util.MultiCollection;
-import org.arakhne.afc.util.OutputParameter;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
 
+import io.janusproject.JanusConfig;
+import io.janusproject.services.executor.DeliveryPriorities;
 import io.janusproject.services.executor.EarlyExitException;
 import io.janusproject.services.executor.ExecutorService;
 import io.janusproject.services.executor.JanusRunnable;
+import io.janusproject.util.ActivityTracker;
 
 import io.sarl.eventdispatching.BehaviorGuardEvaluator;
 import io.sarl.eventdispatching.BehaviorGuardEvaluatorRegistry;
 import io.sarl.lang.core.Event;
+import io.sarl.lang.core.ReusableEvent;
+import io.sarl.lang.util.CopyOnWriteArrayMap;
 
 /**
  * The class in charge of dispatching every single events coming from the outside of this agent (i.e. from a space) or from an
@@ -67,15 +78,64 @@ public class AgentInternalEventsDispatcher {
 	 */
 	private final ExecutorService executor;
 
+	/**
+	 * Indicates if the behavior units are run inline when the events are synchronously dispatched.
+	 */
+	private final boolean inlineExecution;
+
+	/**
+	 * Index of the types of events to which the registered listeners are subscribed. It is cleared
+	 * when the registry is changed. This field is updated within the mutex of the registry.
+	 */
+	private final Map<Class<?>, Boolean> subscriptions = new ConcurrentHashMap<>();
+
+	/**
+	 * Listeners on the changes of the subscriptions.
+	 */
+	private final Set<Runnable> subscriptionListeners = new CopyOnWriteArraySet<>();
+
+	/**
+	 * Tracker of the dispatches that are running, and of the tasks that are submitted to the executor and not yet terminated.
+	 */
+	private final ActivityTracker activities = new ActivityTracker();
+
 	/**
 	 * Instantiates a dispatcher.
 	 *
+	 * <p>The behavior units are run inline if the property {@link JanusConfig#INLINE_BEHAVIOR_UNIT_EXECUTION_NAME}
+	 * is enabled.
+	 *
 	 * @param executor the executor service.
 	 */
 	@Inject
 	public AgentInternalEventsDispatcher(ExecutorService executor) {
+		this(executor, JanusConfig.getSystemPropertyAsBoolean(JanusConfig.INLINE_BEHAVIOR_UNIT_EXECUTION_NAME,
+				JanusConfig.INLINE_BEHAVIOR_UNIT_EXECUTION_VALUE.booleanValue()));
+	}
+
+	/**
+	 * Instantiates a dispatcher.
+	 *
+	 * @param executor the executor service.
+	 * @param inlineExecution indicates if the behavior units are run inline, i.e. sequentially within the
+	 *     thread that is synchronously dispatching the event. If {@code false}, each behavior unit is run
+	 *     by a task of the executor service.
+	 * @since 0.9
+	 */
+	public AgentInternalEventsDispatcher(ExecutorService executor, boolean inlineExecution) {
 		this.executor = executor;
-		this.behaviorGuardEvaluatorRegistry = new BehaviorGuardEvaluatorRegistry();
+		this.inlineExecution = inlineExecution;
+		// An agent has usually few event handlers: a compact map is used for storing them.
+		this.behaviorGuardEvaluatorRegistry = new BehaviorGuardEvaluatorRegistry(new CopyOnWriteArrayMap<>());
+	}
+
+	/** Replies if the behavior units are run inline when the events are synchronously dispatched.
+	 *
+	 * @return {@code true} if the behavior units are run within the dispatching thread.
+	 * @since 0.9
+	 */
+	public boolean isInlineExecution() {
+		return this.inlineExecution;
 	}
 
 	/** Replies if a listener with the given type is registered.
@@ -90,6 +150,79 @@ public class AgentInternalEventsDispatcher {
 		}
 	}
 
+	/** Replies if at least one of the registered listeners may react to the events of the given type.
+	 *
+	 * <p>The filtering functions given to {@link #register(Object, Function1, Procedure1)} and the guards
+	 * of the behavior units are not evaluated. The reply is cached until the next change of the registered listeners.
+	 *
+	 * @param eventType the type of the event.
+	 * @return {@code true} if an event handler may be run for the events of the given type.
+	 * @since 0.9
+	 */
+	public boolean isSubscribedTo(Class<? extends Event> eventType) {
+		final Boolean cached = this.subscriptions.get(eventType);
+		if (cached != null) {
+			return cached.booleanValue();
+		}
+		synchronized (this.behaviorGuardEvaluatorRegistry) {
+			final boolean subscribed = this.behaviorGuardEvaluatorRegistry.hasBehaviorGuardEvaluators(eventType);
+			this.subscriptions.put(eventType, Boolean.valueOf(subscribed));
+			return subscribed;
+		}
+	}
+
+	/** Add a listener on the changes of the subscriptions, i.e. on the registrations and unregistrations of listeners.
+	 *
+	 * @param listener the listener.
+	 * @since 0.9
+	 */
+	public void addSubscriptionListener(Runnable listener) {
+		this.subscriptionListeners.add(listener);
+	}
+
+	/** Remove a listener on the changes of the subscriptions.
+	 *
+	 * @param listener the listener.
+	 * @since 0.9
+	 */
+	public void removeSubscriptionListener(Runnable listener) {
+		this.subscriptionListeners.remove(listener);
+	}
+
+	/** Notifies the listeners on the changes of the subscriptions.
+	 *
+	 * <p>This function is invoked after each registration or unregistration of listeners. It may be invoked
+	 * by the owner of this dispatcher when it changes its capability to react to the events.
+	 * The listeners must be fast because they may be invoked within the mutex of the registry.
+	 *
+	 * @since 0.9
+	 */
+	public void fireSubscriptionChanged() {
+		for (final Runnable listener : this.subscriptionListeners) {
+			listener.run();
+		}
+	}
+
+	/** Invalidate the index of the subscriptions after a change of the registry, and notifies the listeners.
+	 * This function must be invoked within the mutex of the registry.
+	 */
+	private void subscriptionChanged() {
+		this.subscriptions.clear();
+		fireSubscriptionChanged();
+	}
+
+	/** Invoke the given callback when there is no more running dispatch and no more pending behavior unit.
+	 *
+	 * <p>The callback is invoked within the current thread if the dispatcher is idle. Otherwise, it is invoked
+	 * by the thread that is terminating the last dispatch.
+	 *
+	 * @param callback the callback.
+	 * @since 0.9
+	 */
+	public void whenIdle(Runnable callback) {
+		this.activities.whenIdle(callback);
+	}
+
 	/** Extract the registered listeners with the given type.
 	 *
 	 * @param <T> the type of the listeners.
@@ -117,7 +250,11 @@ public class AgentInternalEventsDispatcher {
 	 */
 	public void register(Object object, Function1<? super Event, ? extends Boolean> filter, Procedure1<? super Object> callback) {
 		synchronized (this.behaviorGuardEvaluatorRegistry) {
-			this.behaviorGuardEvaluatorRegistry.register(object, filter, callback);
+			try {
+				this.behaviorGuardEvaluatorRegistry.register(object, filter, callback);
+			} finally {
+				subscriptionChanged();
+			}
 		}
 	}
 
@@ -130,7 +267,11 @@ public class AgentInternalEventsDispatcher {
 	 */
 	public void unregister(Object object, Procedure1<? super Object> callback) {
 		synchronized (this.behaviorGuardEvaluatorRegistry) {
-			this.behaviorGuardEvaluatorRegistry.unregister(object, callback);
+			try {
+				this.behaviorGuardEvaluatorRegistry.unregister(object, callback);
+			} finally {
+				subscriptionChanged();
+			}
 		}
 	}
 
@@ -142,7 +283,11 @@ public class AgentInternalEventsDispatcher {
 	 */
 	public void unregisterAll(Procedure1<? super Object> callback) {
 		synchronized (this.behaviorGuardEvaluatorRegistry) {
-			this.behaviorGuardEvaluatorRegistry.unregisterAll(callback);
+			try {
+				this.behaviorGuardEvaluatorRegistry.unregisterAll(callback);
+			} finally {
+				subscriptionChanged();
+			}
 		}
 	}
 
@@ -162,16 +307,7 @@ public class AgentInternalEventsDispatcher {
 					.getBehaviorGuardEvaluators(event);
 		}
 		if (behaviorGuardEvaluators != null) {
-			final Collection<Runnable> behaviorsMethodsToExecute;
-			try {
-				behaviorsMethodsToExecute = evaluateGuards(event, behaviorGuardEvaluators);
-				executeBehaviorMethodsInParalellWithSynchroAtTheEnd(behaviorsMethodsToExecute);
-			} catch (RuntimeException exception) {
-				throw exception;
-			} catch (InterruptedException | ExecutionException | InvocationTargetException e) {
-				throw new RuntimeException(e);
-			}
-
+			dispatchSynchronously(event, behaviorGuardEvaluators);
 		}
 	}
 
@@ -192,16 +328,31 @@ public class AgentInternalEventsDispatcher {
 					.getBehaviorGuardEvaluatorsFor(event, listener);
 		}
 		if (behaviorGuardEvaluators != null) {
-			final Collection<Runnable> behaviorsMethodsToExecute;
-			try {
-				behaviorsMethodsToExecute = evaluateGuards(event, behaviorGuardEvaluators);
+			dispatchSynchronously(event, behaviorGuardEvaluators);
+		}
+	}
+
+	/**
+	 * Dispatch the given event to the given evaluators, and wait for the termination of the behavior units.
+	 *
+	 * @param event the event triggering behaviors
+	 * @param behaviorGuardEvaluators the list of class containing a {@code PerceptGuardEvaluator} method
+	 */
+	private void dispatchSynchronously(Event event, Iterable<BehaviorGuardEvaluator> behaviorGuardEvaluators) {
+		this.activities.enter();
+		try {
+			if (this.inlineExecution) {
+				executeBehaviorMethodsInline(event, behaviorGuardEvaluators);
+			} else {
+				final Collection<Runnable> behaviorsMethodsToExecute = evaluateGuards(event, behaviorGuardEvaluators);
 				executeBehaviorMethodsInParalellWithSynchroAtTheEnd(behaviorsMethodsToExecute);
-			} catch (RuntimeException exception) {
-				throw exception;
-			} catch (InterruptedException | ExecutionException | InvocationTargetException e) {
-				throw new RuntimeException(e);
 			}
-
+		} catch (RuntimeException exception) {
+			throw exception;
+		} catch (InterruptedException | ExecutionException | InvocationTargetException e) {
+			throw new RuntimeException(e);
+		} finally {
+			this.activities.leave();
 		}
 	}
 
@@ -215,7 +366,7 @@ public class AgentInternalEventsDispatcher {
 	 */
 	public void asyncDispatch(Event event) {
 		assert event != null;
-		this.executor.execute(() -> {
+		final Runnable task = () -> {
 			Iterable<BehaviorGuardEvaluator> behaviorGuardEvaluators = null;
 			synchronized (AgentInternalEventsDispatcher.this.behaviorGuardEvaluatorRegistry) {
 				behaviorGuardEvaluators = AgentInternalEventsDispatcher.this.behaviorGuardEvaluatorRegistry
@@ -228,9 +379,14 @@ public class AgentInternalEventsDispatcher {
 				} catch (InvocationTargetException e) {
 					throw new RuntimeException(e);
 				}
-				executeAsynchronouslyBehaviorMethods(behaviorsMethodsToExecute);
+				executeAsynchronouslyBehaviorMethods(event, behaviorsMethodsToExecute);
 			}
-		});
+		};
+		if (event instanceof ReusableEvent) {
+			executeWithEventReference((ReusableEvent) event, task);
+		} else {
+			submit(event, task);
+		}
 	}
 
 	/**
@@ -245,16 +401,14 @@ public class AgentInternalEventsDispatcher {
 	private static Collection<Runnable> evaluateGuards(final Event event,
 			final Iterable<BehaviorGuardEvaluator> behaviorGuardEvaluators) throws InvocationTargetException {
 
-		final MultiCollection<Runnable> behaviorsMethodsToExecute = new MultiCollection<>();
+		// The guards are usually cheap to evaluate: they are evaluated sequentially
+		// into a single collection instead of allocating a collection per evaluator.
+		final List<Runnable> behaviorsMethodsToExecute = new ArrayList<>();
 
 		try {
-			StreamSupport.stream(behaviorGuardEvaluators.spliterator(), true).forEach(evaluator -> {
-				final Collection<Runnable> behaviorsMethodsToExecutePerTarget = Lists.newLinkedList();
-				evaluator.evaluateGuard(event, behaviorsMethodsToExecutePerTarget);
-				synchronized (behaviorsMethodsToExecute) {
-					behaviorsMethodsToExecute.addCollection(behaviorsMethodsToExecutePerTarget);
-				}
-			});
+			for (final BehaviorGuardEvaluator evaluator : behaviorGuardEvaluators) {
+				evaluator.evaluateGuard(event, behaviorsMethodsToExecute);
+			}
 		} catch (Exception exception) {
 			if (exception instanceof InvocationTargetException) {
 				throw (InvocationTargetException) exception;
@@ -270,10 +424,90 @@ public class AgentInternalEventsDispatcher {
 	}
 
 	/**
-	 * Execute every single Behaviors runnable, a dedicated thread will created by the executor local to this class and be used to
-	 * execute each runnable in parallel, and this method waits until its future has been completed before leaving.
+	 * Evaluate the guards associated to the specified {@code event} and run the matching behavior units within the
+	 * current thread.
+	 *
+	 * <p>The behavior units of the evaluators that are provided by a generated table of guard evaluators are invoked
+	 * directly, without allocating a runnable per behavior unit. The other behavior units are collected into a single
+	 * collection before being run.
 	 *
-	 * <p>This function may fail if one of the called handlers has failed. Errors are logged by the executor service too.
+	 * <p>As for the parallel execution, a failing behavior unit does not prevent the other behavior units to be run.
+	 * The first error is thrown when all the behavior units are run; the following errors are added to it as
+	 * suppressed exceptions.
+	 *
+	 * @param event the event triggering behaviors
+	 * @param behaviorGuardEvaluators the list of class containing a {@code PerceptGuardEvaluator} method
+	 * @throws InvocationTargetException - exception when you try to execute a method by reflection and this method doesn't exist.
+	 */
+	private static void executeBehaviorMethodsInline(final Event event,
+			final Iterable<BehaviorGuardEvaluator> behaviorGuardEvaluators) throws InvocationTargetException {
+		List<Runnable> behaviorsMethodsToExecute = null;
+		Exception error = null;
+		for (final BehaviorGuardEvaluator evaluator : behaviorGuardEvaluators) {
+			try {
+				if (evaluator.isInlineExecutable()) {
+					evaluator.executeBehaviorUnits(event);
+				} else {
+					if (behaviorsMethodsToExecute == null) {
+						behaviorsMethodsToExecute = new ArrayList<>();
+					} else {
+						behaviorsMethodsToExecute.clear();
+					}
+					evaluator.evaluateGuard(event, behaviorsMethodsToExecute);
+					for (final Runnable runnable : behaviorsMethodsToExecute) {
+						try {
+							runnable.run();
+						} catch (EarlyExitException e) {
+							// Ignore this exception
+						} catch (RuntimeException exception) {
+							error = addInlineError(error, exception);
+						}
+					}
+				}
+			} catch (EarlyExitException e) {
+				// Ignore this exception
+			} catch (RuntimeException exception) {
+				error = addInlineError(error, exception);
+			}
+		}
+		if (error instanceof InvocationTargetException) {
+			throw (InvocationTargetException) error;
+		}
+		if (error != null) {
+			throw (RuntimeException) error;
+		}
+	}
+
+	/**
+	 * Add the given error of a behavior unit to the errors of an inline execution.
+	 *
+	 * @param first the first error of the execution, or {@code null} if none.
+	 * @param exception the error to add.
+	 * @return the first error of the execution.
+	 */
+	private static Exception addInlineError(Exception first, RuntimeException exception) {
+		final Throwable cause = exception.getCause();
+		final Exception error = cause instanceof InvocationTargetException ? (InvocationTargetException) cause : exception;
+		if (first == null) {
+			return error;
+		}
+		if (first != error) {
+			first.addSuppressed(error);
+		}
+		return first;
+	}
+
+	/**
+	 * Execute every single Behaviors runnable in parallel, and wait until all of them have been completed before leaving.
+	 *
+	 * <p>The runnables are put in a queue of pending runnables, and one helper task per runnable is submitted to the executor.
+	 * Each helper runs the next pending runnable, if any. The calling thread does not park while runnables are pending:
+	 * it runs them itself, and it waits only for the runnables that are already running in other threads.
+	 * Consequently, the synchronous dispatch never waits for a free thread of the executor, even when the executor has a bounded
+	 * number of threads that are all blocked by synchronous dispatches.
+	 *
+	 * <p>This function may fail if one of the called handlers has failed. Errors in the runnables that are run by the helpers
+	 * are logged by the executor service too.
 	 *
 	 * @param behaviorsMethodsToExecute the collection of Behaviors runnable that must be executed.
 	 * @throws InterruptedException - something interrupt the waiting of the event handler terminations.
@@ -283,36 +517,39 @@ public class AgentInternalEventsDispatcher {
 	private void executeBehaviorMethodsInParalellWithSynchroAtTheEnd(Collection<Runnable> behaviorsMethodsToExecute)
 			throws InterruptedException, ExecutionException {
 
-		final CountDownLatch doneSignal = new CountDownLatch(behaviorsMethodsToExecute.size());
+		final Queue<Runnable> pendingRunnables = new ConcurrentLinkedQueue<>(behaviorsMethodsToExecute);
 
-		final OutputParameter<Throwable> runException = new OutputParameter<>();
+		final CountDownLatch doneSignal = new CountDownLatch(pendingRunnables.size());
 
-		for (final Runnable runnable : behaviorsMethodsToExecute) {
+		final AtomicReference<Throwable> runException = new AtomicReference<>();
+
+		for (int i = pendingRunnables.size(); i > 0; --i) {
 			this.executor.execute(new JanusRunnable() {
 				@Override
 				public void run() {
-					try {
-						runnable.run();
-					} catch (EarlyExitException e) {
-						// Ignore this exception
-					} catch (RuntimeException e) {
-						// Catch exception for notifying the caller
-						runException.set(e);
-						// Do the standard behavior too -> logging
-						throw e;
-					} catch (Exception e) {
-						// Catch exception for notifying the caller
-						runException.set(e);
+					final Runnable runnable = pendingRunnables.poll();
+					if (runnable != null) {
+						final Exception error = runBehaviorMethod(runnable, doneSignal, runException);
 						// Do the standard behavior too -> logging
-						throw new RuntimeException(e);
-					} finally {
-						doneSignal.countDown();
+						if (error instanceof RuntimeException) {
+							throw (RuntimeException) error;
+						}
+						if (error != null) {
+							throw new RuntimeException(error);
+						}
 					}
 				}
 			});
 		}
 
-		// Wait for all Behaviors runnable to complete before continuing
+		// Run the runnables that are not yet started by the helpers
+		Runnable runnable = pendingRunnables.poll();
+		while (runnable != null) {
+			runBehaviorMethod(runnable, doneSignal, runException);
+			runnable = pendingRunnables.poll();
+		}
+
+		// Wait for the Behaviors runnable that are running in other threads
 		try {
 			doneSignal.await();
 		} catch (InterruptedException ex) {
@@ -333,9 +570,40 @@ public class AgentInternalEventsDispatcher {
 		}
 
 		// Re-throw the run-time exception
-		if (runException.get() != null) {
-			throw new ExecutionException(runException.get());
+		final Throwable error = runException.get();
+		if (error != null) {
+			throw new ExecutionException(error);
+		}
+	}
+
+	/**
+	 * Run the given Behaviors runnable, and notify its termination.
+	 *
+	 * @param runnable the runnable to run.
+	 * @param doneSignal the signal to count down when the runnable is terminated.
+	 * @param runException the receiver of the error for notifying the caller of the synchronous dispatch. The first error
+	 *     is stored, and the following errors are added to it as suppressed exceptions.
+	 * @return the error, or {@code null} if the runnable has no error.
+	 */
+	private static Exception runBehaviorMethod(Runnable runnable, CountDownLatch doneSignal,
+			AtomicReference<Throwable> runException) {
+		try {
+			runnable.run();
+		} catch (EarlyExitException e) {
+			// Ignore this exception
+		} catch (Exception e) {
+			// Catch exception for notifying the caller
+			if (!runException.compareAndSet(null, e)) {
+				final Throwable first = runException.get();
+				if (first != e) {
+					first.addSuppressed(e);
+				}
+			}
+			return e;
+		} finally {
+			doneSignal.countDown();
 		}
+		return null;
 	}
 
 	/**
@@ -344,12 +612,156 @@ public class AgentInternalEventsDispatcher {
 	 *
 	 * <p>This function never fails. Errors in the event handlers are logged by the executor service.
 	 *
+	 * <p>The runnables are submitted according to the {@link io.sarl.lang.annotation.DeliveryPriority} of the event.
+	 * When the event is a {@link ReusableEvent}, each runnable keeps a reference to the event until its termination.
+	 *
+	 * @param event the dispatched event.
 	 * @param behaviorsMethodsToExecute the collection of Behaviors runnable that must be executed.
 	 */
-	private void executeAsynchronouslyBehaviorMethods(Collection<Runnable> behaviorsMethodsToExecute) {
-		for (final Runnable runnable : behaviorsMethodsToExecute) {
-			this.executor.execute(runnable);
+	private void executeAsynchronouslyBehaviorMethods(Event event, Collection<Runnable> behaviorsMethodsToExecute) {
+		if (event instanceof ReusableEvent) {
+			final ReusableEvent reusableEvent = (ReusableEvent) event;
+			for (final Runnable runnable : behaviorsMethodsToExecute) {
+				executeWithEventReference(reusableEvent, runnable);
+			}
+		} else {
+			for (final Runnable runnable : behaviorsMethodsToExecute) {
+				submit(event, runnable);
+			}
 		}
 	}
 
+	/**
+	 * Submit the given task with a reference to the given event. The reference is released when the task is terminated,
+	 * or when the task cannot be submitted.
+	 *
+	 * @param event the event that is used by the task.
+	 * @param task the task to submit.
+	 */
+	private void executeWithEventReference(ReusableEvent event, Runnable task) {
+		event.retain();
+		final EventReferenceTask referenceTask = new EventReferenceTask(event, task);
+		try {
+			submit(event, referenceTask);
+		} catch (Throwable exception) {
+			if (!referenceTask.isStarted()) {
+				event.release();
+			}
+			throw exception;
+		}
+	}
+
+	/**
+	 * Submit the given task according to the delivery priority of the given event. The task is tracked
+	 * until its termination, or until its submission fails.
+	 *
+	 * @param event the event that is used by the task.
+	 * @param task the task to submit.
+	 */
+	private void submit(Event event, Runnable task) {
+		final TrackedTask trackedTask = new TrackedTask(this.activities, task);
+		try {
+			DeliveryPriorities.execute(this.executor, event, trackedTask);
+		} catch (Throwable exception) {
+			trackedTask.terminate();
+			throw exception;
+		}
+	}
+
+	/**
+	 * Task that is tracked from its submission to its termination.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class TrackedTask implements Runnable {
+
+		private final ActivityTracker tracker;
+
+		private final Runnable task;
+
+		private final AtomicBoolean terminated = new AtomicBoolean();
+
+		/**
+		 * Construct and enter the activity.
+		 *
+		 * @param tracker the tracker of the activities.
+		 * @param task the task to run.
+		 */
+		TrackedTask(ActivityTracker tracker, Runnable task) {
+			this.tracker = tracker;
+			this.task = task;
+			tracker.enter();
+		}
+
+		/** Leave the activity, if it was not yet left.
+		 */
+		void terminate() {
+			if (this.terminated.compareAndSet(false, true)) {
+				this.tracker.leave();
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				this.task.run();
+			} finally {
+				terminate();
+			}
+		}
+
+	}
+
+	/**
+	 * Task that releases its reference to a reusable event when it is terminated.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class EventReferenceTask implements Runnable {
+
+		private final ReusableEvent event;
+
+		private final Runnable task;
+
+		private volatile boolean started;
+
+		/**
+		 * Construct.
+		 *
+		 * @param event the event that is used by the task.
+		 * @param task the task to run.
+		 */
+		EventReferenceTask(ReusableEvent event, Runnable task) {
+			this.event = event;
+			this.task = task;
+		}
+
+		/** Replies if the task was started.
+		 *
+		 * @return {@code true} if the run has started.
+		 */
+		boolean isStarted() {
+			return this.started;
+		}
+
+		@Override
+		public void run() {
+			this.started = true;
+			try {
+				this.task.run();
+			} finally {
+				this.event.release();
+			}
+		}
+
+	}
+
 }
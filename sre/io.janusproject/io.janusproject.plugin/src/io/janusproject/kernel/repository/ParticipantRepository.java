@@ -25,7 +25,11 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.janusproject.util.SnapshotCache;
 
 import io.sarl.lang.core.EventListener;
 import io.sarl.lang.util.SynchronizedCollection;
@@ -35,6 +39,10 @@ import io.sarl.util.Collections3;
 /**
  * An abstract repository providing the basic support of storage a collection a participant's address and its related listener.
  *
+ * <p>The participants are stored in a concurrent map. The queries and the changes of the participants
+ * do not lock the {@link #mutex() mutex} of the repository. The mutex is only used for synchronizing the
+ * iterations on the views replied by {@link #getListeners()}.
+ *
  * @param <ADDRESST> - the generic type representing the address of a participant in the related space. This type must remains
  *        small, less than M in memory and must be {@link java.io.Serializable}
  * @author $Author: ngaud$
@@ -46,14 +54,21 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 
 	/**
 	 * Map linking the unique address of an entity in the related space to the entity itself. This is local non-distributed map.
+	 * It is sorted by address for keeping the order of the delivery of the events.
 	 */
 	private final Map<ADDRESST, EventListener> listeners;
 
+	/**
+	 * Immutable snapshot of the listeners.
+	 */
+	private final SnapshotCache<Map<ADDRESST, EventListener>> listenerSnapshot;
+
 	/**
 	 * Construct a <code>ParticipantRepository</code>.
 	 */
 	protected ParticipantRepository() {
-		this.listeners = new TreeMap<>();
+		this.listeners = new ConcurrentSkipListMap<>();
+		this.listenerSnapshot = new SnapshotCache<>(() -> ImmutableMap.copyOf(this.listeners));
 	}
 
 	/**
@@ -62,9 +77,7 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 	 * @return the number of listeners.
 	 */
 	public int listenerCount() {
-		synchronized (mutex()) {
-			return this.listeners.size();
-		}
+		return this.listeners.size();
 	}
 
 	/**
@@ -73,9 +86,7 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 	 * @return <code>true</code> if the repository is empty, <code>false</code> if there is a least one participant.
 	 */
 	protected boolean isListenerEmpty() {
-		synchronized (mutex()) {
-			return this.listeners.isEmpty();
-		}
+		return this.listeners.isEmpty();
 	}
 
 	/**
@@ -86,9 +97,7 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 	 *         <code>null</code>.
 	 */
 	protected boolean containsAddress(ADDRESST key) {
-		synchronized (mutex()) {
-			return this.listeners.containsKey(key);
-		}
+		return this.listeners.containsKey(key);
 	}
 
 	/**
@@ -99,9 +108,7 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 	 *         present or <code>null</code>.
 	 */
 	protected boolean containsListener(EventListener value) {
-		synchronized (mutex()) {
-			return this.listeners.containsValue(value);
-		}
+		return this.listeners.containsValue(value);
 	}
 
 	/**
@@ -111,9 +118,7 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 	 * @return the participant with the given address, or <code>null</code> if there is no participant with the given address.
 	 */
 	protected EventListener getListener(ADDRESST key) {
-		synchronized (mutex()) {
-			return this.listeners.get(key);
-		}
+		return this.listeners.get(key);
 	}
 
 	/**
@@ -124,9 +129,9 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 	 * @return the participant that was previously associated to the given address.
 	 */
 	protected EventListener addListener(ADDRESST key, EventListener value) {
-		synchronized (mutex()) {
-			return this.listeners.put(key, value);
-		}
+		final EventListener old = this.listeners.put(key, value);
+		this.listenerSnapshot.invalidate();
+		return old;
 	}
 
 	/**
@@ -136,18 +141,17 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 	 * @return the participant for which the address was removed, <code>null</code> if the given address was not found.
 	 */
 	protected EventListener removeListener(ADDRESST key) {
-		synchronized (mutex()) {
-			return this.listeners.remove(key);
-		}
+		final EventListener old = this.listeners.remove(key);
+		this.listenerSnapshot.invalidate();
+		return old;
 	}
 
 	/**
 	 * Remove all the participants in this repository.
 	 */
 	protected void clearListeners() {
-		synchronized (mutex()) {
-			this.listeners.clear();
-		}
+		this.listeners.clear();
+		this.listenerSnapshot.invalidate();
 	}
 
 	/**
@@ -174,6 +178,20 @@ public abstract class ParticipantRepository<ADDRESST extends Serializable> {
 		}
 	}
 
+	/**
+	 * Replies an immutable snapshot of the pairs of addresses and participants in this repository.
+	 *
+	 * <p>In opposite to {@link #getListeners()}, the replied map could be iterated without synchronizing
+	 * on the {@link #mutex() mutex} of the repository. The snapshot is shared between the callers until
+	 * the repository is changed.
+	 *
+	 * @return the snapshot of the participants, indexed by their addresses.
+	 * @since 0.9
+	 */
+	public Map<ADDRESST, EventListener> getListenersSnapshot() {
+		return this.listenerSnapshot.get();
+	}
+
 	/**
 	 * Replies the pairs of addresses and participants in this repository.
 	 *
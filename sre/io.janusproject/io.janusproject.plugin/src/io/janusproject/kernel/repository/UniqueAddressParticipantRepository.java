@@ -23,9 +23,15 @@ package io.janusproject.kernel.repository;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import com.google.common.collect.ImmutableSet;
+
+import io.janusproject.services.distributeddata.DMap;
+import io.janusproject.services.distributeddata.DMapListener;
 import io.janusproject.services.distributeddata.DistributedDataStructureService;
+import io.janusproject.util.SnapshotCache;
 
 import io.sarl.lang.core.EventListener;
 import io.sarl.lang.util.SynchronizedCollection;
@@ -40,7 +46,9 @@ import io.sarl.util.Collections3;
  * <p>The repository must be distributed and synchronized all over the network by using data-structures that are provided by an
  * injected {@link DistributedDataStructureService}.
  *
- * <p>This class is thread-safe.
+ * <p>This class is thread-safe. The registration, the unregistration and the queries of the participants do not lock
+ * the repository, assuming that the data structures that are provided by the {@link DistributedDataStructureService}
+ * are thread-safe.
  *
  * @param <ADDRESST> - the generic type representing the address of a participant in the related space. This type must remains
  *        small, less than M in memory and must be {@link java.io.Serializable}.
@@ -60,6 +68,11 @@ public final class UniqueAddressParticipantRepository<ADDRESST extends Serializa
 
 	private final String distributedParticipantMapName;
 
+	/**
+	 * Immutable snapshot of the identifiers of the participants.
+	 */
+	private final SnapshotCache<Set<UUID>> participantIDsSnapshot;
+
 	/**
 	 * Constructs a <code>UniqueAddressParticipantRepository</code>.
 	 *
@@ -70,7 +83,13 @@ public final class UniqueAddressParticipantRepository<ADDRESST extends Serializa
 			DistributedDataStructureService repositoryImplFactory) {
 		super();
 		this.distributedParticipantMapName = distributedParticipantMapName;
-		this.participants = repositoryImplFactory.getMap(this.distributedParticipantMapName, null);
+		final DMap<UUID, ADDRESST> map = repositoryImplFactory.getMap(this.distributedParticipantMapName, null);
+		this.participants = map;
+		this.participantIDsSnapshot = new SnapshotCache<>(() -> ImmutableSet.copyOf(this.participants.keySet()));
+		if (map != null) {
+			// The participants may be changed by another kernel.
+			map.addDMapListener(new SnapshotInvalidator());
+		}
 	}
 
 	@Override
@@ -85,10 +104,9 @@ public final class UniqueAddressParticipantRepository<ADDRESST extends Serializa
 	 * @return the address of the participant
 	 */
 	public ADDRESST registerParticipant(ADDRESST address, EventListener entity) {
-		synchronized (mutex()) {
-			addListener(address, entity);
-			this.participants.put(entity.getID(), address);
-		}
+		addListener(address, entity);
+		this.participants.put(entity.getID(), address);
+		this.participantIDsSnapshot.invalidate();
 		return address;
 	}
 
@@ -109,10 +127,12 @@ public final class UniqueAddressParticipantRepository<ADDRESST extends Serializa
 	 * @return the address that was mapped to the given participant.
 	 */
 	public ADDRESST unregisterParticipant(UUID entityID) {
-		synchronized (mutex()) {
-			removeListener(this.participants.get(entityID));
-			return this.participants.remove(entityID);
+		final ADDRESST address = this.participants.remove(entityID);
+		if (address != null) {
+			removeListener(address);
+			this.participantIDsSnapshot.invalidate();
 		}
+		return address;
 	}
 
 	/**
@@ -132,9 +152,7 @@ public final class UniqueAddressParticipantRepository<ADDRESST extends Serializa
 	 * @return the address of the participant with the given id.
 	 */
 	public ADDRESST getAddress(UUID id) {
-		synchronized (mutex()) {
-			return this.participants.get(id);
-		}
+		return this.participants.get(id);
 	}
 
 	/**
@@ -143,10 +161,7 @@ public final class UniqueAddressParticipantRepository<ADDRESST extends Serializa
 	 * @return all the addresses.
 	 */
 	public SynchronizedCollection<ADDRESST> getParticipantAddresses() {
-		final Object mutex = mutex();
-		synchronized (mutex) {
-			return Collections3.synchronizedCollection(this.participants.values(), mutex);
-		}
+		return Collections3.synchronizedCollection(this.participants.values(), mutex());
 	}
 
 	/**
@@ -155,10 +170,69 @@ public final class UniqueAddressParticipantRepository<ADDRESST extends Serializa
 	 * @return all the identifiers.
 	 */
 	public SynchronizedSet<UUID> getParticipantIDs() {
-		final Object mutex = mutex();
-		synchronized (mutex) {
-			return Collections3.synchronizedSet(this.participants.keySet(), mutex);
+		return Collections3.synchronizedSet(this.participants.keySet(), mutex());
+	}
+
+	/**
+	 * Replies an immutable snapshot of the identifiers of all the participants in this repository.
+	 *
+	 * <p>In opposite to {@link #getParticipantIDs()}, the replied set could be iterated without synchronizing
+	 * on the {@link #mutex() mutex} of the repository. The snapshot is shared between the callers until
+	 * the participants are changed.
+	 *
+	 * @return the snapshot of the identifiers.
+	 * @since 0.9
+	 */
+	public Set<UUID> getParticipantIDsSnapshot() {
+		return this.participantIDsSnapshot.get();
+	}
+
+	/**
+	 * Replies the version of the identifiers of the participants in this repository. The version
+	 * is increased each time the participants are changed.
+	 *
+	 * @return the version of the identifiers.
+	 * @since 0.9
+	 */
+	public long getParticipantIDsVersion() {
+		return this.participantIDsSnapshot.getVersion();
+	}
+
+	/**
+	 * Listener on the distributed map of the participants that invalidates the snapshot of the identifiers.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private class SnapshotInvalidator implements DMapListener<UUID, ADDRESST> {
+
+		SnapshotInvalidator() {
+			//
 		}
+
+		@Override
+		public void entryAdded(UUID key, ADDRESST value) {
+			UniqueAddressParticipantRepository.this.participantIDsSnapshot.invalidate();
+		}
+
+		@Override
+		public void entryUpdated(UUID key, ADDRESST value) {
+			//
+		}
+
+		@Override
+		public void entryRemoved(UUID key, ADDRESST value) {
+			UniqueAddressParticipantRepository.this.participantIDsSnapshot.invalidate();
+		}
+
+		@Override
+		public void mapCleared(boolean localClearing) {
+			UniqueAddressParticipantRepository.this.participantIDsSnapshot.invalidate();
+		}
+
 	}
 
 }
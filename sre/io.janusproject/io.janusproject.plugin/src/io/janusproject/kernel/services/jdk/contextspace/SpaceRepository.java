@@ -33,6 +33,7 @@ import java.util.TreeMap;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.TreeMultimap;
 import com.google.inject.Injector;
@@ -42,6 +43,7 @@ import io.janusproject.services.distributeddata.DMap;
 import io.janusproject.services.distributeddata.DMapListener;
 import io.janusproject.services.distributeddata.DistributedDataStructureService;
 import io.janusproject.util.Comparators;
+import io.janusproject.util.SnapshotCache;
 import io.janusproject.util.TwoStepConstruction;
 
 import io.sarl.lang.core.Space;
@@ -97,6 +99,11 @@ public class SpaceRepository {
 	 */
 	private final Multimap<Class<? extends SpaceSpecification<?>>, SpaceID> spacesBySpec;
 
+	/**
+	 * Immutable snapshot of the spaces.
+	 */
+	private final SnapshotCache<List<Space>> spacesSnapshot;
+
 	/** Constructor.
 	 * @param distributedSpaceSetName the name used to identify distributed map over network
 	 * @param distributedDataStructureService distributed data structure service.
@@ -111,6 +118,11 @@ public class SpaceRepository {
 		this.spaces = new TreeMap<>();
 		this.spacesBySpec = TreeMultimap.create(Comparators.CLASS_COMPARATOR, Comparators.OBJECT_COMPARATOR);
 		this.spaceIDs = distributedDataStructureService.getMap(this.distributedSpaceSetName, null);
+		this.spacesSnapshot = new SnapshotCache<>(() -> {
+			synchronized (getSpaceRepositoryMutex()) {
+				return ImmutableList.copyOf(this.spaces.values());
+			}
+		});
 	}
 
 	/**
@@ -179,6 +191,7 @@ public class SpaceRepository {
 		assert id != null;
 		this.spaces.put(id, space);
 		this.spacesBySpec.put(id.getSpaceSpecification(), id);
+		this.spacesSnapshot.invalidate();
 		if (isLocalCreation) {
 			Object[] sharedParams = NO_PARAMETERS;
 			if (creationParams != null && creationParams.length > 0) {
@@ -227,6 +240,7 @@ public class SpaceRepository {
 			space = this.spaces.remove(id);
 			if (space != null) {
 				this.spacesBySpec.remove(id.getSpaceSpecification(), id);
+				this.spacesSnapshot.invalidate();
 			}
 		}
 		if (space != null) {
@@ -255,6 +269,7 @@ public class SpaceRepository {
 					this.spacesBySpec.remove(id.getSpaceSpecification(), id);
 					removedSpaces.add(space);
 				}
+				this.spacesSnapshot.invalidate();
 			}
 		}
 		if (removedSpaces != null) {
@@ -362,6 +377,50 @@ public class SpaceRepository {
 		}
 	}
 
+	/**
+	 * Returns an immutable snapshot of the collection of all spaces stored in this repository.
+	 *
+	 * <p>In opposite to {@link #getSpaces()}, the replied collection could be iterated without synchronizing
+	 * on the repository. The snapshot is shared between the callers until a space is added or removed.
+	 *
+	 * @return the snapshot of all spaces stored in this repository.
+	 * @since 0.9
+	 */
+	public Collection<? extends Space> getSpacesSnapshot() {
+		return this.spacesSnapshot.get();
+	}
+
+	/**
+	 * Returns an immutable snapshot of the collection of all spaces with the specified {@link SpaceSpecification}
+	 * stored in this repository.
+	 *
+	 * @param <S> - type of the spaces to reply.
+	 * @param spec the specification used to filter the set of stored spaces.
+	 * @return the snapshot of all spaces with the specified {@link SpaceSpecification} stored in this repository
+	 * @since 0.9
+	 */
+	@SuppressWarnings("unchecked")
+	public <S extends Space> Collection<S> getSpacesSnapshot(Class<? extends SpaceSpecification<S>> spec) {
+		final List<S> result = new ArrayList<>();
+		for (final Space space : this.spacesSnapshot.get()) {
+			if (space.getSpaceID().getSpaceSpecification().equals(spec)) {
+				result.add((S) space);
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Replies the version of the spaces in this repository. The version is increased each time a space is
+	 * added or removed.
+	 *
+	 * @return the version of the spaces.
+	 * @since 0.9
+	 */
+	public long getSpacesVersion() {
+		return this.spacesSnapshot.getVersion();
+	}
+
 	/**
 	 * Returns the first instance of a space with the specified SpaceID.
 	 *
@@ -25,6 +25,8 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import com.google.common.base.Supplier;
 import com.google.common.collect.Lists;
@@ -43,6 +45,7 @@ import io.janusproject.services.distributeddata.DistributedDataStructureService;
  * Service providing tools for creating distributed data structures.
  *
  * <p>This implementation creates standard Java collections that cannot be distributed other several JVM.
+ * The maps are concurrent maps, as the distributed maps, in order to be accessed without locking them.
  *
  * <p>This class is thread-safe.
  *
@@ -70,17 +73,16 @@ public class StandardDistributedDataStructureService extends AbstractDependentSe
 
 	@Override
 	public <K, V> DMap<K, V> getMap(String name) {
-		return new DMapView<>(name, Maps.<K, V>newHashMap());
+		return new DMapView<>(name, new ConcurrentHashMap<K, V>());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public <K, V> DMap<K, V> getMap(String name, Comparator<? super K> comparator) {
 		final Map<K, V> map;
 		if (comparator == null) {
-			map = (Map<K, V>) Maps.newTreeMap();
+			map = new ConcurrentSkipListMap<>();
 		} else {
-			map = Maps.newTreeMap(comparator);
+			map = new ConcurrentSkipListMap<>(comparator);
 		}
 		return new DMapView<>(name, map);
 	}
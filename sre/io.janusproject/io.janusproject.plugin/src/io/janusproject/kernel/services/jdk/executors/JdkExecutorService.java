@@ -22,15 +22,20 @@
 package io.janusproject.kernel.services.jdk.executors;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.util.concurrent.Service;
 import com.google.inject.Inject;
@@ -46,6 +51,18 @@ import io.janusproject.services.executor.JanusRunnable;
  *
  * <p>This service is thread-safe.
  *
+ * <p>The tasks that are submitted with {@link #execute(Runnable, int, long)} are stored into lanes before
+ * their submission to the JRE service. The lane of the tasks with a deadline is ordered by the earliest
+ * deadline; the other lanes are ordered by the submission order. Each task in the lanes with a deadline or a
+ * positive priority triggers the submission of one drainer that runs the most urgent task available at the time
+ * the drainer is started. While urgent tasks are pending, the tasks that are submitted with {@link #execute(Runnable)}
+ * run one pending urgent task before themselves.
+ *
+ * <p>The lane of the tasks with a negative priority is consumed by a dedicated pool of threads, whose size is
+ * {@link JanusConfig#LOW_PRIORITY_TASK_PARALLELISM_NAME}. These tasks never run in the thread of their submitter.
+ * Each task with a negative priority triggers the submission of one drainer that runs a single task: a pending urgent
+ * task if any, or the oldest task with a negative priority.
+ *
  * @author $Author: srodriguez$
  * @author $Author: ngaud$
  * @author $Author: sgalland$
@@ -64,6 +81,26 @@ public class JdkExecutorService extends AbstractDependentService implements io.j
 
 	private UncaughtExceptionHandler uncaughtExceptionHandler;
 
+	private final Queue<PrioritizedTask> deadlineTasks = new PriorityBlockingQueue<>();
+
+	private final Queue<Runnable> highPriorityTasks = new ConcurrentLinkedQueue<>();
+
+	private final Queue<Runnable> lowPriorityTasks = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger urgentTaskCount = new AtomicInteger();
+
+	private final Runnable urgentTaskDrainer = this::runUrgentTask;
+
+	private final Runnable lowPriorityTaskDrainer = this::runLowPriorityTask;
+
+	private volatile ThreadPoolExecutor lowPriorityExec;
+
+	private final AtomicLong taskSequence = new AtomicLong();
+
+	private final AtomicLong deadlineTaskCount = new AtomicLong();
+
+	private final AtomicLong deadlineMissCount = new AtomicLong();
+
 	/**
 	 * Construct.
 	 */
@@ -113,6 +150,9 @@ public class JdkExecutorService extends AbstractDependentService implements io.j
 		if (this.uncaughtExceptionHandler != null) {
 			Thread.setDefaultUncaughtExceptionHandler(this.uncaughtExceptionHandler);
 		}
+		final int lowPriorityParallelism = Math.max(1, JanusConfig.getSystemPropertyAsInteger(
+				JanusConfig.LOW_PRIORITY_TASK_PARALLELISM_NAME, JanusConfig.LOW_PRIORITY_TASK_PARALLELISM_VALUE));
+		this.lowPriorityExec = createLowPriorityExecutor(lowPriorityParallelism);
 		// Launch a periodic task that is purging the executor pools.
 		if ((this.schedules instanceof ThreadPoolExecutor) || (this.exec instanceof ThreadPoolExecutor)) {
 			final int delay = JanusConfig.getSystemPropertyAsInteger(JanusConfig.KERNEL_THREAD_PURGE_DELAY_NAME,
@@ -130,6 +170,9 @@ public class JdkExecutorService extends AbstractDependentService implements io.j
 		}
 		this.exec.shutdown();
 		this.schedules.shutdown();
+		if (this.lowPriorityExec != null) {
+			this.lowPriorityExec.shutdown();
+		}
 		try {
 			final int timeout = JanusConfig.getSystemPropertyAsInteger(JanusConfig.KERNEL_THREAD_TIMEOUT_NAME,
 					JanusConfig.KERNEL_THREAD_TIMEOUT_VALUE);
@@ -141,11 +184,35 @@ public class JdkExecutorService extends AbstractDependentService implements io.j
 		} finally {
 			this.schedules.shutdownNow();
 			this.exec.shutdownNow();
+			if (this.lowPriorityExec != null) {
+				this.lowPriorityExec.shutdownNow();
+				this.lowPriorityExec = null;
+			}
+			this.deadlineTasks.clear();
+			this.highPriorityTasks.clear();
+			this.lowPriorityTasks.clear();
+			this.urgentTaskCount.set(0);
 			notifyStopped();
 		}
 
 	}
 
+	/** Create the pool of threads that runs the tasks with a negative priority.
+	 *
+	 * @param parallelism the number of threads in the pool.
+	 * @return the pool.
+	 * @since 0.9
+	 */
+	@SuppressWarnings("static-method")
+	protected ThreadPoolExecutor createLowPriorityExecutor(int parallelism) {
+		final int keepAliveDuration = JanusConfig.getSystemPropertyAsInteger(JanusConfig.THREAD_KEEP_ALIVE_DURATION_NAME,
+				JanusConfig.THREAD_KEEP_ALIVE_DURATION_VALUE);
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+				keepAliveDuration, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	/** Create a task with the given runnable.
 	 *
 	 * @param runnable the runnable.
@@ -175,7 +242,101 @@ public class JdkExecutorService extends AbstractDependentService implements io.j
 
 	@Override
 	public void execute(Runnable task) {
-		this.exec.execute(createTask(task));
+		final Runnable janusTask = createTask(task);
+		if (this.urgentTaskCount.get() > 0) {
+			// The pending urgent tasks take precedence over the new task.
+			this.exec.execute(() -> {
+				try {
+					runUrgentTask();
+				} finally {
+					janusTask.run();
+				}
+			});
+		} else {
+			this.exec.execute(janusTask);
+		}
+	}
+
+	@Override
+	public void execute(Runnable task, int priority, long deadline) {
+		final Runnable janusTask = createTask(task);
+		if (deadline > 0) {
+			final long deadlineTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadline);
+			this.urgentTaskCount.incrementAndGet();
+			this.deadlineTasks.offer(new PrioritizedTask(janusTask, deadlineTime, this.taskSequence.getAndIncrement()));
+			this.exec.execute(this.urgentTaskDrainer);
+		} else if (priority > 0) {
+			this.urgentTaskCount.incrementAndGet();
+			this.highPriorityTasks.offer(janusTask);
+			this.exec.execute(this.urgentTaskDrainer);
+		} else if (priority < 0) {
+			this.lowPriorityTasks.offer(janusTask);
+			this.lowPriorityExec.execute(this.lowPriorityTaskDrainer);
+		} else {
+			this.exec.execute(janusTask);
+		}
+	}
+
+	/** Run the most urgent task, i.e. the task with the earliest deadline, or the oldest task
+	 * with a positive priority if there is no task with a deadline.
+	 *
+	 * @return {@code true} if a task was run.
+	 */
+	private boolean runUrgentTask() {
+		final PrioritizedTask deadlineTask = this.deadlineTasks.poll();
+		if (deadlineTask != null) {
+			this.urgentTaskCount.decrementAndGet();
+			this.deadlineTaskCount.incrementAndGet();
+			if (System.nanoTime() - deadlineTask.getDeadline() > 0) {
+				this.deadlineMissCount.incrementAndGet();
+			}
+			deadlineTask.getTask().run();
+			return true;
+		}
+		final Runnable highPriorityTask = this.highPriorityTasks.poll();
+		if (highPriorityTask != null) {
+			this.urgentTaskCount.decrementAndGet();
+			highPriorityTask.run();
+			return true;
+		}
+		return false;
+	}
+
+	/** Run a single task: a pending urgent task, or the oldest low priority task. When an urgent task is run,
+	 * the drainer is submitted again for the low priority task that is still pending.
+	 */
+	private void runLowPriorityTask() {
+		if (this.urgentTaskCount.get() > 0) {
+			boolean urgentTaskRun = true;
+			try {
+				urgentTaskRun = runUrgentTask();
+			} finally {
+				if (urgentTaskRun) {
+					// The low priority task that is associated to this drainer is still pending.
+					final ThreadPoolExecutor executor = this.lowPriorityExec;
+					if (executor != null) {
+						executor.execute(this.lowPriorityTaskDrainer);
+					}
+				}
+			}
+			if (urgentTaskRun) {
+				return;
+			}
+		}
+		final Runnable task = this.lowPriorityTasks.poll();
+		if (task != null) {
+			task.run();
+		}
+	}
+
+	@Override
+	public long getDeadlineTaskCount() {
+		return this.deadlineTaskCount.get();
+	}
+
+	@Override
+	public long getDeadlineMissCount() {
+		return this.deadlineMissCount.get();
 	}
 
 	@Override
@@ -288,6 +449,56 @@ public class JdkExecutorService extends AbstractDependentService implements io.j
 		}
 	}
 
+	/**
+	 * Task with a deadline.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class PrioritizedTask implements Comparable<PrioritizedTask> {
+
+		private final Runnable task;
+
+		private final long deadline;
+
+		private final long sequence;
+
+		/**
+		 * Construct.
+		 *
+		 * @param task the task to run.
+		 * @param deadline the date, in nanoseconds, before which the task should be started.
+		 * @param sequence the submission order of the task.
+		 */
+		PrioritizedTask(Runnable task, long deadline, long sequence) {
+			this.task = task;
+			this.deadline = deadline;
+			this.sequence = sequence;
+		}
+
+		Runnable getTask() {
+			return this.task;
+		}
+
+		long getDeadline() {
+			return this.deadline;
+		}
+
+		@Override
+		public int compareTo(PrioritizedTask other) {
+			// The dates from System.nanoTime() must be compared with a subtraction.
+			final long delta = this.deadline - other.deadline;
+			if (delta != 0) {
+				return delta < 0 ? -1 : 1;
+			}
+			return Long.compare(this.sequence, other.sequence);
+		}
+
+	}
+
 	/**
 	 * Task that is purging the thread pools.
 	 *
@@ -21,6 +21,7 @@
 
 package io.janusproject.kernel.services.jdk.logging;
 
+import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
@@ -30,6 +31,7 @@ import com.google.common.util.concurrent.Service;
 import io.janusproject.JanusConfig;
 import io.janusproject.services.AbstractDependentService;
 import io.janusproject.services.logging.LogService;
+import io.janusproject.util.AsynchronousHandler;
 import io.janusproject.util.LoggerCreator;
 
 /**
@@ -121,6 +123,17 @@ public class StandardLogService extends AbstractDependentService implements LogS
 
 	@Override
 	protected void doStop() {
+		// Write the log records that are still buffered, and stop the threads of the asynchronous handlers.
+		final Logger logger = this.platformLogger;
+		if (logger != null) {
+			for (final Handler handler : logger.getHandlers()) {
+				if (handler instanceof AsynchronousHandler) {
+					handler.close();
+				} else {
+					handler.flush();
+				}
+			}
+		}
 		notifyStopped();
 	}
 
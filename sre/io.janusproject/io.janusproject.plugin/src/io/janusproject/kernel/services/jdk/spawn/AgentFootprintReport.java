@@ -0,0 +1,262 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.kernel.services.jdk.spawn;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.Service;
+import com.google.inject.Injector;
+
+import io.janusproject.util.AgentLogger;
+import io.janusproject.util.ObjectSizeEstimator;
+
+import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
+import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.SREutils;
+import io.sarl.lang.core.Skill;
+import io.sarl.lang.core.Space;
+import io.sarl.lang.util.ClearableReference;
+
+/**
+ * Report on the estimated memory footprint of the agents, per agent type and per component.
+ *
+ * <p>The components of an agent are the agent object itself, its skill repository, and each of its skills.
+ * The size of a component is the estimated size of the objects that are reachable from it, and
+ * that are not shared with the rest of the platform: the other agents, the contexts, the spaces,
+ * the platform services, the injector and the shared loggers are not counted.
+ * See {@link ObjectSizeEstimator} for the estimation assumptions.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class AgentFootprintReport {
+
+	/** Name of the component that corresponds to the agent object.
+	 */
+	public static final String AGENT_COMPONENT = "agent"; //$NON-NLS-1$
+
+	/** Name of the component that corresponds to the skill repository of the agent.
+	 */
+	public static final String SKILL_REPOSITORY_COMPONENT = "skillRepository"; //$NON-NLS-1$
+
+	private final Map<String, AgentTypeFootprint> footprints = new TreeMap<>();
+
+	/** Constructor.
+	 */
+	public AgentFootprintReport() {
+		//
+	}
+
+	/** Add the footprint of the given agents into this report.
+	 *
+	 * @param agents the agents to analyze.
+	 */
+	public void addAll(Iterable<? extends Agent> agents) {
+		for (final Agent agent : agents) {
+			add(agent);
+		}
+	}
+
+	/** Add the footprint of the given agent into this report.
+	 *
+	 * @param agent the agent to analyze.
+	 */
+	public void add(Agent agent) {
+		final Map<Class<? extends Capacity>, ClearableReference<Skill>> repository = SREutils.getSkillRepository(agent);
+		final ObjectSizeEstimator estimator = new ObjectSizeEstimator(it -> isSharedObject(agent, it));
+		// The skills and the repository are counted in their own components
+		estimator.ignore(repository);
+		for (final ClearableReference<Skill> reference : repository.values()) {
+			estimator.ignore(reference.get());
+		}
+		final Map<String, Long> sizes = new LinkedHashMap<>();
+		sizes.put(AGENT_COMPONENT, Long.valueOf(estimator.retainedSize(agent)));
+		// Explore the repository without the skills
+		final ObjectSizeEstimator repositoryEstimator = new ObjectSizeEstimator(
+				it -> it instanceof Skill || isSharedObject(agent, it));
+		sizes.put(SKILL_REPOSITORY_COMPONENT, Long.valueOf(repositoryEstimator.retainedSize(repository)));
+		for (final ClearableReference<Skill> reference : repository.values()) {
+			final Skill skill = reference.get();
+			if (skill != null) {
+				final ObjectSizeEstimator skillEstimator = new ObjectSizeEstimator(
+						it -> it == agent || (it != skill && it instanceof Skill) || isSharedObject(agent, it));
+				final String component = skill.getClass().getSimpleName();
+				final long size = skillEstimator.retainedSize(skill);
+				sizes.merge(component, Long.valueOf(size), (a, b) -> Long.valueOf(a.longValue() + b.longValue()));
+			}
+		}
+		final String typeName = agent.getClass().getName();
+		AgentTypeFootprint footprint = this.footprints.get(typeName);
+		if (footprint == null) {
+			footprint = new AgentTypeFootprint(typeName);
+			this.footprints.put(typeName, footprint);
+		}
+		footprint.add(sizes);
+	}
+
+	private static boolean isSharedObject(Agent agent, Object object) {
+		return (object instanceof Agent && object != agent)
+				|| object instanceof AgentContext
+				|| object instanceof Space
+				|| object instanceof Service
+				|| object instanceof Injector
+				|| (object instanceof Logger && !(object instanceof AgentLogger));
+	}
+
+	/** Replies the footprints per agent type.
+	 *
+	 * @return the footprints, indexed by the names of the agent types.
+	 */
+	public Map<String, AgentTypeFootprint> getFootprints() {
+		return Collections.unmodifiableMap(this.footprints);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder buffer = new StringBuilder();
+		for (final AgentTypeFootprint footprint : this.footprints.values()) {
+			footprint.toString(buffer);
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Footprint of the agents of a specific type.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	public static class AgentTypeFootprint {
+
+		private final String agentType;
+
+		private final Map<String, Long> totalSizes = new LinkedHashMap<>();
+
+		private int agentCount;
+
+		/** Constructor.
+		 *
+		 * @param agentType the name of the agent type.
+		 */
+		AgentTypeFootprint(String agentType) {
+			this.agentType = agentType;
+		}
+
+		/** Add the sizes of the components of an agent.
+		 *
+		 * @param sizes the sizes of the components.
+		 */
+		void add(Map<String, Long> sizes) {
+			++this.agentCount;
+			for (final Entry<String, Long> entry : sizes.entrySet()) {
+				this.totalSizes.merge(entry.getKey(), entry.getValue(),
+					(a, b) -> Long.valueOf(a.longValue() + b.longValue()));
+			}
+		}
+
+		/** Replies the name of the agent type.
+		 *
+		 * @return the name of the type.
+		 */
+		public String getAgentType() {
+			return this.agentType;
+		}
+
+		/** Replies the number of analyzed agents.
+		 *
+		 * @return the number of agents.
+		 */
+		public int getAgentCount() {
+			return this.agentCount;
+		}
+
+		/** Replies the total sizes per component, for all the analyzed agents.
+		 *
+		 * @return the total sizes in bytes, indexed by component name.
+		 */
+		public Map<String, Long> getTotalSizes() {
+			return Collections.unmodifiableMap(this.totalSizes);
+		}
+
+		/** Replies the average size of the given component per agent.
+		 *
+		 * @param component the name of the component.
+		 * @return the average size in bytes.
+		 */
+		public long getAverageSize(String component) {
+			final Long total = this.totalSizes.get(component);
+			if (total == null || this.agentCount == 0) {
+				return 0;
+			}
+			return total.longValue() / this.agentCount;
+		}
+
+		/** Replies the average size of an agent, including all its components.
+		 *
+		 * @return the average size in bytes.
+		 */
+		public long getAverageAgentSize() {
+			if (this.agentCount == 0) {
+				return 0;
+			}
+			long total = 0;
+			for (final Long size : this.totalSizes.values()) {
+				total += size.longValue();
+			}
+			return total / this.agentCount;
+		}
+
+		/** Fill the given buffer with a description of this footprint.
+		 *
+		 * @param buffer the buffer to fill.
+		 */
+		void toString(StringBuilder buffer) {
+			buffer.append(this.agentType).append(" (").append(this.agentCount).append(" agents, ") //$NON-NLS-1$ //$NON-NLS-2$
+				.append(getAverageAgentSize()).append(" bytes per agent)\n"); //$NON-NLS-1$
+			for (final String component : this.totalSizes.keySet()) {
+				buffer.append("\t").append(component).append(": ") //$NON-NLS-1$ //$NON-NLS-2$
+					.append(getAverageSize(component)).append(" bytes\n"); //$NON-NLS-1$
+			}
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder buffer = new StringBuilder();
+			toString(buffer);
+			return buffer.toString();
+		}
+
+	}
+
+}
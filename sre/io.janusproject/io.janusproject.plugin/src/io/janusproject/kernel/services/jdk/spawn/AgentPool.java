@@ -0,0 +1,258 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.kernel.services.jdk.spawn;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import io.sarl.lang.annotation.Recyclable;
+import io.sarl.lang.core.Agent;
+
+/**
+ * Pool of destroyed agents that could be reused for the next spawns of agents of the same type.
+ *
+ * <p>Only the agent types that are marked with {@link Recyclable} are accepted by this pool.
+ * The number of pooled instances per agent type is bounded.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class AgentPool {
+
+	private final int maxPoolSize;
+
+	private final ConcurrentMap<Class<? extends Agent>, Bucket> buckets = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong releases = new AtomicLong();
+
+	private final AtomicLong discards = new AtomicLong();
+
+	/** Constructor.
+	 *
+	 * @param maxPoolSize the maximal number of pooled instances per agent type.
+	 */
+	public AgentPool(int maxPoolSize) {
+		this.maxPoolSize = Math.max(0, maxPoolSize);
+	}
+
+	/** Replies the maximal number of pooled instances per agent type.
+	 *
+	 * @return the maximal number of instances.
+	 */
+	@Pure
+	public int getMaxPoolSize() {
+		return this.maxPoolSize;
+	}
+
+	/** Replies if the given agent type could be recycled.
+	 *
+	 * <p>The recyclability of the type is computed on the first call and cached into the pool.
+	 *
+	 * @param type the agent type.
+	 * @return {@code true} if the instances of the type could be pooled.
+	 */
+	public boolean isRecyclable(Class<? extends Agent> type) {
+		return this.maxPoolSize > 0 && getBucket(type) != null;
+	}
+
+	private Bucket getBucket(Class<? extends Agent> type) {
+		Bucket bucket = this.buckets.get(type);
+		if (bucket == null) {
+			bucket = type.isAnnotationPresent(Recyclable.class) ? new Bucket() : Bucket.NOT_RECYCLABLE;
+			final Bucket oldBucket = this.buckets.putIfAbsent(type, bucket);
+			if (oldBucket != null) {
+				bucket = oldBucket;
+			}
+		}
+		return bucket == Bucket.NOT_RECYCLABLE ? null : bucket;
+	}
+
+	/** Take a destroyed agent of the given type from the pool.
+	 *
+	 * <p>The replied agent has still its previous identifiers and skills. It must be
+	 * reset by the caller before being spawned again.
+	 *
+	 * @param type the type of the agent.
+	 * @return the agent, or {@code null} if there is no pooled agent of the given type.
+	 */
+	public Agent acquire(Class<? extends Agent> type) {
+		final Bucket bucket = getBucket(type);
+		if (bucket != null) {
+			final Agent agent = bucket.agents.poll();
+			if (agent != null) {
+				bucket.size.decrementAndGet();
+				this.hits.incrementAndGet();
+				return agent;
+			}
+			this.misses.incrementAndGet();
+		}
+		return null;
+	}
+
+	/** Give back a destroyed agent to the pool.
+	 *
+	 * @param agent the destroyed agent.
+	 * @return {@code true} if the agent was put in the pool; {@code false} if the agent's type
+	 *     is not recyclable or the pool for this type is full.
+	 */
+	public boolean release(Agent agent) {
+		final Bucket bucket = getBucket(agent.getClass());
+		if (bucket != null) {
+			if (bucket.size.incrementAndGet() <= this.maxPoolSize) {
+				bucket.agents.offer(agent);
+				this.releases.incrementAndGet();
+				return true;
+			}
+			bucket.size.decrementAndGet();
+			this.discards.incrementAndGet();
+		}
+		return false;
+	}
+
+	/** Remove all the pooled agents. The statistics are not reset.
+	 */
+	public void clear() {
+		for (final Bucket bucket : this.buckets.values()) {
+			if (bucket != Bucket.NOT_RECYCLABLE) {
+				while (bucket.agents.poll() != null) {
+					bucket.size.decrementAndGet();
+				}
+			}
+		}
+	}
+
+	/** Replies the number of pooled agents of the given type.
+	 *
+	 * @param type the type of the agents.
+	 * @return the number of pooled agents.
+	 */
+	@Pure
+	public int getPooledAgentCount(Class<? extends Agent> type) {
+		final Bucket bucket = this.buckets.get(type);
+		if (bucket != null && bucket != Bucket.NOT_RECYCLABLE) {
+			return Math.max(0, bucket.size.get());
+		}
+		return 0;
+	}
+
+	/** Replies the number of pooled agents, for all the types.
+	 *
+	 * @return the number of pooled agents.
+	 */
+	@Pure
+	public int getPooledAgentCount() {
+		int count = 0;
+		for (final Bucket bucket : this.buckets.values()) {
+			if (bucket != Bucket.NOT_RECYCLABLE) {
+				count += Math.max(0, bucket.size.get());
+			}
+		}
+		return count;
+	}
+
+	/** Replies the number of times an agent was taken from the pool.
+	 *
+	 * @return the number of reused agents.
+	 */
+	@Pure
+	public long getHitCount() {
+		return this.hits.get();
+	}
+
+	/** Replies the number of times an agent of a recyclable type was requested when the pool was empty.
+	 *
+	 * @return the number of failed requests.
+	 */
+	@Pure
+	public long getMissCount() {
+		return this.misses.get();
+	}
+
+	/** Replies the number of agents that were put in the pool.
+	 *
+	 * @return the number of released agents.
+	 */
+	@Pure
+	public long getReleaseCount() {
+		return this.releases.get();
+	}
+
+	/** Replies the number of recyclable agents that were not put in the pool because it was full.
+	 *
+	 * @return the number of discarded agents.
+	 */
+	@Pure
+	public long getDiscardCount() {
+		return this.discards.get();
+	}
+
+	@Override
+	@Pure
+	public String toString() {
+		return "AgentPool[pooled=" + getPooledAgentCount() //$NON-NLS-1$
+				+ ", hits=" + getHitCount() //$NON-NLS-1$
+				+ ", misses=" + getMissCount() //$NON-NLS-1$
+				+ ", releases=" + getReleaseCount() //$NON-NLS-1$
+				+ ", discards=" + getDiscardCount() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Pooled agents of a single type.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class Bucket {
+
+		/** Marker for the types that are not recyclable.
+		 */
+		static final Bucket NOT_RECYCLABLE = new Bucket();
+
+		final Queue<Agent> agents = new ConcurrentLinkedQueue<>();
+
+		final AtomicInteger size = new AtomicInteger();
+
+		Bucket() {
+			//
+		}
+
+	}
+
+}
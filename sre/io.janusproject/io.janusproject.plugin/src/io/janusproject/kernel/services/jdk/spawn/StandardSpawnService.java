@@ -43,7 +43,9 @@ import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import org.eclipse.xtext.xbase.lib.Pair;
 
+import io.janusproject.JanusConfig;
 import io.janusproject.kernel.bic.BuiltinCapacityUtil;
+import io.janusproject.kernel.bic.StandardBuiltinCapacitiesProvider;
 import io.janusproject.services.AbstractDependentService;
 import io.janusproject.services.contextspace.ContextSpaceService;
 import io.janusproject.services.executor.ExecutorService;
@@ -96,6 +98,10 @@ public class StandardSpawnService extends AbstractDependentService implements Sp
 
 	private final SarlSpecificationChecker sarlSpecificationChecker;
 
+	/** Pool of recyclable agents, or {@code null} if the agent recycling is disabled.
+	 */
+	private final AgentPool agentPool;
+
 	@Inject
 	private ExecutorService executor;
 
@@ -117,6 +123,41 @@ public class StandardSpawnService extends AbstractDependentService implements Sp
 	public StandardSpawnService(Injector injector, SarlSpecificationChecker sarlSpecificationChecker) {
 		this.injector = injector;
 		this.sarlSpecificationChecker = sarlSpecificationChecker;
+		if (JanusConfig.getSystemPropertyAsBoolean(JanusConfig.AGENT_RECYCLING_NAME,
+				JanusConfig.AGENT_RECYCLING_VALUE.booleanValue())) {
+			this.agentPool = new AgentPool(JanusConfig.getSystemPropertyAsInteger(JanusConfig.AGENT_POOL_SIZE_NAME,
+					JanusConfig.AGENT_POOL_SIZE_VALUE));
+		} else {
+			this.agentPool = null;
+		}
+	}
+
+	/** Replies the pool of the recyclable agents.
+	 *
+	 * @return the pool, or {@code null} if the agent recycling is disabled.
+	 * @since 0.9
+	 * @see JanusConfig#AGENT_RECYCLING_NAME
+	 */
+	public AgentPool getAgentPool() {
+		return this.agentPool;
+	}
+
+	/** Build a report on the estimated memory footprint of the living agents.
+	 *
+	 * <p>This function explores the objects of the agents by reflection. It should not be
+	 * invoked on a regular basis.
+	 *
+	 * @return the report.
+	 * @since 0.9
+	 */
+	public AgentFootprintReport getAgentFootprintReport() {
+		final List<Agent> livingAgents;
+		synchronized (getAgentRepositoryMutex()) {
+			livingAgents = new ArrayList<>(this.agents.values());
+		}
+		final AgentFootprintReport report = new AgentFootprintReport();
+		report.addAll(livingAgents);
+		return report;
 	}
 
 	/** Replies the mutex for synchronizing on agent repository.
@@ -165,17 +206,20 @@ public class StandardSpawnService extends AbstractDependentService implements Sp
 				// Create the list of the spawned agents during this function execution
 				final List<Agent> agents = new ArrayList<>(nbAgents);
 				// Create the block of code for creating a single agent
+				final boolean isRecyclable = this.agentPool != null && this.agentPool.isRecyclable(agentClazz);
 				final Runnable agentCreator = () -> {
-					final Agent agent = agentInjector.getInstance(Agent.class);
-					assert agent != null;
-					// Create the builtin capacities / skill installation will be done later in the life cycle.
-					StandardSpawnService.this.builtinCapacityProvider.builtinCapacities(agent, (capacity, skill) -> {
-						try {
-							SREutils.createSkillMapping(agent, capacity, skill);
-						} catch (Exception e) {
-							throw new Error(Messages.StandardSpawnService_5, e);
+					Agent agent;
+					if (isRecyclable) {
+						final UUID newAgentID = agentInjectionModule.consumeAgentID();
+						agent = recycleAgent(agentClazz, parent.getID(), newAgentID);
+						if (agent == null) {
+							agent = agentInjectionModule.createAgent(newAgentID);
+							createBuiltinCapacities(agent);
 						}
-					});
+					} else {
+						agent = agentInjector.getInstance(Agent.class);
+						createBuiltinCapacities(agent);
+					}
 					// Add the agent in the system
 					synchronized (this.agents) {
 						this.agents.put(agent.getID(), agent);
@@ -202,6 +246,61 @@ public class StandardSpawnService extends AbstractDependentService implements Sp
 		throw new SpawnDisabledException(parent.getID(), agentClazz);
 	}
 
+	/** Create the builtin capacities of the given agent.
+	 * The skill installation will be done later in the life cycle.
+	 *
+	 * @param agent the new agent.
+	 */
+	private void createBuiltinCapacities(Agent agent) {
+		assert agent != null;
+		this.builtinCapacityProvider.builtinCapacities(agent, (capacity, skill) -> {
+			try {
+				SREutils.createSkillMapping(agent, capacity, skill);
+			} catch (Exception e) {
+				throw new Error(Messages.StandardSpawnService_5, e);
+			}
+		});
+	}
+
+	/** Take an agent from the pool of recyclable agents, and reset it for a new life.
+	 *
+	 * @param agentClazz the type of the agent.
+	 * @param parentID the identifier of the parent context.
+	 * @param agentID the identifier of the agent.
+	 * @return the recycled agent, or {@code null} if no agent could be recycled.
+	 */
+	private Agent recycleAgent(Class<? extends Agent> agentClazz, UUID parentID, UUID agentID) {
+		assert this.agentPool != null;
+		if (this.builtinCapacityProvider instanceof StandardBuiltinCapacitiesProvider) {
+			final StandardBuiltinCapacitiesProvider provider = (StandardBuiltinCapacitiesProvider) this.builtinCapacityProvider;
+			Agent agent = this.agentPool.acquire(agentClazz);
+			while (agent != null) {
+				if (provider.recycleBuiltinCapacities(agent, parentID, agentID)) {
+					return agent;
+				}
+				// The agent has lost some of its builtin skills; it cannot be reused.
+				agent = this.agentPool.acquire(agentClazz);
+			}
+		}
+		return null;
+	}
+
+	/** Give back the given destroyed agent to the pool of recyclable agents.
+	 *
+	 * <p>The agent is put in the pool when its builtin skills have no more running task, i.e.
+	 * when the event handlers and the scheduled tasks of its previous life are terminated.
+	 *
+	 * @param agent the destroyed agent.
+	 */
+	private void releaseToPool(Agent agent) {
+		assert this.agentPool != null;
+		if (this.builtinCapacityProvider instanceof StandardBuiltinCapacitiesProvider
+				&& this.agentPool.isRecyclable(agent.getClass())) {
+			final StandardBuiltinCapacitiesProvider provider = (StandardBuiltinCapacitiesProvider) this.builtinCapacityProvider;
+			provider.whenBuiltinCapacitiesIdle(agent, () -> this.agentPool.release(agent));
+		}
+	}
+
 	/** Notify the listeners about the agents' spawning.
 	 *
 	 * @param spawningAgent the spawning agent.
@@ -295,6 +394,10 @@ public class StandardSpawnService extends AbstractDependentService implements Sp
 
 			fireAgentDestroyed(killAgent);
 
+			if (this.agentPool != null) {
+				releaseToPool(killAgent);
+			}
+
 			if (isLast) {
 				fireKernelAgentDestroy();
 			}
@@ -519,6 +622,9 @@ public class StandardSpawnService extends AbstractDependentService implements Sp
 		synchronized (getAgentLifecycleListenerMutex()) {
 			this.agentLifecycleListeners.clear();
 		}
+		if (this.agentPool != null) {
+			this.agentPool.clear();
+		}
 		notifyStopped();
 	}
 
@@ -668,13 +774,32 @@ public class StandardSpawnService extends AbstractDependentService implements Sp
 			bind(Agent.class).toProvider(this);
 		}
 
-		@Override
-		public Agent get() {
+		/** Replies the identifier of the next agent to create.
+		 *
+		 * <p>The identifier that was given to the constructor is replied on the first call only.
+		 *
+		 * @return the identifier, never {@code null}.
+		 */
+		synchronized UUID consumeAgentID() {
 			UUID agId = this.agentID;
 			this.agentID = null;
 			if (agId == null) {
 				agId = UUID.randomUUID();
 			}
+			return agId;
+		}
+
+		@Override
+		public Agent get() {
+			return createAgent(consumeAgentID());
+		}
+
+		/** Create an instance of agent.
+		 *
+		 * @param agId the identifier of the agent.
+		 * @return the agent.
+		 */
+		Agent createAgent(UUID agId) {
 			assert this.constructor1 != null || this.constructor2 != null;
 			try {
 				if (this.constructor1 != null) {
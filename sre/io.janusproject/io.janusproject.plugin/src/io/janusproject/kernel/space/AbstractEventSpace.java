@@ -22,22 +22,33 @@
 package io.janusproject.kernel.space;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.inject.Inject;
 
+import io.janusproject.JanusConfig;
 import io.janusproject.kernel.repository.UniqueAddressParticipantRepository;
 import io.janusproject.services.distributeddata.DistributedDataStructureService;
+import io.janusproject.services.executor.DeliveryPriorities;
+import io.janusproject.services.executor.EarlyExitException;
 import io.janusproject.services.executor.ExecutorService;
+import io.janusproject.services.executor.JanusRunnable;
 import io.janusproject.services.logging.LogService;
 import io.janusproject.services.network.NetworkService;
 
 import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventListener;
+import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Scope;
 import io.sarl.lang.core.SpaceID;
-import io.sarl.lang.util.SynchronizedCollection;
 import io.sarl.lang.util.SynchronizedSet;
 import io.sarl.util.Collections3;
 import io.sarl.util.Scopes;
@@ -77,6 +88,32 @@ public abstract class AbstractEventSpace extends SpaceBase {
 	 */
 	private final UniqueAddressParticipantRepository<Address> participants;
 
+	/**
+	 * Maximal number of participants to which an event is delivered by a single task.
+	 */
+	private final int fanOutChunkSize;
+
+	/**
+	 * Maximal number of tasks that are delivering an event in parallel.
+	 */
+	private final int fanOutParallelism;
+
+	/**
+	 * Index of the participants that may react to the events, per type of event.
+	 */
+	private final ConcurrentMap<Class<? extends Event>, Subscribers> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of changes of the participants, or of the subscriptions of the typed participants.
+	 * It enables to detect the changes that occur during the building of an entry of the index.
+	 */
+	private final AtomicLong subscriptionVersion = new AtomicLong();
+
+	/**
+	 * Listeners on the changes of the subscriptions of the typed participants, indexed by the identifiers of the participants.
+	 */
+	private final ConcurrentMap<UUID, Runnable> subscriptionListeners = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs an event space.
 	 *
@@ -87,6 +124,10 @@ public abstract class AbstractEventSpace extends SpaceBase {
 		super(id);
 		this.participants = new UniqueAddressParticipantRepository<>(getSpaceID().getID().toString() + "-participants", //$NON-NLS-1$
 				factory);
+		this.fanOutChunkSize = Math.max(1, JanusConfig.getSystemPropertyAsInteger(
+				JanusConfig.EVENT_FAN_OUT_CHUNK_SIZE_NAME, JanusConfig.EVENT_FAN_OUT_CHUNK_SIZE_VALUE));
+		this.fanOutParallelism = Math.max(1, JanusConfig.getSystemPropertyAsInteger(
+				JanusConfig.MAX_NUMBER_OF_THREADS_IN_EXECUTOR_NAME, JanusConfig.MAX_NUMBER_OF_THREADS_IN_EXECUTOR_VALUE));
 	}
 
 	/** Replies the internal datastructure that stores the participants to this space.
@@ -97,6 +138,105 @@ public abstract class AbstractEventSpace extends SpaceBase {
 		return this.participants;
 	}
 
+	/**
+	 * Register the given participant into this space.
+	 *
+	 * <p>The participant is added to the entries of the index of the subscribers of this space.
+	 * If the participant is a {@link TypedEventListener}, the changes of its subscriptions are observed
+	 * for updating the entries of the index that are related to this participant.
+	 *
+	 * @param entity the participant.
+	 * @return the address of the participant in this space.
+	 * @since 0.9
+	 */
+	protected Address doRegister(EventListener entity) {
+		final Address address = getParticipantInternalDataStructure().registerParticipant(
+				new Address(getSpaceID(), entity.getID()), entity);
+		if (entity instanceof TypedEventListener) {
+			final TypedEventListener typedEntity = (TypedEventListener) entity;
+			final Runnable listener = new Runnable() {
+				@Override
+				public void run() {
+					updateSubscriber(address, typedEntity);
+					// The participant may be unregistered while its subscriptions are changing.
+					if (AbstractEventSpace.this.subscriptionListeners.get(typedEntity.getID()) != this) {
+						removeSubscriber(address);
+					}
+				}
+			};
+			final Runnable oldListener = this.subscriptionListeners.put(entity.getID(), listener);
+			if (oldListener != null) {
+				typedEntity.removeSubscriptionListener(oldListener);
+			}
+			typedEntity.addSubscriptionListener(listener);
+		}
+		updateSubscriber(address, entity);
+		return address;
+	}
+
+	/**
+	 * Unregister the given participant from this space.
+	 *
+	 * @param entity the participant.
+	 * @return the former address of the participant in this space.
+	 * @since 0.9
+	 */
+	protected Address doUnregister(EventListener entity) {
+		final Address address = getParticipantInternalDataStructure().unregisterParticipant(entity);
+		if (entity instanceof TypedEventListener) {
+			final Runnable listener = this.subscriptionListeners.remove(entity.getID());
+			if (listener != null) {
+				((TypedEventListener) entity).removeSubscriptionListener(listener);
+			}
+		}
+		if (address != null) {
+			removeSubscriber(address);
+		}
+		return address;
+	}
+
+	/**
+	 * Remove the participant with the given address from the entries of the index of the subscribers.
+	 *
+	 * @param address the address of the participant.
+	 */
+	private void removeSubscriber(Address address) {
+		this.subscriptionVersion.incrementAndGet();
+		for (final Entry<Class<? extends Event>, Subscribers> entry : this.subscribers.entrySet()) {
+			final Class<? extends Event> eventType = entry.getKey();
+			Subscribers current = entry.getValue();
+			while (current != null && current.contains(address)
+					&& !this.subscribers.replace(eventType, current, current.without(address))) {
+				current = this.subscribers.get(eventType);
+			}
+		}
+	}
+
+	/**
+	 * Update the entries of the index of the subscribers for the given participant.
+	 *
+	 * <p>The participant is added to, or removed from, the entries of the event types according to its subscriptions.
+	 * Only the entries that are changed are replaced. The index is updated without lock because this function may
+	 * be invoked by a typed participant that is locking its own subscriptions.
+	 *
+	 * @param address the address of the participant.
+	 * @param entity the participant.
+	 */
+	private void updateSubscriber(Address address, EventListener entity) {
+		this.subscriptionVersion.incrementAndGet();
+		for (final Entry<Class<? extends Event>, Subscribers> entry : this.subscribers.entrySet()) {
+			final Class<? extends Event> eventType = entry.getKey();
+			final boolean subscribed = !(entity instanceof TypedEventListener)
+					|| ((TypedEventListener) entity).isSubscribedTo(eventType);
+			Subscribers current = entry.getValue();
+			while (current != null && current.contains(address) != subscribed
+					&& !this.subscribers.replace(eventType, current,
+							subscribed ? current.with(address, entity) : current.without(address))) {
+				current = this.subscribers.get(eventType);
+			}
+		}
+	}
+
 	/**
 	 * Replies the address associated to the given participant.
 	 *
@@ -172,13 +312,90 @@ public abstract class AbstractEventSpace extends SpaceBase {
 	protected void doEmit(Event event, Scope<? super Address> scope) {
 		assert scope != null;
 		assert event != null;
-		final UniqueAddressParticipantRepository<Address> particips = getParticipantInternalDataStructure();
-		final SynchronizedCollection<EventListener> listeners = particips.getListeners();
-		synchronized (listeners.mutex()) {
-			for (final EventListener listener : listeners) {
-				final Address adr = getAddress(listener);
-				if (scope.matches(adr)) {
-					this.executorService.submit(new AsyncRunner(listener, event));
+		final Subscribers subs = getSubscribers(event.getClass());
+		final EventListener[] receivers = new EventListener[subs.size];
+		int count = 0;
+		for (int i = 0; i < subs.size; ++i) {
+			if (scope.matches(subs.addresses[i])) {
+				receivers[count] = subs.listeners[i];
+				++count;
+			}
+		}
+		fanOut(event, receivers, count);
+	}
+
+	/**
+	 * Replies the participants that may react to the events of the given type.
+	 *
+	 * <p>The participants that are not {@link TypedEventListener typed} are always replied. The typed participants
+	 * are replied if they are subscribed to the given type of event. The reply is cached, and the cached entries
+	 * are updated at each change of a participant, or of the subscriptions of a typed participant.
+	 *
+	 * @param eventType the type of the event.
+	 * @return the subscribers.
+	 */
+	private Subscribers getSubscribers(Class<? extends Event> eventType) {
+		final Subscribers current = this.subscribers.get(eventType);
+		if (current != null) {
+			return current;
+		}
+		// The version is read before the snapshot for detecting the changes that occur during the building of the entry.
+		final long version = this.subscriptionVersion.get();
+		// The snapshot is iterated without locking the repository, for not blocking the registrations of the participants.
+		final Map<Address, EventListener> listeners = getParticipantInternalDataStructure().getListenersSnapshot();
+		final Address[] addresses = new Address[listeners.size()];
+		final EventListener[] receivers = new EventListener[listeners.size()];
+		int count = 0;
+		for (final Entry<Address, EventListener> entry : listeners.entrySet()) {
+			final EventListener listener = entry.getValue();
+			if (!(listener instanceof TypedEventListener) || ((TypedEventListener) listener).isSubscribedTo(eventType)) {
+				addresses[count] = entry.getKey();
+				receivers[count] = listener;
+				++count;
+			}
+		}
+		final Subscribers subs = new Subscribers(addresses, receivers, count);
+		final Subscribers previous = this.subscribers.putIfAbsent(eventType, subs);
+		if (previous != null) {
+			return previous;
+		}
+		if (this.subscriptionVersion.get() != version) {
+			// A change may be missing in the new entry. The entry is rebuilt at the next emit.
+			this.subscribers.remove(eventType, subs);
+		}
+		return subs;
+	}
+
+	/**
+	 * Deliver the event to the given receivers.
+	 *
+	 * <p>The receivers are split into chunks, and each chunk is delivered by a single task that is
+	 * submitted to the executor service without creating a future. The size of the chunks is
+	 * given by the property {@link JanusConfig#EVENT_FAN_OUT_CHUNK_SIZE_NAME}. It is increased when the number
+	 * of chunks would exceed the maximal number of threads in the executor service.
+	 *
+	 * @param event the event to deliver.
+	 * @param receivers the receivers of the event.
+	 * @param count the number of receivers in the array.
+	 * @since 0.9
+	 */
+	protected void fanOut(Event event, EventListener[] receivers, int count) {
+		if (count > 0) {
+			final int nbChunks = Math.min((count + this.fanOutChunkSize - 1) / this.fanOutChunkSize, this.fanOutParallelism);
+			final int chunkSize = (count + nbChunks - 1) / nbChunks;
+			for (int start = 0; start < count; start += chunkSize) {
+				// The reference to a reusable event is released by the runner.
+				SREutils.retainEvent(event);
+				final AsyncRunner runner = new AsyncRunner(receivers, start, Math.min(start + chunkSize, count),
+						event, this.logger);
+				try {
+					DeliveryPriorities.execute(this.executorService, event, runner);
+				} catch (Throwable exception) {
+					// The runner was not submitted: its reference to the event is released here.
+					if (!runner.isStarted()) {
+						SREutils.releaseEvent(event);
+					}
+					throw exception;
 				}
 			}
 		}
@@ -189,6 +406,11 @@ public abstract class AbstractEventSpace extends SpaceBase {
 		return Collections3.unmodifiableSynchronizedSet(getParticipantInternalDataStructure().getParticipantIDs());
 	}
 
+	@Override
+	public Set<UUID> getParticipantsSnapshot() {
+		return getParticipantInternalDataStructure().getParticipantIDsSnapshot();
+	}
+
 	@Override
 	public String toString() {
 		return getSpaceID().toString();
@@ -205,37 +427,160 @@ public abstract class AbstractEventSpace extends SpaceBase {
 	}
 
 	/**
-	 * Asynchronous runner.
+	 * Immutable index of the participants that may react to a type of event.
 	 *
 	 * @author $Author: sgalland$
 	 * @version $FullVersion$
 	 * @mavengroupid $GroupId$
 	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
 	 */
-	private static class AsyncRunner implements Runnable {
+	private static final class Subscribers {
 
-		private final EventListener agent;
+		final Address[] addresses;
+
+		final EventListener[] listeners;
+
+		final int size;
+
+		Subscribers(Address[] addresses, EventListener[] listeners, int size) {
+			this.addresses = addresses;
+			this.listeners = listeners;
+			this.size = size;
+		}
+
+		/** Replies the index of the given address.
+		 *
+		 * @param address the address to search for.
+		 * @return the index, or {@code -1} if the address is not in this entry.
+		 */
+		private int indexOf(Address address) {
+			for (int i = 0; i < this.size; ++i) {
+				if (address.equals(this.addresses[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Replies if the given address is in this entry.
+		 *
+		 * @param address the address to search for.
+		 * @return {@code true} if the address is in this entry.
+		 */
+		boolean contains(Address address) {
+			return indexOf(address) >= 0;
+		}
+
+		/** Replies a copy of this entry with the given participant.
+		 *
+		 * @param address the address of the participant.
+		 * @param listener the participant.
+		 * @return the new entry.
+		 */
+		Subscribers with(Address address, EventListener listener) {
+			final Address[] newAddresses = Arrays.copyOf(this.addresses, this.size + 1);
+			final EventListener[] newListeners = Arrays.copyOf(this.listeners, this.size + 1);
+			newAddresses[this.size] = address;
+			newListeners[this.size] = listener;
+			return new Subscribers(newAddresses, newListeners, this.size + 1);
+		}
+
+		/** Replies a copy of this entry without the given participant.
+		 *
+		 * @param address the address of the participant.
+		 * @return the new entry.
+		 */
+		Subscribers without(Address address) {
+			final int index = indexOf(address);
+			if (index < 0) {
+				return this;
+			}
+			final Address[] newAddresses = new Address[this.size - 1];
+			final EventListener[] newListeners = new EventListener[this.size - 1];
+			System.arraycopy(this.addresses, 0, newAddresses, 0, index);
+			System.arraycopy(this.listeners, 0, newListeners, 0, index);
+			System.arraycopy(this.addresses, index + 1, newAddresses, index, this.size - index - 1);
+			System.arraycopy(this.listeners, index + 1, newListeners, index, this.size - index - 1);
+			return new Subscribers(newAddresses, newListeners, this.size - 1);
+		}
+
+	}
+
+	/**
+	 * Asynchronous runner that delivers an event to a chunk of receivers.
+	 *
+	 * <p>The runner is a {@link JanusRunnable} for not being wrapped by the executor service.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class AsyncRunner extends JanusRunnable {
+
+		private final EventListener[] agents;
+
+		private final int start;
+
+		private final int end;
 
 		private final Event event;
 
+		private final LogService logger;
+
+		private volatile boolean started;
+
 		/**
 		 * Construct.
-		 * @param agent the agent listener.
+		 * @param agents the agent listeners.
+		 * @param start the index of the first agent to which the event must be delivered.
+		 * @param end the index after the last agent to which the event must be delivered.
 		 * @param event the event.
+		 * @param logger the logger to use for reporting the errors.
 		 */
-		AsyncRunner(EventListener agent, Event event) {
-			this.agent = agent;
+		AsyncRunner(EventListener[] agents, int start, int end, Event event, LogService logger) {
+			this.agents = agents;
+			this.start = start;
+			this.end = end;
 			this.event = event;
+			this.logger = logger;
+		}
+
+		/** Replies if the runner was started.
+		 *
+		 * @return {@code true} if the run has started.
+		 */
+		boolean isStarted() {
+			return this.started;
 		}
 
 		@Override
 		public void run() {
-			this.agent.receiveEvent(this.event);
+			this.started = true;
+			try {
+				for (int i = this.start; i < this.end; ++i) {
+					final EventListener agent = this.agents[i];
+					try {
+						agent.receiveEvent(this.event);
+					} catch (EarlyExitException ex) {
+						//
+					} catch (Throwable ex) {
+						// The failure of a receiver must not prevent the delivery to the other receivers of the chunk.
+						if (this.logger != null) {
+							this.logger.getKernelLogger().severe(MessageFormat.format(Messages.AbstractEventSpace_3,
+									this.event, agent, ex));
+						}
+					}
+				}
+			} finally {
+				SREutils.releaseEvent(this.event);
+			}
 		}
 
 		@Override
 		public String toString() {
-			return "[agent=" + this.agent + "; event=" + this.event + "]"; //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+			return "[agents=" + (this.end - this.start) + "; event=" + this.event + "]"; //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
 		}
 
 	}
@@ -52,12 +52,12 @@ public class EventSpaceImpl extends AbstractEventSpace implements OpenEventSpace
 
 	@Override
 	public Address register(EventListener entity) {
-		return getParticipantInternalDataStructure().registerParticipant(new Address(getSpaceID(), entity.getID()), entity);
+		return doRegister(entity);
 	}
 
 	@Override
 	public Address unregister(EventListener entity) {
-		return getParticipantInternalDataStructure().unregisterParticipant(entity);
+		return doUnregister(entity);
 	}
 
 }
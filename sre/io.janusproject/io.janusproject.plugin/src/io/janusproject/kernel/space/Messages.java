@@ -37,6 +37,8 @@ public class Messages extends NLS {
 	public static String AbstractEventSpace_0;
 	public static String AbstractEventSpace_1;
 	public static String AbstractEventSpace_2;
+	public static String AbstractEventSpace_3;
+	public static String SpatialEventSpaceImpl_0;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
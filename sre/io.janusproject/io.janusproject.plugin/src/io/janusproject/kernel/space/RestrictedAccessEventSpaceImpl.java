@@ -86,7 +86,7 @@ public class RestrictedAccessEventSpaceImpl extends AbstractEventSpace implement
 	@Override
 	public Address register(EventListener entity, Principal principal) {
 		if (this.acl.checkPermission(principal, this.accessPermission)) {
-			return getParticipantInternalDataStructure().registerParticipant(new Address(getSpaceID(), entity.getID()), entity);
+			return doRegister(entity);
 		}
 		return null;
 	}
@@ -98,7 +98,7 @@ public class RestrictedAccessEventSpaceImpl extends AbstractEventSpace implement
 
 	@Override
 	public Address unregister(EventListener entity) {
-		return getParticipantInternalDataStructure().unregisterParticipant(entity);
+		return doUnregister(entity);
 	}
 
 }
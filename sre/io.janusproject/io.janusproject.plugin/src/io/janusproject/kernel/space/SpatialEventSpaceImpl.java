@@ -0,0 +1,129 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.kernel.space;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import io.janusproject.services.distributeddata.DistributedDataStructureService;
+import io.janusproject.util.SpatialGrid;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventListener;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.util.SpatialEventSpace;
+
+/**
+ * Default implementation of an event space where the participants are located in a two-dimensional space.
+ *
+ * <p>The positions of the participants are stored into a {@link SpatialGrid}. The spatial index is local to the
+ * kernel: the events that are emitted into a region are delivered to the participants of the current kernel only.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class SpatialEventSpaceImpl extends EventSpaceImpl implements SpatialEventSpace {
+
+	private final SpatialGrid grid;
+
+	/**
+	 * Constructs a spatial event space.
+	 *
+	 * @param id identifier of the space.
+	 * @param factory factory that is used to create the internal data structure.
+	 * @param cellSize the size of the cells of the spatial index.
+	 */
+	public SpatialEventSpaceImpl(SpaceID id, DistributedDataStructureService factory, double cellSize) {
+		super(id, factory);
+		this.grid = new SpatialGrid(cellSize);
+	}
+
+	/** Replies the spatial index of the participants.
+	 *
+	 * @return the spatial index.
+	 */
+	protected SpatialGrid getSpatialIndex() {
+		return this.grid;
+	}
+
+	@Override
+	protected Address doUnregister(EventListener entity) {
+		final Address address = super.doUnregister(entity);
+		this.grid.remove(entity.getID());
+		return address;
+	}
+
+	@Override
+	public void setPosition(UUID participant, double x, double y) {
+		this.grid.update(participant, x, y);
+	}
+
+	@Override
+	public void emitWithin(UUID eventSource, Event event, double x, double y, double radius) {
+		emitInRegion(eventSource, event, it -> this.grid.forEachWithin(x, y, radius, it),
+				"(" + x + ", " + y + "; " + radius + ")"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+	}
+
+	@Override
+	public void emitWithin(UUID eventSource, Event event, double minX, double minY, double maxX, double maxY) {
+		emitInRegion(eventSource, event, it -> this.grid.forEachWithin(minX, minY, maxX, maxY, it),
+				"[" + minX + ", " + minY //$NON-NLS-1$ //$NON-NLS-2$
+				+ "; " + maxX + ", " + maxY + "]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/** Deliver the event to the participants that are replied by the given search into the spatial index.
+	 *
+	 * @param eventSource the source of the event.
+	 * @param event the event to emit.
+	 * @param search the search into the spatial index.
+	 * @param region the description of the region, for the error messages.
+	 */
+	private void emitInRegion(UUID eventSource, Event event, Consumer<Consumer<UUID>> search, String region) {
+		assert event != null;
+		try {
+			ensureEventSource(eventSource, event);
+			final SpaceID spaceID = getSpaceID();
+			final Class<? extends Event> eventType = event.getClass();
+			final Map<Address, EventListener> listeners = getParticipantInternalDataStructure().getListenersSnapshot();
+			final List<EventListener> receivers = new ArrayList<>();
+			search.accept(id -> {
+				final EventListener listener = listeners.get(new Address(spaceID, id));
+				if (listener != null && (!(listener instanceof TypedEventListener)
+						|| ((TypedEventListener) listener).isSubscribedTo(eventType))) {
+					receivers.add(listener);
+				}
+			});
+			fanOut(event, receivers.toArray(new EventListener[receivers.size()]), receivers.size());
+		} catch (Throwable e) {
+			this.logger.getKernelLogger().severe(MessageFormat.format(Messages.SpatialEventSpaceImpl_0, event, region, e));
+		}
+	}
+
+}
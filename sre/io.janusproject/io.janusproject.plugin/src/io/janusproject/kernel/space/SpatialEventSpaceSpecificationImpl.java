@@ -0,0 +1,71 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.kernel.space;
+
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+
+import io.janusproject.JanusConfig;
+import io.janusproject.services.distributeddata.DistributedDataStructureService;
+
+import io.sarl.lang.core.SpaceID;
+import io.sarl.util.SpatialEventSpace;
+import io.sarl.util.SpatialEventSpaceSpecification;
+
+/**
+ * Default implementation of the specification of a spatial event space.
+ *
+ * <p>The first initialization parameter of {@link #create(SpaceID, Object...)} that is a {@link Number} is the size
+ * of the cells of the spatial index. If there is no such parameter, the size is given by the property
+ * {@link JanusConfig#SPATIAL_SPACE_CELL_SIZE_NAME}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class SpatialEventSpaceSpecificationImpl implements SpatialEventSpaceSpecification {
+
+	@Inject
+	private Injector injector;
+
+	@Override
+	public SpatialEventSpace create(SpaceID id, Object... params) {
+		double cellSize = Double.NaN;
+		for (final Object o : params) {
+			if (o instanceof Number) {
+				cellSize = ((Number) o).doubleValue();
+				break;
+			}
+		}
+		if (Double.isNaN(cellSize)) {
+			cellSize = JanusConfig.getSystemPropertyAsFloat(JanusConfig.SPATIAL_SPACE_CELL_SIZE_NAME,
+					JanusConfig.SPATIAL_SPACE_CELL_SIZE_VALUE);
+		}
+		final SpatialEventSpaceImpl space = new SpatialEventSpaceImpl(id,
+				this.injector.getInstance(DistributedDataStructureService.class), cellSize);
+		this.injector.injectMembers(space);
+		return space;
+	}
+
+}
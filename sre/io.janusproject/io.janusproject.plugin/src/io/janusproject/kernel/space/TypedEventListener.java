@@ -0,0 +1,67 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.kernel.space;
+
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventListener;
+
+/**
+ * Event listener that is able to tell to the event spaces the types of the events it is reacting to.
+ *
+ * <p>The event spaces do not deliver to a typed listener the events for which {@link #isSubscribedTo(Class)}
+ * replies {@code false}. The subscriptions of the listener may change during its life. For keeping their
+ * indexes of subscribers up to date, the event spaces are observing the changes of the subscriptions
+ * with {@link #addSubscriptionListener(Runnable)}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public interface TypedEventListener extends EventListener {
+
+	/** Replies if this listener may react to the events of the given type.
+	 *
+	 * <p>The reply must be conservative: if the listener cannot determine if the event is
+	 * supported, e.g. because its handlers are not yet all registered, it must reply {@code true}.
+	 *
+	 * @param eventType the type of the event.
+	 * @return {@code false} if the events of the given type are ignored by this listener.
+	 */
+	boolean isSubscribedTo(Class<? extends Event> eventType);
+
+	/** Add a listener on the changes of the subscriptions of this listener.
+	 *
+	 * <p>The given listener is invoked after each change of the reply of {@link #isSubscribedTo(Class)}.
+	 *
+	 * @param listener the listener.
+	 */
+	void addSubscriptionListener(Runnable listener);
+
+	/** Remove a listener on the changes of the subscriptions of this listener.
+	 *
+	 * @param listener the listener.
+	 */
+	void removeSubscriptionListener(Runnable listener);
+
+}
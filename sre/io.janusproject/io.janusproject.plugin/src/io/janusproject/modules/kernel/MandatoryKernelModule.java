@@ -40,6 +40,7 @@ import io.janusproject.kernel.bic.internaleventdispatching.AgentInternalEventsDi
 import io.janusproject.kernel.space.EventSpaceSpecificationImpl;
 import io.janusproject.kernel.space.OpenEventSpaceSpecificationImpl;
 import io.janusproject.kernel.space.RestrictedAccessEventSpaceSpecificationImpl;
+import io.janusproject.kernel.space.SpatialEventSpaceSpecificationImpl;
 import io.janusproject.services.GoogleServiceManager;
 import io.janusproject.services.IServiceManager;
 import io.janusproject.services.contextspace.ContextSpaceService;
@@ -52,6 +53,7 @@ import io.sarl.sarlspecification.SarlSpecificationChecker;
 import io.sarl.sarlspecification.StandardSarlSpecificationChecker;
 import io.sarl.util.OpenEventSpaceSpecification;
 import io.sarl.util.RestrictedAccessEventSpaceSpecification;
+import io.sarl.util.SpatialEventSpaceSpecification;
 
 /**
  * Configure the mandatory elements of the Janus kernel.
@@ -81,6 +83,7 @@ public class MandatoryKernelModule extends AbstractModule {
 		bind(OpenEventSpaceSpecification.class).to(OpenEventSpaceSpecificationImpl.class).in(Singleton.class);
 		bind(RestrictedAccessEventSpaceSpecification.class).to(RestrictedAccessEventSpaceSpecificationImpl.class)
 				.in(Singleton.class);
+		bind(SpatialEventSpaceSpecification.class).to(SpatialEventSpaceSpecificationImpl.class).in(Singleton.class);
 	}
 
 	/** Construct the root agent context within the Janus platform.
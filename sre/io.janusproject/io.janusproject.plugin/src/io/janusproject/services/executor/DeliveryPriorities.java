@@ -0,0 +1,79 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.services.executor;
+
+import io.sarl.lang.annotation.DeliveryPriority;
+import io.sarl.lang.core.Event;
+
+/**
+ * Utilities for submitting the delivery tasks of the events according to their {@link DeliveryPriority}.
+ *
+ * <p>The annotations of the event types are read once per type.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public final class DeliveryPriorities {
+
+	private static final ClassValue<DeliveryPriority> PRIORITIES = new ClassValue<DeliveryPriority>() {
+		@Override
+		protected DeliveryPriority computeValue(Class<?> type) {
+			final DeliveryPriority priority = type.getAnnotation(DeliveryPriority.class);
+			if (priority != null && priority.value() == DeliveryPriority.NORMAL && priority.deadline() <= 0) {
+				return null;
+			}
+			return priority;
+		}
+	};
+
+	private DeliveryPriorities() {
+		//
+	}
+
+	/** Replies the delivery priority of the given event type.
+	 *
+	 * @param eventType the type of the event.
+	 * @return the priority, or {@code null} if the events of the given type are delivered in the order of their submission.
+	 */
+	public static DeliveryPriority getDeliveryPriority(Class<? extends Event> eventType) {
+		return PRIORITIES.get(eventType);
+	}
+
+	/** Submit the given delivery task to the executor service according to the delivery priority of the event.
+	 *
+	 * @param service the executor service.
+	 * @param event the event that is delivered by the task.
+	 * @param task the task to submit.
+	 */
+	public static void execute(ExecutorService service, Event event, Runnable task) {
+		final DeliveryPriority priority = PRIORITIES.get(event.getClass());
+		if (priority == null) {
+			service.execute(task);
+		} else {
+			service.execute(task, priority.value(), priority.deadline());
+		}
+	}
+
+}
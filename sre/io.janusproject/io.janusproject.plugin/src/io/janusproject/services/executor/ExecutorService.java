@@ -62,6 +62,41 @@ public interface ExecutorService extends DependentService {
 	 */
 	void execute(Runnable task);
 
+	/**
+	 * Submit a task with the given priority and deadline to the executor service.
+	 *
+	 * <p>The tasks that are submitted with this function are scheduled in lanes:<ul>
+	 * <li>the tasks with a deadline are run first, the earliest deadline first;</li>
+	 * <li>then, the tasks with a positive priority are run in the order of their submission;</li>
+	 * <li>the tasks with a negative priority are run in the order of their submission, with a limited parallelism.</li>
+	 * </ul>
+	 * A task without deadline and with a priority equal to zero is submitted with {@link #execute(Runnable)}.
+	 *
+	 * @param task the task to submit.
+	 * @param priority the priority of the task. The sign of the priority selects the lane of the task.
+	 * @param deadline the maximal delay, in milliseconds, before the start of the task; or {@code 0} if there is no deadline.
+	 * @since 0.9
+	 * @see io.sarl.lang.annotation.DeliveryPriority
+	 */
+	void execute(Runnable task, int priority, long deadline);
+
+	/**
+	 * Replies the number of tasks with a deadline that were submitted with {@link #execute(Runnable, int, long)} and
+	 * that were run.
+	 *
+	 * @return the number of tasks with a deadline.
+	 * @since 0.9
+	 */
+	long getDeadlineTaskCount();
+
+	/**
+	 * Replies the number of tasks with a deadline that have started after their deadline.
+	 *
+	 * @return the number of deadline misses.
+	 * @since 0.9
+	 */
+	long getDeadlineMissCount();
+
 	/**
 	 * Submit a single task multiple times to the executor service.
 	 *
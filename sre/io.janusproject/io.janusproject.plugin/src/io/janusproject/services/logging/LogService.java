@@ -21,11 +21,13 @@
 
 package io.janusproject.services.logging;
 
+import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import io.janusproject.services.DependentService;
+import io.janusproject.util.AgentLogger;
 import io.janusproject.util.LoggerCreator;
 
 /**
@@ -65,6 +67,32 @@ public interface LogService extends DependentService {
 		return createAgentLogger(loggingName, null);
 	}
 
+	/** Create a logger for an agent.
+	 *
+	 * <p>The replied logger is not registered into the global logging manager. It gives its log records to the
+	 * {@link #getPlatformLogger() platform logger}, which is shared by all the agents. The identifier of the agent
+	 * is attached to the replied logger.
+	 *
+	 * @param agentId the identifier of the agent.
+	 * @param initialLevel the initial logging level, or {@code null} for the default level.
+	 * @return the agent logger.
+	 * @since 0.9
+	 */
+	default Logger createAgentLogger(UUID agentId, Level initialLevel) {
+		return new AgentLogger(agentId, getPlatformLogger(), initialLevel);
+	}
+
+	/** Create a logger for an agent.
+	 *
+	 * @param agentId the identifier of the agent.
+	 * @return the agent logger.
+	 * @since 0.9
+	 * @see #createAgentLogger(UUID, Level)
+	 */
+	default Logger createAgentLogger(UUID agentId) {
+		return createAgentLogger(agentId, null);
+	}
+
 	/**
 	 * Replies the logger of the entire platform. The platform logger is the
 	 * parent logger for the ones associated to the platform kernel and the agents.
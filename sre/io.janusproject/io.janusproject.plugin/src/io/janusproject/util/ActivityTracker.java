@@ -0,0 +1,109 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counter of the running activities of a component, e.g. the tasks that are submitted to an executor service.
+ *
+ * <p>Each activity must invoke {@link #enter()} before it is started, or before it is submitted, and {@link #leave()}
+ * when it is terminated, or when it cannot be submitted. The callbacks that are given to {@link #whenIdle(Runnable)}
+ * are invoked once, as soon as there is no more running activity.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public final class ActivityTracker {
+
+	private final AtomicInteger activities = new AtomicInteger();
+
+	private final Queue<Runnable> idleCallbacks = new ConcurrentLinkedQueue<>();
+
+	/** Replies the number of running activities.
+	 *
+	 * @return the number of activities.
+	 */
+	public int getActivityCount() {
+		return this.activities.get();
+	}
+
+	/** Replies if there is no running activity.
+	 *
+	 * @return {@code true} if no activity is running.
+	 */
+	public boolean isIdle() {
+		return this.activities.get() <= 0;
+	}
+
+	/** Notifies that an activity is starting.
+	 */
+	public void enter() {
+		this.activities.incrementAndGet();
+	}
+
+	/** Notifies that an activity is terminated. The idle callbacks are invoked if it was the last running activity.
+	 */
+	public void leave() {
+		if (this.activities.decrementAndGet() <= 0) {
+			fireIdle();
+		}
+	}
+
+	/** Invoke the given callback when there is no more running activity.
+	 *
+	 * <p>If there is no running activity, the callback is invoked within the current thread. Otherwise, it is
+	 * invoked by the thread that is terminating the last running activity.
+	 *
+	 * @param callback the callback.
+	 */
+	public void whenIdle(Runnable callback) {
+		assert callback != null;
+		this.idleCallbacks.offer(callback);
+		if (isIdle()) {
+			fireIdle();
+		}
+	}
+
+	/** Invoke the idle callbacks. Each callback is removed before being invoked, in order to invoke it once.
+	 */
+	private void fireIdle() {
+		Runnable callback = this.idleCallbacks.poll();
+		while (callback != null) {
+			callback.run();
+			callback = isIdle() ? this.idleCallbacks.poll() : null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Integer.toString(getActivityCount());
+	}
+
+}
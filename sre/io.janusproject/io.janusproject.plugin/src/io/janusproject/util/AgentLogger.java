@@ -0,0 +1,148 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.util;
+
+import java.text.MessageFormat;
+import java.util.UUID;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import com.google.common.base.Strings;
+
+import io.janusproject.kernel.bic.Messages;
+
+/**
+ * Logger that is dedicated to a single agent.
+ *
+ * <p>This logger is not registered into the global {@link java.util.logging.LogManager}. It does not own
+ * output handlers: the log records are given to a logger that is shared by all the agents,
+ * usually the platform logger. The identifier of the agent is attached to this logger,
+ * and it is used for building the logger name that is put in the log records. This name is
+ * built only when a record is logged for the first time.
+ *
+ * <p>The logging level is stored in this logger without using the locks of the logging
+ * manager.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class AgentLogger extends Logger {
+
+	private static final int OFF_VALUE = Level.OFF.intValue();
+
+	private final UUID agentId;
+
+	private final Logger target;
+
+	private volatile String loggingName;
+
+	private volatile Level level;
+
+	/** Constructor.
+	 *
+	 * @param agentId the identifier of the agent.
+	 * @param target the shared logger that is receiving the log records of this logger.
+	 * @param initialLevel the initial logging level. If it is {@code null}, the level is
+	 *     given by {@link LoggerCreator#getLoggingLevelFromProperties()}.
+	 */
+	public AgentLogger(UUID agentId, Logger target, Level initialLevel) {
+		super(null, null);
+		assert agentId != null;
+		assert target != null;
+		this.agentId = agentId;
+		this.target = target;
+		this.level = initialLevel == null ? LoggerCreator.getLoggingLevelFromProperties() : initialLevel;
+	}
+
+	/** Replies the identifier of the agent that is associated to this logger.
+	 *
+	 * @return the identifier of the agent.
+	 */
+	public UUID getAgentID() {
+		return this.agentId;
+	}
+
+	/** Replies the shared logger that is receiving the log records of this logger.
+	 *
+	 * @return the shared logger.
+	 */
+	public Logger getTargetLogger() {
+		return this.target;
+	}
+
+	@Override
+	public String getName() {
+		String name = this.loggingName;
+		if (name == null) {
+			name = MessageFormat.format(Messages.LoggingSkill_0, this.agentId);
+			this.loggingName = name;
+		}
+		return name;
+	}
+
+	/** Change the name that is put in the log records.
+	 *
+	 * @param name the name. If it is {@code null} or empty, the default name based on the agent identifier is used.
+	 */
+	public void setLoggingName(String name) {
+		this.loggingName = Strings.isNullOrEmpty(name) ? null : name;
+	}
+
+	@Override
+	public Level getLevel() {
+		return this.level;
+	}
+
+	@Override
+	public void setLevel(Level newLevel) {
+		this.level = newLevel;
+	}
+
+	@Override
+	public boolean isLoggable(Level lvl) {
+		final Level current = this.level;
+		if (current == null) {
+			return this.target.isLoggable(lvl);
+		}
+		final int levelValue = current.intValue();
+		return lvl.intValue() >= levelValue && levelValue != OFF_VALUE;
+	}
+
+	@Override
+	public void log(LogRecord record) {
+		if (!isLoggable(record.getLevel())) {
+			return;
+		}
+		final Filter filter = getFilter();
+		if (filter != null && !filter.isLoggable(record)) {
+			return;
+		}
+		record.setLoggerName(getName());
+		this.target.log(record);
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Output handler that is writing the log records with a background thread.
+ *
+ * <p>The log records are queued by {@link #publish(LogRecord)}, and given to the
+ * delegate handlers by batches. The delegate handlers are flushed once per batch.
+ * When the queue is full, or when the handler is closed, the record is written by the calling
+ * thread in order to avoid the loss of log records.
+ *
+ * <p>Because the log records are formatted after the call to the logger, the name of the
+ * calling function is not computed, and the parameters of the messages should not be changed
+ * after they are logged.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class AsynchronousHandler extends Handler {
+
+	private static final String THREAD_NAME = "janus-logging"; //$NON-NLS-1$
+
+	private final Handler[] delegates;
+
+	private final BlockingQueue<LogRecord> queue;
+
+	private final int batchSize;
+
+	private final Object publishLock = new Object();
+
+	private final Thread worker;
+
+	private volatile boolean closed;
+
+	/** Constructor.
+	 *
+	 * @param queueSize the maximal number of records that are waiting for the background thread.
+	 * @param batchSize the maximal number of records that are written before flushing the delegate handlers.
+	 * @param delegates the handlers that are writing the log records.
+	 */
+	public AsynchronousHandler(int queueSize, int batchSize, Handler... delegates) {
+		assert queueSize > 0;
+		assert batchSize > 0;
+		this.delegates = delegates;
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+		this.batchSize = batchSize;
+		this.worker = new Thread(this::run, THREAD_NAME);
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	@Override
+	public void publish(LogRecord record) {
+		if (!isLoggable(record)) {
+			return;
+		}
+		if (this.closed || !this.queue.offer(record)) {
+			final List<LogRecord> batch = new ArrayList<>(1);
+			batch.add(record);
+			publishBatch(batch);
+		}
+	}
+
+	@Override
+	public void flush() {
+		final List<LogRecord> batch = new ArrayList<>();
+		this.queue.drainTo(batch);
+		publishBatch(batch);
+	}
+
+	/** {@inheritDoc}
+	 *
+	 * <p>The background thread is stopped, and the log records that are still queued are
+	 * written by the calling thread before the delegate handlers are closed.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		this.worker.interrupt();
+		if (Thread.currentThread() != this.worker) {
+			try {
+				this.worker.join();
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		flush();
+		for (final Handler delegate : this.delegates) {
+			delegate.close();
+		}
+	}
+
+	private void run() {
+		final List<LogRecord> batch = new ArrayList<>(this.batchSize);
+		while (!this.closed) {
+			try {
+				batch.add(this.queue.take());
+			} catch (InterruptedException exception) {
+				continue;
+			}
+			this.queue.drainTo(batch, this.batchSize - 1);
+			publishBatch(batch);
+			batch.clear();
+		}
+	}
+
+	private void publishBatch(List<LogRecord> batch) {
+		if (!batch.isEmpty()) {
+			synchronized (this.publishLock) {
+				try {
+					for (final LogRecord record : batch) {
+						for (final Handler delegate : this.delegates) {
+							delegate.publish(record);
+						}
+					}
+					for (final Handler delegate : this.delegates) {
+						delegate.flush();
+					}
+				} catch (Exception exception) {
+					reportError(null, exception, ErrorManager.WRITE_FAILURE);
+				}
+			}
+		}
+	}
+
+}
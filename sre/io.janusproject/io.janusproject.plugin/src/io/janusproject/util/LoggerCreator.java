@@ -78,6 +78,9 @@ public final class LoggerCreator {
 	 * output handlers with handlers for the standard output and standard error.
 	 * The platform logger is a root logger.
 	 *
+	 * <p>If {@link JanusConfig#ASYNCHRONOUS_LOGGING_NAME} is enabled, the output handlers are
+	 * wrapped into an {@link AsynchronousHandler}.
+	 *
 	 * @return the logger.
 	 */
 	public static Logger createPlatformLogger() {
@@ -85,12 +88,27 @@ public final class LoggerCreator {
 		for (final Handler handler : logger.getHandlers()) {
 			logger.removeHandler(handler);
 		}
-		final Handler stderr = new StandardErrorOutputConsoleHandler();
+		final AbstractStandardConsoleHandler stderr = new StandardErrorOutputConsoleHandler();
 		stderr.setLevel(Level.ALL);
-		final Handler stdout = new StandardOutputConsoleHandler();
+		final AbstractStandardConsoleHandler stdout = new StandardOutputConsoleHandler();
 		stdout.setLevel(Level.ALL);
-		logger.addHandler(stderr);
-		logger.addHandler(stdout);
+		if (JanusConfig.getSystemPropertyAsBoolean(JanusConfig.ASYNCHRONOUS_LOGGING_NAME,
+				JanusConfig.ASYNCHRONOUS_LOGGING_VALUE.booleanValue())) {
+			// The asynchronous handler is flushing the outputs once per batch of records.
+			stderr.setAutoFlush(false);
+			stdout.setAutoFlush(false);
+			final Handler async = new AsynchronousHandler(
+					JanusConfig.getSystemPropertyAsInteger(JanusConfig.ASYNCHRONOUS_LOGGING_QUEUE_SIZE_NAME,
+							JanusConfig.ASYNCHRONOUS_LOGGING_QUEUE_SIZE_VALUE),
+					JanusConfig.getSystemPropertyAsInteger(JanusConfig.ASYNCHRONOUS_LOGGING_BATCH_SIZE_NAME,
+							JanusConfig.ASYNCHRONOUS_LOGGING_BATCH_SIZE_VALUE),
+					stderr, stdout);
+			async.setLevel(Level.ALL);
+			logger.addHandler(async);
+		} else {
+			logger.addHandler(stderr);
+			logger.addHandler(stdout);
+		}
 		logger.setUseParentHandlers(false);
 		logger.setLevel(Level.ALL);
 		return logger;
@@ -297,6 +315,8 @@ public final class LoggerCreator {
 	 */
 	public abstract static class AbstractStandardConsoleHandler extends StreamHandler {
 
+		private volatile boolean autoFlush = true;
+
 		/**
 		 * Constructor.
 		 *
@@ -306,10 +326,30 @@ public final class LoggerCreator {
 			super(stream, new SimpleFormatter());
 		}
 
+		/** Change the flag that indicates if the stream is flushed after each published record.
+		 *
+		 * @param autoFlush {@code true} for flushing after each record.
+		 * @since 0.9
+		 */
+		public void setAutoFlush(boolean autoFlush) {
+			this.autoFlush = autoFlush;
+		}
+
+		/** Replies if the stream is flushed after each published record.
+		 *
+		 * @return {@code true} for flushing after each record.
+		 * @since 0.9
+		 */
+		public boolean isAutoFlush() {
+			return this.autoFlush;
+		}
+
 		@Override
 		public synchronized void publish(LogRecord record) {
 			super.publish(record);
-			flush();
+			if (this.autoFlush) {
+				flush();
+			}
 		}
 
 		@Override
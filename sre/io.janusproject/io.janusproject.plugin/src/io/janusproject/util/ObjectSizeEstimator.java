@@ -0,0 +1,245 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Estimator of the memory size of objects.
+ *
+ * <p>The estimation assumes a 64-bit virtual machine with compressed references:
+ * the object headers have 12 bytes, the array headers have 16 bytes, the references have 4 bytes,
+ * and the objects are aligned on 8 bytes. The retained size of an object is the sum of the sizes
+ * of the objects that are reachable from it, without crossing a boundary object, and without
+ * counting twice the same object for the same estimator instance.
+ * The fields of the classes that cannot be accessed by reflection are not explored.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public class ObjectSizeEstimator {
+
+	private static final int OBJECT_HEADER_SIZE = 12;
+
+	private static final int ARRAY_HEADER_SIZE = 16;
+
+	private static final int REFERENCE_SIZE = 4;
+
+	private static final int ALIGNMENT = 8;
+
+	private static final int DEFAULT_MAX_OBJECTS = 100000;
+
+	private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<ClassLayout>() {
+		@Override
+		protected ClassLayout computeValue(Class<?> type) {
+			return new ClassLayout(type);
+		}
+	};
+
+	private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+
+	private final Predicate<Object> boundary;
+
+	private final int maxObjects;
+
+	/** Constructor.
+	 *
+	 * @param boundary the predicate that replies {@code true} for the objects that must not be explored.
+	 */
+	public ObjectSizeEstimator(Predicate<Object> boundary) {
+		this(boundary, DEFAULT_MAX_OBJECTS);
+	}
+
+	/** Constructor.
+	 *
+	 * @param boundary the predicate that replies {@code true} for the objects that must not be explored.
+	 * @param maxObjects the maximal number of objects that are explored for each call to {@link #retainedSize(Object)}.
+	 */
+	public ObjectSizeEstimator(Predicate<Object> boundary, int maxObjects) {
+		assert boundary != null;
+		assert maxObjects > 0;
+		this.boundary = boundary;
+		this.maxObjects = maxObjects;
+	}
+
+	/** Mark the given object as already counted, without counting it.
+	 *
+	 * @param object the object to ignore.
+	 */
+	public void ignore(Object object) {
+		if (object != null) {
+			this.visited.put(object, Boolean.TRUE);
+		}
+	}
+
+	/** Estimate the size of the objects that are reachable from the given object, and that
+	 * were not already counted by this estimator.
+	 *
+	 * @param root the root object.
+	 * @return the estimated size in bytes.
+	 */
+	public long retainedSize(Object root) {
+		if (root == null || this.visited.containsKey(root)) {
+			return 0;
+		}
+		long size = 0;
+		int count = 0;
+		final Deque<Object> stack = new ArrayDeque<>();
+		this.visited.put(root, Boolean.TRUE);
+		stack.push(root);
+		while (!stack.isEmpty() && count < this.maxObjects) {
+			final Object object = stack.pop();
+			++count;
+			final Class<?> type = object.getClass();
+			if (type.isArray()) {
+				final int length = Array.getLength(object);
+				final Class<?> componentType = type.getComponentType();
+				size += align(ARRAY_HEADER_SIZE + (long) length * sizeOf(componentType));
+				if (!componentType.isPrimitive()) {
+					for (int i = 0; i < length; ++i) {
+						push(stack, Array.get(object, i));
+					}
+				}
+			} else {
+				final ClassLayout layout = getLayout(type);
+				size += layout.shallowSize;
+				for (final Field field : layout.referenceFields) {
+					try {
+						push(stack, field.get(object));
+					} catch (Exception exception) {
+						//
+					}
+				}
+			}
+		}
+		return size;
+	}
+
+	/** Estimate the shallow size of the given object.
+	 *
+	 * @param object the object.
+	 * @return the estimated size in bytes.
+	 */
+	public static long shallowSize(Object object) {
+		if (object == null) {
+			return 0;
+		}
+		final Class<?> type = object.getClass();
+		if (type.isArray()) {
+			return align(ARRAY_HEADER_SIZE + (long) Array.getLength(object) * sizeOf(type.getComponentType()));
+		}
+		return getLayout(type).shallowSize;
+	}
+
+	private void push(Deque<Object> stack, Object object) {
+		if (object != null && !this.visited.containsKey(object)) {
+			this.visited.put(object, Boolean.TRUE);
+			if (!isLeaf(object) && !this.boundary.test(object)) {
+				stack.push(object);
+			}
+		}
+	}
+
+	private static boolean isLeaf(Object object) {
+		return object instanceof Class<?> || object instanceof ClassLoader || object instanceof Thread;
+	}
+
+	private static ClassLayout getLayout(Class<?> type) {
+		return LAYOUTS.get(type);
+	}
+
+	private static long align(long size) {
+		return ((size + ALIGNMENT - 1) / ALIGNMENT) * ALIGNMENT;
+	}
+
+	@SuppressWarnings({"checkstyle:returncount", "checkstyle:magicnumber", "checkstyle:npathcomplexity"})
+	private static int sizeOf(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return REFERENCE_SIZE;
+		}
+		if (type == long.class || type == double.class) {
+			return 8;
+		}
+		if (type == int.class || type == float.class) {
+			return 4;
+		}
+		if (type == short.class || type == char.class) {
+			return 2;
+		}
+		return 1;
+	}
+
+	/**
+	 * Description of the memory layout of a class.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class ClassLayout {
+
+		final long shallowSize;
+
+		final List<Field> referenceFields = new ArrayList<>();
+
+		ClassLayout(Class<?> type) {
+			long size = OBJECT_HEADER_SIZE;
+			Class<?> current = type;
+			while (current != null) {
+				for (final Field field : current.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						final Class<?> fieldType = field.getType();
+						size += sizeOf(fieldType);
+						if (!fieldType.isPrimitive()) {
+							try {
+								field.setAccessible(true);
+								this.referenceFields.add(field);
+							} catch (RuntimeException exception) {
+								// The field is not accessible; its value is not explored.
+							}
+						}
+					}
+				}
+				current = current.getSuperclass();
+			}
+			this.shallowSize = align(size);
+		}
+
+	}
+
+}
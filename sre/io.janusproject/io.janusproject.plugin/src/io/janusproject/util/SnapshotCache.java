@@ -0,0 +1,128 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the immutable snapshot of a data structure.
+ *
+ * <p>The data structure that is the source of the snapshot must invoke {@link #invalidate()} each time it is changed.
+ * The snapshot is built on demand, after a change of the source, by the builder given to the constructor.
+ * Then, the snapshot is shared by the callers of {@link #get()} until the next change of the source.
+ * In this way, the acquisition of a snapshot is a constant-time and lock-free operation when the source
+ * is not changed, and the callers could iterate on the snapshot without holding the mutex of the source.
+ *
+ * <p>The version of the snapshot is increased each time the source is changed. It may be used for
+ * detecting the changes of the source without acquiring a new snapshot.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <C> the type of the snapshot.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public final class SnapshotCache<C> {
+
+	private final Supplier<? extends C> builder;
+
+	private final AtomicLong version = new AtomicLong();
+
+	private volatile Snapshot<C> snapshot;
+
+	/** Constructor.
+	 *
+	 * @param builder the builder of the snapshot. It must reply an immutable copy of the source,
+	 *     and it must be synchronized on the mutex of the source if needed.
+	 */
+	public SnapshotCache(Supplier<? extends C> builder) {
+		assert builder != null;
+		this.builder = builder;
+	}
+
+	/** Replies the version of the source.
+	 *
+	 * @return the version, which is increased each time the source is changed.
+	 */
+	public long getVersion() {
+		return this.version.get();
+	}
+
+	/** Notifies that the source is changed, and the current snapshot is obsolete.
+	 */
+	public void invalidate() {
+		this.version.incrementAndGet();
+	}
+
+	/** Replies the snapshot of the source.
+	 *
+	 * <p>The snapshot is rebuilt if the source was changed since the last call to this function.
+	 *
+	 * @return the snapshot.
+	 */
+	public C get() {
+		final long currentVersion = this.version.get();
+		final Snapshot<C> current = this.snapshot;
+		if (current != null && current.version == currentVersion) {
+			return current.value;
+		}
+		// The builder may run concurrently for the same version. The built snapshots are equivalent.
+		// A snapshot that is tagged with an obsolete version is rebuilt at the next call.
+		final C value = this.builder.get();
+		this.snapshot = new Snapshot<>(value, currentVersion);
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		final Snapshot<C> current = this.snapshot;
+		return current == null ? "" : String.valueOf(current.value); //$NON-NLS-1$
+	}
+
+	/**
+	 * Snapshot and its version.
+	 *
+	 * @param <C> the type of the snapshot.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class Snapshot<C> {
+
+		final C value;
+
+		final long version;
+
+		Snapshot(C value, long version) {
+			this.value = value;
+			this.version = version;
+		}
+
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.util;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Spatial index of identified points, based on a uniform grid.
+ *
+ * <p>The plane is split into square cells. Each point is stored in the cell that contains it. A search into a region
+ * visits only the cells that are intersecting the region. Its cost is proportional to the number of these cells and to the
+ * number of points inside them, and not to the total number of points. The cells without point are not stored.
+ *
+ * <p>The updates of the positions are incremental: a point is moved from a cell to another only when it crosses
+ * the border of its cell. The updates of the position of the same point are serialized. The searches are
+ * lock-free and they may run in parallel to the updates.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.9
+ */
+public final class SpatialGrid {
+
+	private final double cellSize;
+
+	private final ConcurrentMap<UUID, Point> points = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Long, Map<UUID, Point>> cells = new ConcurrentHashMap<>();
+
+	/** Constructor.
+	 *
+	 * @param cellSize the size of the sides of the cells.
+	 */
+	public SpatialGrid(double cellSize) {
+		if (!(cellSize > 0.) || Double.isInfinite(cellSize)) {
+			throw new IllegalArgumentException();
+		}
+		this.cellSize = cellSize;
+	}
+
+	/** Replies the size of the sides of the cells.
+	 *
+	 * @return the size of the cells.
+	 */
+	public double getCellSize() {
+		return this.cellSize;
+	}
+
+	/** Replies the number of points in the grid.
+	 *
+	 * @return the number of points.
+	 */
+	public int size() {
+		return this.points.size();
+	}
+
+	/** Replies if the given point is inside the grid.
+	 *
+	 * @param id the identifier of the point.
+	 * @return {@code true} if the point is in the grid.
+	 */
+	public boolean contains(UUID id) {
+		return this.points.containsKey(id);
+	}
+
+	private int cellIndex(double coordinate) {
+		return (int) Math.floor(coordinate / this.cellSize);
+	}
+
+	private static long cellKey(int cellX, int cellY) {
+		return (((long) cellX) << 32) | (cellY & 0xffffffffL);
+	}
+
+	/** Add the given point, or change its position.
+	 *
+	 * @param id the identifier of the point.
+	 * @param x the x coordinate of the point.
+	 * @param y the y coordinate of the point.
+	 */
+	public void update(UUID id, double x, double y) {
+		assert id != null;
+		final long key = cellKey(cellIndex(x), cellIndex(y));
+		final Point point = new Point(id, x, y, key);
+		this.points.compute(id, (it, previous) -> {
+			if (previous != null && previous.cell != key) {
+				removeFromCell(previous);
+			}
+			this.cells.compute(Long.valueOf(key), (it2, cell) -> {
+				final Map<UUID, Point> content = cell == null ? new ConcurrentHashMap<>() : cell;
+				content.put(id, point);
+				return content;
+			});
+			return point;
+		});
+	}
+
+	/** Remove the given point.
+	 *
+	 * @param id the identifier of the point.
+	 * @return {@code true} if the point was removed; {@code false} if the point is not in the grid.
+	 */
+	public boolean remove(UUID id) {
+		assert id != null;
+		final boolean[] removed = new boolean[1];
+		this.points.computeIfPresent(id, (it, previous) -> {
+			removeFromCell(previous);
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+
+	private void removeFromCell(Point point) {
+		this.cells.computeIfPresent(Long.valueOf(point.cell), (it, cell) -> {
+			cell.remove(point.id);
+			return cell.isEmpty() ? null : cell;
+		});
+	}
+
+	/** Remove all the points.
+	 */
+	public void clear() {
+		for (final UUID id : this.points.keySet()) {
+			remove(id);
+		}
+	}
+
+	/** Visit the points that are inside the given rectangle.
+	 *
+	 * @param minX the lowest x coordinate of the rectangle.
+	 * @param minY the lowest y coordinate of the rectangle.
+	 * @param maxX the highest x coordinate of the rectangle.
+	 * @param maxY the highest y coordinate of the rectangle.
+	 * @param consumer the receiver of the identifiers of the points.
+	 */
+	public void forEachWithin(double minX, double minY, double maxX, double maxY, Consumer<? super UUID> consumer) {
+		if (minX <= maxX && minY <= maxY) {
+			search(minX, minY, maxX, maxY, Double.NaN, Double.NaN, Double.NaN, consumer);
+		}
+	}
+
+	/** Visit the points that are inside the given disc.
+	 *
+	 * @param x the x coordinate of the center of the disc.
+	 * @param y the y coordinate of the center of the disc.
+	 * @param radius the radius of the disc.
+	 * @param consumer the receiver of the identifiers of the points.
+	 */
+	public void forEachWithin(double x, double y, double radius, Consumer<? super UUID> consumer) {
+		if (radius >= 0.) {
+			search(x - radius, y - radius, x + radius, y + radius, x, y, radius * radius, consumer);
+		}
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private void search(double minX, double minY, double maxX, double maxY,
+			double centerX, double centerY, double squaredRadius, Consumer<? super UUID> consumer) {
+		final boolean disc = !Double.isNaN(squaredRadius);
+		final long minCellX = cellIndex(minX);
+		final long minCellY = cellIndex(minY);
+		final long maxCellX = cellIndex(maxX);
+		final long maxCellY = cellIndex(maxY);
+		final long width = maxCellX - minCellX + 1;
+		final long height = maxCellY - minCellY + 1;
+		final int populatedCells = this.cells.size();
+		if (width > populatedCells || height > populatedCells || width * height > populatedCells) {
+			// The region is larger than the populated part of the grid: the populated cells are visited.
+			for (final Map<UUID, Point> cell : this.cells.values()) {
+				visit(cell, minX, minY, maxX, maxY, disc, centerX, centerY, squaredRadius, consumer);
+			}
+		} else {
+			for (long cellX = minCellX; cellX <= maxCellX; ++cellX) {
+				for (long cellY = minCellY; cellY <= maxCellY; ++cellY) {
+					final Map<UUID, Point> cell = this.cells.get(Long.valueOf(cellKey((int) cellX, (int) cellY)));
+					if (cell != null) {
+						visit(cell, minX, minY, maxX, maxY, disc, centerX, centerY, squaredRadius, consumer);
+					}
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private static void visit(Map<UUID, Point> cell, double minX, double minY, double maxX, double maxY,
+			boolean disc, double centerX, double centerY, double squaredRadius, Consumer<? super UUID> consumer) {
+		for (final Point point : cell.values()) {
+			if (point.x >= minX && point.x <= maxX && point.y >= minY && point.y <= maxY) {
+				if (disc) {
+					final double dx = point.x - centerX;
+					final double dy = point.y - centerY;
+					if (dx * dx + dy * dy <= squaredRadius) {
+						consumer.accept(point.id);
+					}
+				} else {
+					consumer.accept(point.id);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Point in the grid.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.9
+	 */
+	private static final class Point {
+
+		final UUID id;
+
+		final double x;
+
+		final double y;
+
+		final long cell;
+
+		Point(UUID id, double x, double y, long cell) {
+			this.id = id;
+			this.x = x;
+			this.y = y;
+			this.cell = cell;
+		}
+
+	}
+
+}
@@ -36,6 +36,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
 import io.janusproject.kernel.bic.BehaviorsSkill;
+import io.janusproject.kernel.bic.InnerContextSkill;
 import io.janusproject.kernel.bic.InternalEventBusCapacity;
 import io.janusproject.kernel.bic.SchedulesSkill;
 import io.janusproject.tests.testutils.AbstractJanusTest;
@@ -54,6 +55,7 @@ import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventListener;
 import io.sarl.lang.core.EventSpace;
 import io.sarl.lang.core.EventSpaceSpecification;
+import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Scope;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.core.SpaceID;
@@ -109,11 +111,14 @@ public class BehaviorsSkillTest extends AbstractJanusTest {
 		Mockito.when(this.innerSpace.getAddress(ArgumentMatchers.any(UUID.class))).thenReturn(this.address);
 		AgentContext innerContext = Mockito.mock(AgentContext.class);
 		Mockito.when(innerContext.getDefaultSpace()).thenReturn(this.innerSpace);
-		this.innerCapacity = Mockito.mock(InnerContextAccess.class);
-		Mockito.when(this.innerCapacity.getInnerContext()).thenReturn(innerContext);
+		InnerContextSkill innerSkill = Mockito.mock(InnerContextSkill.class);
+		Mockito.when(innerSkill.getInnerContext()).thenReturn(innerContext);
+		Mockito.when(innerSkill.hasInnerContext()).thenReturn(true);
+		this.innerCapacity = innerSkill;
 		this.schedulesCapacity = Mockito.mock(SchedulesSkill.class);
 
 		this.agent = new TestAgent(this);
+		SREutils.createSkillMapping(this.agent, InnerContextAccess.class, innerSkill);
 		this.skill = this.reflect.newInstance(BehaviorsSkill.class, this.agent, this.address);
 
 		this.specificCapacity = new Skill1(this.agent);
@@ -319,6 +324,17 @@ public class BehaviorsSkillTest extends AbstractJanusTest {
 		assertSame(scope, argument3.getValue());
 	}
 
+	@Test
+	public void wake_noInnerContextSkill() {
+		SREutils.getSkillRepository(this.agent).remove(InnerContextAccess.class);
+		Event event = mock(Event.class);
+		this.skill.wake(event);
+		Mockito.verify(this.eventListener).receiveEvent(event);
+		Mockito.verify(this.innerSpace, Mockito.never()).emit(ArgumentMatchers.any(), ArgumentMatchers.any(),
+				ArgumentMatchers.any());
+		assertFalse(SREutils.getSkillRepository(this.agent).containsKey(InnerContextAccess.class));
+	}
+
 	@Test
 	public void contextAwareCapacityCall() throws Exception {
 		TestBehavior b = new TestBehavior(this.agent);
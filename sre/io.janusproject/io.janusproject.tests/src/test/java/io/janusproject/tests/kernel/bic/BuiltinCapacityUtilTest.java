@@ -46,6 +46,8 @@ import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentContext;
 import io.sarl.lang.core.BuiltinCapacitiesProvider;
 import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.DynamicSkillProvider;
+import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.util.ClearableReference;
 import io.sarl.lang.util.SynchronizedCollection;
@@ -150,6 +152,17 @@ public class BuiltinCapacityUtilTest extends AbstractJanusTest {
 		assertNull(context);
 	}
 
+	@Test
+	public void getContextIn_notInstalled() throws Exception {
+		DynamicSkillProvider provider = mock(DynamicSkillProvider.class);
+		Agent agent = new TestAgent(null, this.contextSkill);
+		SREutils.setDynamicSkillProvider(agent, provider);
+		AgentContext context = BuiltinCapacityUtil.getContextIn(agent);
+		assertNull(context);
+		Mockito.verifyZeroInteractions(provider);
+		assertFalse(SREutils.getSkillRepository(agent).containsKey(InnerContextAccess.class));
+	}
+
 	public static class TestAgent extends Agent {
 		
 		@Nullable
@@ -162,6 +175,9 @@ public class BuiltinCapacityUtilTest extends AbstractJanusTest {
 			super(mock(BuiltinCapacitiesProvider.class), UUID.randomUUID(), null);
 			this.innerSkill = innerSkill;
 			this.contextSkill = contextSkill;
+			if (innerSkill instanceof Skill) {
+				SREutils.createSkillMapping(this, InnerContextAccess.class, (Skill) innerSkill);
+			}
 		}
 		
 		@Override
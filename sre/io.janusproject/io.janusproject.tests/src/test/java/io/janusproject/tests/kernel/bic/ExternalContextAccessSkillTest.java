@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import io.janusproject.kernel.bic.BehaviorsSkill;
 import io.janusproject.kernel.bic.ExternalContextAccessSkill;
 import io.janusproject.kernel.bic.InternalEventBusCapacity;
 import io.janusproject.services.contextspace.ContextSpaceService;
@@ -60,6 +61,7 @@ import io.sarl.lang.core.Capacity;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventListener;
 import io.sarl.lang.core.EventSpaceSpecification;
+import io.sarl.lang.core.SREutils;
 import io.sarl.lang.core.Scope;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.core.Skill.UninstallationStage;
@@ -112,7 +114,7 @@ public class ExternalContextAccessSkillTest extends AbstractJanusTest {
 		UUID parentId = UUID.randomUUID();
 
 		this.eventListener = mock(EventListener.class);
-		this.behaviorCapacity = mock(Behaviors.class);
+		this.behaviorCapacity = mock(BehaviorsSkill.class);
 
 		this.busCapacity = mock(InternalEventBusCapacity.class);
 		when(this.busCapacity.asEventListener()).thenReturn(this.eventListener);
@@ -180,6 +182,20 @@ public class ExternalContextAccessSkillTest extends AbstractJanusTest {
 		}
 	}
 
+	@Test
+	public void join_behaviorsSkillNotInstalled() {
+		SREutils.getSkillRepository(this.agent).remove(Behaviors.class);
+		AgentContext c = this.contexts.get(1);
+		this.skill.join(c.getID(), c.getDefaultSpace().getSpaceID().getID());
+		//
+		ArgumentCaptor<Event> argument = ArgumentCaptor.forClass(Event.class);
+		verify(this.eventListener).receiveEvent(argument.capture());
+		assertTrue(argument.getValue() instanceof ContextJoined);
+		assertEquals(c.getID(), ((ContextJoined) argument.getValue()).holonContextID);
+		verify(this.behaviorCapacity, never()).wake(ArgumentMatchers.any());
+		assertFalse(SREutils.getSkillRepository(this.agent).containsKey(Behaviors.class));
+	}
+
 	@Test
 	public void join() {
 		int nb = 0;
@@ -472,6 +488,7 @@ public class ExternalContextAccessSkillTest extends AbstractJanusTest {
 		public TestAgent(ExternalContextAccessSkillTest test) {
 			super(Mockito.mock(BuiltinCapacitiesProvider.class), UUID.randomUUID(), null);
 			this.test = test;
+			SREutils.createSkillMapping(this, Behaviors.class, (Skill) test.behaviorCapacity);
 		}
 
 		@Override
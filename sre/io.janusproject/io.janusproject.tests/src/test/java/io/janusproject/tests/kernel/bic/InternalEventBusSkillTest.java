@@ -42,6 +42,7 @@ import org.mockito.Mockito;
 import io.janusproject.kernel.bic.InternalEventBusCapacity;
 import io.janusproject.kernel.bic.InternalEventBusSkill;
 import io.janusproject.kernel.bic.internaleventdispatching.AgentInternalEventsDispatcher;
+import io.janusproject.kernel.space.TypedEventListener;
 import io.janusproject.services.logging.LogService;
 import io.janusproject.tests.testutils.AbstractJanusTest;
 
@@ -87,6 +88,23 @@ public class InternalEventBusSkillTest extends AbstractJanusTest {
 		assertNotNull(this.skill.asEventListener());
 	}
 
+	@Test
+	public void asEventListener_isSubscribedTo() throws Exception {
+		TypedEventListener listener = (TypedEventListener) this.skill.asEventListener();
+		Mockito.when(this.eventBus.isSubscribedTo(Event.class)).thenReturn(false);
+		// The handlers may be registered during the initialization
+		assertTrue(listener.isSubscribedTo(Event.class));
+		//
+		this.reflect.invoke(this.skill, "setOwnerState", InternalEventBusCapacity.OwnerState.ALIVE);
+		Mockito.verify(this.eventBus, Mockito.times(1)).fireSubscriptionChanged();
+		assertFalse(listener.isSubscribedTo(Event.class));
+		Mockito.when(this.eventBus.isSubscribedTo(Event.class)).thenReturn(true);
+		assertTrue(listener.isSubscribedTo(Event.class));
+		//
+		this.reflect.invoke(this.skill, "setOwnerState", InternalEventBusCapacity.OwnerState.DYING);
+		assertFalse(listener.isSubscribedTo(Event.class));
+	}
+
 	@Test
 	public void getInnerDefaultSpaceAddress() {
 		assertSame(this.innerAddress, this.skill.getInnerDefaultSpaceAddress());
@@ -323,6 +341,23 @@ public class InternalEventBusSkillTest extends AbstractJanusTest {
 		assertSame(event, argument.getValue());
 	}
 
+	@Test
+	public void selfEvent_other_bufferedUntilInitialized() throws Exception {
+		Event event1 = Mockito.mock(Event.class);
+		Event event2 = Mockito.mock(Event.class);
+		this.skill.selfEvent(event1);
+		this.skill.selfEvent(event2);
+		Mockito.verifyZeroInteractions(this.eventBus);
+		//
+		Initialize initEvent = new Initialize(UUID.randomUUID());
+		this.skill.selfEvent(initEvent);
+		this.reflect.invoke(this.skill, "setOwnerState", InternalEventBusCapacity.OwnerState.ALIVE);
+		ArgumentCaptor<Event> argument = ArgumentCaptor.forClass(Event.class);
+		Mockito.verify(this.eventBus, Mockito.times(2)).asyncDispatch(argument.capture());
+		assertSame(event1, argument.getAllValues().get(0));
+		assertSame(event2, argument.getAllValues().get(1));
+	}
+
 	@Test
 	public void selfEvent_initialize() {
 		Initialize event = new Initialize(UUID.randomUUID());
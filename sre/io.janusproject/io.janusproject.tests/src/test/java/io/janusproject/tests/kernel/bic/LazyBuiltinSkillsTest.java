@@ -0,0 +1,151 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.tests.kernel.bic;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import io.janusproject.kernel.bic.MicroKernelCapacity;
+import io.janusproject.services.spawn.SpawnService;
+import io.janusproject.tests.testutils.AbstractJanusRunTest;
+
+import io.sarl.core.Behaviors;
+import io.sarl.core.DefaultContextInteractions;
+import io.sarl.core.InnerContextAccess;
+import io.sarl.core.Lifecycle;
+import io.sarl.core.Logging;
+import io.sarl.core.Schedules;
+import io.sarl.core.Time;
+import io.sarl.lang.SARLVersion;
+import io.sarl.lang.annotation.SarlSpecification;
+import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.SREutils;
+
+/** Tests that the builtin skills that are created on demand are not created by the platform itself.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class LazyBuiltinSkillsTest extends AbstractJanusRunTest {
+
+	private static final Class<? extends Capacity>[] LAZY_CAPACITIES = new Class[] {
+		Behaviors.class,
+		DefaultContextInteractions.class,
+		InnerContextAccess.class,
+		Lifecycle.class,
+		Logging.class,
+		Schedules.class,
+		Time.class,
+		MicroKernelCapacity.class,
+	};
+
+	private IdleAgent findIdleAgent() {
+		for (final List<Object> results : getAllResults().values()) {
+			for (final Object result : results) {
+				if (result instanceof IdleAgent) {
+					return (IdleAgent) result;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void assertNoLazySkill(Agent agent) {
+		final Map<Class<? extends Capacity>, ?> repository = SREutils.getSkillRepository(agent);
+		for (final Class<? extends Capacity> capacity : LAZY_CAPACITIES) {
+			assertFalse("Unexpected skill for " + capacity.getName(), repository.containsKey(capacity)); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void spawnJoinKill() throws Exception {
+		startJanusWithDefaultProcess(BootAgent.class, false, true, getDefaultJanusModule());
+		final long endTime = System.currentTimeMillis() + STANDARD_TIMEOUT * 1000;
+		IdleAgent agent = findIdleAgent();
+		while (agent == null && System.currentTimeMillis() <= endTime) {
+			Thread.yield();
+			agent = findIdleAgent();
+		}
+		assertNotNull(agent);
+		// The agent was spawned, and it has joined the default context.
+		assertNoLazySkill(agent);
+		final SpawnService spawnService = this.janusKernel.getService(SpawnService.class);
+		assertTrue(spawnService.killAgent(agent.getID()));
+		assertNoLazySkill(agent);
+		spawnService.killAgent(getBootAgent());
+		waitForTheKernel(STANDARD_TIMEOUT);
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	@SarlSpecification(SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING)
+	public static class BootAgent extends TestingAgent {
+
+		public BootAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+		@Override
+		protected boolean runAgentTest() {
+			getSkill(Lifecycle.class).spawn(IdleAgent.class, getAgentInitializationParameters());
+			return false;
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	@SarlSpecification(SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING)
+	public static class IdleAgent extends TestingAgent {
+
+		public IdleAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+		@Override
+		protected boolean runAgentTest() {
+			addResult(this);
+			return false;
+		}
+
+	}
+
+}
@@ -98,7 +98,7 @@ public class LoggingSkillTest extends AbstractJanusTest {
 		//
 		when(this.logService.getPlatformLogger()).thenReturn(this.parentLogger);
 		this.logger = spy(LoggerCreator.createModuleLogger("X", this.parentLogger));
-		when(this.logService.createAgentLogger(anyString())).thenReturn(this.logger);
+		when(this.logService.createAgentLogger(any(UUID.class))).thenReturn(this.logger);
 		//
 		this.reflect.invoke(this.skill, "install");
 	}
@@ -413,6 +413,16 @@ public class LoggingSkillTest extends AbstractJanusTest {
 		assertTrue(this.skill.isInfoLogEnabled());
 	}
 
+	@Test
+	public void resetForReuse() throws Exception {
+		assertSame(this.logger, this.skill.getLogger());
+		this.reflect.invoke(this.skill, "resetForReuse", null, null);
+		assertNull(this.skill.getLogger());
+		this.reflect.invoke(this.skill, "install");
+		assertSame(this.logger, this.skill.getLogger());
+		verify(this.logService, times(2)).createAgentLogger(this.owner.getID());
+	}
+
 	@Test
 	public void isDebugLogEnabled() {
 		this.skill.setLogLevel(0);
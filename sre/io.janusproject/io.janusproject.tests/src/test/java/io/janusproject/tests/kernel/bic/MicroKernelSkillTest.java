@@ -79,6 +79,14 @@ public class MicroKernelSkillTest extends AbstractJanusTest {
 		assertNull(this.reflect.invoke(this.skill, "getKernel"));
 	}
 
+	@Test
+	public void resetForReuse() throws Exception {
+		this.reflect.invoke(this.skill, "uninstall", UninstallationStage.POST_DESTROY_EVENT);
+		assertNull(this.reflect.invoke(this.skill, "getKernel"));
+		this.reflect.invoke(this.skill, "resetForReuse", null, null);
+		assertSame(this.kernel, this.reflect.invoke(this.skill, "getKernel"));
+	}
+
 	@Test
 	public void getService() {
 		assertSame(this.service, this.skill.getService(null));
@@ -391,6 +391,24 @@ public class SchedulesSkillTest {
 			}
 		}
 
+		@Test
+		public void resetForReuse() throws Exception {
+			Procedure1 procedure1 = Mockito.mock(Procedure1.class);
+			this.skill.every(5, procedure1);
+			Procedure1 procedure2 = Mockito.mock(Procedure1.class);
+			this.skill.in(5, procedure2);
+			Collection<ScheduledFuture<?>> futures = (Collection<ScheduledFuture<?>>) this.reflect.invoke(this.skill, "getActiveFutures");
+			assertEquals(2, futures.size());
+			//
+			this.reflect.invoke(this.skill, "resetForReuse", null, null);
+			//
+			Collection<String> activeTasks = (Collection<String>) this.reflect.invoke(this.skill, "getActiveTasks");
+			assertTrue(activeTasks.isEmpty());
+			for (ScheduledFuture<?> f : futures) {
+				Mockito.verify(f, new Times(1)).cancel(ArgumentMatchers.anyBoolean());
+			}
+		}
+
 		@Test
 		public void cancelAgentTask() throws Exception {
 			Procedure1 procedure1 = Mockito.mock(Procedure1.class);
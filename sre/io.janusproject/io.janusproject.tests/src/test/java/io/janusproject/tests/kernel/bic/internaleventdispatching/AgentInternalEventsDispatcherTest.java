@@ -24,8 +24,12 @@ import static org.junit.Assert.*;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 
 import javax.inject.Inject;
@@ -47,6 +51,9 @@ import io.janusproject.services.executor.ExecutorService;
 import io.sarl.lang.annotation.PerceptGuardEvaluator;
 import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventPool;
+import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;
+import io.sarl.lang.core.ReusableEvent;
 import io.sarl.tests.api.AbstractSarlTest;
 import io.sarl.tests.api.Nullable;
 
@@ -60,6 +67,7 @@ import io.sarl.tests.api.Nullable;
 @SuiteClasses({
 		AgentInternalEventsDispatcherTest.StandardTests.class,
 		AgentInternalEventsDispatcherTest.RuntimeTests.class,
+		AgentInternalEventsDispatcherTest.InlineTests.class,
 })
 @SuppressWarnings("all")
 public class AgentInternalEventsDispatcherTest {
@@ -402,12 +410,94 @@ public class AgentInternalEventsDispatcherTest {
 			Mockito.verify(this.executorService, Mockito.times(2)).execute(argument.capture());
 		}
 
+		@Test
+		public void isSubscribedTo() {
+			assertFalse(this.dispatcher.isSubscribedTo(Event.class));
+			assertFalse(this.dispatcher.isSubscribedTo(MyEvent.class));
+			//
+			Object subscriber = new MyAgent3();
+			this.dispatcher.register(subscriber, null, null);
+			assertFalse(this.dispatcher.isSubscribedTo(Event.class));
+			assertTrue(this.dispatcher.isSubscribedTo(MyEvent.class));
+			//
+			this.dispatcher.register(new MyAgent(), null, null);
+			assertTrue(this.dispatcher.isSubscribedTo(Event.class));
+			assertTrue(this.dispatcher.isSubscribedTo(MyEvent.class));
+			//
+			this.dispatcher.unregisterAll(null);
+			assertFalse(this.dispatcher.isSubscribedTo(Event.class));
+			assertFalse(this.dispatcher.isSubscribedTo(MyEvent.class));
+		}
+
+		@Test
+		public void addSubscriptionListener() {
+			Runnable listener = Mockito.mock(Runnable.class);
+			this.dispatcher.addSubscriptionListener(listener);
+			Object subscriber = new MyAgent3();
+			this.dispatcher.register(subscriber, null, null);
+			Mockito.verify(listener, Mockito.times(1)).run();
+			this.dispatcher.unregister(subscriber, null);
+			Mockito.verify(listener, Mockito.times(2)).run();
+			//
+			this.dispatcher.removeSubscriptionListener(listener);
+			this.dispatcher.register(subscriber, null, null);
+			Mockito.verify(listener, Mockito.times(2)).run();
+		}
+
+		@Test
+		public void asyncDispatch_reusableEvent_rejected() {
+			Mockito.doThrow(new RejectedExecutionException()).when(this.executorService).execute(Mockito.any(Runnable.class));
+			this.dispatcher.register(new MyAgent(), null, null);
+			EventPool<MyReusableEvent> pool = new EventPool<>(MyReusableEvent::new, 1);
+			MyReusableEvent event = pool.acquire();
+			try {
+				this.dispatcher.asyncDispatch(event);
+				fail("RejectedExecutionException is expected"); //$NON-NLS-1$
+			} catch (RejectedExecutionException exception) {
+				//
+			}
+			assertEquals(1, event.getReferenceCount());
+			assertTrue(event.release());
+			assertEquals(1, pool.size());
+		}
+
+		@Test
+		public void asyncDispatch_reusableEvent() {
+			this.dispatcher.register(new MyAgent(), null, null);
+			EventPool<MyReusableEvent> pool = new EventPool<>(MyReusableEvent::new, 1);
+			MyReusableEvent event = pool.acquire();
+			this.dispatcher.asyncDispatch(event);
+			assertEquals(1, event.getReferenceCount());
+			assertTrue(event.release());
+			assertEquals(1, pool.size());
+		}
+
+		public static class MyReusableEvent extends ReusableEvent {
+			//
+		}
+
 		public static class MyEvent extends Event {
 			public final int n;
 			public MyEvent(int n) {
 				this.n = n;
 			}
 		}
+
+		public static class MyAgent3 extends Agent {
+
+			public MyAgent3() {
+				super(null, UUID.randomUUID(), UUID.randomUUID());
+			}
+
+			@PerceptGuardEvaluator
+			private void $perception$guard$evaluator1(MyEvent event, Collection<Runnable> runners) {
+				runners.add(() -> $perception$guard$callback1(event, event));
+			}
+
+			private void $perception$guard$callback1(MyEvent occurrence, MyEvent it) {
+			}
+
+		}
 	
 		public static class MyAgent extends Agent {
 	
@@ -646,6 +736,55 @@ public class AgentInternalEventsDispatcherTest {
 			assertTrue(agent.myEvents.isEmpty());
 		}
 
+		@Test(timeout = 10000)
+		public void immediate_saturatedExecutor() throws Exception {
+			MyAgent agent = new MyAgent();
+			this.dispatcher.register(agent, (event) -> true, null);
+			// Block all the threads of the executor
+			CountDownLatch release = new CountDownLatch(1);
+			CountDownLatch blocked = new CountDownLatch(5);
+			for (int i = 0; i < 5; ++i) {
+				this.jvmExecutorService.execute(() -> {
+					blocked.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException exception) {
+						//
+					}
+				});
+			}
+			blocked.await();
+			try {
+				//
+				MyEvent event = new MyEvent(true);
+				this.dispatcher.immediateDispatch(event);
+				//
+				assertContains(agent.events, event);
+				assertContains(agent.myEvents, event);
+			} finally {
+				release.countDown();
+			}
+		}
+
+		@Test
+		public void immediate_failingHandlers() throws Exception {
+			MyFailingAgent agent = new MyFailingAgent();
+			this.dispatcher.register(agent, null, null);
+			//
+			try {
+				this.dispatcher.immediateDispatch(new MyEvent(true));
+				fail("RuntimeException is expected"); //$NON-NLS-1$
+			} catch (RuntimeException exception) {
+				Throwable cause = exception.getCause();
+				assertTrue(cause instanceof ExecutionException);
+				Throwable error = cause.getCause();
+				assertTrue(error instanceof IllegalStateException);
+				assertEquals(1, error.getSuppressed().length);
+				assertTrue(error.getSuppressed()[0] instanceof IllegalStateException);
+				assertNotSame(error, error.getSuppressed()[0]);
+			}
+		}
+
 		public static class MyEvent extends Event {
 			public final boolean valid;
 			public MyEvent(boolean valid) {
@@ -685,6 +824,237 @@ public class AgentInternalEventsDispatcherTest {
 	
 		}
 
+		public static class MyFailingAgent extends Agent {
+
+			public MyFailingAgent() {
+				super(null, UUID.randomUUID(), UUID.randomUUID());
+			}
+
+			@PerceptGuardEvaluator
+			private void $perception$guard$evaluator1(Event event, Collection<Runnable> runners) {
+				runners.add(() -> $perception$guard$callback1(event, event));
+			}
+
+			private void $perception$guard$callback1(Event occurrence, Event it) {
+				throw new IllegalStateException("callback1"); //$NON-NLS-1$
+			}
+
+			@PerceptGuardEvaluator
+			private void $perception$guard$evaluator2(MyEvent event, Collection<Runnable> runners) {
+				runners.add(() -> $perception$guard$callback2(event, event));
+			}
+
+			private void $perception$guard$callback2(MyEvent occurrence, MyEvent it) {
+				throw new IllegalStateException("callback2"); //$NON-NLS-1$
+			}
+
+		}
+
+	}
+
+	public static class InlineTests extends AbstractSarlTest {
+
+		@Nullable
+		private AgentInternalEventsDispatcher dispatcher;
+	
+		@Mock
+		private ExecutorService executorService;
+	
+		@Before
+		public void setUp() {
+			Mockito.doAnswer((it) -> {
+				((Runnable) it.getArgument(0)).run();
+				return null;
+			}).when(this.executorService).execute(Mockito.any(Runnable.class));
+			this.dispatcher = new AgentInternalEventsDispatcher(this.executorService, true);
+		}
+
+		@Test
+		public void isInlineExecution() {
+			assertTrue(this.dispatcher.isInlineExecution());
+			assertFalse(new AgentInternalEventsDispatcher(this.executorService, false).isInlineExecution());
+		}
+	
+		@Test
+		public void immediateDispatch_table_event() {
+			MyAgent agent = new MyAgent();
+			this.dispatcher.register(agent, null, null);
+			this.dispatcher.immediateDispatch(new Event() { });
+			Mockito.verify(this.executorService, Mockito.never()).execute(Mockito.any(Runnable.class));
+			assertEquals(1, agent.callback1);
+			assertEquals(0, agent.callback2);
+		}
+	
+		@Test
+		public void immediateDispatch_table_myEvent_n0() {
+			MyAgent agent = new MyAgent();
+			this.dispatcher.register(agent, null, null);
+			this.dispatcher.immediateDispatch(new MyEvent(0));
+			Mockito.verify(this.executorService, Mockito.never()).execute(Mockito.any(Runnable.class));
+			assertEquals(1, agent.callback1);
+			assertEquals(0, agent.callback2);
+		}
+	
+		@Test
+		public void immediateDispatch_table_myEvent_n1() {
+			MyAgent agent = new MyAgent();
+			this.dispatcher.register(agent, null, null);
+			this.dispatcher.immediateDispatch(new MyEvent(1));
+			Mockito.verify(this.executorService, Mockito.never()).execute(Mockito.any(Runnable.class));
+			assertEquals(1, agent.callback1);
+			assertEquals(1, agent.callback2);
+		}
+	
+		@Test
+		public void immediateDispatch_table_myEvent_n1_withInvalidFilter() {
+			MyAgent agent = new MyAgent();
+			this.dispatcher.register(agent, (event) -> false, null);
+			this.dispatcher.immediateDispatch(new MyEvent(1));
+			Mockito.verify(this.executorService, Mockito.never()).execute(Mockito.any(Runnable.class));
+			assertEquals(0, agent.callback1);
+			assertEquals(0, agent.callback2);
+		}
+	
+		@Test
+		public void immediateDispatch_reflection_myEvent_n1() {
+			this.dispatcher.register(new StandardTests.MyAgent(), null, null);
+			this.dispatcher.immediateDispatch(new StandardTests.MyEvent(1));
+			Mockito.verify(this.executorService, Mockito.never()).execute(Mockito.any(Runnable.class));
+		}
+	
+		@Test
+		public void immediateDispatchTo_table_myEvent_n1() {
+			MyAgent agent1 = new MyAgent();
+			MyAgent agent2 = new MyAgent();
+			this.dispatcher.register(agent1, null, null);
+			this.dispatcher.register(agent2, null, null);
+			this.dispatcher.immediateDispatchTo(agent1, new MyEvent(1));
+			Mockito.verify(this.executorService, Mockito.never()).execute(Mockito.any(Runnable.class));
+			assertEquals(1, agent1.callback1);
+			assertEquals(1, agent1.callback2);
+			assertEquals(0, agent2.callback1);
+			assertEquals(0, agent2.callback2);
+		}
+	
+		@Test
+		public void asyncDispatch_table_myEvent_n1() {
+			MyAgent agent = new MyAgent();
+			this.dispatcher.register(agent, null, null);
+			this.dispatcher.asyncDispatch(new MyEvent(1));
+			Mockito.verify(this.executorService, Mockito.times(3)).execute(Mockito.any(Runnable.class));
+			assertEquals(1, agent.callback1);
+			assertEquals(1, agent.callback2);
+		}
+
+		@Test
+		public void immediateDispatch_table_failingHandlers() {
+			MyFailingAgent agent1 = new MyFailingAgent();
+			MyAgent agent2 = new MyAgent();
+			this.dispatcher.register(agent1, null, null);
+			this.dispatcher.register(agent2, null, null);
+			try {
+				this.dispatcher.immediateDispatch(new MyEvent(1));
+				fail("IllegalStateException is expected"); //$NON-NLS-1$
+			} catch (IllegalStateException exception) {
+				// One error per event type
+				assertEquals(1, exception.getSuppressed().length);
+				assertTrue(exception.getSuppressed()[0] instanceof IllegalStateException);
+				assertNotSame(exception, exception.getSuppressed()[0]);
+			}
+			// The behavior units of the other agent are run
+			assertEquals(1, agent2.callback1);
+			assertEquals(1, agent2.callback2);
+		}
+
+		@Test
+		public void immediateDispatch_reflection_failingHandlers() {
+			this.dispatcher.register(new RuntimeTests.MyFailingAgent(), null, null);
+			try {
+				this.dispatcher.immediateDispatch(new RuntimeTests.MyEvent(true));
+				fail("IllegalStateException is expected"); //$NON-NLS-1$
+			} catch (IllegalStateException exception) {
+				assertEquals(1, exception.getSuppressed().length);
+				assertTrue(exception.getSuppressed()[0] instanceof IllegalStateException);
+				assertNotSame(exception, exception.getSuppressed()[0]);
+			}
+		}
+
+		public static class MyEvent extends Event {
+			public final int n;
+			public MyEvent(int n) {
+				this.n = n;
+			}
+		}
+	
+		public static class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {
+
+			public int callback1;
+
+			public int callback2;
+	
+			public MyAgent() {
+				super(null, UUID.randomUUID(), UUID.randomUUID());
+			}
+	
+			private void $guardEvaluator$Event(Event occurrence, Collection<Runnable> runners) {
+				runners.add(() -> $behaviorUnit$Event$0(occurrence));
+			}
+	
+			private void $behaviorUnit$Event$0(Event occurrence) {
+				++this.callback1;
+			}
+	
+			private void $guardEvaluator$MyEvent(MyEvent occurrence, Collection<Runnable> runners) {
+				if (occurrence.n > 0) {
+					runners.add(() -> $behaviorUnit$MyEvent$1(occurrence));
+				}
+			}
+	
+			private void $behaviorUnit$MyEvent$1(MyEvent occurrence) {
+				++this.callback2;
+			}
+
+			@Override
+			public void $getSupportedEvents(Set<Class<? extends Event>> toBeFilled) {
+				toBeFilled.add(Event.class);
+				toBeFilled.add(MyEvent.class);
+			}
+
+			@Override
+			public void $evaluateBehaviorGuards(Class<?> eventType, Object event, Collection<Runnable> callbacks) {
+				if (Event.class.equals(eventType)) {
+					$guardEvaluator$Event((Event) event, callbacks);
+				}
+				if (MyEvent.class.equals(eventType)) {
+					$guardEvaluator$MyEvent((MyEvent) event, callbacks);
+				}
+			}
+
+			@Override
+			public void $executeBehaviorUnits(Class<?> eventType, Object event) {
+				if (Event.class.equals(eventType)) {
+					final Event occurrence = (Event) event;
+					$behaviorUnit$Event$0(occurrence);
+				}
+				if (MyEvent.class.equals(eventType)) {
+					final MyEvent occurrence = (MyEvent) event;
+					if (occurrence.n > 0) {
+						$behaviorUnit$MyEvent$1(occurrence);
+					}
+				}
+			}
+	
+		}
+
+		public static class MyFailingAgent extends MyAgent {
+
+			@Override
+			public void $executeBehaviorUnits(Class<?> eventType, Object event) {
+				throw new IllegalStateException(eventType.getName());
+			}
+
+		}
+
 	}
 
 }
@@ -218,4 +218,26 @@ public class ParticipantRepositoryTest extends AbstractJanusTest {
 		assertEquals(5, list.size());
 	}
 
+	@Test
+	public void getListenersSnapshot() throws Exception {
+		Map<String, EventListener> snapshot0 = this.repository.getListenersSnapshot();
+		assertNotNull(snapshot0);
+		assertTrue(snapshot0.isEmpty());
+		long version0 = this.repository.getListenersVersion();
+		//
+		addListenerMocks();
+		//
+		assertTrue(this.repository.getListenersVersion() > version0);
+		assertTrue(snapshot0.isEmpty());
+		Map<String, EventListener> snapshot1 = this.repository.getListenersSnapshot();
+		assertEquals(this.listeners, snapshot1);
+		assertSame(snapshot1, this.repository.getListenersSnapshot());
+		//
+		this.reflect.invoke(this.repository, "removeListener", "a");
+		assertEquals(5, snapshot1.size());
+		Map<String, EventListener> snapshot2 = this.repository.getListenersSnapshot();
+		assertEquals(4, snapshot2.size());
+		assertFalse(snapshot2.containsKey("a"));
+	}
+
 }
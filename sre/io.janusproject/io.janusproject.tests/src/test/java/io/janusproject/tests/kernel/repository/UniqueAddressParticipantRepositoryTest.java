@@ -21,14 +21,24 @@ package io.janusproject.tests.kernel.repository;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import io.janusproject.kernel.repository.UniqueAddressParticipantRepository;
 import io.janusproject.kernel.services.jdk.distributeddata.DMapView;
+import io.janusproject.kernel.services.jdk.distributeddata.StandardDistributedDataStructureService;
 import io.janusproject.services.distributeddata.DMap;
 import io.janusproject.services.distributeddata.DistributedDataStructureService;
 import io.janusproject.tests.testutils.AbstractJanusTest;
@@ -36,6 +46,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventListener;
 import io.sarl.tests.api.Nullable;
 
@@ -163,4 +174,114 @@ public class UniqueAddressParticipantRepositoryTest extends AbstractJanusTest {
 		assertTrue(adrs.contains(this.id2));
 	}
 
+	@Test
+	public void getParticipantIDsSnapshot() {
+		Set<UUID> snapshot0 = this.repository.getParticipantIDsSnapshot();
+		assertNotNull(snapshot0);
+		assertTrue(snapshot0.isEmpty());
+		long version0 = this.repository.getParticipantIDsVersion();
+		assertEquals("a", this.repository.registerParticipant("a", this.listener1)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("b", this.repository.registerParticipant("b", this.listener2)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(this.repository.getParticipantIDsVersion() > version0);
+		assertTrue(snapshot0.isEmpty());
+		Set<UUID> snapshot1 = this.repository.getParticipantIDsSnapshot();
+		assertEquals(2, snapshot1.size());
+		assertTrue(snapshot1.contains(this.id1));
+		assertTrue(snapshot1.contains(this.id2));
+		assertSame(snapshot1, this.repository.getParticipantIDsSnapshot());
+		//
+		assertEquals("a", this.repository.unregisterParticipant(this.id1)); //$NON-NLS-1$
+		assertEquals(2, snapshot1.size());
+		Set<UUID> snapshot2 = this.repository.getParticipantIDsSnapshot();
+		assertEquals(1, snapshot2.size());
+		assertTrue(snapshot2.contains(this.id2));
+	}
+
+	@Test
+	public void concurrentRegistration() throws Exception {
+		final int writers = 4;
+		final int listenersPerWriter = 2500;
+		final UniqueAddressParticipantRepository<String> repository = new UniqueAddressParticipantRepository<>(
+				this.distributedName, new StandardDistributedDataStructureService());
+		final List<List<EventListener>> listeners = new ArrayList<>();
+		for (int i = 0; i < writers; ++i) {
+			final List<EventListener> list = new ArrayList<>();
+			for (int j = 0; j < listenersPerWriter; ++j) {
+				list.add(new Listener(UUID.randomUUID()));
+			}
+			listeners.add(list);
+		}
+		final ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+		try {
+			// Register the participants while a reader is iterating on the snapshots.
+			final List<Future<?>> futures = new ArrayList<>();
+			for (final List<EventListener> list : listeners) {
+				futures.add(executor.submit(() -> {
+					for (final EventListener listener : list) {
+						repository.registerParticipant(listener.getID().toString(), listener);
+					}
+				}));
+			}
+			final Future<?> reader = executor.submit(() -> {
+				int count = 0;
+				while (count < writers * listenersPerWriter) {
+					count = 0;
+					for (final Entry<String, EventListener> entry : repository.getListenersSnapshot().entrySet()) {
+						assertEquals(entry.getValue().getID().toString(), entry.getKey());
+						++count;
+					}
+				}
+			});
+			for (final Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			reader.get(30, TimeUnit.SECONDS);
+			assertEquals(writers * listenersPerWriter, repository.listenerCount());
+			assertEquals(writers * listenersPerWriter, repository.getParticipantIDsSnapshot().size());
+			//
+			futures.clear();
+			for (final List<EventListener> list : listeners) {
+				futures.add(executor.submit(() -> {
+					for (final EventListener listener : list) {
+						assertNotNull(repository.unregisterParticipant(listener));
+					}
+				}));
+			}
+			for (final Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			assertEquals(0, repository.listenerCount());
+			assertTrue(repository.getParticipantIDsSnapshot().isEmpty());
+			assertTrue(repository.getListenersSnapshot().isEmpty());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Listener implements EventListener {
+
+		private final UUID id;
+
+		Listener(UUID id) {
+			this.id = id;
+		}
+
+		@Override
+		public UUID getID() {
+			return this.id;
+		}
+
+		@Override
+		public void receiveEvent(Event event) {
+			//
+		}
+
+	}
+
 }
@@ -28,10 +28,12 @@ import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.internal.verification.Times;
@@ -72,9 +74,17 @@ public final class JdkExecutorServiceTest extends AbstractDependentServiceTest<J
 		super(io.janusproject.services.executor.ExecutorService.class);
 	}
 
+	private ThreadPoolExecutor lowPriorityExecutorService;
+
 	@Override
 	public JdkExecutorService newService() {
-		return new JdkExecutorService();
+		this.lowPriorityExecutorService = Mockito.mock(ThreadPoolExecutor.class);
+		return new JdkExecutorService() {
+			@Override
+			protected ThreadPoolExecutor createLowPriorityExecutor(int parallelism) {
+				return JdkExecutorServiceTest.this.lowPriorityExecutorService;
+			}
+		};
 	}
 
 	@Override
@@ -228,6 +238,116 @@ public final class JdkExecutorServiceTest extends AbstractDependentServiceTest<J
 		assertSame(this.runnable, ((JanusRunnable) argument.getValue()).getWrappedRunnable());
 	}
 
+	@Test
+	public void executeRunnableIntLong_normal() {
+		this.service.execute(this.runnable, 0, 0);
+		ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(this.executorService, Mockito.only()).execute(argument.capture());
+		assertInstanceOf(JanusRunnable.class, argument.getValue());
+		assertSame(this.runnable, ((JanusRunnable) argument.getValue()).getWrappedRunnable());
+	}
+
+	@Test
+	public void executeRunnableIntLong_deadlineBeforeHighPriority() {
+		Runnable highPriority = Mockito.mock(Runnable.class);
+		Runnable lateDeadline = Mockito.mock(Runnable.class);
+		Runnable earlyDeadline = Mockito.mock(Runnable.class);
+		this.service.execute(highPriority, 10, 0);
+		this.service.execute(lateDeadline, 0, 100000);
+		this.service.execute(earlyDeadline, 0, 50000);
+		ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(this.executorService, Mockito.times(3)).execute(argument.capture());
+		Mockito.verifyZeroInteractions(highPriority, lateDeadline, earlyDeadline);
+		for (Runnable drainer : argument.getAllValues()) {
+			drainer.run();
+		}
+		InOrder order = Mockito.inOrder(highPriority, lateDeadline, earlyDeadline);
+		order.verify(earlyDeadline).run();
+		order.verify(lateDeadline).run();
+		order.verify(highPriority).run();
+		assertEquals(2, this.service.getDeadlineTaskCount());
+		assertEquals(0, this.service.getDeadlineMissCount());
+	}
+
+	@Test
+	public void executeRunnableIntLong_deadlineMiss() throws Exception {
+		this.service.execute(this.runnable, 0, 1);
+		ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(this.executorService, Mockito.only()).execute(argument.capture());
+		Thread.sleep(50);
+		argument.getValue().run();
+		Mockito.verify(this.runnable, Mockito.only()).run();
+		assertEquals(1, this.service.getDeadlineTaskCount());
+		assertEquals(1, this.service.getDeadlineMissCount());
+	}
+
+	@Test
+	public void executeRunnableIntLong_lowPriority() {
+		final int nbTasks = 3;
+		Runnable[] tasks = new Runnable[nbTasks];
+		for (int i = 0; i < nbTasks; ++i) {
+			tasks[i] = Mockito.mock(Runnable.class);
+			this.service.execute(tasks[i], -10, 0);
+		}
+		Mockito.verifyZeroInteractions(this.executorService);
+		ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(this.lowPriorityExecutorService, Mockito.times(nbTasks)).execute(argument.capture());
+		// Each drainer runs a single task
+		argument.getAllValues().get(0).run();
+		Mockito.verify(tasks[0]).run();
+		Mockito.verifyZeroInteractions(tasks[1], tasks[2]);
+		argument.getAllValues().get(1).run();
+		argument.getAllValues().get(2).run();
+		InOrder order = Mockito.inOrder((Object[]) tasks);
+		for (int i = 0; i < nbTasks; ++i) {
+			order.verify(tasks[i]).run();
+		}
+	}
+
+	@Test
+	public void executeRunnableIntLong_urgentOvertakesLowPriority() {
+		Runnable low1 = Mockito.mock(Runnable.class);
+		Runnable low2 = Mockito.mock(Runnable.class);
+		Runnable urgent = Mockito.mock(Runnable.class);
+		this.service.execute(low1, -10, 0);
+		this.service.execute(low2, -10, 0);
+		this.service.execute(urgent, 10, 0);
+		ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(this.lowPriorityExecutorService, Mockito.times(2)).execute(argument.capture());
+		// The urgent drainer is not yet started, e.g. because the pool is busy
+		Mockito.verify(this.executorService, Mockito.only()).execute(Mockito.any());
+		//
+		Runnable lowDrainer = argument.getValue();
+		lowDrainer.run();
+		Mockito.verify(urgent).run();
+		Mockito.verifyZeroInteractions(low1, low2);
+		// The drainer was submitted again for the pending low priority task
+		Mockito.verify(this.lowPriorityExecutorService, Mockito.times(3)).execute(lowDrainer);
+		lowDrainer.run();
+		lowDrainer.run();
+		InOrder order = Mockito.inOrder(urgent, low1, low2);
+		order.verify(urgent).run();
+		order.verify(low1).run();
+		order.verify(low2).run();
+	}
+
+	@Test
+	public void execute_afterPendingUrgentTask() {
+		Runnable urgent = Mockito.mock(Runnable.class);
+		this.service.execute(urgent, 10, 0);
+		this.service.execute(this.runnable);
+		ArgumentCaptor<Runnable> argument = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(this.executorService, Mockito.times(2)).execute(argument.capture());
+		// The normal task runs the pending urgent task before itself
+		argument.getAllValues().get(1).run();
+		InOrder order = Mockito.inOrder(urgent, this.runnable);
+		order.verify(urgent).run();
+		order.verify(this.runnable).run();
+		// The drainer of the urgent task has nothing to do
+		argument.getAllValues().get(0).run();
+		Mockito.verify(urgent, Mockito.times(1)).run();
+	}
+
 	private void initExecutor() {
 		Mockito.doAnswer((it) -> {
 			Object arg = it.getArgument(0);
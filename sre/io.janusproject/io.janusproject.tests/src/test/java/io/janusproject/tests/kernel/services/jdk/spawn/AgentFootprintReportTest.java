@@ -0,0 +1,181 @@
+/*
+ * $Id$
+ * 
+ * Janus platform is an open-source multiagent platform.
+ * More details on http://www.janusproject.io
+ * 
+ * Copyright (C) 2014-2015 Sebastian RODRIGUEZ, Nicolas GAUD, Stéphane GALLAND.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.janusproject.tests.kernel.services.jdk.spawn;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.janusproject.kernel.services.jdk.spawn.AgentFootprintReport;
+import io.janusproject.kernel.services.jdk.spawn.AgentFootprintReport.AgentTypeFootprint;
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import io.janusproject.util.ObjectSizeEstimator;
+
+import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.SREutils;
+import io.sarl.lang.core.Skill;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AgentFootprintReportTest extends AbstractJanusTest {
+
+	private static final long SKILL_DATA_SIZE = ObjectSizeEstimator.shallowSize(new long[100]);
+
+	private static final long AGENT_DATA_SIZE = ObjectSizeEstimator.shallowSize(new long[1000]);
+
+	private AgentFootprintReport report;
+
+	@Before
+	public void setUp() {
+		this.report = new AgentFootprintReport();
+	}
+
+	private static TestAgent createAgent(TestAgent other) {
+		TestAgent agent = new TestAgent(UUID.randomUUID(), UUID.randomUUID());
+		agent.other = other;
+		SREutils.createSkillMapping(agent, TestCapacity.class, new TestSkill(agent));
+		return agent;
+	}
+
+	@Test
+	public void empty() {
+		assertTrue(this.report.getFootprints().isEmpty());
+		assertEquals("", this.report.toString());
+	}
+
+	@Test
+	public void addAll() {
+		TestAgent agent1 = createAgent(null);
+		// The first agent is shared: it is not counted in the footprint of the second agent
+		TestAgent agent2 = createAgent(agent1);
+		this.report.addAll(Arrays.asList(agent1, agent2));
+
+		assertEquals(1, this.report.getFootprints().size());
+		AgentTypeFootprint footprint = this.report.getFootprints().get(TestAgent.class.getName());
+		assertNotNull(footprint);
+		assertEquals(TestAgent.class.getName(), footprint.getAgentType());
+		assertEquals(2, footprint.getAgentCount());
+		assertEquals(3, footprint.getTotalSizes().size());
+		assertTrue(footprint.getTotalSizes().containsKey(AgentFootprintReport.AGENT_COMPONENT));
+		assertTrue(footprint.getTotalSizes().containsKey(AgentFootprintReport.SKILL_REPOSITORY_COMPONENT));
+		assertTrue(footprint.getTotalSizes().containsKey(TestSkill.class.getSimpleName()));
+
+		// The agent component contains its data, but neither the skills nor the other agent
+		long agentSize = footprint.getAverageSize(AgentFootprintReport.AGENT_COMPONENT);
+		assertTrue(agentSize >= AGENT_DATA_SIZE);
+		assertTrue(agentSize < AGENT_DATA_SIZE + SKILL_DATA_SIZE);
+		// The skill component contains its data, but not its owner
+		long skillSize = footprint.getAverageSize(TestSkill.class.getSimpleName());
+		assertTrue(skillSize >= SKILL_DATA_SIZE);
+		assertTrue(skillSize < AGENT_DATA_SIZE);
+		// The repository does not contain the skills
+		assertTrue(footprint.getAverageSize(AgentFootprintReport.SKILL_REPOSITORY_COMPONENT) < SKILL_DATA_SIZE);
+
+		long total = 0;
+		for (Long size : footprint.getTotalSizes().values()) {
+			total += size.longValue();
+		}
+		assertEquals(total / 2, footprint.getAverageAgentSize());
+		assertEquals(0, footprint.getAverageSize("unknown"));
+
+		String text = this.report.toString();
+		assertTrue(text.startsWith(TestAgent.class.getName() + " (2 agents, " + footprint.getAverageAgentSize()
+				+ " bytes per agent)\n"));
+		assertTrue(text.contains("\t" + TestSkill.class.getSimpleName() + ": " + skillSize + " bytes\n"));
+	}
+
+	@Test
+	public void add_severalTypes() {
+		this.report.add(createAgent(null));
+		this.report.add(new OtherAgent(UUID.randomUUID(), UUID.randomUUID()));
+		assertEquals(2, this.report.getFootprints().size());
+		assertEquals(1, this.report.getFootprints().get(TestAgent.class.getName()).getAgentCount());
+		AgentTypeFootprint footprint = this.report.getFootprints().get(OtherAgent.class.getName());
+		assertEquals(1, footprint.getAgentCount());
+		// No skill
+		assertEquals(2, footprint.getTotalSizes().size());
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static interface TestCapacity extends Capacity {
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class TestSkill extends Skill implements TestCapacity {
+
+		long[] data = new long[100];
+
+		public TestSkill(Agent agent) {
+			super(agent);
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class TestAgent extends Agent {
+
+		long[] data = new long[1000];
+
+		Agent other;
+
+		public TestAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class OtherAgent extends Agent {
+
+		public OtherAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * $Id$
+ * 
+ * Janus platform is an open-source multiagent platform.
+ * More details on http://www.janusproject.io
+ * 
+ * Copyright (C) 2014-2015 Sebastian RODRIGUEZ, Nicolas GAUD, Stéphane GALLAND.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.janusproject.tests.kernel.services.jdk.spawn;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.janusproject.kernel.services.jdk.spawn.AgentPool;
+import io.janusproject.tests.testutils.AbstractJanusTest;
+
+import io.sarl.lang.annotation.Recyclable;
+import io.sarl.lang.core.Agent;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AgentPoolTest extends AbstractJanusTest {
+
+	private AgentPool pool;
+
+	@Before
+	public void setUp() {
+		this.pool = new AgentPool(2);
+	}
+
+	@Test
+	public void isRecyclable() {
+		assertTrue(this.pool.isRecyclable(RecyclableAgent.class));
+		assertFalse(this.pool.isRecyclable(StandardAgent.class));
+		assertFalse(new AgentPool(0).isRecyclable(RecyclableAgent.class));
+	}
+
+	@Test
+	public void acquire_empty() {
+		assertNull(this.pool.acquire(RecyclableAgent.class));
+		assertEquals(0, this.pool.getHitCount());
+		assertEquals(1, this.pool.getMissCount());
+	}
+
+	@Test
+	public void acquire_notRecyclable() {
+		assertNull(this.pool.acquire(StandardAgent.class));
+		assertEquals(0, this.pool.getHitCount());
+		assertEquals(0, this.pool.getMissCount());
+	}
+
+	@Test
+	public void release_notRecyclable() {
+		assertFalse(this.pool.release(new StandardAgent(UUID.randomUUID(), UUID.randomUUID())));
+		assertEquals(0, this.pool.getReleaseCount());
+		assertEquals(0, this.pool.getPooledAgentCount());
+	}
+
+	@Test
+	public void releaseAcquire() {
+		Agent agent = new RecyclableAgent(UUID.randomUUID(), UUID.randomUUID());
+		assertTrue(this.pool.release(agent));
+		assertEquals(1, this.pool.getPooledAgentCount(RecyclableAgent.class));
+		assertSame(agent, this.pool.acquire(RecyclableAgent.class));
+		assertEquals(0, this.pool.getPooledAgentCount(RecyclableAgent.class));
+		assertEquals(1, this.pool.getReleaseCount());
+		assertEquals(1, this.pool.getHitCount());
+		assertEquals(0, this.pool.getMissCount());
+	}
+
+	@Test
+	public void release_full() {
+		assertTrue(this.pool.release(new RecyclableAgent(UUID.randomUUID(), UUID.randomUUID())));
+		assertTrue(this.pool.release(new RecyclableAgent(UUID.randomUUID(), UUID.randomUUID())));
+		assertFalse(this.pool.release(new RecyclableAgent(UUID.randomUUID(), UUID.randomUUID())));
+		assertEquals(2, this.pool.getPooledAgentCount());
+		assertEquals(2, this.pool.getReleaseCount());
+		assertEquals(1, this.pool.getDiscardCount());
+	}
+
+	@Test
+	public void clear() {
+		this.pool.release(new RecyclableAgent(UUID.randomUUID(), UUID.randomUUID()));
+		this.pool.release(new RecyclableAgent(UUID.randomUUID(), UUID.randomUUID()));
+		this.pool.clear();
+		assertEquals(0, this.pool.getPooledAgentCount());
+		assertNull(this.pool.acquire(RecyclableAgent.class));
+		assertEquals(2, this.pool.getReleaseCount());
+	}
+
+	@Recyclable
+	public static class RecyclableAgent extends Agent {
+
+		public RecyclableAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+	}
+
+	public static class StandardAgent extends Agent {
+
+		public StandardAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ * $Id$
+ * 
+ * Janus platform is an open-source multiagent platform.
+ * More details on http://www.janusproject.io
+ * 
+ * Copyright (C) 2014-2015 Sebastian RODRIGUEZ, Nicolas GAUD, Stéphane GALLAND.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.janusproject.tests.kernel.services.jdk.spawn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.janusproject.JanusConfig;
+import io.janusproject.kernel.bic.MicroKernelCapacity;
+import io.janusproject.kernel.services.jdk.spawn.AgentPool;
+import io.janusproject.kernel.services.jdk.spawn.StandardSpawnService;
+import io.janusproject.services.spawn.SpawnService;
+import io.janusproject.tests.testutils.AbstractJanusRunTest;
+import io.janusproject.util.AgentLogger;
+
+import io.sarl.core.Behaviors;
+import io.sarl.core.Logging;
+import io.sarl.core.Schedules;
+import io.sarl.lang.SARLVersion;
+import io.sarl.lang.annotation.PerceptGuardEvaluator;
+import io.sarl.lang.annotation.Recyclable;
+import io.sarl.lang.annotation.SarlSpecification;
+import io.sarl.lang.core.Event;
+
+/** Tests that an agent that is recycled through the agent pool does not see the state of its previous life.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AgentRecyclingTest extends AbstractJanusRunTest {
+
+	private static final int NUMBER_OF_RESULTS = 4;
+
+	private static final int NUMBER_OF_BLOCKING_RESULTS = 2;
+
+	/** Indicates when the handler of the first life of a {@link BlockingAgent} is running.
+	 */
+	static CountDownLatch handlerStarted;
+
+	/** Unblocks the handler of the first life of a {@link BlockingAgent}.
+	 */
+	static CountDownLatch handlerReleased;
+
+	private String recyclingProperty;
+
+	@Before
+	public void setUp() {
+		this.recyclingProperty = System.getProperty(JanusConfig.AGENT_RECYCLING_NAME);
+		System.setProperty(JanusConfig.AGENT_RECYCLING_NAME, Boolean.TRUE.toString());
+		handlerStarted = new CountDownLatch(1);
+		handlerReleased = new CountDownLatch(1);
+	}
+
+	@After
+	public void tearDown() {
+		handlerReleased.countDown();
+		if (this.recyclingProperty == null) {
+			System.clearProperty(JanusConfig.AGENT_RECYCLING_NAME);
+		} else {
+			System.setProperty(JanusConfig.AGENT_RECYCLING_NAME, this.recyclingProperty);
+		}
+	}
+
+	private List<Object> waitForResults(UUID agentID, int expectedCount) {
+		final long endTime = System.currentTimeMillis() + STANDARD_TIMEOUT * 1000;
+		List<Object> results = getResults(agentID);
+		while (results.size() < expectedCount && System.currentTimeMillis() <= endTime) {
+			Thread.yield();
+			results = getResults(agentID);
+		}
+		assertEquals(expectedCount, results.size());
+		return results;
+	}
+
+	private static void waitForPooledAgents(AgentPool pool, Class<?> type, int expectedCount) {
+		final long endTime = System.currentTimeMillis() + STANDARD_TIMEOUT * 1000;
+		while (pool.getPooledAgentCount((Class) type) < expectedCount && System.currentTimeMillis() <= endTime) {
+			Thread.yield();
+		}
+		assertEquals(expectedCount, pool.getPooledAgentCount((Class) type));
+	}
+
+	@Test
+	public void spawnKillRespawn() throws Exception {
+		startJanusWithDefaultProcess(BootAgent.class, false, true, getDefaultJanusModule());
+		final SpawnService spawnService = this.janusKernel.getService(SpawnService.class);
+		final AgentPool pool = ((StandardSpawnService) spawnService).getAgentPool();
+		assertNotNull(pool);
+
+		// First life
+		final UUID firstID = this.janusKernel.spawn(PooledAgent.class, getAgentInitializationParameters());
+		final List<Object> firstLife = waitForResults(firstID, NUMBER_OF_RESULTS);
+		final PooledAgent agent = (PooledAgent) firstLife.get(0);
+		assertEquals(firstID, firstLife.get(1));
+		assertTrue(((List<?>) firstLife.get(2)).isEmpty());
+		assertEquals(Boolean.TRUE, firstLife.get(3));
+
+		assertTrue(spawnService.killAgent(firstID));
+		waitForPooledAgents(pool, PooledAgent.class, 1);
+
+		// Second life
+		final UUID secondID = this.janusKernel.spawn(PooledAgent.class, getAgentInitializationParameters());
+		assertNotEquals(firstID, secondID);
+		final List<Object> secondLife = waitForResults(secondID, NUMBER_OF_RESULTS);
+		assertSame(agent, secondLife.get(0));
+		assertEquals(1, pool.getHitCount());
+		assertEquals(0, pool.getPooledAgentCount(PooledAgent.class));
+		assertEquals(secondID, agent.getID());
+		// The logger was created for the new identifier
+		assertEquals(secondID, secondLife.get(1));
+		// The task of the first life is not known anymore
+		assertTrue(((List<?>) secondLife.get(2)).isEmpty());
+		// The access to the kernel was restored
+		assertEquals(Boolean.TRUE, secondLife.get(3));
+
+		assertTrue(spawnService.killAgent(secondID));
+		spawnService.killAgent(getBootAgent());
+		waitForTheKernel(STANDARD_TIMEOUT);
+	}
+
+	@Test
+	public void killDuringHandler() throws Exception {
+		startJanusWithDefaultProcess(BootAgent.class, false, true, getDefaultJanusModule());
+		final SpawnService spawnService = this.janusKernel.getService(SpawnService.class);
+		final AgentPool pool = ((StandardSpawnService) spawnService).getAgentPool();
+		assertNotNull(pool);
+
+		// First life: the handler is blocked when the agent is killed
+		final UUID firstID = this.janusKernel.spawn(BlockingAgent.class, getAgentInitializationParameters());
+		assertTrue(handlerStarted.await(STANDARD_TIMEOUT, TimeUnit.SECONDS));
+		assertTrue(spawnService.killAgent(firstID));
+		// The agent is not recycled while its handler is running
+		assertEquals(0, pool.getPooledAgentCount(BlockingAgent.class));
+		assertEquals(0, pool.getReleaseCount());
+
+		handlerReleased.countDown();
+		waitForPooledAgents(pool, BlockingAgent.class, 1);
+		final List<Object> firstLife = waitForResults(firstID, NUMBER_OF_BLOCKING_RESULTS);
+		final BlockingAgent agent = (BlockingAgent) firstLife.get(0);
+		// The handler has terminated within the first life of the agent
+		assertEquals(firstID, firstLife.get(1));
+
+		// Second life
+		final UUID secondID = this.janusKernel.spawn(BlockingAgent.class, getAgentInitializationParameters());
+		final List<Object> secondLife = waitForResults(secondID, NUMBER_OF_BLOCKING_RESULTS);
+		assertSame(agent, secondLife.get(0));
+		assertEquals(secondID, secondLife.get(1));
+		// Nothing from the first life was run within the second life
+		assertEquals(NUMBER_OF_BLOCKING_RESULTS, getResults(firstID).size());
+
+		assertTrue(spawnService.killAgent(secondID));
+		spawnService.killAgent(getBootAgent());
+		waitForTheKernel(STANDARD_TIMEOUT);
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	@SarlSpecification(SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING)
+	public static class BootAgent extends TestingAgent {
+
+		public BootAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+		@Override
+		protected boolean runAgentTest() {
+			return false;
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	@Recyclable
+	@SarlSpecification(SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING)
+	public static class PooledAgent extends TestingAgent {
+
+		public PooledAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+		@Override
+		protected boolean runAgentTest() {
+			final Logger logger = getSkill(Logging.class).getLogger();
+			final Schedules schedules = getSkill(Schedules.class);
+			addResult(this);
+			addResult(logger instanceof AgentLogger ? ((AgentLogger) logger).getAgentID() : null);
+			addResult(new ArrayList<>(schedules.getActiveTasks()));
+			addResult(getSkill(MicroKernelCapacity.class).getService(SpawnService.class) != null);
+			// This task must not survive to the destruction of the agent.
+			schedules.in(STANDARD_TIMEOUT * 1000, (it) -> addResult(it));
+			return false;
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class BlockEvent extends Event {
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	@Recyclable
+	@SarlSpecification(SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING)
+	public static class BlockingAgent extends TestingAgent {
+
+		public BlockingAgent(UUID parentID, UUID agentID) {
+			super(parentID, agentID);
+		}
+
+		@Override
+		protected boolean runAgentTest() {
+			addResult(this);
+			getSkill(Behaviors.class).wake(new BlockEvent());
+			return false;
+		}
+
+		@PerceptGuardEvaluator
+		private void $guardEvaluator$BlockEvent(final BlockEvent occurrence,
+				final Collection<Runnable> ___SARLlocal_runnableCollection) {
+			assert occurrence != null;
+			assert ___SARLlocal_runnableCollection != null;
+			___SARLlocal_runnableCollection.add(() -> $behaviorUnit$BlockEvent$0(occurrence));
+		}
+
+		private void $behaviorUnit$BlockEvent$0(final BlockEvent occurrence) {
+			handlerStarted.countDown();
+			try {
+				handlerReleased.await(STANDARD_TIMEOUT, TimeUnit.SECONDS);
+			} catch (InterruptedException exception) {
+				//
+			}
+			addResult(getID());
+		}
+
+	}
+
+}
@@ -25,15 +25,20 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import io.janusproject.kernel.repository.UniqueAddressParticipantRepository;
 import io.janusproject.kernel.services.jdk.distributeddata.DMapView;
 import io.janusproject.kernel.space.AbstractEventSpace;
+import io.janusproject.kernel.space.TypedEventListener;
 import io.janusproject.services.distributeddata.DMap;
 import io.janusproject.services.distributeddata.DistributedDataStructureService;
 import io.janusproject.services.executor.ExecutorService;
@@ -54,6 +59,8 @@ import org.mockito.stubbing.Answer;
 import io.sarl.lang.core.Address;
 import io.sarl.lang.core.Event;
 import io.sarl.lang.core.EventListener;
+import io.sarl.lang.core.EventPool;
+import io.sarl.lang.core.ReusableEvent;
 import io.sarl.lang.core.Scope;
 import io.sarl.lang.core.SpaceID;
 import io.sarl.tests.api.ManualMocking;
@@ -125,16 +132,22 @@ public class AbstractEventSpaceTest extends AbstractJanusTest {
 				return null;
 			}
 		});
+		Mockito.doAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				Runnable r = (Runnable) invocation.getArguments()[0];
+				r.run();
+				return null;
+			}
+		}).when(this.executor).execute(Mockito.any(Runnable.class));
 	}
 
 	private void register() throws Exception {
-		((UniqueAddressParticipantRepository<Address>) this.reflect.get(this.space, "participants"))
-			.registerParticipant(this.address, this.listener);
+		this.reflect.invoke(this.space, "doRegister", this.listener);
 	}
 
 	private void unregister() throws Exception {
-		((UniqueAddressParticipantRepository<Address>) this.reflect.get(this.space, "participants"))
-			.unregisterParticipant(this.listener);
+		this.reflect.invoke(this.space, "doUnregister", this.listener);
 	}
 
 	@Test
@@ -200,6 +213,139 @@ public class AbstractEventSpaceTest extends AbstractJanusTest {
 		assertNotSame(event, argument.getValue());
 	}
 
+	@Test
+	public void doEmit_fanOut() throws Exception {
+		UniqueAddressParticipantRepository<Address> participants =
+				(UniqueAddressParticipantRepository<Address>) this.reflect.get(this.space, "participants");
+		List<EventListener> listeners = new ArrayList<>();
+		for (int i = 0; i < 200; ++i) {
+			EventListener listener = Mockito.mock(EventListener.class);
+			UUID id = UUID.randomUUID();
+			Mockito.when(listener.getID()).thenReturn(id);
+			participants.registerParticipant(new Address(this.spaceId, id), listener);
+			listeners.add(listener);
+		}
+
+		Event event = Mockito.mock(Event.class);
+		Mockito.when(event.getSource()).thenReturn(this.address);
+		this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+
+		for (EventListener listener : listeners) {
+			Mockito.verify(listener).receiveEvent(event);
+		}
+		// 200 receivers are delivered by chunks of 50 receivers
+		Mockito.verify(this.executor, new Times(4)).execute(Mockito.any(Runnable.class));
+		Mockito.verify(this.executor, new Times(0)).submit(Mockito.any(Runnable.class));
+	}
+
+	@Test
+	public void doEmit_typedListener() throws Exception {
+		TypedEventListener typedListener = Mockito.mock(TypedEventListener.class);
+		UUID id = UUID.randomUUID();
+		Mockito.when(typedListener.getID()).thenReturn(id);
+		Mockito.when(typedListener.isSubscribedTo(Mockito.any())).thenReturn(false);
+		this.reflect.invoke(this.space, "doRegister", typedListener);
+		ArgumentCaptor<Runnable> subscriptionListener = ArgumentCaptor.forClass(Runnable.class);
+		Mockito.verify(typedListener).addSubscriptionListener(subscriptionListener.capture());
+		register();
+
+		Event event = Mockito.mock(Event.class);
+		Mockito.when(event.getSource()).thenReturn(this.address);
+		this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+		Mockito.verify(this.listener).receiveEvent(event);
+		Mockito.verify(typedListener, new Times(0)).receiveEvent(Mockito.any());
+
+		// The typed listener is now subscribed to the event
+		Mockito.when(typedListener.isSubscribedTo(Mockito.any())).thenReturn(true);
+		subscriptionListener.getValue().run();
+
+		event = Mockito.mock(Event.class);
+		Mockito.when(event.getSource()).thenReturn(this.address);
+		this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+		Mockito.verify(this.listener).receiveEvent(event);
+		Mockito.verify(typedListener).receiveEvent(event);
+
+		this.reflect.invoke(this.space, "doUnregister", typedListener);
+		Mockito.verify(typedListener).removeSubscriptionListener(subscriptionListener.getValue());
+	}
+
+	@Test
+	public void doEmit_incrementalIndexUpdate() throws Exception {
+		TypedEventListener typedListener = Mockito.mock(TypedEventListener.class);
+		UUID id = UUID.randomUUID();
+		Mockito.when(typedListener.getID()).thenReturn(id);
+		Mockito.when(typedListener.isSubscribedTo(Mockito.any())).thenReturn(true);
+		this.reflect.invoke(this.space, "doRegister", typedListener);
+
+		Event event = Mockito.mock(Event.class);
+		Mockito.when(event.getSource()).thenReturn(this.address);
+		this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+		Mockito.verify(typedListener).receiveEvent(event);
+		Mockito.verify(typedListener).isSubscribedTo(Mockito.any());
+
+		// The registration of another participant does not evaluate again the subscriptions of the typed listener
+		register();
+		event = Mockito.mock(Event.class);
+		Mockito.when(event.getSource()).thenReturn(this.address);
+		this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+		Mockito.verify(this.listener).receiveEvent(event);
+		Mockito.verify(typedListener).receiveEvent(event);
+		Mockito.verify(typedListener).isSubscribedTo(Mockito.any());
+
+		this.reflect.invoke(this.space, "doUnregister", this.listener);
+		event = Mockito.mock(Event.class);
+		Mockito.when(event.getSource()).thenReturn(this.address);
+		this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+		Mockito.verify(this.listener, new Times(0)).receiveEvent(event);
+		Mockito.verify(typedListener).receiveEvent(event);
+		Mockito.verify(typedListener).isSubscribedTo(Mockito.any());
+	}
+
+	@Test
+	public void doEmit_reusableEvent() throws Exception {
+		register();
+		EventPool<MyReusableEvent> pool = new EventPool<>(MyReusableEvent::new, 1);
+		MyReusableEvent event = pool.acquire();
+		event.setSource(this.address);
+		List<Integer> referenceCounts = new ArrayList<>();
+		Mockito.doAnswer((it) -> {
+			referenceCounts.add(((ReusableEvent) it.getArgument(0)).getReferenceCount());
+			return null;
+		}).when(this.listener).receiveEvent(Mockito.any());
+
+		this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+
+		Mockito.verify(this.listener).receiveEvent(event);
+		assertContains(referenceCounts, 2);
+		assertEquals(1, event.getReferenceCount());
+		assertEquals(0, pool.size());
+
+		assertTrue(event.release());
+		assertEquals(1, pool.size());
+		assertNull(event.getSource());
+		assertSame(event, pool.acquire());
+	}
+
+	@Test
+	public void doEmit_reusableEvent_rejected() throws Exception {
+		register();
+		Mockito.doThrow(new RejectedExecutionException()).when(this.executor).execute(Mockito.any(Runnable.class));
+		EventPool<MyReusableEvent> pool = new EventPool<>(MyReusableEvent::new, 1);
+		MyReusableEvent event = pool.acquire();
+		event.setSource(this.address);
+
+		try {
+			this.reflect.invoke(this.space, "doEmit", event, Scopes.<Address> allParticipants());
+			fail("RejectedExecutionException is expected"); //$NON-NLS-1$
+		} catch (InvocationTargetException exception) {
+			assertTrue(exception.getCause() instanceof RejectedExecutionException);
+		}
+
+		assertEquals(1, event.getReferenceCount());
+		assertTrue(event.release());
+		assertEquals(1, pool.size());
+	}
+
 	@Test
 	public void doEmit_scopeaddress() throws Exception {
 		Event event;
@@ -495,4 +641,8 @@ public class AbstractEventSpaceTest extends AbstractJanusTest {
 		}
 	}
 
+	public static class MyReusableEvent extends ReusableEvent {
+		//
+	}
+
 }
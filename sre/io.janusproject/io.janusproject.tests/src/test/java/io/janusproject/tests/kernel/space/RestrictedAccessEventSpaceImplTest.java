@@ -135,6 +135,14 @@ public class RestrictedAccessEventSpaceImplTest extends AbstractJanusTest {
 				return null;
 			}
 		});
+		Mockito.doAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				Runnable r = (Runnable) invocation.getArguments()[0];
+				r.run();
+				return null;
+			}
+		}).when(this.executor).execute(Mockito.any(Runnable.class));
 	}
 
 	private void register() {
@@ -0,0 +1,161 @@
+/*
+ * $Id$
+ * 
+ * Janus platform is an open-source multiagent platform.
+ * More details on http://www.janusproject.io
+ * 
+ * Copyright (C) 2014-2015 Sebastian RODRIGUEZ, Nicolas GAUD, Stéphane GALLAND.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.janusproject.tests.kernel.space;
+
+package io.janusproject.tests.kernel.space;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+import io.janusproject.kernel.services.jdk.distributeddata.DMapView;
+import io.janusproject.kernel.space.SpatialEventSpaceImpl;
+import io.janusproject.services.distributeddata.DMap;
+import io.janusproject.services.distributeddata.DistributedDataStructureService;
+import io.janusproject.services.executor.ExecutorService;
+import io.janusproject.services.network.NetworkService;
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.internal.verification.Times;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventListener;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.tests.api.ManualMocking;
+import io.sarl.tests.api.Nullable;
+import io.sarl.util.SpatialEventSpaceSpecification;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@ManualMocking
+public class SpatialEventSpaceImplTest extends AbstractJanusTest {
+
+	@Nullable
+	private SpaceID spaceId;
+
+	@Nullable
+	private EventListener listener1;
+
+	@Nullable
+	private EventListener listener2;
+
+	@Nullable
+	private Event event;
+
+	@Mock
+	private NetworkService network;
+
+	@Mock
+	private ExecutorService executor;
+
+	@InjectMocks
+	private SpatialEventSpaceImpl space;
+
+	private static EventListener createListener() {
+		EventListener listener = Mockito.mock(EventListener.class);
+		UUID id = UUID.randomUUID();
+		Mockito.when(listener.getID()).thenReturn(id);
+		return listener;
+	}
+
+	@Before
+	public void setUp() {
+		DistributedDataStructureService service = Mockito.mock(DistributedDataStructureService.class);
+		DMap<Object, Object> mapMock = new DMapView<>(UUID.randomUUID().toString(), new HashMap<>());
+		Mockito.when(service.getMap(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(mapMock);
+		Mockito.when(service.getMap(ArgumentMatchers.any())).thenReturn(mapMock);
+
+		this.spaceId = new SpaceID(UUID.randomUUID(), UUID.randomUUID(), SpatialEventSpaceSpecification.class);
+
+		this.space = new SpatialEventSpaceImpl(this.spaceId, service, 10.);
+
+		this.listener1 = createListener();
+		this.listener2 = createListener();
+
+		this.event = Mockito.mock(Event.class);
+		Mockito.when(this.event.getSource()).thenReturn(new Address(this.spaceId, UUID.randomUUID()));
+
+		MockitoAnnotations.initMocks(this);
+
+		Mockito.doAnswer((it) -> {
+			((Runnable) it.getArgument(0)).run();
+			return null;
+		}).when(this.executor).execute(Mockito.any(Runnable.class));
+
+		this.space.register(this.listener1);
+		this.space.register(this.listener2);
+		this.space.setPosition(this.listener1.getID(), 0., 0.);
+		this.space.setPosition(this.listener2.getID(), 30., 0.);
+	}
+
+	@Test
+	public void emitWithin_disc() {
+		this.space.emitWithin(null, this.event, 1., 1., 5.);
+		Mockito.verify(this.listener1).receiveEvent(this.event);
+		Mockito.verify(this.listener2, new Times(0)).receiveEvent(Mockito.any());
+		Mockito.verifyZeroInteractions(this.network);
+	}
+
+	@Test
+	public void emitWithin_rectangle() {
+		this.space.emitWithin(null, this.event, 20., -1., 40., 1.);
+		Mockito.verify(this.listener1, new Times(0)).receiveEvent(Mockito.any());
+		Mockito.verify(this.listener2).receiveEvent(this.event);
+	}
+
+	@Test
+	public void emitWithin_noReceiver() {
+		this.space.emitWithin(null, this.event, 100., 100., 5.);
+		Mockito.verify(this.listener1, new Times(0)).receiveEvent(Mockito.any());
+		Mockito.verify(this.listener2, new Times(0)).receiveEvent(Mockito.any());
+		Mockito.verify(this.executor, new Times(0)).execute(Mockito.any(Runnable.class));
+	}
+
+	@Test
+	public void setPosition() {
+		this.space.setPosition(this.listener2.getID(), 2., 2.);
+		this.space.emitWithin(null, this.event, 1., 1., 5.);
+		Mockito.verify(this.listener1).receiveEvent(this.event);
+		Mockito.verify(this.listener2).receiveEvent(this.event);
+	}
+
+	@Test
+	public void unregister() {
+		this.space.unregister(this.listener1);
+		this.space.emitWithin(null, this.event, 1., 1., 5.);
+		Mockito.verify(this.listener1, new Times(0)).receiveEvent(Mockito.any());
+		// The position was removed with the registration
+		this.space.register(this.listener1);
+		this.space.emitWithin(null, this.event, 1., 1., 5.);
+		Mockito.verify(this.listener1, new Times(0)).receiveEvent(Mockito.any());
+	}
+
+}
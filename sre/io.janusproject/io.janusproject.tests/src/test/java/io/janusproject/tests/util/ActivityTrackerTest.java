@@ -0,0 +1,86 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.tests.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import io.janusproject.util.ActivityTracker;
+
+import io.sarl.tests.api.Nullable;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ActivityTrackerTest extends AbstractJanusTest {
+
+	@Nullable
+	private ActivityTracker tracker;
+
+	@Nullable
+	private AtomicInteger calls;
+
+	@Before
+	public void setUp() {
+		this.tracker = new ActivityTracker();
+		this.calls = new AtomicInteger();
+	}
+
+	@Test
+	public void whenIdle_idle() {
+		assertTrue(this.tracker.isIdle());
+		this.tracker.whenIdle(() -> this.calls.incrementAndGet());
+		assertEquals(1, this.calls.get());
+	}
+
+	@Test
+	public void whenIdle_running() {
+		this.tracker.enter();
+		this.tracker.enter();
+		assertEquals(2, this.tracker.getActivityCount());
+		this.tracker.whenIdle(() -> this.calls.incrementAndGet());
+		assertEquals(0, this.calls.get());
+		this.tracker.leave();
+		assertEquals(0, this.calls.get());
+		this.tracker.leave();
+		assertEquals(1, this.calls.get());
+		assertTrue(this.tracker.isIdle());
+	}
+
+	@Test
+	public void whenIdle_invokedOnce() {
+		this.tracker.enter();
+		this.tracker.whenIdle(() -> this.calls.incrementAndGet());
+		this.tracker.leave();
+		this.tracker.enter();
+		this.tracker.leave();
+		assertEquals(1, this.calls.get());
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * $Id$
+ * 
+ * Janus platform is an open-source multiagent platform.
+ * More details on http://www.janusproject.io
+ * 
+ * Copyright (C) 2014-2015 Sebastian RODRIGUEZ, Nicolas GAUD, Stéphane GALLAND.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.janusproject.tests.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import io.janusproject.util.AgentLogger;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AgentLoggerTest extends AbstractJanusTest {
+
+	private UUID agentId;
+
+	private Logger target;
+
+	private AgentLogger logger;
+
+	@Before
+	public void setUp() {
+		this.agentId = UUID.randomUUID();
+		this.target = mock(Logger.class);
+		this.logger = new AgentLogger(this.agentId, this.target, Level.INFO);
+	}
+
+	@Test
+	public void getAgentID() {
+		assertSame(this.agentId, this.logger.getAgentID());
+	}
+
+	@Test
+	public void getName() {
+		assertEquals("AGENT-" + this.agentId, this.logger.getName());
+	}
+
+	@Test
+	public void setLoggingName() {
+		this.logger.setLoggingName("xyz");
+		assertEquals("xyz", this.logger.getName());
+		this.logger.setLoggingName(null);
+		assertEquals("AGENT-" + this.agentId, this.logger.getName());
+	}
+
+	@Test
+	public void setLevel() {
+		assertSame(Level.INFO, this.logger.getLevel());
+		this.logger.setLevel(Level.FINE);
+		assertSame(Level.FINE, this.logger.getLevel());
+	}
+
+	@Test
+	public void isLoggable() {
+		assertTrue(this.logger.isLoggable(Level.SEVERE));
+		assertTrue(this.logger.isLoggable(Level.INFO));
+		assertFalse(this.logger.isLoggable(Level.FINE));
+		this.logger.setLevel(Level.OFF);
+		assertFalse(this.logger.isLoggable(Level.SEVERE));
+	}
+
+	@Test
+	public void log_loggable() {
+		this.logger.info("abc");
+		ArgumentCaptor<LogRecord> record = ArgumentCaptor.forClass(LogRecord.class);
+		verify(this.target).log(record.capture());
+		assertEquals("abc", record.getValue().getMessage());
+		assertEquals("AGENT-" + this.agentId, record.getValue().getLoggerName());
+	}
+
+	@Test
+	public void log_notLoggable() {
+		this.logger.fine("abc");
+		verify(this.target, never()).log(any(LogRecord.class));
+	}
+
+}
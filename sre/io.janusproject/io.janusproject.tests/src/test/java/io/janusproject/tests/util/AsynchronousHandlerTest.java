@@ -0,0 +1,67 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.tests.util;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.Test;
+
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import io.janusproject.util.AsynchronousHandler;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AsynchronousHandlerTest extends AbstractJanusTest {
+
+	@Test
+	public void close_writesQueuedRecords() {
+		Handler delegate = mock(Handler.class);
+		AsynchronousHandler handler = new AsynchronousHandler(16, 4, delegate);
+		LogRecord record = new LogRecord(Level.INFO, "message"); //$NON-NLS-1$
+		handler.publish(record);
+		handler.close();
+		verify(delegate, times(1)).publish(record);
+		verify(delegate, times(1)).close();
+	}
+
+	@Test
+	public void publish_afterClose() {
+		Handler delegate = mock(Handler.class);
+		AsynchronousHandler handler = new AsynchronousHandler(16, 4, delegate);
+		handler.close();
+		LogRecord record = new LogRecord(Level.INFO, "message"); //$NON-NLS-1$
+		handler.publish(record);
+		verify(delegate, times(1)).publish(record);
+	}
+
+}
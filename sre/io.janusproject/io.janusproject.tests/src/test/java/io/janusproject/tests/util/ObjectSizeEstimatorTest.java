@@ -0,0 +1,84 @@
+/*
+ * $Id$
+ * 
+ * Janus platform is an open-source multiagent platform.
+ * More details on http://www.janusproject.io
+ * 
+ * Copyright (C) 2014-2015 Sebastian RODRIGUEZ, Nicolas GAUD, Stéphane GALLAND.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.janusproject.tests.util;
+
+import org.junit.Test;
+
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import io.janusproject.util.ObjectSizeEstimator;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ObjectSizeEstimatorTest extends AbstractJanusTest {
+
+	@Test
+	public void shallowSize_object() {
+		assertEquals(16, ObjectSizeEstimator.shallowSize(new Object()));
+		assertEquals(24, ObjectSizeEstimator.shallowSize(new Node()));
+	}
+
+	@Test
+	public void shallowSize_array() {
+		assertEquals(16, ObjectSizeEstimator.shallowSize(new int[0]));
+		assertEquals(56, ObjectSizeEstimator.shallowSize(new long[5]));
+	}
+
+	@Test
+	public void retainedSize() {
+		Node n1 = new Node();
+		Node n2 = new Node();
+		n1.next = n2;
+		n2.next = n1;
+		ObjectSizeEstimator estimator = new ObjectSizeEstimator(it -> false);
+		assertEquals(48, estimator.retainedSize(n1));
+		// Already counted
+		assertEquals(0, estimator.retainedSize(n2));
+	}
+
+	@Test
+	public void retainedSize_boundary() {
+		Node n1 = new Node();
+		Node n2 = new Node();
+		n1.next = n2;
+		ObjectSizeEstimator estimator = new ObjectSizeEstimator(it -> it == n2);
+		assertEquals(24, estimator.retainedSize(n1));
+	}
+
+	@Test
+	public void retainedSize_ignore() {
+		Node n1 = new Node();
+		Node n2 = new Node();
+		n1.next = n2;
+		ObjectSizeEstimator estimator = new ObjectSizeEstimator(it -> false);
+		estimator.ignore(n2);
+		assertEquals(24, estimator.retainedSize(n1));
+	}
+
+	private static class Node {
+		Node next;
+		long value;
+	}
+
+}
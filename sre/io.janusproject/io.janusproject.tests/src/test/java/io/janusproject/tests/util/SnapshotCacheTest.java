@@ -0,0 +1,95 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.tests.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import io.janusproject.util.SnapshotCache;
+
+import io.sarl.tests.api.Nullable;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SnapshotCacheTest extends AbstractJanusTest {
+
+	@Nullable
+	private List<String> source;
+
+	@Nullable
+	private SnapshotCache<List<String>> cache;
+
+	private int builds;
+
+	@Before
+	public void setUp() {
+		this.source = new ArrayList<>();
+		this.source.add("a"); //$NON-NLS-1$
+		this.builds = 0;
+		this.cache = new SnapshotCache<>(() -> {
+			++this.builds;
+			return Collections.unmodifiableList(new ArrayList<>(this.source));
+		});
+	}
+
+	@Test
+	public void get_noChange() {
+		List<String> snapshot = this.cache.get();
+		assertEquals(Collections.singletonList("a"), snapshot); //$NON-NLS-1$
+		assertSame(snapshot, this.cache.get());
+		assertEquals(1, this.builds);
+	}
+
+	@Test
+	public void get_change() {
+		List<String> snapshot0 = this.cache.get();
+		this.source.add("b"); //$NON-NLS-1$
+		this.cache.invalidate();
+		List<String> snapshot1 = this.cache.get();
+		assertEquals(Collections.singletonList("a"), snapshot0); //$NON-NLS-1$
+		assertEquals(2, snapshot1.size());
+		assertSame(snapshot1, this.cache.get());
+		assertEquals(2, this.builds);
+	}
+
+	@Test
+	public void getVersion() {
+		assertEquals(0, this.cache.getVersion());
+		this.cache.invalidate();
+		assertEquals(1, this.cache.getVersion());
+		this.cache.get();
+		assertEquals(1, this.cache.getVersion());
+		this.cache.invalidate();
+		assertEquals(2, this.cache.getVersion());
+	}
+
+}
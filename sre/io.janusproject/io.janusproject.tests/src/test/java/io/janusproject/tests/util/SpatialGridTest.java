@@ -0,0 +1,136 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.janusproject.tests.util;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.janusproject.tests.testutils.AbstractJanusTest;
+import io.janusproject.util.SpatialGrid;
+
+import io.sarl.tests.api.Nullable;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SpatialGridTest extends AbstractJanusTest {
+
+	@Nullable
+	private SpatialGrid grid;
+
+	@Nullable
+	private UUID id1;
+
+	@Nullable
+	private UUID id2;
+
+	@Nullable
+	private UUID id3;
+
+	@Before
+	public void setUp() {
+		this.grid = new SpatialGrid(10.);
+		this.id1 = UUID.randomUUID();
+		this.id2 = UUID.randomUUID();
+		this.id3 = UUID.randomUUID();
+		this.grid.update(this.id1, 1., 1.);
+		this.grid.update(this.id2, 15., 1.);
+		this.grid.update(this.id3, -25., -25.);
+	}
+
+	private Set<UUID> within(double x, double y, double radius) {
+		Set<UUID> result = new HashSet<>();
+		this.grid.forEachWithin(x, y, radius, result::add);
+		return result;
+	}
+
+	private Set<UUID> within(double minX, double minY, double maxX, double maxY) {
+		Set<UUID> result = new HashSet<>();
+		this.grid.forEachWithin(minX, minY, maxX, maxY, result::add);
+		return result;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructor_invalidCellSize() {
+		new SpatialGrid(0.);
+	}
+
+	@Test
+	public void size() {
+		assertEquals(3, this.grid.size());
+		this.grid.update(this.id1, 100., 100.);
+		assertEquals(3, this.grid.size());
+	}
+
+	@Test
+	public void forEachWithin_disc() {
+		assertContains(within(0., 0., 5.), this.id1);
+		assertContains(within(0., 0., 16.), this.id1, this.id2);
+		assertContains(within(0., 0., 50.), this.id1, this.id2, this.id3);
+		assertContains(within(100., 100., 5.));
+		assertContains(within(0., 0., -1.));
+	}
+
+	@Test
+	public void forEachWithin_rectangle() {
+		assertContains(within(0., 0., 5., 5.), this.id1);
+		assertContains(within(0., 0., 15., 1.), this.id1, this.id2);
+		assertContains(within(-30., -30., -20., 0.), this.id3);
+		assertContains(within(-1e9, -1e9, 1e9, 1e9), this.id1, this.id2, this.id3);
+		assertContains(within(5., 5., 0., 0.));
+	}
+
+	@Test
+	public void update() {
+		this.grid.update(this.id1, 2., 2.);
+		assertContains(within(0., 0., 5.), this.id1);
+		this.grid.update(this.id1, 14., 2.);
+		assertContains(within(0., 0., 5.));
+		assertContains(within(15., 1., 2.), this.id1, this.id2);
+	}
+
+	@Test
+	public void remove() {
+		assertTrue(this.grid.remove(this.id1));
+		assertFalse(this.grid.contains(this.id1));
+		assertFalse(this.grid.remove(this.id1));
+		assertEquals(2, this.grid.size());
+		assertContains(within(0., 0., 5.));
+		assertContains(within(0., 0., 50.), this.id2, this.id3);
+	}
+
+	@Test
+	public void clear() {
+		this.grid.clear();
+		assertEquals(0, this.grid.size());
+		assertContains(within(0., 0., 50.));
+	}
+
+}
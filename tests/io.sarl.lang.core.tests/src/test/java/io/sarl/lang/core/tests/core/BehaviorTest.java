@@ -20,11 +20,17 @@
  */
 package io.sarl.lang.core.tests.core;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 
 import io.sarl.lang.core.Behavior;
+import io.sarl.lang.core.Capacities;
+import io.sarl.lang.core.Capacity;
+import io.sarl.lang.core.Skill;
 
 /**
  * @author $Author: sgalland$
@@ -53,4 +59,76 @@ public class BehaviorTest extends AbstractAgentTraitBehaviorTest {
 		assertInstanceOf(Capacity1.ContextAwareCapacityWrapper.class, result);
 	}
 
+	@Test
+	public void contextAwareSkill_cachedDelegator() throws Exception {
+		Skill1 skill = new Skill1();
+		getAgent().setSkill_Fake(skill, Capacity1.class);
+		//
+		Object result1 = invoke(getInstance(), "getSkill", Capacity1.class);
+		Object result2 = invoke(getInstance(), "getSkill", Capacity1.class);
+		//
+		assertSame(result1, result2);
+		assertSame(skill, ((Capacity1.ContextAwareCapacityWrapper<?>) result1).getDelegate());
+	}
+
+	@Test
+	public void contextAwareSkill_changedSkill() throws Exception {
+		Skill1 skill1 = new Skill1();
+		getAgent().setSkill_Fake(skill1, Capacity1.class);
+		Object result1 = invoke(getInstance(), "getSkill", Capacity1.class);
+		Skill1 skill2 = new Skill1();
+		getAgent().setSkill_Fake(skill2, Capacity1.class);
+		//
+		Object result2 = invoke(getInstance(), "getSkill", Capacity1.class);
+		//
+		assertNotSame(result1, result2);
+		assertSame(skill2, ((Capacity1.ContextAwareCapacityWrapper<?>) result2).getDelegate());
+	}
+
+	@Test
+	public void createSkillDelegator_noDelegatorType() throws Exception {
+		Skill2 skill = new Skill2();
+		ReflectiveOperationException error1 = null;
+		ReflectiveOperationException error2 = null;
+		try {
+			Capacities.createSkillDelegator(skill, Capacity2.class, null);
+			fail("Expecting ReflectiveOperationException"); //$NON-NLS-1$
+		} catch (ReflectiveOperationException exception) {
+			error1 = exception;
+		}
+		try {
+			Capacities.createSkillDelegator(skill, Capacity2.class, null);
+			fail("Expecting ReflectiveOperationException"); //$NON-NLS-1$
+		} catch (ReflectiveOperationException exception) {
+			error2 = exception;
+		}
+		//
+		assertNotSame(error1, error2);
+		assertInstanceOf(ClassNotFoundException.class, error1.getCause());
+		assertSame(error1.getCause(), error2.getCause());
+		assertSame(skill, Capacities.createSkillDelegatorIfPossible(skill, Capacity2.class, null));
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static interface Capacity2 extends Capacity {
+		//
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class Skill2 extends Skill implements Capacity2 {
+		public Skill2() {
+			//
+		}
+	}
+
 }
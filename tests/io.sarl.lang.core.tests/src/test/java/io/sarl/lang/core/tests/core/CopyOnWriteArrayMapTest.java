@@ -0,0 +1,142 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.util.CopyOnWriteArrayMap;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class CopyOnWriteArrayMapTest extends AbstractSarlTest {
+
+	private CopyOnWriteArrayMap<String, Integer> map;
+
+	@Before
+	public void setUp() {
+		this.map = new CopyOnWriteArrayMap<>();
+		this.map.put("a", 1);
+		this.map.put("b", 2);
+		this.map.put("c", 3);
+	}
+
+	@Test
+	public void size() {
+		assertEquals(3, this.map.size());
+		assertFalse(this.map.isEmpty());
+		assertTrue(new CopyOnWriteArrayMap<>().isEmpty());
+	}
+
+	@Test
+	public void get() {
+		assertEquals(Integer.valueOf(1), this.map.get("a"));
+		assertEquals(Integer.valueOf(2), this.map.get("b"));
+		assertEquals(Integer.valueOf(3), this.map.get("c"));
+		assertNull(this.map.get("d"));
+		assertNull(this.map.get(null));
+	}
+
+	@Test
+	public void put_replace() {
+		assertEquals(Integer.valueOf(2), this.map.put("b", 4));
+		assertEquals(Integer.valueOf(4), this.map.get("b"));
+		assertEquals(3, this.map.size());
+	}
+
+	@Test
+	public void putIfAbsent() {
+		assertEquals(Integer.valueOf(1), this.map.putIfAbsent("a", 5));
+		assertNull(this.map.putIfAbsent("d", 5));
+		assertEquals(Integer.valueOf(1), this.map.get("a"));
+		assertEquals(Integer.valueOf(5), this.map.get("d"));
+	}
+
+	@Test
+	public void remove() {
+		assertEquals(Integer.valueOf(2), this.map.remove("b"));
+		assertNull(this.map.remove("b"));
+		assertEquals(2, this.map.size());
+		assertEquals(Integer.valueOf(1), this.map.get("a"));
+		assertEquals(Integer.valueOf(3), this.map.get("c"));
+	}
+
+	@Test
+	public void removeKeyValue() {
+		assertFalse(this.map.remove("b", 3));
+		assertTrue(this.map.remove("b", 2));
+		assertFalse(this.map.containsKey("b"));
+	}
+
+	@Test
+	public void replaceKeyOldNew() {
+		assertFalse(this.map.replace("b", 3, 4));
+		assertTrue(this.map.replace("b", 2, 4));
+		assertEquals(Integer.valueOf(4), this.map.get("b"));
+	}
+
+	@Test
+	public void clear() {
+		this.map.clear();
+		assertTrue(this.map.isEmpty());
+		assertNull(this.map.get("a"));
+	}
+
+	@Test
+	public void iterator_snapshot() {
+		Iterator<Entry<String, Integer>> iterator = this.map.entrySet().iterator();
+		this.map.put("d", 4);
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			++count;
+		}
+		assertEquals(3, count);
+		assertEquals(4, this.map.size());
+	}
+
+	@Test
+	public void iterator_remove() {
+		Iterator<Integer> iterator = this.map.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().intValue() == 2) {
+				iterator.remove();
+			}
+		}
+		assertEquals(2, this.map.size());
+		assertFalse(this.map.containsKey("b"));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void put_nullValue() {
+		this.map.put("d", null);
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.core.EventPool;
+import io.sarl.lang.core.ReusableEvent;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class EventPoolTest extends AbstractSarlTest {
+
+	private EventPool<MyEvent> pool;
+
+	@Before
+	public void setUp() {
+		this.pool = new EventPool<>(MyEvent::new, 2);
+	}
+
+	@Test
+	public void getCapacity() {
+		assertEquals(2, this.pool.getCapacity());
+	}
+
+	@Test
+	public void size() {
+		assertEquals(0, this.pool.size());
+	}
+
+	@Test
+	public void acquire_empty() {
+		MyEvent event1 = this.pool.acquire();
+		MyEvent event2 = this.pool.acquire();
+		assertNotSame(event1, event2);
+		assertEquals(1, event1.getReferenceCount());
+		assertEquals(1, event2.getReferenceCount());
+		assertSame(this.pool, event1.getPool());
+		assertSame(this.pool, event2.getPool());
+	}
+
+	@Test
+	public void acquire_released() {
+		MyEvent event = this.pool.acquire();
+		event.release();
+		assertEquals(1, this.pool.size());
+		assertSame(event, this.pool.acquire());
+		assertEquals(0, this.pool.size());
+		assertEquals(1, event.getReferenceCount());
+	}
+
+	@Test
+	public void release_full() {
+		MyEvent event1 = this.pool.acquire();
+		MyEvent event2 = this.pool.acquire();
+		MyEvent event3 = this.pool.acquire();
+		event1.release();
+		event2.release();
+		event3.release();
+		assertEquals(2, this.pool.size());
+		assertSame(event1, this.pool.acquire());
+		assertSame(event2, this.pool.acquire());
+		assertNotSame(event3, this.pool.acquire());
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class MyEvent extends ReusableEvent {
+		//
+	}
+
+}
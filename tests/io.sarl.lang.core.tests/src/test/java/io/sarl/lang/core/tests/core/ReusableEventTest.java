@@ -0,0 +1,128 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.EventPool;
+import io.sarl.lang.core.ReusableEvent;
+import io.sarl.lang.core.SREutils;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ReusableEventTest extends AbstractSarlTest {
+
+	private MyEvent event;
+
+	@Before
+	public void setUp() {
+		this.event = new MyEvent();
+	}
+
+	@Test
+	public void getReferenceCount() {
+		assertEquals(0, this.event.getReferenceCount());
+	}
+
+	@Test
+	public void getPool() {
+		assertNull(this.event.getPool());
+	}
+
+	@Test
+	public void retain() {
+		this.event.retain();
+		assertEquals(1, this.event.getReferenceCount());
+		this.event.retain();
+		assertEquals(2, this.event.getReferenceCount());
+	}
+
+	@Test
+	public void release_noPool() {
+		Address adr = mock(Address.class);
+		this.event.setSource(adr);
+		this.event.value = 3;
+		this.event.retain();
+		this.event.retain();
+		assertFalse(this.event.release());
+		assertTrue(this.event.release());
+		assertEquals(0, this.event.getReferenceCount());
+		assertSame(adr, this.event.getSource());
+		assertEquals(3, this.event.value);
+	}
+
+	@Test
+	public void release_pool() {
+		EventPool<MyEvent> pool = new EventPool<>(MyEvent::new, 1);
+		MyEvent pooledEvent = pool.acquire();
+		assertSame(pool, pooledEvent.getPool());
+		pooledEvent.setSource(mock(Address.class));
+		pooledEvent.value = 3;
+		pooledEvent.retain();
+		assertFalse(pooledEvent.release());
+		assertEquals(0, pool.size());
+		assertTrue(pooledEvent.release());
+		assertEquals(1, pool.size());
+		assertNull(pooledEvent.getSource());
+		assertEquals(0, pooledEvent.value);
+	}
+
+	@Test
+	public void sreUtils_retainEvent_releaseEvent() {
+		SREutils.retainEvent(this.event);
+		assertEquals(1, this.event.getReferenceCount());
+		SREutils.releaseEvent(this.event);
+		assertEquals(0, this.event.getReferenceCount());
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class MyEvent extends ReusableEvent {
+
+		public int value;
+
+		@Override
+		protected void reset() {
+			super.reset();
+			this.value = 0;
+		}
+
+	}
+
+}
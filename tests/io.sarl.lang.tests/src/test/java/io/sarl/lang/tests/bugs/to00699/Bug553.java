@@ -53,15 +53,18 @@ public class Bug553 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.lang.tests.bug553.MyEvent;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class TestAgent extends Agent {",
+			"public class TestAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$MyEvent$0(final MyEvent occurrence) {",
 			"    long ms = (5) * 1000;",
 			"  }",
@@ -74,6 +77,29 @@ public class Bug553 extends AbstractSarlTest {
 			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$MyEvent$0(occurrence));",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(MyEvent.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (MyEvent.class.equals(eventType)) {",
+			"      $guardEvaluator$MyEvent((MyEvent) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (MyEvent.class.equals(eventType)) {",
+			"      final MyEvent occurrence = (MyEvent) event;",
+			"      $behaviorUnit$MyEvent$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public TestAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
@@ -91,12 +91,15 @@ public class Bug819 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.lang.core.Scope;",
 			"import io.sarl.lang.core.Skill;",
 			"import io.sarl.lang.util.ClearableReference;",
 			"import io.sarl.lang.util.SerializableProxy;",
 			"import java.io.ObjectStreamException;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Extension;",
@@ -106,7 +109,7 @@ public class Bug819 extends AbstractSarlTest {
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class Agent3 extends Agent {",
+			"public class Agent3 extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 			"    UUID id = null;",
 			"    Lifecycle _$CAPACITY_USE$IO_SARL_CORE_LIFECYCLE$CALLER = this.$castSkill(Lifecycle.class, (this.$CAPACITY_USE$IO_SARL_CORE_LIFECYCLE == null || this.$CAPACITY_USE$IO_SARL_CORE_LIFECYCLE.get() == null) ? (this.$CAPACITY_USE$IO_SARL_CORE_LIFECYCLE = this.$getSkill(Lifecycle.class)) : this.$CAPACITY_USE$IO_SARL_CORE_LIFECYCLE);",
@@ -193,6 +196,29 @@ public class Bug819 extends AbstractSarlTest {
 			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(Initialize.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      final Initialize occurrence = (Initialize) event;",
+			"      $behaviorUnit$Initialize$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public Agent3(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
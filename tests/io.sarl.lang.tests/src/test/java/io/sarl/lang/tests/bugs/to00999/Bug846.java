@@ -60,14 +60,17 @@ public class Bug846 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class SomeAgent extends Agent {",
+			"public class SomeAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 			"    double result = Math.pow((-1), 2);",
 			"  }",
@@ -80,6 +83,29 @@ public class Bug846 extends AbstractSarlTest {
 			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(Initialize.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      final Initialize occurrence = (Initialize) event;",
+			"      $behaviorUnit$Initialize$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public SomeAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
@@ -120,14 +146,17 @@ public class Bug846 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class SomeAgent extends Agent {",
+			"public class SomeAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 			"    double _power = Math.pow((-1), 2);",
 			"    short result = ((short) _power);",
@@ -141,6 +170,29 @@ public class Bug846 extends AbstractSarlTest {
 			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(Initialize.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      final Initialize occurrence = (Initialize) event;",
+			"      $behaviorUnit$Initialize$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public SomeAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
@@ -181,14 +233,17 @@ public class Bug846 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class SomeAgent extends Agent {",
+			"public class SomeAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 			"    double result = Math.pow(((double) (-1)), 2);",
 			"  }",
@@ -201,6 +256,29 @@ public class Bug846 extends AbstractSarlTest {
 			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(Initialize.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (Initialize.class.equals(eventType)) {",
+			"      final Initialize occurrence = (Initialize) event;",
+			"      $behaviorUnit$Initialize$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public SomeAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
@@ -83,9 +83,12 @@ public class Bug847 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.lang.core.Skill;",
 			"import io.sarl.lang.util.ClearableReference;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Extension;",
@@ -95,7 +98,7 @@ public class Bug847 extends AbstractSarlTest {
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class SomeAgent extends Agent {",
+			"public class SomeAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$AgentSpawned$0(final AgentSpawned occurrence) {",
 			"    Logging _$CAPACITY_USE$IO_SARL_CORE_LOGGING$CALLER = this.$castSkill(Logging.class, (this.$CAPACITY_USE$IO_SARL_CORE_LOGGING == null || this.$CAPACITY_USE$IO_SARL_CORE_LOGGING.get() == null) ? (this.$CAPACITY_USE$IO_SARL_CORE_LOGGING = this.$getSkill(Logging.class)) : this.$CAPACITY_USE$IO_SARL_CORE_LOGGING);",
 			"    _$CAPACITY_USE$IO_SARL_CORE_LOGGING$CALLER.info(\"Agent {0} of type {1} has been created successfully and is now alive!\", ",
@@ -125,6 +128,29 @@ public class Bug847 extends AbstractSarlTest {
 			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$AgentSpawned$0(occurrence));",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(AgentSpawned.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (AgentSpawned.class.equals(eventType)) {",
+			"      $guardEvaluator$AgentSpawned((AgentSpawned) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (AgentSpawned.class.equals(eventType)) {",
+			"      final AgentSpawned occurrence = (AgentSpawned) event;",
+			"      $behaviorUnit$AgentSpawned$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public SomeAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
@@ -187,9 +213,12 @@ public class Bug847 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.lang.core.Skill;",
 			"import io.sarl.lang.util.ClearableReference;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Extension;",
@@ -199,7 +228,7 @@ public class Bug847 extends AbstractSarlTest {
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class SomeAgent extends Agent {",
+			"public class SomeAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$AgentSpawned$0(final AgentSpawned occurrence) {",
 			"    final Collection<UUID> agent_ids = occurrence.agentIdentifiers;",
 			"    final String agent_type = occurrence.agentType;",
@@ -230,6 +259,29 @@ public class Bug847 extends AbstractSarlTest {
 			"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$AgentSpawned$0(occurrence));",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(AgentSpawned.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (AgentSpawned.class.equals(eventType)) {",
+			"      $guardEvaluator$AgentSpawned((AgentSpawned) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (AgentSpawned.class.equals(eventType)) {",
+			"      final AgentSpawned occurrence = (AgentSpawned) event;",
+			"      $behaviorUnit$AgentSpawned$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public SomeAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
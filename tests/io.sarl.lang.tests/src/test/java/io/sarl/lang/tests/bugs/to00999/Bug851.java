@@ -68,10 +68,13 @@ public class Bug851 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.lang.tests.bug851.Body;",
 			"import io.sarl.lang.tests.bug851.CarArrivedPercept;",
 			"import java.util.Collection;",
 			"import java.util.Map;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Pure;",
@@ -79,7 +82,7 @@ public class Bug851 extends AbstractSarlTest {
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class SomeAgent extends Agent {",
+			"public class SomeAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private Map<UUID, Body> cars;",
 			"  ",
 			"  private void $behaviorUnit$CarArrivedPercept$0(final CarArrivedPercept occurrence) {",
@@ -96,6 +99,29 @@ public class Bug851 extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(CarArrivedPercept.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (CarArrivedPercept.class.equals(eventType)) {",
+			"      $guardEvaluator$CarArrivedPercept((CarArrivedPercept) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (CarArrivedPercept.class.equals(eventType)) {",
+			"      final CarArrivedPercept occurrence = (CarArrivedPercept) event;",
+			"      $behaviorUnit$CarArrivedPercept$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
 			"  @Pure",
 			"  @SyntheticMember",
 			"  public boolean equals(final Object obj) {",
@@ -159,10 +185,13 @@ public class Bug851 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.lang.tests.bug851.Body;",
 			"import io.sarl.lang.tests.bug851.CarArrivedPercept;",
 			"import java.util.Collection;",
 			"import java.util.Map;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Pure;",
@@ -170,7 +199,7 @@ public class Bug851 extends AbstractSarlTest {
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class SomeAgent extends Agent {",
+			"public class SomeAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private Map<UUID, Body> cars;",
 			"  ",
 			"  @Pure",
@@ -192,6 +221,29 @@ public class Bug851 extends AbstractSarlTest {
 			"  }",
 			"  ",
 			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(CarArrivedPercept.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (CarArrivedPercept.class.equals(eventType)) {",
+			"      $guardEvaluator$CarArrivedPercept((CarArrivedPercept) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (CarArrivedPercept.class.equals(eventType)) {",
+			"      final CarArrivedPercept occurrence = (CarArrivedPercept) event;",
+			"      $behaviorUnit$CarArrivedPercept$0(occurrence);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
 			"  @Pure",
 			"  @SyntheticMember",
 			"  public boolean equals(final Object obj) {",
@@ -2020,6 +2020,8 @@ public class Bug885 extends AbstractSarlTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.lang.core.Scope;",
 			"import io.sarl.lang.core.Skill;",
 			"import io.sarl.lang.tests.bug885.MyEvent;",
@@ -2027,6 +2029,7 @@ public class Bug885 extends AbstractSarlTest {
 			"import io.sarl.lang.util.SerializableProxy;",
 			"import java.io.ObjectStreamException;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Extension;",
@@ -2036,7 +2039,7 @@ public class Bug885 extends AbstractSarlTest {
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 			"@SuppressWarnings(\"all\")",
-			"public class MyAgent extends Agent {",
+			"public class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"  private void $behaviorUnit$MyEvent$0(final MyEvent occurrence) {",
 			"    DefaultContextInteractions _$CAPACITY_USE$IO_SARL_CORE_DEFAULTCONTEXTINTERACTIONS$CALLER = this.$castSkill(DefaultContextInteractions.class, (this.$CAPACITY_USE$IO_SARL_CORE_DEFAULTCONTEXTINTERACTIONS == null || this.$CAPACITY_USE$IO_SARL_CORE_DEFAULTCONTEXTINTERACTIONS.get() == null) ? (this.$CAPACITY_USE$IO_SARL_CORE_DEFAULTCONTEXTINTERACTIONS = this.$getSkill(DefaultContextInteractions.class)) : this.$CAPACITY_USE$IO_SARL_CORE_DEFAULTCONTEXTINTERACTIONS);",
 			"    class $SerializableClosureProxy implements Scope<Address> {",
@@ -2097,6 +2100,31 @@ public class Bug885 extends AbstractSarlTest {
 			"    }",
 			"  }",
 			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"    toBeFilled.add(MyEvent.class);",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"    if (MyEvent.class.equals(eventType)) {",
+			"      $guardEvaluator$MyEvent((MyEvent) event, callbacks);",
+			"    }",
+			"  }",
+			"  ",
+			"  @Override",
+			"  @SyntheticMember",
+			"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"    if (MyEvent.class.equals(eventType)) {",
+			"      final MyEvent occurrence = (MyEvent) event;",
+			"      if ($behaviorUnitGuard$MyEvent$0(occurrence, occurrence)) {",
+			"        $behaviorUnit$MyEvent$0(occurrence);",
+			"      }",
+			"    }",
+			"  }",
+			"  ",
 			"  @SyntheticMember",
 			"  public MyAgent(final UUID arg0, final UUID arg1) {",
 			"    super(arg0, arg1);",
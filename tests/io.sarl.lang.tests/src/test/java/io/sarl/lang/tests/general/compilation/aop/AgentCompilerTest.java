@@ -109,14 +109,17 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class A1 extends Agent {",
+				"public class A1 extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
 				"    System.out.println(occurrence);",
 				"  }",
@@ -129,6 +132,29 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$E1$0(occurrence));",
 				"  }",
 				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(E1.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      $guardEvaluator$E1((E1) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      final E1 occurrence = (E1) event;",
+				"      $behaviorUnit$E1$0(occurrence);",
+				"    }",
+				"  }",
+				"  ",
 				"  @SyntheticMember",
 				"  public A1(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
@@ -315,7 +341,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"import org.eclipse.xtext.xbase.lib.Pure;",
@@ -323,7 +352,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class A1 extends Agent {",
+				"public class A1 extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
 				"    System.out.println(occurrence);",
 				"  }",
@@ -344,6 +373,31 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    }",
 				"  }",
 				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(E1.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      $guardEvaluator$E1((E1) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      final E1 occurrence = (E1) event;",
+				"      if ($behaviorUnitGuard$E1$0(occurrence, occurrence)) {",
+				"        $behaviorUnit$E1$0(occurrence);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
 				"  @SyntheticMember",
 				"  public A1(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
@@ -2453,7 +2507,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"import org.eclipse.xtext.xbase.lib.InputOutput;",
@@ -2462,7 +2519,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class MyAgent extends Agent {",
+				"public class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 				"    InputOutput.<String>println(\"Initialization without parameters\");",
 				"  }",
@@ -2499,6 +2556,34 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    }",
 				"  }",
 				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(Initialize.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
+				"        $behaviorUnit$Initialize$0(occurrence);",
+				"      }",
+				"      if ($behaviorUnitGuard$Initialize$1(occurrence, occurrence)) {",
+				"        $behaviorUnit$Initialize$1(occurrence);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
 				"  @SyntheticMember",
 				"  public MyAgent(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
@@ -2546,14 +2631,17 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class MyAgent extends Agent {",
+				"public class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 				"  }",
 				"  ",  
@@ -2576,6 +2664,37 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
 				"  }",
 				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(Destroy.class);",
+				"    toBeFilled.add(Initialize.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      $guardEvaluator$Destroy((Destroy) event, callbacks);",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      $behaviorUnit$Destroy$1(occurrence);",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      $behaviorUnit$Initialize$0(occurrence);",
+				"    }",
+				"  }",
+				"  ",
 				"  @SyntheticMember",
 				"  public MyAgent(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
@@ -2627,7 +2746,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"import org.eclipse.xtext.xbase.lib.InputOutput;",
@@ -2635,7 +2757,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class MyAgent extends Agent {",
+				"public class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 				"    InputOutput.<Integer>println(Integer.valueOf(1));",
 				"  }",
@@ -2664,6 +2786,38 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$2(occurrence));",
 				"  }",
 				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(Destroy.class);",
+				"    toBeFilled.add(Initialize.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      $guardEvaluator$Destroy((Destroy) event, callbacks);",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      $behaviorUnit$Destroy$1(occurrence);",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      $behaviorUnit$Initialize$0(occurrence);",
+				"      $behaviorUnit$Initialize$2(occurrence);",
+				"    }",
+				"  }",
+				"  ",
 				"  @SyntheticMember",
 				"  public MyAgent(final UUID arg0, final UUID arg1) {",
 				"    super(arg0, arg1);",
@@ -2716,7 +2870,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"import org.eclipse.xtext.xbase.lib.InputOutput;",
@@ -2725,7 +2882,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class MyAgent extends Agent {",
+				"public class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"  private int xxx;",
 				"  ",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2773,6 +2930,42 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(Destroy.class);",
+				"    toBeFilled.add(Initialize.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      $guardEvaluator$Destroy((Destroy) event, callbacks);",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      $behaviorUnit$Destroy$1(occurrence);",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
+				"        $behaviorUnit$Initialize$0(occurrence);",
+				"      }",
+				"      if ($behaviorUnitGuard$Initialize$2(occurrence, occurrence)) {",
+				"        $behaviorUnit$Initialize$2(occurrence);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
 				"  @Pure",
 				"  @SyntheticMember",
 				"  public boolean equals(final Object obj) {",
@@ -2854,7 +3047,10 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"import org.eclipse.xtext.xbase.lib.InputOutput;",
@@ -2863,7 +3059,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class MyAgent extends Agent {",
+				"public class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"  private int xxx;",
 				"  ",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2925,6 +3121,45 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"  }",
 				"  ",
 				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(Destroy.class);",
+				"    toBeFilled.add(Initialize.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      $guardEvaluator$Destroy((Destroy) event, callbacks);",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      $guardEvaluator$Initialize((Initialize) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (Destroy.class.equals(eventType)) {",
+				"      final Destroy occurrence = (Destroy) event;",
+				"      $behaviorUnit$Destroy$1(occurrence);",
+				"      if ($behaviorUnitGuard$Destroy$2(occurrence, occurrence)) {",
+				"        $behaviorUnit$Destroy$2(occurrence);",
+				"      }",
+				"    }",
+				"    if (Initialize.class.equals(eventType)) {",
+				"      final Initialize occurrence = (Initialize) event;",
+				"      if ($behaviorUnitGuard$Initialize$0(occurrence, occurrence)) {",
+				"        $behaviorUnit$Initialize$0(occurrence);",
+				"      }",
+				"      if ($behaviorUnitGuard$Initialize$3(occurrence, occurrence)) {",
+				"        $behaviorUnit$Initialize$3(occurrence);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
 				"  @Pure",
 				"  @SyntheticMember",
 				"  public boolean equals(final Object obj) {",
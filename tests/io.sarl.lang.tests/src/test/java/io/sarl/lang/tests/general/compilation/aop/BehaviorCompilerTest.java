@@ -91,12 +91,15 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class B1 extends Behavior {",
+				"public class B1 extends Behavior implements IBehaviorGuardEvaluatorReceiver {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
 				"    System.out.println(occurrence);",
 				"  }",
@@ -109,6 +112,29 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"    ___SARLlocal_runnableCollection.add(() -> $behaviorUnit$E1$0(occurrence));",
 				"  }",
 				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(E1.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      $guardEvaluator$E1((E1) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      final E1 occurrence = (E1) event;",
+				"      $behaviorUnit$E1$0(occurrence);",
+				"    }",
+				"  }",
+				"  ",
 				"  @SyntheticMember",
 				"  public B1(final Agent arg0) {",
 				"    super(arg0);",
@@ -265,13 +291,16 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"import io.sarl.lang.annotation.SyntheticMember;",
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.Behavior;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import org.eclipse.xtext.xbase.lib.Pure;",
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
 				"@SuppressWarnings(\"all\")",
-				"public class B1 extends Behavior {",
+				"public class B1 extends Behavior implements IBehaviorGuardEvaluatorReceiver {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
 				"    System.out.println(occurrence);",
 				"  }",
@@ -292,6 +321,31 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"    }",
 				"  }",
 				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"    toBeFilled.add(E1.class);",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      $guardEvaluator$E1((E1) event, callbacks);",
+				"    }",
+				"  }",
+				"  ",
+				"  @Override",
+				"  @SyntheticMember",
+				"  public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"    if (E1.class.equals(eventType)) {",
+				"      final E1 occurrence = (E1) event;",
+				"      if ($behaviorUnitGuard$E1$0(occurrence, occurrence)) {",
+				"        $behaviorUnit$E1$0(occurrence);",
+				"      }",
+				"    }",
+				"  }",
+				"  ",
 				"  @SyntheticMember",
 				"  public B1(final Agent arg0) {",
 				"    super(arg0);",
@@ -0,0 +1,123 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.compiler.batch.ClassLoaderCache;
+import io.sarl.tests.api.AbstractSarlTest;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ClassLoaderCacheTest extends AbstractSarlTest {
+
+	private ClassLoaderCache cache;
+
+	private File jar1;
+
+	private File jar2;
+
+	private ClassLoader parent;
+
+	@Before
+	public void setUp() throws IOException {
+		this.cache = new ClassLoaderCache(2);
+		this.jar1 = File.createTempFile("lib1", ".jar");
+		this.jar1.deleteOnExit();
+		this.jar2 = File.createTempFile("lib2", ".jar");
+		this.jar2.deleteOnExit();
+		this.parent = getClass().getClassLoader();
+	}
+
+	@After
+	public void tearDown() {
+		this.cache.clear();
+		this.jar1.delete();
+		this.jar2.delete();
+	}
+
+	@Test
+	public void getClassLoader_sameLibraries() {
+		final ClassLoader loader = this.cache.getClassLoader(Arrays.asList(this.jar1, this.jar2), this.parent);
+		assertSame(loader, this.cache.getClassLoader(Arrays.asList(this.jar1, this.jar2), this.parent));
+		assertEquals(1, this.cache.size());
+	}
+
+	@Test
+	public void getClassLoader_classPathOrder() {
+		final ClassLoader loader = this.cache.getClassLoader(Arrays.asList(this.jar1, this.jar2), this.parent);
+		assertNotSame(loader, this.cache.getClassLoader(Arrays.asList(this.jar2, this.jar1), this.parent));
+		assertEquals(2, this.cache.size());
+	}
+
+	@Test
+	public void getClassLoader_otherParent() {
+		final List<File> libraries = Collections.singletonList(this.jar1);
+		final ClassLoader loader = this.cache.getClassLoader(libraries, this.parent);
+		final ClassLoader other = this.cache.getClassLoader(libraries, new URLClassLoader(new URL[0], this.parent));
+		assertNotSame(loader, other);
+		assertSame(this.parent, loader.getParent());
+		assertNotSame(this.parent, other.getParent());
+	}
+
+	@Test
+	public void getClassLoader_changedLibrary() {
+		final List<File> libraries = Collections.singletonList(this.jar1);
+		final ClassLoader loader = this.cache.getClassLoader(libraries, this.parent);
+		this.jar1.setLastModified(this.jar1.lastModified() - 10000);
+		final ClassLoader other = this.cache.getClassLoader(libraries, this.parent);
+		assertNotSame(loader, other);
+		// The class loader on the previous version of the library is removed
+		assertEquals(1, this.cache.size());
+	}
+
+	@Test
+	public void getClassLoader_maxSize() {
+		this.cache.getClassLoader(Collections.singletonList(this.jar1), this.parent);
+		this.cache.getClassLoader(Collections.singletonList(this.jar2), this.parent);
+		this.cache.getClassLoader(Arrays.asList(this.jar1, this.jar2), this.parent);
+		assertEquals(2, this.cache.size());
+	}
+
+	@Test
+	public void clear() {
+		this.cache.getClassLoader(Collections.singletonList(this.jar1), this.parent);
+		this.cache.clear();
+		assertEquals(0, this.cache.size());
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.arakhne.afc.vmutil.FileSystem;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import io.sarl.lang.compiler.batch.ClasspathTypeIndex;
+import io.sarl.tests.api.AbstractSarlTest;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ClasspathTypeIndexTest extends AbstractSarlTest {
+
+	private File root;
+
+	private File jar;
+
+	private File folder;
+
+	private File cacheDirectory;
+
+	private ClasspathTypeIndex index;
+
+	private static void createJar(File jar, String... entries) throws IOException {
+		try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(jar))) {
+			for (final String entry : entries) {
+				output.putNextEntry(new ZipEntry(entry));
+				output.closeEntry();
+			}
+		}
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		this.root = Files.createTempDirectory("sarl").toFile();
+		this.jar = new File(this.root, "lib.jar");
+		createJar(this.jar, "a/b/C.class", "a/b/C$D.class", "a/b/", "META-INF/versions/9/a/b/E.class", "a/b/data.txt");
+		this.folder = new File(this.root, "classes");
+		new File(this.folder, "x").mkdirs();
+		new File(this.folder, "x/Y.class").createNewFile();
+		this.cacheDirectory = new File(this.root, "cache");
+		this.index = ClasspathTypeIndex.create(Arrays.asList(this.jar, this.folder, new File(this.root, "unknown.jar")),
+				null, this.cacheDirectory, null);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		FileSystem.delete(this.root);
+	}
+
+	@Test
+	public void indexFile() {
+		assertEquals(1, this.cacheDirectory.listFiles().length);
+	}
+
+	@Test
+	public void mayContain_jar() {
+		assertTrue(this.index.mayContain("a.b.C"));
+		assertTrue(this.index.mayContain("a.b.C$D"));
+		assertFalse(this.index.mayContain("a.b.D"));
+		assertFalse(this.index.mayContain("a.b.C.D"));
+		assertFalse(this.index.mayContain("a.b.E"));
+		assertFalse(this.index.mayContain("a.b.data"));
+		assertFalse(this.index.mayContain("a.b"));
+	}
+
+	@Test
+	public void mayContain_folder() {
+		assertTrue(this.index.mayContain("x.Y"));
+		assertFalse(this.index.mayContain("x.Z"));
+	}
+
+	@Test
+	public void mayContain_parent() throws IOException {
+		final ClasspathTypeIndex index = ClasspathTypeIndex.create(Arrays.asList(), getClass().getClassLoader(),
+				this.cacheDirectory, null);
+		assertTrue(index.mayContain("java.lang.String"));
+		assertFalse(index.mayContain("java.lang.Strin"));
+	}
+
+	@Test
+	public void mayContain_primitive() {
+		assertTrue(this.index.mayContain("int"));
+		assertTrue(this.index.mayContain("int[]"));
+	}
+
+	@Test
+	public void mayContain_array() {
+		assertTrue(this.index.mayContain("a.b.C[][]"));
+		assertFalse(this.index.mayContain("a.b.D[]"));
+	}
+
+	@Test
+	public void invalidJar() throws IOException {
+		final File invalidJar = new File(this.root, "invalid.jar");
+		Files.write(invalidJar.toPath(), new byte[] {1, 2, 3});
+		final Logger logger = mock(Logger.class);
+		final ClasspathTypeIndex index = ClasspathTypeIndex.create(Arrays.asList(invalidJar, this.jar, this.folder),
+				null, this.cacheDirectory, logger);
+		verify(logger).warn(anyString(), eq(invalidJar), anyString());
+		assertTrue(index.mayContain("a.b.C"));
+		assertTrue(index.mayContain("x.Y"));
+		assertFalse(index.mayContain("a.b.D"));
+	}
+
+	@Test
+	public void invalidCacheDirectory() throws IOException {
+		final File invalidDirectory = new File(this.root, "invalid");
+		invalidDirectory.createNewFile();
+		final File otherJar = new File(this.root, "other.jar");
+		createJar(otherJar, "c/d/E.class");
+		final Logger logger = mock(Logger.class);
+		final ClasspathTypeIndex index = ClasspathTypeIndex.create(Arrays.asList(otherJar),
+				null, invalidDirectory, logger);
+		verify(logger).warn(anyString(), eq(otherJar), any(), anyString());
+		verify(logger, never()).warn(anyString(), eq(otherJar), anyString());
+		assertTrue(index.mayContain("c.d.E"));
+		assertFalse(index.mayContain("c.d.F"));
+	}
+
+}
@@ -0,0 +1,240 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import org.arakhne.afc.vmutil.FileSystem;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import io.sarl.lang.compiler.batch.CompilationDaemon;
+import io.sarl.lang.compiler.batch.CompilationDaemonRequest;
+import io.sarl.lang.compiler.batch.SarlBatchCompiler;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class CompilationDaemonTest extends AbstractBatchCompilerTest {
+
+	private static final int TIMEOUT = 10000;
+
+	private static final String SARL_CODE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch",
+			"class MyType {",
+			"}");
+
+	@Inject
+	private Provider<SarlBatchCompiler> compilerProvider;
+
+	private String userHome;
+
+	private File homeDirectory;
+
+	private Logger logger;
+
+	private CompilationDaemon daemon;
+
+	private int port;
+
+	private Thread daemonThread;
+
+	@Before
+	public void setUp() throws Exception {
+		// The token file is written into the home directory
+		this.userHome = System.getProperty("user.home");
+		this.homeDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "home");
+		System.setProperty("user.home", this.homeDirectory.getAbsolutePath());
+		this.logger = mock(Logger.class);
+		this.daemon = new CompilationDaemon(this.compilerProvider);
+		this.daemon.setLogger(this.logger);
+		this.port = this.daemon.start(0);
+		this.daemonThread = new Thread(() -> this.daemon.run());
+		this.daemonThread.setDaemon(true);
+		this.daemonThread.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		this.daemon.close();
+		this.daemonThread.join(TIMEOUT);
+		System.setProperty("user.home", this.userHome);
+		FileSystem.delete(this.homeDirectory);
+	}
+
+	private SarlBatchCompiler createCompiler(File basePath, File sourcePath, File sarlcOutputFolder, File javacOutputFolder,
+			File tempFolder) {
+		SarlBatchCompiler compiler = this.compilerProvider.get();
+		compiler.setBasePath(basePath.getAbsolutePath());
+		compiler.setSourcePath(sourcePath.getAbsolutePath());
+		compiler.setOutputPath(sarlcOutputFolder);
+		compiler.setClassOutputPath(javacOutputFolder);
+		compiler.setTempDirectory(tempFolder);
+		compiler.setJavaCompilerVerbose(false);
+		compiler.setGenerateInlineAnnotation(false);
+		compiler.setReportInternalProblemsAsIssues(true);
+		compiler.setCompilationDaemon(CompilationDaemon.getLocalAddress(this.port));
+		return compiler;
+	}
+
+	private static void compile(SarlBatchCompiler compiler) {
+		final List<Issue> issues = new ArrayList<>();
+		compiler.addIssueMessageListener((issue, uri, message) -> {
+			issues.add(issue);
+		});
+		if (!compiler.compile()) {
+			throw new RuntimeException("Compilation error: " + issues.toString());
+		}
+	}
+
+	@Override
+	public void runBatchCompiler(File basePath, File sourcePath, File sarlcOutputFolder, File javacOutputFolder, File tempFolder) throws Exception {
+		compile(createCompiler(basePath, sourcePath, sarlcOutputFolder, javacOutputFolder, tempFolder));
+	}
+
+	private byte[] readToken(int daemonPort) throws IOException {
+		final File tokenFile = CompilationDaemon.getTokenFile(daemonPort);
+		return Base64.getDecoder().decode(new String(Files.readAllBytes(tokenFile.toPath()), StandardCharsets.US_ASCII).trim());
+	}
+
+	/** Send the given object to the daemon without using the client API.
+	 */
+	private Object sendRaw(byte[] token, Object request) throws Exception {
+		try (Socket socket = new Socket()) {
+			socket.connect(CompilationDaemon.getLocalAddress(this.port), TIMEOUT);
+			socket.setSoTimeout(TIMEOUT);
+			final ObjectOutputStream output = new ObjectOutputStream(socket.getOutputStream());
+			output.write(token);
+			output.writeObject(request);
+			output.flush();
+			return new ObjectInputStream(socket.getInputStream()).readObject();
+		}
+	}
+
+	@Test
+	public void compileWithDaemon() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			File sourceDirectory = new File(tempDirectory, "src");
+			sourceDirectory.mkdirs();
+			File sarlcOutputDirectory = new File(tempDirectory, "src-gen");
+			Files.write(new File(sourceDirectory, "test.sarl").toPath(), SARL_CODE.getBytes());
+			runBatchCompiler(tempDirectory, sourceDirectory, sarlcOutputDirectory, new File(tempDirectory, "bin"),
+					new File(tempDirectory, "build"));
+			// The compilation was run by the daemon
+			verify(this.logger).info(anyString(), (Object) any());
+			File javaFile = makeFolder(sarlcOutputDirectory, "io", "sarl", "lang", "tests", "compiler", "batch", "MyType.java");
+			assertTrue(javaFile.isFile());
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+	@Test
+	public void tokenFile() throws Exception {
+		final File tokenFile = CompilationDaemon.getTokenFile(this.port);
+		assertTrue(tokenFile.isFile());
+		assertEquals(32, readToken(this.port).length);
+		this.daemon.close();
+		assertFalse(tokenFile.exists());
+	}
+
+	@Test
+	public void invalidToken() throws Exception {
+		final byte[] token = readToken(this.port);
+		token[0] ^= 1;
+		final CompilationDaemonRequest request = new CompilationDaemonRequest(this.compilerProvider.get());
+		try {
+			sendRaw(token, request);
+			fail("The request must be rejected");
+		} catch (IOException exception) {
+			// The daemon closes the connection without reply
+		}
+		verify(this.logger, timeout(TIMEOUT)).warn(anyString(), (Object) any(SocketAddress.class));
+	}
+
+	@Test
+	public void invalidType() throws Exception {
+		try {
+			// StringBuilder is serializable and in the java.lang package
+			sendRaw(readToken(this.port), new StringBuilder("request"));
+			fail("The request must be rejected");
+		} catch (IOException exception) {
+			// The daemon closes the connection without reply
+		}
+		verify(this.logger, timeout(TIMEOUT)).warn(anyString(), isA(InvalidClassException.class));
+	}
+
+	@Test
+	public void noResponse_localCompilation() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		// A server that accepts the connections and never replies
+		try (ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+			Files.write(CompilationDaemon.getTokenFile(server.getLocalPort()).toPath(),
+					Base64.getEncoder().encode(new byte[32]));
+			File sourceDirectory = new File(tempDirectory, "src");
+			sourceDirectory.mkdirs();
+			File sarlcOutputDirectory = new File(tempDirectory, "src-gen");
+			Files.write(new File(sourceDirectory, "test.sarl").toPath(), SARL_CODE.getBytes());
+			SarlBatchCompiler compiler = createCompiler(tempDirectory, sourceDirectory, sarlcOutputDirectory,
+					new File(tempDirectory, "bin"), new File(tempDirectory, "build"));
+			compiler.setCompilationDaemon(CompilationDaemon.getLocalAddress(server.getLocalPort()));
+			compiler.setCompilationDaemonTimeout(1000);
+			compile(compiler);
+			File javaFile = makeFolder(sarlcOutputDirectory, "io", "sarl", "lang", "tests", "compiler", "batch", "MyType.java");
+			assertTrue(javaFile.isFile());
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.compiler.batch.CompilationProfiler;
+import io.sarl.tests.api.AbstractSarlTest;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class CompilationProfilerTest extends AbstractSarlTest {
+
+	private CompilationProfiler profiler;
+
+	@Before
+	public void setUp() {
+		this.profiler = new CompilationProfiler();
+	}
+
+	@Test
+	public void disabledByDefault() {
+		assertFalse(this.profiler.isEnabled());
+		assertEquals(0, this.profiler.timestamp());
+		this.profiler.beginPhase(CompilationProfiler.PARSING_PHASE);
+		this.profiler.addResourceTime(CompilationProfiler.PARSING_PHASE, "a.sarl", System.nanoTime());
+		this.profiler.addCheckTime("check", System.nanoTime());
+		assertTrue(this.profiler.getPhaseTimes().isEmpty());
+		assertTrue(this.profiler.getResourceTimes().isEmpty());
+		assertTrue(this.profiler.getCheckTimes().isEmpty());
+	}
+
+	@Test
+	public void phases() {
+		this.profiler.start();
+		assertTrue(this.profiler.isEnabled());
+		this.profiler.beginPhase(CompilationProfiler.PARSING_PHASE);
+		this.profiler.beginPhase(CompilationProfiler.VALIDATION_PHASE);
+		this.profiler.beginPhase(CompilationProfiler.PARSING_PHASE);
+		this.profiler.stop();
+		assertFalse(this.profiler.isEnabled());
+		final Map<String, Long> phases = this.profiler.getPhaseTimes();
+		assertEquals(2, phases.size());
+		assertEquals(CompilationProfiler.PARSING_PHASE, phases.keySet().iterator().next());
+	}
+
+	@Test
+	public void resources() {
+		this.profiler.start();
+		this.profiler.addResourceTime(CompilationProfiler.PARSING_PHASE, "b.sarl", this.profiler.timestamp());
+		this.profiler.addResourceTime(CompilationProfiler.PARSING_PHASE, "a.sarl", this.profiler.timestamp());
+		this.profiler.addResourceTime(CompilationProfiler.VALIDATION_PHASE, "a.sarl", this.profiler.timestamp());
+		this.profiler.stop();
+		final Map<String, Map<String, Long>> resources = this.profiler.getResourceTimes();
+		assertEquals(2, resources.size());
+		assertEquals("a.sarl", resources.keySet().iterator().next());
+		assertEquals(2, resources.get("a.sarl").size());
+		assertEquals(1, resources.get("b.sarl").size());
+	}
+
+	@Test
+	public void checks() {
+		this.profiler.start();
+		this.profiler.addCheckTime("check1", this.profiler.timestamp());
+		this.profiler.addCheckTime("check1", this.profiler.timestamp());
+		this.profiler.addCheckTime("check2", this.profiler.timestamp());
+		this.profiler.stop();
+		assertEquals(2, this.profiler.getCheckTimes().size());
+	}
+
+	@Test
+	public void start_clearsData() {
+		this.profiler.start();
+		this.profiler.beginPhase(CompilationProfiler.PARSING_PHASE);
+		this.profiler.addCheckTime("check1", this.profiler.timestamp());
+		this.profiler.stop();
+		this.profiler.start();
+		this.profiler.stop();
+		assertTrue(this.profiler.getPhaseTimes().isEmpty());
+		assertTrue(this.profiler.getCheckTimes().isEmpty());
+	}
+
+	@Test
+	public void writeJsonReport() throws IOException {
+		this.profiler.start();
+		this.profiler.beginPhase(CompilationProfiler.PARSING_PHASE);
+		this.profiler.addResourceTime(CompilationProfiler.PARSING_PHASE, "file:/a\"b.sarl", this.profiler.timestamp());
+		this.profiler.addCheckTime("SARLValidator.checkX(SarlAgent)", this.profiler.timestamp());
+		this.profiler.stop();
+		final StringBuilder output = new StringBuilder();
+		this.profiler.writeJsonReport(output);
+		final String json = output.toString();
+		assertTrue(json.startsWith("{"));
+		assertTrue(json.contains("\"name\": \"parsing\""));
+		assertTrue(json.contains("\"name\": \"file:/a\\\"b.sarl\""));
+		assertTrue(json.contains("\"name\": \"SARLValidator.checkX(SarlAgent)\""));
+		assertTrue(json.contains("\"count\": 1"));
+	}
+
+	@Test
+	public void writeCsvReport() throws IOException {
+		this.profiler.start();
+		this.profiler.beginPhase(CompilationProfiler.PARSING_PHASE);
+		this.profiler.addResourceTime(CompilationProfiler.PARSING_PHASE, "a.sarl", this.profiler.timestamp());
+		this.profiler.addCheckTime("SARLValidator.checkX(SarlAgent, String)", this.profiler.timestamp());
+		this.profiler.stop();
+		final StringBuilder output = new StringBuilder();
+		this.profiler.writeCsvReport(output);
+		final String[] lines = output.toString().split("\n");
+		assertEquals(5, lines.length);
+		assertEquals("category,name,phase,durationMs,memoryDeltaBytes,count", lines[0]);
+		assertTrue(lines[1].startsWith("total,,,"));
+		assertTrue(lines[2].startsWith("phase,parsing,parsing,"));
+		assertTrue(lines[3].startsWith("resource,a.sarl,parsing,"));
+		assertTrue(lines[4].startsWith("check,\"SARLValidator.checkX(SarlAgent, String)\",validation,"));
+	}
+
+	@Test
+	public void writeReport_csvExtension() throws IOException {
+		final File file = File.createTempFile("profiling", ".csv");
+		try {
+			this.profiler.start();
+			this.profiler.stop();
+			this.profiler.writeReport(file);
+			final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			assertTrue(content.startsWith("category,"));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void writeReport_jsonExtension() throws IOException {
+		final File file = File.createTempFile("profiling", ".json");
+		try {
+			this.profiler.start();
+			this.profiler.stop();
+			this.profiler.writeReport(file);
+			final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			assertTrue(content.startsWith("{"));
+		} finally {
+			file.delete();
+		}
+	}
+
+}
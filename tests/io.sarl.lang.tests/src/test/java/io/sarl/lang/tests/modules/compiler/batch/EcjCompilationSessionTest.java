@@ -0,0 +1,48 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import java.util.Collections;
+
+import org.junit.Assume;
+
+import io.sarl.lang.compiler.batch.EcjBatchCompiler;
+import io.sarl.lang.compiler.batch.JavaCompilationSession;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class EcjCompilationSessionTest extends JavaCompilationSessionTest {
+
+	@Override
+	protected JavaCompilationSession createSession() {
+		final JavaCompilationSession session = new EcjBatchCompiler().newSession(Collections.emptyList(),
+				"1.8", "UTF-8", null);
+		Assume.assumeNotNull(session);
+		return session;
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.compiler.batch.IncrementalBuildState;
+import io.sarl.lang.compiler.batch.IncrementalBuildState.ResourceState;
+import io.sarl.tests.api.AbstractSarlTest;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class IncrementalBuildStateTest extends AbstractSarlTest {
+
+	private IncrementalBuildState state;
+
+	private static Set<String> set(String... values) {
+		return new TreeSet<>(Arrays.asList(values));
+	}
+
+	@Before
+	public void setUp() {
+		this.state = new IncrementalBuildState("key");
+		// a.sarl <- b.sarl <- c.sarl ; d.sarl is independent
+		this.state.setResourceState("a.sarl", new ResourceState("ha", set("p.a"), set("java.lang.object"), set("p.A")));
+		this.state.setResourceState("b.sarl", new ResourceState("hb", set("p.b"), set("p.a"), set("p.B")));
+		this.state.setResourceState("c.sarl", new ResourceState("hc", set("p.c"), set("p.b"), set("p.C")));
+		this.state.setResourceState("d.sarl", new ResourceState("hd", set("p.d"), set("java.lang.object"), set("p.D")));
+	}
+
+	@Test
+	public void computeAffectedResources_leaf() {
+		assertEquals(set("c.sarl"),
+				this.state.computeAffectedResources(Collections.singleton("c.sarl"), Collections.emptySet()));
+	}
+
+	@Test
+	public void computeAffectedResources_transitive() {
+		assertEquals(set("a.sarl", "b.sarl", "c.sarl"),
+				this.state.computeAffectedResources(Collections.singleton("a.sarl"), Collections.emptySet()));
+	}
+
+	@Test
+	public void computeAffectedResources_newExportedName() {
+		assertEquals(set("b.sarl", "c.sarl", "e.sarl"),
+				this.state.computeAffectedResources(Collections.singleton("e.sarl"), Collections.singleton("p.b")));
+	}
+
+	@Test
+	public void saveLoad() throws Exception {
+		File file = File.createTempFile("sarltests_" + getClass().getSimpleName() + "_", "tmp");
+		try {
+			this.state.save(file);
+			IncrementalBuildState loaded = IncrementalBuildState.load(file);
+			assertNotNull(loaded);
+			assertEquals("key", loaded.getConfigurationKey());
+			assertEquals(set("a.sarl", "b.sarl", "c.sarl", "d.sarl"), loaded.getResources());
+			ResourceState resourceState = loaded.getResourceState("b.sarl");
+			assertEquals("hb", resourceState.getHash());
+			assertEquals(set("p.b"), resourceState.getExportedNames());
+			assertEquals(set("p.a"), resourceState.getImportedNames());
+			assertEquals(set("p.B"), resourceState.getGeneratedTypes());
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void load_invalidType() throws Exception {
+		File file = File.createTempFile("sarltests_" + getClass().getSimpleName() + "_", "tmp");
+		try {
+			try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
+				oos.writeObject(new ArrayList<>(Arrays.asList("a", "b")));
+			}
+			assertNull(IncrementalBuildState.load(file));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void load_noFile() throws Exception {
+		assertNull(IncrementalBuildState.load(new File("sarltests_does_not_exist.tmp")));
+	}
+
+}
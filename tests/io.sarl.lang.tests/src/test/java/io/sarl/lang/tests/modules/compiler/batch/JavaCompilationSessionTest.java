@@ -0,0 +1,144 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.compiler.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.tools.ToolProvider;
+
+import org.arakhne.afc.vmutil.FileSystem;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.compiler.batch.JavaCompilationSession;
+import io.sarl.lang.compiler.batch.OptimizationLevel;
+import io.sarl.tests.api.AbstractSarlTest;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class JavaCompilationSessionTest extends AbstractSarlTest {
+
+	private JavaCompilationSession session;
+
+	private File root;
+
+	private PrintWriter writer;
+
+	/** Create the session to test.
+	 *
+	 * @return the session.
+	 */
+	protected JavaCompilationSession createSession() {
+		Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+		return new JavaCompilationSession(ToolProvider.getSystemJavaCompiler(), Collections.emptyList(),
+				"1.8", "UTF-8", null);
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		this.session = createSession();
+		this.root = Files.createTempDirectory("sarl").toFile();
+		this.writer = new PrintWriter(new StringWriter());
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (this.session != null) {
+			this.session.close();
+		}
+		if (this.root != null) {
+			FileSystem.delete(this.root);
+		}
+	}
+
+	private File createJavaFile(String folder, String path, String content) throws IOException {
+		final File file = new File(new File(this.root, folder), path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return file.getParentFile();
+	}
+
+	private boolean compileStub() {
+		final Map<String, String> stubs = new TreeMap<>();
+		stubs.put("a/b/Stub.java", "package a.b; public class Stub { public static int f() { return 1; } }");
+		return this.session.compileInMemory(stubs, Collections.emptyList(), Collections.emptyList(),
+				this.writer, this.writer, new NullProgressMonitor());
+	}
+
+	@Test
+	public void compileInMemory_noSource() {
+		assertFalse(this.session.compileInMemory(Collections.emptyMap(), Collections.emptyList(), Collections.emptyList(),
+				this.writer, this.writer, new NullProgressMonitor()));
+		assertTrue(this.session.getClassesInMemory().isEmpty());
+	}
+
+	@Test
+	public void compileInMemory_stub() {
+		assertTrue(compileStub());
+		assertEquals(Collections.singleton("a.b.Stub"), this.session.getClassesInMemory());
+		assertFalse(new File(this.root, "a").exists());
+	}
+
+	@Test
+	public void compileInMemory_javaFileDependingOnStub() throws IOException {
+		createJavaFile("src", "c/User.java", "package c; public class User { int x = a.b.Stub.f(); }");
+		assertTrue(compileStub());
+		assertTrue(this.session.compileInMemory(Collections.emptyMap(), Collections.singleton(new File(this.root, "src")),
+				Collections.emptyList(), this.writer, this.writer, new NullProgressMonitor()));
+		assertTrue(this.session.getClassesInMemory().contains("c.User"));
+	}
+
+	@Test
+	public void writeClassesInMemory() throws IOException {
+		assertTrue(compileStub());
+		final File output = new File(this.root, "bin");
+		this.session.writeClassesInMemory(output);
+		assertTrue(new File(output, "a/b/Stub.class").isFile());
+	}
+
+	@Test
+	public void compile_notInMemory() throws IOException {
+		createJavaFile("src", "c/User.java", "package c; public class User { }");
+		final File output = new File(this.root, "bin");
+		assertTrue(this.session.compile(output, Collections.singleton(new File(this.root, "src")), Collections.emptyList(),
+				false, OptimizationLevel.G2, this.writer, this.writer, new NullProgressMonitor()));
+		assertTrue(new File(output, "c/User.class").isFile());
+		assertTrue(this.session.getClassesInMemory().isEmpty());
+	}
+
+}
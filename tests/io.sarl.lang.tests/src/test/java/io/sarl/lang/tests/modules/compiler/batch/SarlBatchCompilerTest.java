@@ -20,15 +20,32 @@
  */
 package io.sarl.lang.tests.modules.compiler.batch;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import com.google.common.io.Files;
+import org.arakhne.afc.vmutil.FileSystem;
 import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.validation.Issue;
+import org.junit.Test;
+import org.slf4j.Logger;
 
 import io.sarl.lang.compiler.batch.SarlBatchCompiler;
 
@@ -44,6 +61,9 @@ public class SarlBatchCompilerTest extends AbstractBatchCompilerTest {
 
 	@Inject
 	private Provider<SarlBatchCompiler> compilerProvider;
+
+	@Inject
+	private Provider<SynchronizedXtextResourceSet> resourceSetProvider;
 	
 	@Override
 	public void runBatchCompiler(File basePath, File sourcePath, File sarlcOutputFolder, File javacOutputFolder, File tempFolder) throws Exception {
@@ -65,4 +85,322 @@ public class SarlBatchCompilerTest extends AbstractBatchCompilerTest {
 		}
 	}
 
+	private static String depCode(int value) {
+		return multilineString(
+				"package io.sarl.lang.tests.compiler.batch.dep",
+				"class Dep {",
+				"  def value : int {",
+				"    " + value,
+				"  }",
+				"}");
+	}
+
+	private static final String USER_CODE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch.app",
+			"import io.sarl.lang.tests.compiler.batch.dep.Dep",
+			"class User {",
+			"  def run : int {",
+			"    new Dep().value",
+			"  }",
+			"}");
+
+	private static final String JAVA_HELPER_CODE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch.java;",
+			"public class JavaHelper {",
+			"  public static int value() {",
+			"    return 1;",
+			"  }",
+			"}");
+
+	private static final String JAVA_USER_CODE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch.app",
+			"import io.sarl.lang.tests.compiler.batch.java.JavaHelper",
+			"class JavaUser {",
+			"  def run : int {",
+			"    JavaHelper::value",
+			"  }",
+			"}");
+
+	private static final String JAVA_SARL_USER_CODE = multilineString(
+			"package io.sarl.lang.tests.compiler.batch.java;",
+			"import io.sarl.lang.tests.compiler.batch.dep.Dep;",
+			"public class SarlUser {",
+			"  public static int value() {",
+			"    return new Dep().value();",
+			"  }",
+			"}");
+
+	private static final String STUBS_SKIPPED_MESSAGE = "No Java file references the SARL types";
+
+	private static final String STUBS_COMPILED_MESSAGE = "Stubs generated and compiled in {} ms";
+
+	private static String parallelCode(String name, String body) {
+		return multilineString(
+				"package io.sarl.lang.tests.compiler.batch.par",
+				"class " + name + " {",
+				body,
+				"}");
+	}
+
+	/** Files with a dependency cycle (A and B), a chain of dependencies over three levels (C, D and E),
+	 * and an independent file (F).
+	 */
+	private static final String[][] PARALLEL_CODE = {
+		{"a.sarl", parallelCode("A", "  def b : B { null }")},
+		{"b.sarl", parallelCode("B", "  def a : A { null }")},
+		{"c.sarl", parallelCode("C", "  def run : int { new D().run + 1 }")},
+		{"d.sarl", parallelCode("D", "  def run : int { new E().run + 1 }")},
+		{"e.sarl", parallelCode("E", "  def run : int { 1 }")},
+		{"f.sarl", parallelCode("F", "  public def run : int { var x = 1\n    2 }")},
+	};
+
+	private Map<String, String> runParallelBatchCompiler(File basePath, int parallelism, Logger logger,
+			List<String> issues) throws Exception {
+		File sourceDirectory = new File(basePath, "src");
+		sourceDirectory.mkdirs();
+		for (final String[] code : PARALLEL_CODE) {
+			Files.write(code[1].getBytes(), new File(sourceDirectory, code[0]));
+		}
+		File outputDirectory = new File(basePath, "src-gen");
+		SarlBatchCompiler compiler = this.compilerProvider.get();
+		compiler.setBasePath(basePath.getAbsolutePath());
+		compiler.setSourcePath(sourceDirectory.getAbsolutePath());
+		compiler.setOutputPath(outputDirectory);
+		compiler.setTempDirectory(new File(basePath, "build"));
+		compiler.setJavaPostCompilationEnable(false);
+		compiler.setGenerateInlineAnnotation(false);
+		compiler.setReportInternalProblemsAsIssues(true);
+		compiler.setResourceSetProvider(() -> this.resourceSetProvider.get());
+		compiler.setParallelism(parallelism);
+		if (logger != null) {
+			compiler.setLogger(logger);
+		}
+		compiler.addIssueMessageListener((issue, uri, message) -> {
+			issues.add(issue.getSeverity() + ":" + (uri == null ? null : uri.lastSegment()) + ":"
+					+ issue.getLineNumber() + ":" + issue.getMessage());
+		});
+		if (!compiler.compile()) {
+			throw new RuntimeException("Compilation error: " + issues.toString());
+		}
+		final Map<String, String> outputs = new TreeMap<>();
+		File packageDirectory = makeFolder(outputDirectory, "io", "sarl", "lang", "tests", "compiler", "batch", "par");
+		for (final File file : packageDirectory.listFiles()) {
+			if (file.getName().endsWith(".java")) {
+				outputs.put(file.getName(), Files.toString(file, StandardCharsets.UTF_8));
+			}
+		}
+		return outputs;
+	}
+
+	@Test
+	public void parallelCompilation() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			final List<String> sequentialIssues = new ArrayList<>();
+			final Map<String, String> sequentialOutputs = runParallelBatchCompiler(
+					new File(tempDirectory, "sequential"), 1, null, sequentialIssues);
+			final Logger logger = mock(Logger.class);
+			final List<String> parallelIssues = new ArrayList<>();
+			final Map<String, String> parallelOutputs = runParallelBatchCompiler(
+					new File(tempDirectory, "parallel"), 4, logger, parallelIssues);
+			// The files were validated and generated in parallel: {A, B}, {E} and {F}, then {D}, then {C}
+			verify(logger).debug(anyString(), eq(Integer.valueOf(5)), eq(Integer.valueOf(3)));
+			assertEquals(PARALLEL_CODE.length, sequentialOutputs.size());
+			assertEquals(sequentialOutputs, parallelOutputs);
+			assertEquals(sequentialIssues, parallelIssues);
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+	private List<String> runIncrementalBatchCompiler(File basePath, List<File> classpath) throws Exception {
+		SarlBatchCompiler compiler = this.compilerProvider.get();
+		compiler.setBasePath(basePath.getAbsolutePath());
+		compiler.setSourcePath(new File(basePath, "src").getAbsolutePath());
+		compiler.setClassPath(classpath);
+		compiler.setOutputPath(new File(basePath, "src-gen"));
+		compiler.setTempDirectory(new File(basePath, "build"));
+		compiler.setJavaPostCompilationEnable(false);
+		compiler.setGenerateInlineAnnotation(false);
+		compiler.setReportInternalProblemsAsIssues(true);
+		compiler.setWriteStorageFiles(true);
+		compiler.setIncrementalCompilation(true);
+		final List<Issue> issues = new ArrayList<>();
+		compiler.addIssueMessageListener((issue, uri, message) -> {
+			issues.add(issue);
+		});
+		final List<String> compiledFiles = new ArrayList<>();
+		compiler.addCompiledResourceReceiver(it -> compiledFiles.add(it.getURI().lastSegment()));
+		if (!compiler.compile()) {
+			throw new RuntimeException("Compilation error: " + issues.toString());
+		}
+		return compiledFiles;
+	}
+
+	@Test
+	public void incrementalCompilation_changedDependency() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			// Compile the dependency into a folder of class files
+			File libDirectory = new File(tempDirectory, "lib");
+			File libSourceDirectory = new File(libDirectory, "src");
+			libSourceDirectory.mkdirs();
+			File libClassDirectory = new File(libDirectory, "bin");
+			Files.write(depCode(1).getBytes(), new File(libSourceDirectory, "dep.sarl"));
+			runBatchCompiler(libDirectory, libSourceDirectory, new File(libDirectory, "src-gen"),
+					libClassDirectory, new File(libDirectory, "build"));
+			File classFile = makeFolder(libClassDirectory, "io", "sarl", "lang", "tests", "compiler", "batch", "dep",
+					"Dep.class");
+			assertTrue(classFile.isFile());
+			// Compile the project that uses the dependency
+			File appDirectory = new File(tempDirectory, "app");
+			File appSourceDirectory = new File(appDirectory, "src");
+			appSourceDirectory.mkdirs();
+			Files.write(USER_CODE.getBytes(), new File(appSourceDirectory, "user.sarl"));
+			List<File> classpath = Collections.singletonList(libClassDirectory);
+			assertEquals(Collections.singletonList("user.sarl"), runIncrementalBatchCompiler(appDirectory, classpath));
+			// Nothing has changed
+			assertEquals(Collections.emptyList(), runIncrementalBatchCompiler(appDirectory, classpath));
+			// Change the dependency; the time stamp of its folder is not changed
+			final long folderTimestamp = classFile.getParentFile().lastModified();
+			final long classTimestamp = classFile.lastModified();
+			Files.write(depCode(2).getBytes(), new File(libSourceDirectory, "dep.sarl"));
+			runBatchCompiler(libDirectory, libSourceDirectory, new File(libDirectory, "src-gen"),
+					libClassDirectory, new File(libDirectory, "build"));
+			// The resolution of the file time stamps may be coarse
+			classFile.setLastModified(classTimestamp + 10000);
+			classFile.getParentFile().setLastModified(folderTimestamp);
+			assertEquals(Collections.singletonList("user.sarl"), runIncrementalBatchCompiler(appDirectory, classpath));
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+	private static String incrementalCode(String... types) {
+		final StringBuilder code = new StringBuilder("package io.sarl.lang.tests.compiler.batch.inc\n");
+		for (final String type : types) {
+			code.append("class ").append(type).append(" {\n}\n");
+		}
+		return code.toString();
+	}
+
+	@Test
+	public void incrementalCompilation_removedFile() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			File sourceDirectory = new File(tempDirectory, "src");
+			sourceDirectory.mkdirs();
+			File packageDirectory = makeFolder(tempDirectory, "src-gen", "io", "sarl", "lang", "tests", "compiler", "batch",
+					"inc");
+			Files.write(incrementalCode("A").getBytes(), new File(sourceDirectory, "a.sarl"));
+			Files.write(incrementalCode("B", "C").getBytes(), new File(sourceDirectory, "b.sarl"));
+			runIncrementalBatchCompiler(tempDirectory, Collections.emptyList());
+			assertTrue(new File(packageDirectory, "B.java").isFile());
+			assertTrue(new File(packageDirectory, "C.java").isFile());
+			// The generation fails: the files of the removed SARL file are not deleted
+			new File(sourceDirectory, "b.sarl").delete();
+			Files.write("package io.sarl.lang.tests.compiler.batch.inc\nclass A extends Unknown {\n}\n".getBytes(),
+					new File(sourceDirectory, "a.sarl"));
+			try {
+				runIncrementalBatchCompiler(tempDirectory, Collections.emptyList());
+				fail("Compilation error is expected");
+			} catch (RuntimeException exception) {
+				//
+			}
+			assertTrue(new File(packageDirectory, "B.java").isFile());
+			assertTrue(new File(packageDirectory, "C.java").isFile());
+			// The type B is moved into another SARL file: its Java file is not deleted
+			Files.write(incrementalCode("A", "B").getBytes(), new File(sourceDirectory, "a.sarl"));
+			assertEquals(Collections.singletonList("a.sarl"),
+					runIncrementalBatchCompiler(tempDirectory, Collections.emptyList()));
+			assertTrue(new File(packageDirectory, "A.java").isFile());
+			assertTrue(new File(packageDirectory, "B.java").isFile());
+			assertFalse(new File(packageDirectory, "C.java").exists());
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+	@Test
+	public void javaTypeInSameProject_noStub() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			File sourceDirectory = new File(tempDirectory, "src");
+			File javaDirectory = makeFolder(sourceDirectory, "io", "sarl", "lang", "tests", "compiler", "batch", "java");
+			javaDirectory.mkdirs();
+			File sarlcOutputDirectory = new File(tempDirectory, "src-gen");
+			sarlcOutputDirectory.mkdirs();
+			File buildDirectory = new File(tempDirectory, "build");
+			buildDirectory.mkdirs();
+			File javacOutputDirectory = new File(tempDirectory, "bin");
+			javacOutputDirectory.mkdirs();
+			// The Java file is not referencing the SARL types: the stubs are not needed.
+			Files.write(JAVA_HELPER_CODE.getBytes(), new File(javaDirectory, "JavaHelper.java"));
+			Files.write(JAVA_USER_CODE.getBytes(), new File(sourceDirectory, "user.sarl"));
+			runBatchCompiler(tempDirectory, sourceDirectory, sarlcOutputDirectory, javacOutputDirectory, buildDirectory);
+			File javaFile = makeFolder(sarlcOutputDirectory, "io", "sarl", "lang", "tests", "compiler", "batch", "app",
+					"JavaUser.java");
+			assertTrue(javaFile.isFile());
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+	private Logger runStubBatchCompiler(File basePath, String sarlCode, String javaName, String javaCode) throws Exception {
+		File sourceDirectory = new File(basePath, "src");
+		File javaDirectory = makeFolder(sourceDirectory, "io", "sarl", "lang", "tests", "compiler", "batch", "java");
+		javaDirectory.mkdirs();
+		Files.write(javaCode.getBytes(), new File(javaDirectory, javaName));
+		Files.write(sarlCode.getBytes(), new File(sourceDirectory, "code.sarl"));
+		SarlBatchCompiler compiler = this.compilerProvider.get();
+		compiler.setBasePath(basePath.getAbsolutePath());
+		compiler.setSourcePath(sourceDirectory.getAbsolutePath());
+		compiler.setOutputPath(new File(basePath, "src-gen"));
+		compiler.setClassOutputPath(new File(basePath, "bin"));
+		compiler.setTempDirectory(new File(basePath, "build"));
+		compiler.setJavaCompilerVerbose(false);
+		compiler.setGenerateInlineAnnotation(false);
+		compiler.setReportInternalProblemsAsIssues(true);
+		final Logger logger = mock(Logger.class);
+		compiler.setLogger(logger);
+		final List<Issue> issues = new ArrayList<>();
+		compiler.addIssueMessageListener((issue, uri, message) -> {
+			issues.add(issue);
+		});
+		if (!compiler.compile()) {
+			throw new RuntimeException("Compilation error: " + issues.toString());
+		}
+		return logger;
+	}
+
+	@Test
+	public void stubs_skipped() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			// The SARL file references the Java type, but the Java file does not reference the SARL types.
+			final Logger logger = runStubBatchCompiler(tempDirectory, JAVA_USER_CODE, "JavaHelper.java", JAVA_HELPER_CODE);
+			verify(logger).info(startsWith(STUBS_SKIPPED_MESSAGE));
+			verify(logger, never()).info(eq(STUBS_COMPILED_MESSAGE), any(Long.class));
+			assertTrue(makeFolder(tempDirectory, "bin", "io", "sarl", "lang", "tests", "compiler", "batch", "app",
+					"JavaUser.class").isFile());
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
+	@Test
+	public void stubs_generated() throws Exception {
+		File tempDirectory = FileSystem.createTempDirectory("sarltests_" + getClass().getSimpleName()+ "_", "tmp");
+		try {
+			// The Java file references the SARL type.
+			final Logger logger = runStubBatchCompiler(tempDirectory, depCode(1), "SarlUser.java", JAVA_SARL_USER_CODE);
+			verify(logger, never()).info(startsWith(STUBS_SKIPPED_MESSAGE));
+			verify(logger).info(eq(STUBS_COMPILED_MESSAGE), any(Long.class));
+			assertTrue(makeFolder(tempDirectory, "bin", "io", "sarl", "lang", "tests", "compiler", "batch", "java",
+					"SarlUser.class").isFile());
+		} finally {
+			FileSystem.delete(tempDirectory);
+		}
+	}
+
 }
@@ -0,0 +1,130 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.typesystem;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.xtext.common.types.JvmOperation;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.sarl.lang.typesystem.IOperationHelper;
+import io.sarl.lang.typesystem.ISideEffectContext;
+import io.sarl.lang.typesystem.SARLOperationHelper.AnnotationJavaGenerationAdapter;
+import io.sarl.tests.api.AbstractSarlTest;
+
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class AnnotationJavaGenerationAdapterTest extends AbstractSarlTest {
+
+	private AnnotationJavaGenerationAdapter adapter;
+
+	private JvmOperation operation;
+
+	private IOperationHelper helper;
+
+	private AtomicInteger evaluations;
+
+	private boolean pure;
+
+	@Before
+	public void setUp() {
+		this.adapter = new AnnotationJavaGenerationAdapter();
+		this.operation = Mockito.mock(JvmOperation.class);
+		this.helper = Mockito.mock(IOperationHelper.class);
+		this.evaluations = new AtomicInteger();
+		this.pure = true;
+		this.adapter.addPredicate((op, hlp) -> {
+			this.evaluations.incrementAndGet();
+			return this.pure;
+		});
+	}
+
+	@Test
+	public void applyAdaptations_noPredicate() {
+		this.adapter.removeAllPredicates();
+		assertFalse(this.adapter.applyAdaptations(this.helper, this.operation, null));
+	}
+
+	@Test
+	public void applyAdaptations_memoized() {
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		assertEquals(1, this.evaluations.get());
+	}
+
+	@Test
+	public void applyAdaptations_withContext_pure() {
+		final ISideEffectContext context = Mockito.mock(ISideEffectContext.class);
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, context));
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, context));
+		assertEquals(2, this.evaluations.get());
+	}
+
+	@Test
+	public void applyAdaptations_withContext_notPure() {
+		this.pure = false;
+		final ISideEffectContext context = Mockito.mock(ISideEffectContext.class);
+		assertFalse(this.adapter.applyAdaptations(this.helper, this.operation, context));
+		assertFalse(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		assertEquals(1, this.evaluations.get());
+	}
+
+	@Test
+	public void addPredicate_clearMemoizedResult() {
+		this.pure = false;
+		assertFalse(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		this.adapter.addPredicate((op, hlp) -> true);
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		assertEquals(2, this.evaluations.get());
+	}
+
+	@Test
+	public void notifyChanged_clearMemoizedResult() {
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		final Notification notification = Mockito.mock(Notification.class);
+		Mockito.when(notification.isTouch()).thenReturn(false);
+		this.adapter.notifyChanged(notification);
+		this.pure = false;
+		assertFalse(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		assertEquals(2, this.evaluations.get());
+	}
+
+	@Test
+	public void notifyChanged_touch() {
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		final Notification notification = Mockito.mock(Notification.class);
+		Mockito.when(notification.isTouch()).thenReturn(true);
+		this.adapter.notifyChanged(notification);
+		this.pure = false;
+		assertTrue(this.adapter.applyAdaptations(this.helper, this.operation, null));
+		assertEquals(1, this.evaluations.get());
+	}
+
+}
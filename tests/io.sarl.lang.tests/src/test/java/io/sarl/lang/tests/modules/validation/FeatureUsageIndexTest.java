@@ -0,0 +1,138 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2018 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.modules.validation;
+
+import java.util.List;
+
+import com.google.inject.Inject;
+import org.eclipse.xtend.core.xtend.XtendField;
+import org.eclipse.xtend.core.xtend.XtendFunction;
+import org.eclipse.xtend.core.xtend.XtendTypeDeclaration;
+import org.eclipse.xtext.common.types.JvmField;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.sarl.lang.jvmmodel.SarlJvmModelAssociations;
+import io.sarl.lang.sarl.SarlAgent;
+import io.sarl.lang.sarl.SarlScript;
+import io.sarl.lang.validation.FeatureUsageIndex;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/** This class tests {@link FeatureUsageIndex}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class FeatureUsageIndexTest extends AbstractSarlTest {
+
+	private static final String SNIPSET = multilineString(
+			"package io.sarl.lang.tests.modules.validation.snipset",
+			"agent MyAgent {",
+			"  var field1 : int",
+			"  var field2 : int",
+			"  var field3 : int",
+			"  def fct1 {",
+			"    field1 = 1",
+			"  }",
+			"  def fct2 : int {",
+			"    field1 + field2",
+			"  }",
+			"  def fct3 : int {",
+			"    field2",
+			"  }",
+			"}");
+
+	@Inject
+	private SarlJvmModelAssociations associations;
+
+	private XtendTypeDeclaration type;
+
+	private FeatureUsageIndex index;
+
+	@Before
+	public void setUp() throws Exception {
+		SarlScript script = file(SNIPSET, true);
+		this.type = script.getXtendTypes().get(0);
+		this.index = FeatureUsageIndex.build(this.type);
+	}
+
+	private JvmField getField(int index) {
+		return this.associations.getJvmField((XtendField) this.type.getMembers().get(index));
+	}
+
+	private XtendFunction getFunction(int index) {
+		return (XtendFunction) this.type.getMembers().get(index);
+	}
+
+	@Test
+	public void getRoot() {
+		assertSame(this.type, this.index.getRoot());
+	}
+
+	@Test
+	public void getUsages_readWrite() {
+		final List<FeatureUsageIndex.Usage> usages = this.index.getUsages(getField(0));
+		assertEquals(2, usages.size());
+		assertTrue(usages.get(0).isWrite());
+		assertSame(getFunction(3), usages.get(0).getContainingMember());
+		assertFalse(usages.get(1).isWrite());
+		assertSame(getFunction(4), usages.get(1).getContainingMember());
+		assertFalse(usages.get(0).isImplicit());
+	}
+
+	@Test
+	public void getUsages_unused() {
+		assertTrue(this.index.getUsages(getField(2)).isEmpty());
+	}
+
+	@Test
+	public void getUsages_container() {
+		final List<FeatureUsageIndex.Usage> usages = this.index.getUsages(getField(1), getFunction(5));
+		assertEquals(1, usages.size());
+		assertSame(getFunction(5), usages.get(0).getContainingMember());
+	}
+
+	@Test
+	public void isRead() {
+		assertTrue(this.index.isRead(getField(0), this.type));
+		assertFalse(this.index.isRead(getField(0), getFunction(3)));
+		assertTrue(this.index.isRead(getField(1), this.type));
+		assertFalse(this.index.isRead(getField(2), this.type));
+	}
+
+	@Test
+	public void isWritten() {
+		assertTrue(this.index.isWritten(getField(0), this.type));
+		assertFalse(this.index.isWritten(getField(0), getFunction(4)));
+		assertFalse(this.index.isWritten(getField(1), this.type));
+		assertFalse(this.index.isWritten(getField(2), this.type));
+	}
+
+	@Test
+	public void isIndexed() {
+		assertTrue(this.index.isIndexed(getField(0), getFunction(3)));
+		assertFalse(this.index.isIndexed(this.associations.getInferredType((SarlAgent) this.type), this.type));
+	}
+
+}
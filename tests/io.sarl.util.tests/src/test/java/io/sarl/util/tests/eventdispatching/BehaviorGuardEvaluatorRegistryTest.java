@@ -283,6 +283,27 @@ public class BehaviorGuardEvaluatorRegistryTest {
 			this.registry.unregister(this.agent, callback);
 		}
 
+		@Test
+		public void hasBehaviorGuardEvaluators() {
+			assertFalse(this.registry.hasBehaviorGuardEvaluators(Event.class));
+			assertFalse(this.registry.hasBehaviorGuardEvaluators(MyEvent.class));
+			//
+			this.registry.register(new MyAgent3());
+			//
+			assertFalse(this.registry.hasBehaviorGuardEvaluators(Event.class));
+			assertTrue(this.registry.hasBehaviorGuardEvaluators(MyEvent.class));
+			assertTrue(this.registry.hasBehaviorGuardEvaluators(MySubEvent.class));
+			//
+			this.registry.register(this.agent);
+			//
+			assertTrue(this.registry.hasBehaviorGuardEvaluators(Event.class));
+			//
+			this.registry.unregisterAll();
+			//
+			assertFalse(this.registry.hasBehaviorGuardEvaluators(Event.class));
+			assertFalse(this.registry.hasBehaviorGuardEvaluators(MyEvent.class));
+		}
+
 		@Test
 		public void hasRegisteredEventListener() {
 			assertFalse(this.registry.hasRegisteredEventListener(Object.class));
@@ -356,6 +377,9 @@ public class BehaviorGuardEvaluatorRegistryTest {
 		public int n;
 	}
 
+	public static class MySubEvent extends MyEvent {
+	}
+
 	public static class MyAgent extends Agent {
 
 		public MyAgent() {
@@ -410,4 +434,21 @@ public class BehaviorGuardEvaluatorRegistryTest {
 
 	}
 
+	public static class MyAgent3 extends Agent {
+
+		public MyAgent3() {
+			super(null, UUID.randomUUID(), UUID.randomUUID());
+		}
+
+		@PerceptGuardEvaluator
+		private void $perception$guard$evaluator1(MyEvent event, Collection<Runnable> runners) {
+			runners.add(() -> $perception$guard$callback1(event, event));
+		}
+
+		private void $perception$guard$callback1(MyEvent occurrence, MyEvent it) {
+			
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -65,10 +65,13 @@ public class Bug465Test extends AbstractMojoTest {
 				"import io.sarl.lang.core.Agent;",
 				"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 				"import io.sarl.lang.core.DynamicSkillProvider;",
+				"import io.sarl.lang.core.Event;",
+				"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 				"import io.sarl.lang.core.Skill;",
 				"import io.sarl.lang.util.ClearableReference;",
 				"import io.sarl.maven.compiler.tests.Hello;",
 				"import java.util.Collection;",
+				"import java.util.Set;",
 				"import java.util.UUID;",
 				"import javax.inject.Inject;",
 				"import org.eclipse.xtext.xbase.lib.Extension;",
@@ -78,7 +81,7 @@ public class Bug465Test extends AbstractMojoTest {
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(18)",
 				"@SuppressWarnings(\"all\")",
-				"public class MyAgent extends Agent {",
+				"public class MyAgent extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 				"private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
 				"Schedules _$CAPACITY_USE$IO_SARL_CORE_SCHEDULES$CALLER = this.$castSkill(Schedules.class, (this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES == null || this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES.get() == null) ? (this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES = this.$getSkill(Schedules.class)) : this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES);",
 				"Schedules _$CAPACITY_USE$IO_SARL_CORE_SCHEDULES$CALLER_1 = this.$castSkill(Schedules.class, (this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES == null || this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES.get() == null) ? (this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES = this.$getSkill(Schedules.class)) : this.$CAPACITY_USE$IO_SARL_CORE_SCHEDULES);",
@@ -122,6 +125,26 @@ public class Bug465Test extends AbstractMojoTest {
 				"assert ___SARLlocal_runnableCollection != null;",
 				"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$Initialize$0(occurrence));",
 				"}",
+				"@Override",
+				"@SyntheticMember",
+				"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+				"toBeFilled.add(Initialize.class);",
+				"}",
+				"@Override",
+				"@SyntheticMember",
+				"public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+				"if (Initialize.class.equals(eventType)) {",
+				"$guardEvaluator$Initialize((Initialize) event, callbacks);",
+				"}",
+				"}",
+				"@Override",
+				"@SyntheticMember",
+				"public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+				"if (Initialize.class.equals(eventType)) {",
+				"final Initialize occurrence = (Initialize) event;",
+				"$behaviorUnit$Initialize$0(occurrence);",
+				"}",
+				"}",
 				"@SyntheticMember",
 				"public MyAgent(final UUID arg0, final UUID arg1) {",
 				"super(arg0, arg1);",
@@ -61,15 +61,18 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Pure;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(18)",
 			"@SuppressWarnings(\"all\")",
-			"public class Agent1 extends Agent {",
+			"public class Agent1 extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"@Pure",
 			"protected void reportMessage(final String a, final Object... b) {",
 			"}",
@@ -83,6 +86,26 @@ public class Bug850Test extends AbstractMojoTest {
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"toBeFilled.add(CarRequestPercept.class);",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks);",
+			"}",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"$behaviorUnit$CarRequestPercept$0(occurrence);",
+			"}",
+			"}",
 			"@SyntheticMember",
 			"public Agent1(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",
@@ -121,16 +144,19 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
 			"import io.sarl.maven.bug850.Direction;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Pure;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(18)",
 			"@SuppressWarnings(\"all\")",
-			"public class Agent2 extends Agent {",
+			"public class Agent2 extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"@Pure",
 			"protected void reportMessage(final String a, final Object... b) {",
 			"}",
@@ -145,6 +171,26 @@ public class Bug850Test extends AbstractMojoTest {
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"toBeFilled.add(CarRequestPercept.class);",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks);",
+			"}",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"$behaviorUnit$CarRequestPercept$0(occurrence);",
+			"}",
+			"}",
 			"@SyntheticMember",
 			"public Agent2(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",
@@ -184,15 +230,18 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Pure;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(18)",
 			"@SuppressWarnings(\"all\")",
-			"public class Agent3 extends Agent {",
+			"public class Agent3 extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"@Pure",
 			"protected void prologAssert(final String a, final int b, final String c) {",
 			"}",
@@ -206,6 +255,26 @@ public class Bug850Test extends AbstractMojoTest {
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"toBeFilled.add(CarRequestPercept.class);",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks);",
+			"}",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"$behaviorUnit$CarRequestPercept$0(occurrence);",
+			"}",
+			"}",
 			"@SyntheticMember",
 			"public Agent3(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",
@@ -244,15 +313,18 @@ public class Bug850Test extends AbstractMojoTest {
 			"import io.sarl.lang.core.Agent;",
 			"import io.sarl.lang.core.BuiltinCapacitiesProvider;",
 			"import io.sarl.lang.core.DynamicSkillProvider;",
+			"import io.sarl.lang.core.Event;",
+			"import io.sarl.lang.core.IBehaviorGuardEvaluatorReceiver;",
 			"import io.sarl.maven.bug850.CarRequestPercept;",
 			"import java.util.Collection;",
+			"import java.util.Set;",
 			"import java.util.UUID;",
 			"import javax.inject.Inject;",
 			"import org.eclipse.xtext.xbase.lib.Pure;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(18)",
 			"@SuppressWarnings(\"all\")",
-			"public class Agent4 extends Agent {",
+			"public class Agent4 extends Agent implements IBehaviorGuardEvaluatorReceiver {",
 			"@Pure",
 			"protected void prologAssert(final String a, final int b, final String c) {",
 			"}",
@@ -267,6 +339,26 @@ public class Bug850Test extends AbstractMojoTest {
 			"assert ___SARLlocal_runnableCollection != null;",
 			"___SARLlocal_runnableCollection.add(() -> $behaviorUnit$CarRequestPercept$0(occurrence));",
 			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $getSupportedEvents(final Set<Class<? extends Event>> toBeFilled) {",
+			"toBeFilled.add(CarRequestPercept.class);",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $evaluateBehaviorGuards(final Class<?> eventType, final Object event, final Collection<Runnable> callbacks) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"$guardEvaluator$CarRequestPercept((CarRequestPercept) event, callbacks);",
+			"}",
+			"}",
+			"@Override",
+			"@SyntheticMember",
+			"public void $executeBehaviorUnits(final Class<?> eventType, final Object event) {",
+			"if (CarRequestPercept.class.equals(eventType)) {",
+			"final CarRequestPercept occurrence = (CarRequestPercept) event;",
+			"$behaviorUnit$CarRequestPercept$0(occurrence);",
+			"}",
+			"}",
 			"@SyntheticMember",
 			"public Agent4(final UUID arg0, final UUID arg1) {",
 			"super(arg0, arg1);",